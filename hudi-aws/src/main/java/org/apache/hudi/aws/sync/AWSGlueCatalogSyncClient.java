@@ -19,6 +19,7 @@
 package org.apache.hudi.aws.sync;
 
 import org.apache.hudi.aws.credentials.HoodieAWSCredentialsProviderFactory;
+import org.apache.hudi.aws.sync.util.AdaptiveBatchExecutor;
 import org.apache.hudi.aws.sync.util.GluePartitionFilterGenerator;
 import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.HoodieFileFormat;
@@ -51,6 +52,7 @@ import software.amazon.awssdk.services.glue.model.BatchDeletePartitionRequest;
 import software.amazon.awssdk.services.glue.model.BatchDeletePartitionResponse;
 import software.amazon.awssdk.services.glue.model.BatchGetPartitionRequest;
 import software.amazon.awssdk.services.glue.model.BatchGetPartitionResponse;
+import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionFailureEntry;
 import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionRequest;
 import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionRequestEntry;
 import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionResponse;
@@ -64,6 +66,7 @@ import software.amazon.awssdk.services.glue.model.DatabaseInput;
 import software.amazon.awssdk.services.glue.model.DeletePartitionIndexRequest;
 import software.amazon.awssdk.services.glue.model.DeleteTableRequest;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.ErrorDetail;
 import software.amazon.awssdk.services.glue.model.GetDatabaseRequest;
 import software.amazon.awssdk.services.glue.model.GetPartitionIndexesRequest;
 import software.amazon.awssdk.services.glue.model.GetPartitionIndexesResponse;
@@ -71,6 +74,7 @@ import software.amazon.awssdk.services.glue.model.GetPartitionsRequest;
 import software.amazon.awssdk.services.glue.model.GetPartitionsResponse;
 import software.amazon.awssdk.services.glue.model.GetTableRequest;
 import software.amazon.awssdk.services.glue.model.KeySchemaElement;
+import software.amazon.awssdk.services.glue.model.PartitionError;
 import software.amazon.awssdk.services.glue.model.PartitionIndex;
 import software.amazon.awssdk.services.glue.model.PartitionIndexDescriptor;
 import software.amazon.awssdk.services.glue.model.PartitionInput;
@@ -102,6 +106,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.hudi.common.fs.FSUtils.s3aToS3;
@@ -115,6 +120,9 @@ import static org.apache.hudi.config.GlueCatalogSyncClientConfig.GLUE_SYNC_RESOU
 import static org.apache.hudi.config.GlueCatalogSyncClientConfig.GLUE_SYNC_TABLE_NAME;
 import static org.apache.hudi.config.GlueCatalogSyncClientConfig.META_SYNC_PARTITION_INDEX_FIELDS;
 import static org.apache.hudi.config.GlueCatalogSyncClientConfig.META_SYNC_PARTITION_INDEX_FIELDS_ENABLE;
+import static org.apache.hudi.config.GlueCatalogSyncClientConfig.PARTITION_CHANGE_ADAPTIVE_BATCHING_ENABLE;
+import static org.apache.hudi.config.GlueCatalogSyncClientConfig.PARTITION_CHANGE_MAX_REQUESTS_PER_SECOND;
+import static org.apache.hudi.config.GlueCatalogSyncClientConfig.PARTITION_CHANGE_MAX_THROTTLE_RETRIES;
 import static org.apache.hudi.config.GlueCatalogSyncClientConfig.PARTITION_CHANGE_PARALLELISM;
 import static org.apache.hudi.config.HoodieAWSConfig.AWS_GLUE_ENDPOINT;
 import static org.apache.hudi.config.HoodieAWSConfig.AWS_GLUE_REGION;
@@ -137,6 +145,8 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
   private static final int MAX_PARTITIONS_PER_CHANGE_REQUEST = 100;
   private static final int MAX_PARTITIONS_PER_READ_REQUEST = 1000;
   private static final int MAX_DELETE_PARTITIONS_PER_REQUEST = 25;
+  private static final long THROTTLE_INITIAL_BACKOFF_MS = 100;
+  private static final String THROTTLING_ERROR_CODE = "ThrottlingException";
   protected final GlueAsyncClient awsGlue;
   private static final String GLUE_PARTITION_INDEX_ENABLE = "partition_filtering.enabled";
   private static final int PARTITION_INDEX_MAX_NUMBER = 3;
@@ -157,6 +167,9 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
   private final int allPartitionsReadParallelism;
   private final int changedPartitionsReadParallelism;
   private final int changeParallelism;
+  private final boolean adaptiveBatching;
+  private final int maxChangeRequestsPerSecond;
+  private final int maxThrottleRetries;
   private final Map<String, Table> initialTableByName = new HashMap<>();
   private final String catalogId;
 
@@ -174,6 +187,9 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
     this.allPartitionsReadParallelism = config.getIntOrDefault(ALL_PARTITIONS_READ_PARALLELISM);
     this.changedPartitionsReadParallelism = config.getIntOrDefault(CHANGED_PARTITIONS_READ_PARALLELISM);
     this.changeParallelism = config.getIntOrDefault(PARTITION_CHANGE_PARALLELISM);
+    this.adaptiveBatching = config.getBooleanOrDefault(PARTITION_CHANGE_ADAPTIVE_BATCHING_ENABLE);
+    this.maxChangeRequestsPerSecond = config.getIntOrDefault(PARTITION_CHANGE_MAX_REQUESTS_PER_SECOND);
+    this.maxThrottleRetries = config.getIntOrDefault(PARTITION_CHANGE_MAX_THROTTLE_RETRIES);
     GetCallerIdentityResponse identityResponse = stsClient.getCallerIdentity(GetCallerIdentityRequest.builder().build());
     this.catalogId = config.getStringOrDefault(GlueCatalogSyncClientConfig.GLUE_CATALOG_ID, identityResponse.account());
   }
@@ -312,12 +328,33 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
         return;
       }
       Table table = getTable(awsGlue, databaseName, tableName);
-      parallelizeChange(partitionsToAdd, this.changeParallelism, partitions -> this.addPartitionsToTableInternal(table, partitions), MAX_PARTITIONS_PER_CHANGE_REQUEST);
+      changePartitions(partitionsToAdd, partitions -> this.addPartitionsToTableInternal(table, partitions), MAX_PARTITIONS_PER_CHANGE_REQUEST);
     } finally {
       log.info("Added {} partitions to table {} in {} ms", partitionsToAdd.size(), tableId(this.databaseName, tableName), timer.endTimer());
     }
   }
 
+  /**
+   * Sends the change partition requests, either in fixed size batches or in batches adapted to the throttling of Glue
+   * when {@link GlueCatalogSyncClientConfig#PARTITION_CHANGE_ADAPTIVE_BATCHING_ENABLE} is set.
+   */
+  private void changePartitions(List<String> partitions, AdaptiveBatchExecutor.BatchRequest<String> request, int maxBatchSize) {
+    if (adaptiveBatching) {
+      new AdaptiveBatchExecutor(maxBatchSize, changeParallelism, maxChangeRequestsPerSecond, maxThrottleRetries, THROTTLE_INITIAL_BACKOFF_MS)
+          .execute(partitions, request);
+    } else {
+      parallelizeChange(partitions, changeParallelism, batch -> {
+        try {
+          request.send(batch);
+        } catch (RuntimeException e) {
+          throw e;
+        } catch (Exception e) {
+          throw new HoodieGlueSyncException("Failed to change partitions", e);
+        }
+      }, maxBatchSize);
+    }
+  }
+
   private <T> void parallelizeChange(List<T> items, int parallelism, Consumer<List<T>> consumer, int sliceSize) {
     List<List<T>> batches = CollectionUtils.batches(items, sliceSize);
     ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()), new CustomizedThreadFactory("glue-sync", true));
@@ -337,12 +374,14 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
     }
   }
 
-  private void addPartitionsToTableInternal(Table table, List<String> partitionsToAdd) {
+  private List<String> addPartitionsToTableInternal(Table table, List<String> partitionsToAdd) {
     try {
       StorageDescriptor sd = table.storageDescriptor();
+      Map<List<String>, String> partitionsByValues = new HashMap<>();
       List<PartitionInput> partitionInputList = partitionsToAdd.stream().map(partition -> {
         String fullPartitionPath = FSUtils.constructAbsolutePath(s3aToS3(getBasePath()), partition).toString();
         List<String> partitionValues = partitionValueExtractor.extractPartitionValuesInPath(partition);
+        partitionsByValues.put(partitionValues, partition);
         StorageDescriptor partitionSD = sd.copy(copySd -> copySd.location(fullPartitionPath));
         return PartitionInput.builder().values(partitionValues).storageDescriptor(partitionSD).build();
       }).collect(Collectors.toList());
@@ -352,15 +391,21 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
       CompletableFuture<BatchCreatePartitionResponse> future = awsGlue.batchCreatePartition(request);
       BatchCreatePartitionResponse response = future.get();
       if (CollectionUtils.nonEmpty(response.errors())) {
-        if (response.errors().stream()
+        List<PartitionError> errors = response.errors().stream()
+            .filter(error -> !isThrottled(error.errorDetail())).collect(Collectors.toList());
+        if (errors.stream()
             .allMatch(
                 (error) -> "AlreadyExistsException".equals(error.errorDetail().errorCode()))) {
-          log.info("Partitions already exist in glue: {}", response.errors());
+          if (!errors.isEmpty()) {
+            log.info("Partitions already exist in glue: {}", errors);
+          }
         } else {
           throw new HoodieGlueSyncException("Fail to add partitions to " + tableId(databaseName, table.name())
               + " with error(s): " + response.errors());
         }
+        return getThrottledPartitions(response.errors(), PartitionError::errorDetail, PartitionError::partitionValues, partitionsByValues);
       }
+      return Collections.emptyList();
     } catch (Exception e) {
       throw new HoodieGlueSyncException("Fail to add partitions to " + tableId(databaseName, table.name()), e);
     }
@@ -375,18 +420,20 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
         return;
       }
       Table table = getTable(awsGlue, databaseName, tableName);
-      parallelizeChange(changedPartitions, this.changeParallelism, partitions -> this.updatePartitionsToTableInternal(table, partitions), MAX_PARTITIONS_PER_CHANGE_REQUEST);
+      changePartitions(changedPartitions, partitions -> this.updatePartitionsToTableInternal(table, partitions), MAX_PARTITIONS_PER_CHANGE_REQUEST);
     } finally {
       log.info("Updated {} partitions to table {} in {} ms", changedPartitions.size(), tableId(this.databaseName, tableName), timer.endTimer());
     }
   }
 
-  private void updatePartitionsToTableInternal(Table table, List<String> changedPartitions) {
+  private List<String> updatePartitionsToTableInternal(Table table, List<String> changedPartitions) {
     try {
       StorageDescriptor sd = table.storageDescriptor();
+      Map<List<String>, String> partitionsByValues = new HashMap<>();
       List<BatchUpdatePartitionRequestEntry> updatePartitionEntries = changedPartitions.stream().map(partition -> {
         String fullPartitionPath = FSUtils.constructAbsolutePath(s3aToS3(getBasePath()), partition).toString();
         List<String> partitionValues = partitionValueExtractor.extractPartitionValuesInPath(partition);
+        partitionsByValues.put(partitionValues, partition);
         StorageDescriptor partitionSD = sd.copy(copySd -> copySd.location(fullPartitionPath));
         PartitionInput partitionInput = PartitionInput.builder().values(partitionValues).storageDescriptor(partitionSD).build();
         return BatchUpdatePartitionRequestEntry.builder().partitionInput(partitionInput).partitionValueList(partitionValues).build();
@@ -398,9 +445,14 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
 
       BatchUpdatePartitionResponse response = future.get();
       if (CollectionUtils.nonEmpty(response.errors())) {
-        throw new HoodieGlueSyncException("Fail to update partitions to " + tableId(databaseName, table.name())
-            + " with error(s): " + response.errors());
+        if (!response.errors().stream().allMatch(error -> isThrottled(error.errorDetail()))) {
+          throw new HoodieGlueSyncException("Fail to update partitions to " + tableId(databaseName, table.name())
+              + " with error(s): " + response.errors());
+        }
+        return getThrottledPartitions(response.errors(), BatchUpdatePartitionFailureEntry::errorDetail,
+            BatchUpdatePartitionFailureEntry::partitionValueList, partitionsByValues);
       }
+      return Collections.emptyList();
     } catch (Exception e) {
       throw new HoodieGlueSyncException("Fail to update partitions to " + tableId(databaseName, table.name()), e);
     }
@@ -414,18 +466,20 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
         log.info("No partitions to drop for " + tableId(this.databaseName, tableName));
         return;
       }
-      parallelizeChange(partitionsToDrop, this.changeParallelism, partitions -> this.dropPartitionsInternal(tableName, partitions), MAX_DELETE_PARTITIONS_PER_REQUEST);
+      changePartitions(partitionsToDrop, partitions -> this.dropPartitionsInternal(tableName, partitions), MAX_DELETE_PARTITIONS_PER_REQUEST);
     } finally {
       log.info("Deleted {} partitions to table {} in {} ms", partitionsToDrop.size(), tableId(this.databaseName, tableName), timer.endTimer());
     }
   }
 
-  private void dropPartitionsInternal(String tableName, List<String> partitionsToDrop) {
+  private List<String> dropPartitionsInternal(String tableName, List<String> partitionsToDrop) {
     try {
-      List<PartitionValueList> partitionValueLists = partitionsToDrop.stream().map(partition -> PartitionValueList.builder()
-            .values(partitionValueExtractor.extractPartitionValuesInPath(partition))
-            .build()
-      ).collect(Collectors.toList());
+      Map<List<String>, String> partitionsByValues = new HashMap<>();
+      List<PartitionValueList> partitionValueLists = partitionsToDrop.stream().map(partition -> {
+        List<String> partitionValues = partitionValueExtractor.extractPartitionValuesInPath(partition);
+        partitionsByValues.put(partitionValues, partition);
+        return PartitionValueList.builder().values(partitionValues).build();
+      }).collect(Collectors.toList());
 
       BatchDeletePartitionRequest batchDeletePartitionRequest = BatchDeletePartitionRequest.builder()
             .catalogId(catalogId)
@@ -437,14 +491,34 @@ public class AWSGlueCatalogSyncClient extends HoodieSyncClient {
 
       BatchDeletePartitionResponse response = future.get();
       if (CollectionUtils.nonEmpty(response.errors())) {
-        throw new HoodieGlueSyncException("Fail to drop partitions to " + tableId(databaseName, tableName)
-            + " with error(s): " + response.errors());
+        if (!response.errors().stream().allMatch(error -> isThrottled(error.errorDetail()))) {
+          throw new HoodieGlueSyncException("Fail to drop partitions to " + tableId(databaseName, tableName)
+              + " with error(s): " + response.errors());
+        }
+        return getThrottledPartitions(response.errors(), PartitionError::errorDetail, PartitionError::partitionValues, partitionsByValues);
       }
+      return Collections.emptyList();
     } catch (Exception e) {
       throw new HoodieGlueSyncException("Fail to drop partitions to " + tableId(databaseName, tableName), e);
     }
   }
 
+  /**
+   * Whether the error of a partition in a batch response is a throttling to retry, only with adaptive batching.
+   */
+  private boolean isThrottled(ErrorDetail errorDetail) {
+    return adaptiveBatching && errorDetail != null && THROTTLING_ERROR_CODE.equals(errorDetail.errorCode());
+  }
+
+  private <E> List<String> getThrottledPartitions(List<E> errors, Function<E, ErrorDetail> errorDetail,
+                                                  Function<E, List<String>> partitionValues, Map<List<String>, String> partitionsByValues) {
+    return errors.stream()
+        .filter(error -> isThrottled(errorDetail.apply(error)))
+        .map(error -> partitionsByValues.get(partitionValues.apply(error)))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Update the table properties to the table.
    */
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.aws.sync.util;
+
+import org.apache.hudi.aws.sync.HoodieGlueSyncException;
+import org.apache.hudi.common.util.CustomizedThreadFactory;
+import org.apache.hudi.common.util.RateLimiter;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes batch requests to the Glue catalog over a list of items, adapting the size of the batches to the
+ * throttling of the service.
+ *
+ * <p>The batches start at the max size allowed by the API. When a request is throttled, either as a whole or for some
+ * of its items, the throttled items are put back in the queue, the batch size is halved and the worker backs off
+ * exponentially. Each successful request grows the batch size back by one item. The requests of all the workers
+ * are optionally limited to a number per second.
+ */
+@Slf4j
+public class AdaptiveBatchExecutor {
+
+  private static final long IDLE_WAIT_MS = 10;
+
+  private final int maxBatchSize;
+  private final int parallelism;
+  private final int maxRequestsPerSecond;
+  private final int maxRetries;
+  private final long initialBackoffMs;
+
+  public AdaptiveBatchExecutor(int maxBatchSize, int parallelism, int maxRequestsPerSecond, int maxRetries, long initialBackoffMs) {
+    this.maxBatchSize = maxBatchSize;
+    this.parallelism = parallelism;
+    this.maxRequestsPerSecond = maxRequestsPerSecond;
+    this.maxRetries = maxRetries;
+    this.initialBackoffMs = initialBackoffMs;
+  }
+
+  /**
+   * Batch request over some items.
+   */
+  @FunctionalInterface
+  public interface BatchRequest<T> {
+    /**
+     * Sends the request for the batch of items.
+     *
+     * @return the items of the batch that were throttled and need to be sent again
+     */
+    List<T> send(List<T> batch) throws Exception;
+  }
+
+  public <T> void execute(List<T> items, BatchRequest<T> request) {
+    if (items.isEmpty()) {
+      return;
+    }
+    State<T> state = new State<>(items, maxBatchSize);
+    int numWorkers = Math.max(1, Math.min(parallelism, (items.size() + maxBatchSize - 1) / maxBatchSize));
+    RateLimiter rateLimiter = maxRequestsPerSecond > 0 ? RateLimiter.create(maxRequestsPerSecond, TimeUnit.SECONDS) : null;
+    ExecutorService executorService = Executors.newFixedThreadPool(numWorkers, new CustomizedThreadFactory("glue-sync-adaptive", true));
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < numWorkers; i++) {
+        futures.add(executorService.submit(() -> runWorker(state, request, rateLimiter)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (Exception e) {
+      throw new HoodieGlueSyncException("Failed to execute batch requests", e);
+    } finally {
+      executorService.shutdownNow();
+      if (rateLimiter != null) {
+        rateLimiter.stop();
+      }
+    }
+    if (state.failure.get() != null) {
+      throw new HoodieGlueSyncException("Failed to execute batch requests", state.failure.get());
+    }
+  }
+
+  private <T> void runWorker(State<T> state, BatchRequest<T> request, RateLimiter rateLimiter) {
+    int consecutiveThrottles = 0;
+    while (state.failure.get() == null) {
+      List<T> batch = state.poll();
+      if (batch.isEmpty()) {
+        if (state.isDone()) {
+          return;
+        }
+        // throttled items of the requests in flight may come back to the queue
+        sleep(IDLE_WAIT_MS);
+        continue;
+      }
+      List<T> throttled;
+      try {
+        if (rateLimiter != null) {
+          rateLimiter.acquire(1);
+        }
+        throttled = request.send(batch);
+      } catch (Exception e) {
+        if (!isThrottlingException(e)) {
+          state.failure.compareAndSet(null, e);
+          state.inFlight.decrementAndGet();
+          return;
+        }
+        throttled = batch;
+      }
+      if (throttled.isEmpty()) {
+        consecutiveThrottles = 0;
+        state.batchSize.updateAndGet(size -> Math.min(maxBatchSize, size + 1));
+        state.inFlight.decrementAndGet();
+        continue;
+      }
+      state.requeue(throttled);
+      if (++consecutiveThrottles > maxRetries) {
+        state.failure.compareAndSet(null, new HoodieGlueSyncException(
+            "Requests are still throttled after " + maxRetries + " retries, " + state.pending.size() + " items left"));
+        return;
+      }
+      int newBatchSize = state.batchSize.updateAndGet(size -> Math.max(1, size / 2));
+      long backoffMs = initialBackoffMs << Math.min(consecutiveThrottles - 1, 10);
+      log.info("{} of {} items throttled, retrying with batch size {} in {} ms", throttled.size(), batch.size(), newBatchSize, backoffMs);
+      sleep(backoffMs);
+    }
+  }
+
+  static boolean isThrottlingException(Throwable e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof SdkServiceException && ((SdkServiceException) t).isThrottlingException()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HoodieGlueSyncException("Interrupted while waiting for batch requests", e);
+    }
+  }
+
+  private static class State<T> {
+    private final ConcurrentLinkedDeque<T> pending;
+    private final AtomicInteger batchSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    State(List<T> items, int batchSize) {
+      this.pending = new ConcurrentLinkedDeque<>(items);
+      this.batchSize = new AtomicInteger(batchSize);
+    }
+
+    /**
+     * Takes the next batch from the queue, counting it as in flight if not empty.
+     */
+    synchronized List<T> poll() {
+      List<T> batch = new ArrayList<>();
+      int size = batchSize.get();
+      T item;
+      while (batch.size() < size && (item = pending.poll()) != null) {
+        batch.add(item);
+      }
+      if (!batch.isEmpty()) {
+        inFlight.incrementAndGet();
+      }
+      return batch;
+    }
+
+    synchronized boolean isDone() {
+      return inFlight.get() == 0 && pending.isEmpty();
+    }
+
+    /**
+     * Puts back the throttled items of a batch in flight at the head of the queue.
+     */
+    synchronized void requeue(List<T> items) {
+      for (int i = items.size() - 1; i >= 0; i--) {
+        pending.addFirst(items.get(i));
+      }
+      inFlight.decrementAndGet();
+    }
+  }
+}
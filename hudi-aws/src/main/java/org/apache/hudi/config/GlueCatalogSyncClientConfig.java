@@ -73,6 +73,31 @@ public class GlueCatalogSyncClientConfig extends HoodieConfig {
       .sinceVersion("0.15.0")
       .withDocumentation("Parallelism for change operations - such as create/update/delete.");
 
+  public static final ConfigProperty<Boolean> PARTITION_CHANGE_ADAPTIVE_BATCHING_ENABLE = ConfigProperty
+      .key(GLUE_CLIENT_PROPERTY_PREFIX + "partition_change_adaptive_batching.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("When enabled, the create/update/delete partition requests are sent from a shared queue whose batch size "
+          + "is halved when Glue throttles the requests, and grown back after each successful request, with exponential backoff. "
+          + "Throttled partitions of a batch are retried instead of failing the sync.");
+
+  public static final ConfigProperty<Integer> PARTITION_CHANGE_MAX_REQUESTS_PER_SECOND = ConfigProperty
+      .key(GLUE_CLIENT_PROPERTY_PREFIX + "partition_change_max_requests_per_second")
+      .defaultValue(0)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Max number of change partition requests sent per second by all the threads, when adaptive batching is "
+          + "enabled. Not limited if not positive.");
+
+  public static final ConfigProperty<Integer> PARTITION_CHANGE_MAX_THROTTLE_RETRIES = ConfigProperty
+      .key(GLUE_CLIENT_PROPERTY_PREFIX + "partition_change_max_throttle_retries")
+      .defaultValue(10)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Max number of consecutive throttled change partition requests of a thread before the sync fails, "
+          + "when adaptive batching is enabled.");
+
   public static final ConfigProperty<Boolean> GLUE_METADATA_FILE_LISTING = ConfigProperty
       .key(GLUE_CLIENT_PROPERTY_PREFIX + "metadata_file_listing")
       .defaultValue(false)
@@ -65,6 +65,7 @@ import software.amazon.awssdk.services.glue.model.GetPartitionsResponse;
 import software.amazon.awssdk.services.glue.model.GetTableRequest;
 import software.amazon.awssdk.services.glue.model.GetTableResponse;
 import software.amazon.awssdk.services.glue.model.PartitionError;
+import software.amazon.awssdk.services.glue.model.PartitionValueList;
 import software.amazon.awssdk.services.glue.model.SerDeInfo;
 import software.amazon.awssdk.services.glue.model.StorageDescriptor;
 import software.amazon.awssdk.services.glue.model.Table;
@@ -77,14 +78,18 @@ import software.amazon.awssdk.services.sts.model.GetCallerIdentityRequest;
 import software.amazon.awssdk.services.sts.model.GetCallerIdentityResponse;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.hudi.aws.testutils.GlueTestUtil.glueSyncProps;
 import static org.apache.hudi.common.table.HoodieTableConfig.DATABASE_NAME;
@@ -646,6 +651,61 @@ class TestAWSGlueSyncClient {
     assertTrue(ex.getCause().getCause().getMessage().contains("Fail to drop partitions"));
   }
 
+  @Test
+  void testDropPartitions_RetriesThrottledPartitionsWithAdaptiveBatching() {
+    TypedProperties properties = GlueTestUtil.getHiveSyncConfig().getProps();
+    properties.setProperty(GlueCatalogSyncClientConfig.PARTITION_CHANGE_ADAPTIVE_BATCHING_ENABLE.key(), "true");
+    properties.setProperty(GlueCatalogSyncClientConfig.PARTITION_CHANGE_PARALLELISM.key(), "1");
+    awsGlueSyncClient = new AWSGlueCatalogSyncClient(mockAwsGlue, mockSts, new HiveSyncConfig(properties), GlueTestUtil.getMetaClient());
+
+    List<String> toDrop = new ArrayList<>();
+    for (int day = 1; day <= 30; day++) {
+      toDrop.add(String.format("2025/05/%02d", day));
+    }
+    // the first request has its last partition throttled, the next ones succeed
+    AtomicInteger requests = new AtomicInteger();
+    List<Integer> requestSizes = new ArrayList<>();
+    Set<List<String>> dropped = new HashSet<>();
+    when(mockAwsGlue.batchDeletePartition(any(BatchDeletePartitionRequest.class))).thenAnswer(invocation -> {
+      List<PartitionValueList> partitions = invocation.getArgument(0, BatchDeletePartitionRequest.class).partitionsToDelete();
+      requestSizes.add(partitions.size());
+      List<PartitionError> errors = new ArrayList<>();
+      for (int i = 0; i < partitions.size(); i++) {
+        if (requests.get() == 0 && i == partitions.size() - 1) {
+          errors.add(PartitionError.builder().partitionValues(partitions.get(i).values())
+              .errorDetail(ErrorDetail.builder().errorCode("ThrottlingException").build()).build());
+        } else {
+          assertTrue(dropped.add(partitions.get(i).values()));
+        }
+      }
+      requests.incrementAndGet();
+      return CompletableFuture.completedFuture(BatchDeletePartitionResponse.builder().errors(errors).build());
+    });
+
+    awsGlueSyncClient.dropPartitions("tbl", toDrop);
+
+    assertEquals(30, dropped.size());
+    // the throttled partition is sent again with the 5 remaining ones
+    assertEquals(Arrays.asList(25, 6), requestSizes);
+  }
+
+  @Test
+  void testDropPartitions_FailsOnNonThrottlingErrorsWithAdaptiveBatching() {
+    TypedProperties properties = GlueTestUtil.getHiveSyncConfig().getProps();
+    properties.setProperty(GlueCatalogSyncClientConfig.PARTITION_CHANGE_ADAPTIVE_BATCHING_ENABLE.key(), "true");
+    awsGlueSyncClient = new AWSGlueCatalogSyncClient(mockAwsGlue, mockSts, new HiveSyncConfig(properties), GlueTestUtil.getMetaClient());
+
+    PartitionError pe = PartitionError.builder().errorDetail(ErrorDetail.builder().errorCode("Boom").build()).build();
+    when(mockAwsGlue.batchDeletePartition(any(BatchDeletePartitionRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(BatchDeletePartitionResponse.builder().errors(Collections.singletonList(pe)).build()));
+
+    HoodieGlueSyncException ex = assertThrows(
+        HoodieGlueSyncException.class,
+        () -> awsGlueSyncClient.dropPartitions("tbl", Collections.singletonList("2025/05/19"))
+    );
+    assertTrue(ex.getCause().getMessage().contains("Fail to drop partitions"));
+  }
+
   @Disabled("Integration test – requires real AWS environment")
   @Test
   void testIntegrationTableExists_RealGlueEnvironment() {
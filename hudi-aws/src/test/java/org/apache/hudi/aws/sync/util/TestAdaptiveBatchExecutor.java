@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.aws.sync.util;
+
+import org.apache.hudi.aws.sync.HoodieGlueSyncException;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestAdaptiveBatchExecutor {
+
+  private static final SdkServiceException THROTTLED = SdkServiceException.builder().statusCode(429).message("throttled").build();
+
+  @Test
+  void testAllItemsSentOnceInParallel() {
+    List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    Set<Integer> sent = ConcurrentHashMap.newKeySet();
+    new AdaptiveBatchExecutor(100, 4, 0, 3, 1).execute(items, batch -> {
+      assertTrue(batch.size() <= 100);
+      batch.forEach(item -> assertTrue(sent.add(item)));
+      return Collections.emptyList();
+    });
+    assertEquals(1000, sent.size());
+  }
+
+  @Test
+  void testBatchSizeShrinksOnThrottlingAndGrowsBack() {
+    List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+    List<Integer> batchSizes = new ArrayList<>();
+    AtomicInteger requests = new AtomicInteger();
+    new AdaptiveBatchExecutor(40, 1, 0, 3, 1).execute(items, batch -> {
+      batchSizes.add(batch.size());
+      int request = requests.getAndIncrement();
+      if (request == 0) {
+        throw new RuntimeException(THROTTLED);
+      }
+      // half of the second batch is throttled
+      return request == 1 ? batch.subList(batch.size() / 2, batch.size()) : Collections.emptyList();
+    });
+    // 40 throttled -> 20 with 10 throttled -> 10, 11, 12, ... until the 100 items are sent
+    assertEquals(40, batchSizes.get(0));
+    assertEquals(20, batchSizes.get(1));
+    assertEquals(10, batchSizes.get(2));
+    assertEquals(11, batchSizes.get(3));
+    assertEquals(100 + 40 + 10, batchSizes.stream().mapToInt(Integer::intValue).sum());
+  }
+
+  @Test
+  void testFailsAfterMaxRetries() {
+    AtomicInteger requests = new AtomicInteger();
+    HoodieGlueSyncException e = assertThrows(HoodieGlueSyncException.class,
+        () -> new AdaptiveBatchExecutor(10, 1, 0, 2, 1).execute(Collections.singletonList(1), batch -> {
+          requests.incrementAndGet();
+          return batch;
+        }));
+    assertEquals(3, requests.get());
+    assertTrue(e.getCause().getMessage().contains("still throttled after 2 retries"));
+  }
+
+  @Test
+  void testNonThrottlingErrorIsNotRetried() {
+    RuntimeException failure = new RuntimeException("boom");
+    AtomicInteger requests = new AtomicInteger();
+    HoodieGlueSyncException e = assertThrows(HoodieGlueSyncException.class,
+        () -> new AdaptiveBatchExecutor(10, 1, 0, 2, 1).execute(Collections.singletonList(1), batch -> {
+          requests.incrementAndGet();
+          throw failure;
+        }));
+    assertEquals(1, requests.get());
+    assertSame(failure, e.getCause());
+  }
+
+  @Test
+  void testIsThrottlingException() {
+    assertTrue(AdaptiveBatchExecutor.isThrottlingException(THROTTLED));
+    assertTrue(AdaptiveBatchExecutor.isThrottlingException(new HoodieGlueSyncException("wrapped", THROTTLED)));
+    assertFalse(AdaptiveBatchExecutor.isThrottlingException(SdkServiceException.builder().statusCode(500).build()));
+    assertFalse(AdaptiveBatchExecutor.isThrottlingException(new RuntimeException("boom")));
+  }
+}
@@ -23,19 +23,32 @@ import org.apache.hudi.cli.utils.TempViewProvider;
 import org.apache.hudi.common.config.HoodieTimeGeneratorConfig;
 import org.apache.hudi.common.fs.ConsistencyGuardConfig;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
+import org.apache.hudi.common.table.timeline.HoodieActiveTimeline;
+import org.apache.hudi.common.table.timeline.HoodieArchivedTimeline;
+import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.hadoop.fs.HadoopFSUtils;
+import org.apache.hudi.metadata.HoodieTableMetadata;
 import org.apache.hudi.storage.HoodieStorage;
 import org.apache.hudi.storage.StorageConfiguration;
 import org.apache.hudi.storage.HoodieStorageUtils;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class is responsible to load table metadata and hoodie related configs.
+ *
+ * <p>The meta clients of the table and of its metadata table are kept for the session, along with the timelines they
+ * load lazily, until the next {@code connect} or {@code refresh} command. The commands needing the latest instants use
+ * {@link #getLatestActiveTimeline()}, which only reloads the active timeline if the instants on storage changed.
  */
+@Slf4j
 public class HoodieCLI {
 
   public static StorageConfiguration<Configuration> conf;
@@ -45,7 +58,10 @@ public class HoodieCLI {
   public static CLIState state = CLIState.INIT;
   public static String basePath;
   protected static HoodieTableMetaClient tableMetadata;
+  protected static HoodieTableMetaClient metadataTableMetaClient;
   public static HoodieTableMetaClient syncTableMetadata;
+  // the archived timeline of the table being loaded in the background, reset with the meta client
+  private static CompletableFuture<HoodieArchivedTimeline> prefetchedArchivedTimeline;
   public static TempViewProvider tempViewProvider;
 
   /**
@@ -63,8 +79,10 @@ public class HoodieCLI {
     timeGeneratorConfig = config;
   }
 
-  private static void setTableMetaClient(HoodieTableMetaClient tableMetadata) {
+  private static synchronized void setTableMetaClient(HoodieTableMetaClient tableMetadata) {
     HoodieCLI.tableMetadata = tableMetadata;
+    HoodieCLI.metadataTableMetaClient = null;
+    HoodieCLI.prefetchedArchivedTimeline = null;
   }
 
   private static void setBasePath(String basePath) {
@@ -91,11 +109,15 @@ public class HoodieCLI {
   }
 
   public static void refreshTableMetadata() {
-    setTableMetaClient(HoodieTableMetaClient.builder()
+    setTableMetaClient(buildTableMetaClient());
+  }
+
+  private static HoodieTableMetaClient buildTableMetaClient() {
+    return HoodieTableMetaClient.builder()
         .setConf(HoodieCLI.conf.newInstance()).setBasePath(basePath).setLoadActiveTimelineOnLoad(false)
         .setConsistencyGuardConfig(HoodieCLI.consistencyGuardConfig)
         .setTimeGeneratorConfig(timeGeneratorConfig == null ? HoodieTimeGeneratorConfig.defaultConfig(basePath) : timeGeneratorConfig)
-        .build());
+        .build();
   }
 
   public static void connectTo(String basePath) {
@@ -115,6 +137,102 @@ public class HoodieCLI {
     return tableMetadata;
   }
 
+  /**
+   * Get the meta client of the metadata table, built on first use after connecting to or refreshing the table.
+   *
+   * @return metadataTableMetaClient which is instance of HoodieTableMetaClient
+   */
+  public static synchronized HoodieTableMetaClient getMetadataTableMetaClient() {
+    if (metadataTableMetaClient == null) {
+      metadataTableMetaClient = HoodieTableMetaClient.builder().setConf(HoodieCLI.conf.newInstance())
+          .setBasePath(HoodieTableMetadata.getMetadataTableBasePath(getTableMetaClient().getBasePath()))
+          .setLoadActiveTimelineOnLoad(false)
+          .setConsistencyGuardConfig(HoodieCLI.consistencyGuardConfig)
+          .build();
+    }
+    return metadataTableMetaClient;
+  }
+
+  /**
+   * Returns the active timeline of the table, reloaded only if the instants on storage differ from the loaded ones, so
+   * that the instants and the state derived from the loaded timeline are reused while the table does not change.
+   *
+   * @return the latest active timeline of the session meta client
+   */
+  public static HoodieActiveTimeline getLatestActiveTimeline() {
+    HoodieTableMetaClient metaClient = getTableMetaClient();
+    HoodieActiveTimeline activeTimeline = metaClient.getActiveTimeline();
+    List<HoodieInstant> instants;
+    try {
+      instants = metaClient.scanHoodieInstantsFromFileSystem(metaClient.getTimelinePath(),
+          activeTimeline.getValidExtensionsInActiveTimeline(), true);
+    } catch (IOException e) {
+      throw new HoodieIOException("Failed to list the timeline of table " + metaClient.getBasePath(), e);
+    }
+    if (instants.equals(activeTimeline.getInstants())) {
+      return activeTimeline;
+    }
+    log.info("The timeline of table {} changed, reloading it", metaClient.getBasePath());
+    return metaClient.reloadActiveTimeline();
+  }
+
+  /**
+   * Returns the archived timeline of the table, the one loaded in the background if the timelines were prefetched.
+   *
+   * @return the archived timeline of the table
+   */
+  public static HoodieArchivedTimeline getArchivedTimeline() {
+    HoodieTableMetaClient metaClient;
+    CompletableFuture<HoodieArchivedTimeline> archivedTimeline;
+    synchronized (HoodieCLI.class) {
+      metaClient = getTableMetaClient();
+      archivedTimeline = prefetchedArchivedTimeline;
+    }
+    if (archivedTimeline != null) {
+      try {
+        return archivedTimeline.join();
+      } catch (Exception e) {
+        log.warn("Failed to prefetch the archived timeline of table {}, loading it again", metaClient.getBasePath(), e);
+      }
+    }
+    return metaClient.getArchivedTimeline();
+  }
+
+  /**
+   * Loads the active and archived timelines of the table, and the active timeline of its metadata table if any, in a
+   * background thread, so that they are ready by the time the first commands need them. The timeline getters of the
+   * meta client are synchronized, so a command needing the active timeline being loaded waits for it instead of
+   * loading it again. The archived timeline is loaded on a separate meta client, so that loading it does not block the
+   * commands on the session meta client, and it is published through {@link #getArchivedTimeline()} once ready.
+   */
+  public static void prefetchTimelines() {
+    HoodieTableMetaClient metaClient = getTableMetaClient();
+    HoodieTableMetaClient archiveMetaClient = buildTableMetaClient();
+    CompletableFuture<HoodieArchivedTimeline> archivedTimeline = new CompletableFuture<>();
+    synchronized (HoodieCLI.class) {
+      if (metaClient != tableMetadata) {
+        // connected to another table in the meantime
+        return;
+      }
+      prefetchedArchivedTimeline = archivedTimeline;
+    }
+    Thread prefetchThread = new Thread(() -> {
+      try {
+        metaClient.getActiveTimeline();
+        if (metaClient.getTableConfig().isMetadataTableAvailable()) {
+          getMetadataTableMetaClient().getActiveTimeline();
+        }
+        archivedTimeline.complete(archiveMetaClient.getArchivedTimeline());
+        log.info("Prefetched the timelines of table {}", metaClient.getBasePath());
+      } catch (Exception e) {
+        archivedTimeline.completeExceptionally(e);
+        log.warn("Failed to prefetch the timelines of table {}", metaClient.getBasePath(), e);
+      }
+    }, "hudi-cli-timeline-prefetch");
+    prefetchThread.setDaemon(true);
+    prefetchThread.start();
+  }
+
   public static synchronized TempViewProvider getTempViewProvider() {
     if (tempViewProvider == null) {
       tempViewProvider = new SparkTempViewProvider(HoodieCLI.class.getSimpleName());
@@ -184,7 +184,7 @@ public class CommitsCommand {
     if (StringUtils.isNullOrEmpty(endTs)) {
       endTs = getTimeDaysAgo(1);
     }
-    HoodieArchivedTimeline archivedTimeline = HoodieCLI.getTableMetaClient().getArchivedTimeline();
+    HoodieArchivedTimeline archivedTimeline = HoodieCLI.getArchivedTimeline();
     try {
       archivedTimeline.loadInstantDetailsInMemory(startTs, endTs);
       HoodieTimeline timelineRange = archivedTimeline.findInstantsInRange(startTs, endTs);
@@ -366,15 +366,12 @@ public class CommitsCommand {
   @ShellMethod(key = "commits show_infights", value = "Show inflight instants that are left longer than a certain duration")
   public String showInflightCommits(
       @ShellOption(value = {"--lookbackInMins"}, help = "Only show inflight commits that started before the specified lookback duration (in minutes).", defaultValue = "0") final Long durationInMins) {
-    HoodieTableMetaClient metaClient = HoodieCLI.getTableMetaClient();
-
     // Fetch inflight commits.
     long goBackMs = Duration.ofMinutes(durationInMins).getSeconds() * 1000;
     String oldestAllowedTimestamp = HoodieInstantTimeGenerator
         .formatDate(new Date(System.currentTimeMillis() - goBackMs));
 
-    List<HoodieInstant> inflightInstants =  metaClient
-        .reloadActiveTimeline()
+    List<HoodieInstant> inflightInstants = HoodieCLI.getLatestActiveTimeline()
         .getWriteTimeline()
         .filterInflightsAndRequested()
         .findInstantsBefore(oldestAllowedTimestamp)
@@ -149,7 +149,7 @@ public class CompactionCommand {
     }
 
     HoodieTableMetaClient client = checkAndGetMetaClient();
-    HoodieArchivedTimeline archivedTimeline = client.getArchivedTimeline();
+    HoodieArchivedTimeline archivedTimeline = HoodieCLI.getArchivedTimeline();
     archivedTimeline.loadCompactionDetailsInMemory(startTs, endTs);
     try {
       return printAllCompactions(archivedTimeline,
@@ -171,7 +171,7 @@ public class CompactionCommand {
       @ShellOption(value = {"--partition"}, help = "Partition value", defaultValue = ShellOption.NULL) final String partition)
       throws Exception {
     HoodieTableMetaClient client = checkAndGetMetaClient();
-    HoodieArchivedTimeline archivedTimeline = client.getArchivedTimeline();
+    HoodieArchivedTimeline archivedTimeline = HoodieCLI.getArchivedTimeline();
     HoodieInstant instant = client.createNewInstant(HoodieInstant.State.COMPLETED,
         HoodieTimeline.COMPACTION_ACTION, compactionInstantTime);
     try {
@@ -238,7 +238,7 @@ public class CompactionCommand {
     if (null == compactionInstantTime) {
       // pick outstanding one with lowest timestamp
       Option<String> firstPendingInstant =
-          client.reloadActiveTimeline().filterCompletedAndCompactionInstants()
+          HoodieCLI.getLatestActiveTimeline().filterCompletedAndCompactionInstants()
               .filter(instant -> instant.getAction().equals(HoodieTimeline.COMPACTION_ACTION)).firstInstant()
               .map(HoodieInstant::requestedTime);
       if (!firstPendingInstant.isPresent()) {
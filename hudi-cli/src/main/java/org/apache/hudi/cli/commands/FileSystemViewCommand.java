@@ -26,11 +26,13 @@ import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.FileSlice;
 import org.apache.hudi.common.model.HoodieLogFile;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
+import org.apache.hudi.common.table.timeline.HoodieActiveTimeline;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.table.timeline.TimelineFactory;
 import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
 import org.apache.hudi.common.util.NumericUtils;
+import org.apache.hudi.common.util.StringUtils;
 
 import org.apache.hudi.storage.HoodieStorage;
 import org.apache.hudi.storage.StoragePath;
@@ -59,6 +61,11 @@ import static org.apache.hudi.common.table.timeline.InstantComparison.GREATER_TH
 @ShellComponent
 public class FileSystemViewCommand {
 
+  // the file-system view built by the last command, reused while the table, the options and the timeline are unchanged
+  private HoodieTableMetaClient cachedMetaClient;
+  private String cachedFileSystemViewKey;
+  private HoodieTableFileSystemView cachedFileSystemView;
+
   @ShellMethod(key = "show fsview all", value = "Show entire file-system view")
   public String showAllFileSlices(
       @ShellOption(value = {"--pathRegex"}, help = "regex to select files, eg: par1",
@@ -238,22 +245,26 @@ public class FileSystemViewCommand {
    */
   private HoodieTableFileSystemView buildFileSystemView(String globRegex, String maxInstant, boolean basefileOnly,
                                                         boolean includeMaxInstant, boolean includeInflight, boolean excludeCompaction) throws IOException {
-    HoodieTableMetaClient client = HoodieCLI.getTableMetaClient();
-    HoodieTableMetaClient metaClient = HoodieTableMetaClient.builder()
-        .setConf(client.getStorageConf().newInstance())
-        .setBasePath(client.getBasePath()).setLoadActiveTimelineOnLoad(true).build();
+    HoodieTableMetaClient metaClient = HoodieCLI.getTableMetaClient();
+    // The timeline of the session meta client is only reloaded if the table changed since it was loaded
+    HoodieActiveTimeline activeTimeline = HoodieCLI.getLatestActiveTimeline();
+    String fileSystemViewKey = StringUtils.joinUsingDelim(",", globRegex, maxInstant, String.valueOf(basefileOnly),
+        String.valueOf(includeMaxInstant), String.valueOf(includeInflight), String.valueOf(excludeCompaction), activeTimeline.getTimelineHash());
+    if (metaClient == cachedMetaClient && fileSystemViewKey.equals(cachedFileSystemViewKey)) {
+      return cachedFileSystemView;
+    }
     HoodieStorage storage = HoodieCLI.storage;
-    String globPath = String.format("%s/%s/*", client.getBasePath(), globRegex);
+    String globPath = String.format("%s/%s/*", metaClient.getBasePath(), globRegex);
     List<StoragePathInfo> pathInfoList = FSUtils.getGlobStatusExcludingMetaFolder(storage, new StoragePath(globPath));
     Stream<HoodieInstant> instantsStream;
 
     HoodieTimeline timeline;
     if (basefileOnly) {
-      timeline = metaClient.getActiveTimeline().getCommitAndReplaceTimeline();
+      timeline = activeTimeline.getCommitAndReplaceTimeline();
     } else if (excludeCompaction) {
-      timeline = metaClient.getActiveTimeline().getCommitsTimeline();
+      timeline = activeTimeline.getCommitsTimeline();
     } else {
-      timeline = metaClient.getActiveTimeline().getWriteTimeline();
+      timeline = activeTimeline.getWriteTimeline();
     }
 
     if (!includeInflight) {
@@ -272,7 +283,13 @@ public class FileSystemViewCommand {
       instantsStream = instantsStream.filter(is -> predicate.test(maxInstant, is.requestedTime()));
     }
     TimelineFactory timelineFactory = metaClient.getTableFormat().getTimelineFactory();
-    HoodieTimeline filteredTimeline = timelineFactory.createDefaultTimeline(instantsStream, metaClient.getActiveTimeline());
-    return new HoodieTableFileSystemView(metaClient, filteredTimeline, pathInfoList);
+    HoodieTimeline filteredTimeline = timelineFactory.createDefaultTimeline(instantsStream, activeTimeline);
+    if (cachedFileSystemView != null) {
+      cachedFileSystemView.close();
+    }
+    cachedFileSystemView = new HoodieTableFileSystemView(metaClient, filteredTimeline, pathInfoList);
+    cachedMetaClient = metaClient;
+    cachedFileSystemViewKey = fileSystemViewKey;
+    return cachedFileSystemView;
   }
 }
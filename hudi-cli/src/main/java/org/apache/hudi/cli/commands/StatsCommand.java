@@ -32,9 +32,8 @@ import org.apache.hudi.storage.HoodieStorage;
 import org.apache.hudi.storage.StoragePath;
 import org.apache.hudi.storage.StoragePathInfo;
 
-import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Snapshot;
-import com.codahale.metrics.UniformReservoir;
+import com.codahale.metrics.UniformSnapshot;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellOption;
@@ -120,25 +119,22 @@ public class StatsCommand {
         new StoragePath(globPath));
 
     // max, min, #small files < 10MB, 50th, avg, 95th
-    Histogram globalHistogram = new Histogram(new UniformReservoir(MAX_FILES));
-    HashMap<String, Histogram> commitHistoMap = new HashMap<>();
+    // The snapshots are computed from the file sizes of each commit, instead of pre-allocating a reservoir
+    // of MAX_FILES samples for every commit of the table
+    List<Long> globalFileSizes = new ArrayList<>(pathInfoList.size());
+    HashMap<String, List<Long>> commitFileSizesMap = new HashMap<>();
     for (StoragePathInfo pathInfo : pathInfoList) {
       String instantTime = FSUtils.getCommitTime(pathInfo.getPath().getName());
       long sz = pathInfo.getLength();
-      if (!commitHistoMap.containsKey(instantTime)) {
-        commitHistoMap.put(instantTime, new Histogram(new UniformReservoir(MAX_FILES)));
-      }
-      commitHistoMap.get(instantTime).update(sz);
-      globalHistogram.update(sz);
+      commitFileSizesMap.computeIfAbsent(instantTime, k -> new ArrayList<>()).add(sz);
+      globalFileSizes.add(sz);
     }
 
     List<Comparable[]> rows = new ArrayList<>();
-    for (Map.Entry<String, Histogram> entry : commitHistoMap.entrySet()) {
-      Snapshot s = entry.getValue().getSnapshot();
-      rows.add(printFileSizeHistogram(entry.getKey(), s));
+    for (Map.Entry<String, List<Long>> entry : commitFileSizesMap.entrySet()) {
+      rows.add(printFileSizeHistogram(entry.getKey(), new UniformSnapshot(entry.getValue())));
     }
-    Snapshot s = globalHistogram.getSnapshot();
-    rows.add(printFileSizeHistogram("ALL", s));
+    rows.add(printFileSizeHistogram("ALL", new UniformSnapshot(globalFileSizes)));
 
     TableHeader header = new TableHeader()
         .addTableHeaderField(HoodieTableHeaderFields.HEADER_COMMIT_TIME)
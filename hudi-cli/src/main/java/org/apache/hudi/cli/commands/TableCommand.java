@@ -90,7 +90,9 @@ public class TableCommand {
       @ShellOption(value = {"--maxExpectedClockSkewMs"}, defaultValue = "200",
           help = "The max expected clock skew time for WaitBasedTimeGenerator in ms") final Long maxExpectedClockSkewMs,
       @ShellOption(value = {"--useDefaultLockProvider"}, defaultValue = "false",
-          help = "Use org.apache.hudi.client.transaction.lock.InProcessLockProvider") final boolean useDefaultLockProvider)
+          help = "Use org.apache.hudi.client.transaction.lock.InProcessLockProvider") final boolean useDefaultLockProvider,
+      @ShellOption(value = {"--prefetchTimeline"}, defaultValue = "false",
+          help = "Load the timelines of the table in the background once connected") final boolean prefetchTimeline)
       throws IOException {
     HoodieCLI
         .setConsistencyGuardConfig(ConsistencyGuardConfig.newBuilder().withConsistencyCheckEnabled(eventuallyConsistent)
@@ -107,9 +109,25 @@ public class TableCommand {
     HoodieCLI.connectTo(path);
     HoodieCLI.initFS(true);
     HoodieCLI.state = HoodieCLI.CLIState.TABLE;
+    if (prefetchTimeline) {
+      HoodieCLI.prefetchTimelines();
+    }
     return "Metadata for table " + HoodieCLI.getTableMetaClient().getTableConfig().getTableName() + " loaded";
   }
 
+  public String connect(
+      final String path,
+      final boolean eventuallyConsistent,
+      final Integer initialConsistencyIntervalMs,
+      final Integer maxConsistencyIntervalMs,
+      final Integer maxConsistencyChecks,
+      final String timeGeneratorType,
+      final Long maxExpectedClockSkewMs,
+      final boolean useDefaultLockProvider) throws IOException {
+    return connect(path, eventuallyConsistent, initialConsistencyIntervalMs, maxConsistencyIntervalMs, maxConsistencyChecks,
+        timeGeneratorType, maxExpectedClockSkewMs, useDefaultLockProvider, false);
+  }
+
   public String createTable(
       final String path,
       final String name,
@@ -32,7 +32,6 @@ import org.apache.hudi.common.table.timeline.InstantComparator;
 import org.apache.hudi.common.table.timeline.InstantFileNameParser;
 import org.apache.hudi.common.table.timeline.InstantGenerator;
 import org.apache.hudi.common.util.Option;
-import org.apache.hudi.metadata.HoodieTableMetadata;
 import org.apache.hudi.storage.HoodieStorage;
 import org.apache.hudi.storage.StoragePath;
 import org.apache.hudi.storage.StoragePathInfo;
@@ -84,7 +83,7 @@ public class TimelineCommand {
     HoodieTableMetaClient metaClient = HoodieCLI.getTableMetaClient();
     try {
       if (withMetadataTable) {
-        HoodieTableMetaClient mtMetaClient = getMetadataTableMetaClient(metaClient);
+        HoodieTableMetaClient mtMetaClient = HoodieCLI.getMetadataTableMetaClient();
         return printTimelineInfoWithMetadataTable(
             metaClient.getActiveTimeline(), mtMetaClient.getActiveTimeline(),
             getInstantInfoFromTimeline(metaClient, metaClient.getStorage(), metaClient.getTimelinePath()),
@@ -134,7 +133,7 @@ public class TimelineCommand {
           defaultValue = "false") final boolean headerOnly,
       @ShellOption(value = {"--show-time-seconds"}, help = "Show seconds in instant file modification time",
           defaultValue = "false") final boolean showTimeSeconds) {
-    HoodieTableMetaClient metaClient = getMetadataTableMetaClient(HoodieCLI.getTableMetaClient());
+    HoodieTableMetaClient metaClient = HoodieCLI.getMetadataTableMetaClient();
     try {
       return printTimelineInfo(
           metaClient.getActiveTimeline(),
@@ -156,7 +155,7 @@ public class TimelineCommand {
           defaultValue = "false") final boolean headerOnly,
       @ShellOption(value = {"--show-time-seconds"}, help = "Show seconds in instant file modification time",
           defaultValue = "false") final boolean showTimeSeconds) {
-    HoodieTableMetaClient metaClient = getMetadataTableMetaClient(HoodieCLI.getTableMetaClient());
+    HoodieTableMetaClient metaClient = HoodieCLI.getMetadataTableMetaClient();
     try {
       return printTimelineInfo(
           metaClient.getActiveTimeline().filterInflightsAndRequested(),
@@ -168,14 +167,6 @@ public class TimelineCommand {
     }
   }
 
-  private HoodieTableMetaClient getMetadataTableMetaClient(HoodieTableMetaClient metaClient) {
-    return HoodieTableMetaClient.builder().setConf(HoodieCLI.conf.newInstance())
-        .setBasePath(HoodieTableMetadata.getMetadataTableBasePath(metaClient.getBasePath()))
-        .setLoadActiveTimelineOnLoad(false)
-        .setConsistencyGuardConfig(HoodieCLI.consistencyGuardConfig)
-        .build();
-  }
-
   private Map<String, Map<HoodieInstant.State, HoodieInstantWithModTime>> getInstantInfoFromTimeline(
       HoodieTableMetaClient metaClient, HoodieStorage storage, StoragePath metaPath) throws IOException {
     Map<String, Map<HoodieInstant.State, HoodieInstantWithModTime>> instantMap = new HashMap<>();
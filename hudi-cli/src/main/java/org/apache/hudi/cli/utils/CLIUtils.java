@@ -55,7 +55,7 @@ public class CLIUtils {
     HoodieTableMetaClient metaClient = HoodieCLI.getTableMetaClient();
     HoodieActiveTimeline activeTimeline = metaClient.getActiveTimeline();
     if (includeArchivedTimeline) {
-      HoodieArchivedTimeline archivedTimeline = metaClient.getArchivedTimeline();
+      HoodieArchivedTimeline archivedTimeline = HoodieCLI.getArchivedTimeline();
       archivedTimeline.loadInstantDetailsInMemory(startTs, endTs);
       return archivedTimeline.findInstantsInRange(startTs, endTs).mergeTimeline(activeTimeline);
     }
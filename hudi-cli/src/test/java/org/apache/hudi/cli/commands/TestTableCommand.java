@@ -31,6 +31,7 @@ import org.apache.hudi.common.schema.HoodieSchemaUtils;
 import org.apache.hudi.common.table.HoodieTableConfig;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.HoodieTableVersion;
+import org.apache.hudi.common.table.timeline.HoodieActiveTimeline;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.table.timeline.TimeGeneratorType;
 import org.apache.hudi.common.testutils.HoodieTestDataGenerator;
@@ -60,6 +61,7 @@ import static org.apache.hudi.common.table.HoodieTableMetaClient.METAFOLDER_NAME
 import static org.apache.hudi.common.util.StringUtils.fromUTF8Bytes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -126,6 +128,46 @@ public class TestTableCommand extends CLIFunctionalTestHarness {
     assertEquals(TimeGeneratorType.valueOf("WAIT_TO_ADJUST_SKEW"), timeGeneratorConfig.getTimeGeneratorType());
   }
 
+  /**
+   * Test Case for connect table with the timelines loaded in the background.
+   */
+  @Test
+  public void testConnectTableWithTimelinePrefetch() throws IOException {
+    assertTrue(prepareTable());
+    for (int i = 100; i < 104; i++) {
+      HoodieTestDataGenerator.createCommitFile(tablePath, String.valueOf(i), storageConf());
+    }
+
+    Object result = shell.evaluate(() -> "connect --path " + tablePath + " --prefetchTimeline true");
+    assertTrue(ShellEvaluationResultUtil.isSuccess(result));
+
+    // the commands share the timeline of the session meta client, being loaded or already loaded
+    HoodieTableMetaClient metaClient = HoodieCLI.getTableMetaClient();
+    assertEquals(4, metaClient.getActiveTimeline().getCommitAndReplaceTimeline().filterCompletedInstants().countInstants());
+    assertSame(metaClient.getActiveTimeline(), HoodieCLI.getTableMetaClient().getActiveTimeline());
+    // the archived timeline is loaded on a separate meta client and published once ready
+    assertSame(HoodieCLI.getArchivedTimeline(), HoodieCLI.getArchivedTimeline());
+  }
+
+  /**
+   * Test Case for the active timeline reloaded only if the table changed.
+   */
+  @Test
+  public void testGetLatestActiveTimeline() throws IOException {
+    assertTrue(prepareTable());
+    HoodieTestDataGenerator.createCommitFile(tablePath, "100", storageConf());
+    Object result = shell.evaluate(() -> "connect --path " + tablePath);
+    assertTrue(ShellEvaluationResultUtil.isSuccess(result));
+
+    HoodieActiveTimeline activeTimeline = HoodieCLI.getLatestActiveTimeline();
+    assertSame(activeTimeline, HoodieCLI.getLatestActiveTimeline());
+
+    HoodieTestDataGenerator.createCommitFile(tablePath, "101", storageConf());
+    HoodieActiveTimeline reloadedTimeline = HoodieCLI.getLatestActiveTimeline();
+    assertEquals(2, reloadedTimeline.getCommitAndReplaceTimeline().filterCompletedInstants().countInstants());
+    assertSame(reloadedTimeline, HoodieCLI.getTableMetaClient().getActiveTimeline());
+  }
+
   /**
    * Test Cases for create table with default values.
    */
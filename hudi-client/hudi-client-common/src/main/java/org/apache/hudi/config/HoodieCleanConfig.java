@@ -148,6 +148,17 @@ public class HoodieCleanConfig extends HoodieConfig {
           + "in the timeline, since the last cleaner run. This is much more efficient than obtaining listings for the full "
           + "table for each planning (even with a metadata table).");
 
+  public static final ConfigProperty<Boolean> CLEANER_SUPERSEDED_FILE_SLICES_MODE_ENABLE = ConfigProperty
+      .key("hoodie.clean.incremental.superseded.file.slices.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("When enabled together with " + CLEANER_INCREMENTAL_MODE_ENABLE.key() + ", the incremental clean plan "
+          + "with the KEEP_LATEST_COMMITS or KEEP_LATEST_BY_HOURS policy only considers the file groups with file slices superseded "
+          + "since the last clean, collected from the commit metadata, instead of all the file groups of the changed partitions. "
+          + "Partitions with only inserts are skipped, and only the files of these file groups are loaded into the file system view. "
+          + "Partitions with replaced file groups are still planned with all their file groups.");
+
   public static final ConfigProperty<String> FAILED_WRITES_CLEANER_POLICY = ConfigProperty
       .key("hoodie.clean.failed.writes.policy")
       .defaultValue(HoodieFailedWritesCleaningPolicy.EAGER.name())
@@ -312,6 +323,11 @@ public class HoodieCleanConfig extends HoodieConfig {
       return this;
     }
 
+    public HoodieCleanConfig.Builder withSupersededFileSlicesCleaningMode(Boolean supersededFileSlicesCleaningMode) {
+      cleanConfig.setValue(CLEANER_SUPERSEDED_FILE_SLICES_MODE_ENABLE, String.valueOf(supersededFileSlicesCleaningMode));
+      return this;
+    }
+
     public HoodieCleanConfig.Builder withCleaningTriggerStrategy(String cleaningTriggerStrategy) {
       cleanConfig.setValue(CLEAN_TRIGGER_STRATEGY, cleaningTriggerStrategy);
       return this;
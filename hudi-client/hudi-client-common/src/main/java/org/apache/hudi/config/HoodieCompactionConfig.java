@@ -141,6 +141,25 @@ public class HoodieCompactionConfig extends HoodieConfig {
       .withDocumentation("Only if the log file num is greater than the threshold,"
           + " the file group will be compacted.");
 
+  public static final ConfigProperty<Double> COMPACTION_COST_BASED_LOG_BLOCK_READ_COST_MB = ConfigProperty
+      .key("hoodie.compaction.cost.based.log.block.read.cost.mb")
+      .defaultValue(4.0)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Used by org.apache.hudi.table.action.compact.strategy.CostBasedCompactionStrategy. Fixed read cost, "
+          + "in MB, charged for every log block a query has to open and merge on top of the base file. Higher values "
+          + "favor compacting file groups with many small log blocks over file groups with few large ones.");
+
+  public static final ConfigProperty<String> COMPACTION_COST_BASED_PARTITION_QUERY_WEIGHTS = ConfigProperty
+      .key("hoodie.compaction.cost.based.partition.query.weights")
+      .defaultValue("")
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Used by org.apache.hudi.table.action.compact.strategy.CostBasedCompactionStrategy. Optional relative "
+          + "query frequency per partition, as comma separated 'partitionPath=weight' pairs, e.g. '2024/01/01=10,2024/01/02=2'. "
+          + "The read cost saved by compacting a file slice is multiplied by the weight of its partition; partitions "
+          + "not listed have a weight of 1.");
+
   public static final ConfigProperty<String> COMPACTION_STRATEGY = ConfigProperty
       .key("hoodie.compaction.strategy")
       .defaultValue(LogFileSizeBasedCompactionStrategy.class.getName())
@@ -466,6 +485,16 @@ public class HoodieCompactionConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder withCostBasedCompactionLogBlockReadCostMB(double logBlockReadCostMB) {
+      compactionConfig.setValue(COMPACTION_COST_BASED_LOG_BLOCK_READ_COST_MB, String.valueOf(logBlockReadCostMB));
+      return this;
+    }
+
+    public Builder withCostBasedCompactionPartitionQueryWeights(String partitionQueryWeights) {
+      compactionConfig.setValue(COMPACTION_COST_BASED_PARTITION_QUERY_WEIGHTS, partitionQueryWeights);
+      return this;
+    }
+
     public Builder withLogCompactionEnabled(boolean enableLogCompaction) {
       compactionConfig.setValue(ENABLE_LOG_COMPACTION, Boolean.toString(enableLogCompaction));
       return this;
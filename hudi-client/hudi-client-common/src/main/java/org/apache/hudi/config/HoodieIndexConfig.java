@@ -126,6 +126,16 @@ public class HoodieIndexConfig extends HoodieConfig {
           + "When true, the index lookup uses bloom filters and column stats from metadata "
           + "table when available to speed up the process.");
 
+  public static final ConfigProperty<Long> BLOOM_INDEX_FILE_INFO_CACHE_MAX_BYTES = ConfigProperty
+      .key("hoodie.bloom.index.file.info.cache.max.bytes")
+      .defaultValue(0L)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Only applies if index type is BLOOM. Max size in bytes of the process wide cache of the bloom filters "
+          + "and min/max record keys read from the base file footers, which is shared by the index lookups of all the tables "
+          + "and writers in the same JVM so that consecutive upsert batches do not read the same footers again. "
+          + "The cache is created with the size of the first writer that enables it. 0 disables the cache.");
+
   public static final ConfigProperty<String> BLOOM_INDEX_TREE_BASED_FILTER = ConfigProperty
       .key("hoodie.bloom.index.use.treebased.filter")
       .defaultValue("true")
@@ -356,6 +366,17 @@ public class HoodieIndexConfig extends HoodieConfig {
           + "Specifically, if a file slice size is smaller than `hoodie.xxxx.max.file.size` * threshold, then it will be considered"
           + "as a merge candidate.");
 
+  public static final ConfigProperty<Boolean> BUCKET_INDEX_ONLINE_SPLIT_ENABLE = ConfigProperty
+      .key("hoodie.bucket.index.online.split.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Only applies if bucket index engine is consistent hashing. When enabled, scheduling clustering splits "
+          + "the buckets that reach `hoodie.bucket.index.split.threshold` lazily: the hashing metadata is updated right away so that new "
+          + "writes go to the child buckets, and the records that are updated in a child bucket are deleted from the parent file group. "
+          + "The parent file group is physically split into the child buckets by the next clustering of the partition, "
+          + "instead of rewriting it before the split takes effect.");
+
   public static final ConfigProperty<String> RECORD_INDEX_USE_CACHING = ConfigProperty
       .key("hoodie.record.index.use.caching")
       .defaultValue("true")
@@ -628,6 +649,11 @@ public class HoodieIndexConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder bloomIndexFileInfoCacheMaxBytes(long maxBytes) {
+      hoodieIndexConfig.setValue(BLOOM_INDEX_FILE_INFO_CACHE_MAX_BYTES, String.valueOf(maxBytes));
+      return this;
+    }
+
     public Builder bloomIndexTreebasedFilter(boolean useTreeFilter) {
       hoodieIndexConfig.setValue(BLOOM_INDEX_TREE_BASED_FILTER, String.valueOf(useTreeFilter));
       return this;
@@ -713,6 +739,11 @@ public class HoodieIndexConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder withBucketIndexOnlineSplitEnabled(boolean onlineSplitEnabled) {
+      hoodieIndexConfig.setValue(BUCKET_INDEX_ONLINE_SPLIT_ENABLE, String.valueOf(onlineSplitEnabled));
+      return this;
+    }
+
     public Builder withBucketMinNum(int bucketMinNum) {
       hoodieIndexConfig.setValue(BUCKET_INDEX_MIN_NUM_BUCKETS, String.valueOf(bucketMinNum));
       return this;
@@ -84,6 +84,24 @@ public class HoodieTTLConfig extends HoodieConfig {
       .sinceVersion("1.0.0")
       .withDocumentation("max partitions to delete in partition ttl management");
 
+  public static final ConfigProperty<Boolean> METADATA_LISTING_ENABLE = ConfigProperty
+      .key(PARTITION_TTL_STRATEGY_PARAM_PREFIX + "metadata.listing.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("When enabled and the files partition of the metadata table is available, the KEEP_BY_TIME strategy "
+          + "looks up the files of the partitions from the metadata table in bulk and takes the last commit time of a partition "
+          + "from the instant times in the names of its files, instead of building the file system view of each partition. "
+          + "Files of pending or failed writes count as commits, so partitions being written are never expired.");
+
+  public static final ConfigProperty<Integer> METADATA_LISTING_BATCH_SIZE = ConfigProperty
+      .key(PARTITION_TTL_STRATEGY_PARAM_PREFIX + "metadata.listing.batch.size")
+      .defaultValue(10000)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Number of partitions whose files are looked up from the metadata table in one batch, "
+          + "when " + PARTITION_TTL_STRATEGY_PARAM_PREFIX + "metadata.listing.enable is enabled.");
+
   public static class Builder {
     private final HoodieTTLConfig ttlConfig = new HoodieTTLConfig();
 
@@ -112,6 +130,16 @@ public class HoodieTTLConfig extends HoodieConfig {
       return this;
     }
 
+    public HoodieTTLConfig.Builder enableMetadataListing(Boolean enable) {
+      ttlConfig.setValue(METADATA_LISTING_ENABLE, enable.toString());
+      return this;
+    }
+
+    public HoodieTTLConfig.Builder withMetadataListingBatchSize(Integer batchSize) {
+      ttlConfig.setValue(METADATA_LISTING_BATCH_SIZE, batchSize.toString());
+      return this;
+    }
+
     public HoodieTTLConfig.Builder fromProperties(Properties props) {
       this.ttlConfig.getProps().putAll(props);
       return this;
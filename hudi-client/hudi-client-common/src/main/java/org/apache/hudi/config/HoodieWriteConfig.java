@@ -882,6 +882,16 @@ public class HoodieWriteConfig extends HoodieConfig {
       .withDocumentation("Whether to enable incremental table service. "
           + "So far Clustering and Compaction support incremental processing.");
 
+  public static final ConfigProperty<Integer> JAVA_TABLE_SERVICE_EXECUTION_PARALLELISM = ConfigProperty
+      .key("hoodie.java.table.service.execution.parallelism")
+      .defaultValue(1)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Number of file slices of a compaction plan, or input groups of a clustering plan, that the Java engine "
+          + "executes concurrently on a work-stealing pool. The memory for spillable maps configured by "
+          + HoodieMemoryConfig.MAX_MEMORY_FOR_COMPACTION.key() + " is treated as a pool shared by the concurrent tasks, "
+          + "each of them gets an even share of it instead of the whole amount.");
+
   public static final ConfigProperty<Boolean> TRACK_EVENT_TIME_WATERMARK = ConfigProperty
       .key("hoodie.write.track.event.time.watermark")
       .defaultValue(false)
@@ -1815,6 +1825,10 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getBoolean(HoodieCleanConfig.CLEANER_INCREMENTAL_MODE_ENABLE);
   }
 
+  public boolean isCleanerSupersededFileSlicesModeEnabled() {
+    return getBoolean(HoodieCleanConfig.CLEANER_SUPERSEDED_FILE_SLICES_MODE_ENABLE);
+  }
+
   public boolean inlineCompactionEnabled() {
     return getBoolean(HoodieCompactionConfig.INLINE_COMPACT);
   }
@@ -1859,6 +1873,14 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getLong(HoodieCompactionConfig.COMPACTION_LOG_FILE_NUM_THRESHOLD);
   }
 
+  public Double getCostBasedCompactionLogBlockReadCostMB() {
+    return getDouble(HoodieCompactionConfig.COMPACTION_COST_BASED_LOG_BLOCK_READ_COST_MB);
+  }
+
+  public String getCostBasedCompactionPartitionQueryWeights() {
+    return getString(HoodieCompactionConfig.COMPACTION_COST_BASED_PARTITION_QUERY_WEIGHTS);
+  }
+
   public Boolean getCompactionLazyBlockReadEnabled() {
     return getBoolean(HoodieReaderConfig.COMPACTION_LAZY_BLOCK_READ_ENABLE);
   }
@@ -2081,6 +2103,10 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getBooleanOrDefault(HoodieIndexConfig.BLOOM_INDEX_USE_METADATA);
   }
 
+  public long getBloomIndexFileInfoCacheMaxBytes() {
+    return getLongOrDefault(HoodieIndexConfig.BLOOM_INDEX_FILE_INFO_CACHE_MAX_BYTES);
+  }
+
   public String getBloomIndexInputStorageLevel() {
     return getStringOrDefault(HoodieIndexConfig.BLOOM_INDEX_INPUT_STORAGE_LEVEL_VALUE);
   }
@@ -2237,6 +2263,10 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getDouble(HoodieIndexConfig.BUCKET_MERGE_THRESHOLD);
   }
 
+  public boolean isBucketIndexOnlineSplitEnabled() {
+    return getBoolean(HoodieIndexConfig.BUCKET_INDEX_ONLINE_SPLIT_ENABLE);
+  }
+
   public String getBucketIndexHashField() {
     return getString(HoodieIndexConfig.BUCKET_INDEX_HASH_FIELD);
   }
@@ -2309,6 +2339,10 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getBoolean(INCREMENTAL_TABLE_SERVICE_ENABLED);
   }
 
+  public int getJavaTableServiceExecutionParallelism() {
+    return getInt(JAVA_TABLE_SERVICE_EXECUTION_PARALLELISM);
+  }
+
   public double getParquetCompressionRatio() {
     return getDouble(HoodieStorageConfig.PARQUET_COMPRESSION_RATIO_FRACTION);
   }
@@ -2354,6 +2388,14 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getInt(HoodieStorageConfig.HFILE_BLOCK_SIZE);
   }
 
+  public boolean isLogFileDataBlockKeyFilterEnabled() {
+    return getBoolean(HoodieStorageConfig.LOGFILE_DATA_BLOCK_KEY_FILTER_ENABLED);
+  }
+
+  public double getLogFileDataBlockKeyFilterFpp() {
+    return getDouble(HoodieStorageConfig.LOGFILE_DATA_BLOCK_KEY_FILTER_FPP);
+  }
+
   public String getHFileCompressionAlgorithm() {
     return getString(HoodieStorageConfig.HFILE_COMPRESSION_ALGORITHM_NAME);
   }
@@ -2881,6 +2923,14 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getInt(HoodieTTLConfig.MAX_PARTITION_TO_DELETE);
   }
 
+  public boolean isPartitionTTLMetadataListingEnabled() {
+    return getBoolean(HoodieTTLConfig.METADATA_LISTING_ENABLE);
+  }
+
+  public Integer getPartitionTTLMetadataListingBatchSize() {
+    return getInt(HoodieTTLConfig.METADATA_LISTING_BATCH_SIZE);
+  }
+
   public boolean isSecondaryIndexEnabled() {
     return metadataConfig.isSecondaryIndexEnabled();
   }
@@ -3477,6 +3527,11 @@ public class HoodieWriteConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder withJavaTableServiceExecutionParallelism(int parallelism) {
+      writeConfig.setValue(JAVA_TABLE_SERVICE_EXECUTION_PARALLELISM, String.valueOf(parallelism));
+      return this;
+    }
+
     public Builder withIncrementalTableServiceEnabled(boolean incrementalTableServiceEnabled) {
       writeConfig.setValue(INCREMENTAL_TABLE_SERVICE_ENABLED, String.valueOf(incrementalTableServiceEnabled));
       return this;
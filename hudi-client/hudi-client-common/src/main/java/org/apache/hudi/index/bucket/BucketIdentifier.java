@@ -30,13 +30,35 @@ public class BucketIdentifier implements Serializable {
   private static final String CONSTANT_FILE_ID_SUFFIX = "-0000-0000-0000-000000000000";
 
   public static int getBucketId(String recordKey, List<String> indexKeyFields, int numBuckets) {
+    if (isSingleValueKey(recordKey)) {
+      return getSingleValueKeyBucketId(recordKey, numBuckets);
+    }
     return getBucketId(getHashKeys(recordKey, indexKeyFields), numBuckets);
   }
 
   public static int getBucketId(String recordKey, String indexKeyFields, int numBuckets) {
+    if (isSingleValueKey(recordKey)) {
+      return getSingleValueKeyBucketId(recordKey, numBuckets);
+    }
     return getBucketId(getHashKeys(recordKey, indexKeyFields), numBuckets);
   }
 
+  /**
+   * Returns the bucket id of a record key that holds a single value, i.e. a key that
+   * {@link KeyGenUtils#extractRecordKeysByFields} does not split into key-value pairs.
+   *
+   * <p>The hash is the one of the singleton list of hash keys, {@code 31 + recordKey.hashCode()},
+   * so the bucket layout stays the same, but it is computed from the cached hash of the key
+   * without allocating the list of hash keys for every record.
+   */
+  private static int getSingleValueKeyBucketId(String recordKey, int numBuckets) {
+    return ((31 + recordKey.hashCode()) & Integer.MAX_VALUE) % numBuckets;
+  }
+
+  private static boolean isSingleValueKey(String recordKey) {
+    return recordKey.indexOf(',') < 0 || recordKey.indexOf(':') < 0;
+  }
+
   public static int getBucketId(List<String> hashKeyFields, int numBuckets) {
     return (hashKeyFields.hashCode() & Integer.MAX_VALUE) % numBuckets;
   }
@@ -184,6 +184,35 @@ public class ConsistentBucketIdentifier extends BucketIdentifier {
     );
   }
 
+  /**
+   * Split bucket lazily: the children buckets take the place of the parent bucket in the hash ring right away,
+   * while the records of the parent bucket stay in the parent file group until the split is physically finished.
+   *
+   * @param fileId file id of the parent bucket
+   * @return lists of children buckets, which refer to the parent bucket
+   */
+  public Option<List<ConsistentHashingNode>> lazySplitBucket(String fileId) {
+    ConsistentHashingNode bucket = getBucketByFileId(fileId);
+    ValidationUtils.checkState(bucket != null, "FileId has no corresponding bucket");
+    ValidationUtils.checkState(!bucket.isLazilySplit(), "Bucket is not physically split yet: " + bucket);
+    return splitBucket(bucket).map(nodes -> nodes.stream()
+        .map(n -> new ConsistentHashingNode(n.getValue(), n.getFileIdPrefix(), n.getTag(), bucket.getFileIdPrefix()))
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Returns the children buckets of the lazy splits that are not physically finished, grouped by the file id prefix of the parent bucket.
+   */
+  public Map<String, List<ConsistentHashingNode>> getLazilySplitBuckets() {
+    return ring.values().stream()
+        .filter(ConsistentHashingNode::isLazilySplit)
+        .collect(Collectors.groupingBy(ConsistentHashingNode::getParentFileIdPrefix, TreeMap::new, Collectors.toList()));
+  }
+
+  public boolean hasLazilySplitBuckets() {
+    return ring.values().stream().anyMatch(ConsistentHashingNode::isLazilySplit);
+  }
+
   /**
    * Initialize necessary data structure to facilitate bucket identifying.
    * Specifically, we construct:
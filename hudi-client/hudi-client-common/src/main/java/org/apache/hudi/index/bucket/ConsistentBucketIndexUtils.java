@@ -18,16 +18,26 @@
 
 package org.apache.hudi.index.bucket;
 
+import org.apache.hudi.common.engine.ReaderContextFactory;
 import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.ConsistentHashingNode;
+import org.apache.hudi.common.model.FileSlice;
 import org.apache.hudi.common.model.HoodieConsistentHashingMetadata;
+import org.apache.hudi.common.schema.HoodieSchema;
+import org.apache.hudi.common.schema.HoodieSchemaCache;
+import org.apache.hudi.common.schema.HoodieSchemaUtils;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
+import org.apache.hudi.common.table.read.HoodieFileGroupReader;
+import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.io.util.FileIOUtils;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.common.util.collection.ClosableIterator;
+import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.exception.HoodieIndexException;
+import org.apache.hudi.internal.schema.utils.SerDeHelper;
 import org.apache.hudi.storage.HoodieInstantWriter;
 import org.apache.hudi.storage.HoodieStorage;
 import org.apache.hudi.storage.StoragePath;
@@ -40,6 +50,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -214,6 +226,124 @@ public class ConsistentBucketIndexUtils {
     }
   }
 
+  /**
+   * Commits a lazy bucket split: the children nodes replace the parent nodes in a new version of the hashing metadata,
+   * which is committed right away instead of with the clustering that physically splits the parent file groups.
+   *
+   * <p>NOTE: The caller must hold the table lock, as the scheduling of clustering does. The writers load the hashing metadata
+   * after they create their requested instant under the same lock, so the lazy split is only committed if there is no pending write:
+   * a pending writer may still route records with the former hashing metadata, and write a key both into the parent and into a child.
+   *
+   * @param table      Hoodie table
+   * @param metadata   Current hashing metadata of the partition
+   * @param childNodes Children nodes of the lazy splits, see {@link ConsistentBucketIdentifier#lazySplitBucket}
+   * @return the committed hashing metadata, or empty if the lazy split is deferred because of pending writes
+   */
+  public static Option<HoodieConsistentHashingMetadata> commitLazySplit(HoodieTable table, HoodieConsistentHashingMetadata metadata,
+                                                                        List<ConsistentHashingNode> childNodes) {
+    HoodieTimeline pendingWrites = getPendingWritesTimeline(table.getMetaClient());
+    if (!pendingWrites.empty()) {
+      log.info("Defer lazy split of partition {} because of pending writes: {}", metadata.getPartitionPath(), pendingWrites.getInstants());
+      return Option.empty();
+    }
+    HoodieConsistentHashingMetadata pendingMeta = new HoodieConsistentHashingMetadata(metadata.getVersion(), metadata.getPartitionPath(),
+        metadata.getInstant(), metadata.getNumBuckets(), metadata.getSeqNo(), metadata.getNodes());
+    pendingMeta.setChildrenNodes(childNodes);
+    List<ConsistentHashingNode> newNodes = new ConsistentBucketIdentifier(pendingMeta).getNodes().stream()
+        .map(n -> new ConsistentHashingNode(n.getValue(), n.getFileIdPrefix(), ConsistentHashingNode.NodeTag.NORMAL, n.getParentFileIdPrefix()))
+        .collect(Collectors.toList());
+    HoodieConsistentHashingMetadata newMeta = new HoodieConsistentHashingMetadata(metadata.getVersion(), metadata.getPartitionPath(),
+        table.getMetaClient().createNewInstantTime(false), metadata.getNumBuckets(), metadata.getSeqNo() + 1, newNodes);
+    if (!saveMetadata(table, newMeta)) {
+      throw new HoodieIndexException("Failed to save metadata for partition: " + metadata.getPartitionPath());
+    }
+    StoragePath metadataPath = FSUtils.constructAbsolutePath(table.getMetaClient().getHashingMetadataPath(), metadata.getPartitionPath());
+    try {
+      createCommitMarker(table, new StoragePath(metadataPath, newMeta.getFilename()), metadataPath);
+    } catch (IOException e) {
+      throw new HoodieIOException("Exception while creating marker file " + newMeta.getFilename() + " for partition " + metadata.getPartitionPath(), e);
+    }
+    log.info("Committed lazy split of partition {}, children nodes: {}", metadata.getPartitionPath(), childNodes);
+    return Option.of(newMeta);
+  }
+
+  /**
+   * Returns the pending writes of the table, excluding the table services, which do not route records with the hashing metadata.
+   */
+  private static HoodieTimeline getPendingWritesTimeline(HoodieTableMetaClient metaClient) {
+    HoodieTimeline pendingCommits = metaClient.reloadActiveTimeline().getCommitsTimeline().filterInflightsAndRequested();
+    return pendingCommits.filter(instant -> !pendingCommits.isPendingClusteringInstant(instant.requestedTime()));
+  }
+
+  /**
+   * Returns the instant of the latest committed hashing metadata of the given partition, without loading it.
+   * It is used to detect the partitions whose hashing metadata changed, e.g. by a lazy split, which has no replace commit.
+   *
+   * @param table     Hoodie table
+   * @param partition Table partition
+   * @return the instant of the latest commit marker, or empty if there is none
+   */
+  public static Option<String> getLatestCommittedMetadataInstant(HoodieTable table, String partition) {
+    StoragePath metadataPath = FSUtils.constructAbsolutePath(table.getMetaClient().getHashingMetadataPath(), partition);
+    try {
+      return Option.fromJavaOptional(table.getStorage().listDirectEntries(metadataPath).stream()
+          .map(pathInfo -> pathInfo.getPath().getName())
+          .filter(filename -> filename.endsWith(HASHING_METADATA_COMMIT_FILE_SUFFIX))
+          .map(HoodieConsistentHashingMetadata::getTimestampFromFile)
+          .max(Comparator.naturalOrder()));
+    } catch (FileNotFoundException e) {
+      return Option.empty();
+    } catch (IOException e) {
+      throw new HoodieIOException("Error while listing hashing metadata of partition " + partition, e);
+    }
+  }
+
+  /**
+   * Reads the record keys of the latest merged file slice of a file group, e.g. the parent file group of a lazy split.
+   *
+   * @param table                Hoodie table
+   * @param readerContextFactory Reader context factory of the engine
+   * @param partition            Partition of the file group
+   * @param fileId               File group id
+   * @return the iterator of the record keys, empty if the file group has no completed file slice
+   */
+  public static <T> ClosableIterator<String> readRecordKeys(HoodieTable table, ReaderContextFactory<T> readerContextFactory,
+                                                            String partition, String fileId) {
+    HoodieTableMetaClient metaClient = table.getMetaClient();
+    HoodieWriteConfig config = table.getConfig();
+    Option<String> instantTime = metaClient.getActiveTimeline().filterCompletedInstants().lastInstant().map(HoodieInstant::requestedTime);
+    if (!instantTime.isPresent()) {
+      return ClosableIterator.wrap(Collections.emptyIterator());
+    }
+    Option<FileSlice> fileSlice = Option.fromJavaOptional(table.getHoodieView()
+        .getLatestMergedFileSlicesBeforeOrOn(partition, instantTime.get())
+        .filter(fs -> fs.getFileId().equals(fileId))
+        .findFirst());
+    if (!fileSlice.isPresent()) {
+      return ClosableIterator.wrap(Collections.emptyIterator());
+    }
+    HoodieSchema dataSchema = HoodieSchemaCache.intern(
+        HoodieSchemaUtils.addMetadataFields(HoodieSchema.parse(config.getWriteSchema()), config.allowOperationMetadataField()));
+    HoodieSchema requestedSchema = metaClient.getTableConfig().populateMetaFields() ? HoodieSchemaUtils.getRecordKeySchema()
+        : HoodieSchemaUtils.projectSchema(dataSchema, Arrays.asList(metaClient.getTableConfig().getRecordKeyFields().orElse(new String[0])));
+    HoodieFileGroupReader<T> fileGroupReader = HoodieFileGroupReader.<T>newBuilder()
+        .withReaderContext(readerContextFactory.getContext())
+        .withHoodieTableMetaClient(metaClient)
+        .withFileSlice(fileSlice.get())
+        .withLatestCommitTime(instantTime.get())
+        .withDataSchema(dataSchema)
+        .withRequestedSchema(requestedSchema)
+        .withInternalSchema(SerDeHelper.fromJson(config.getInternalSchema()))
+        .withShouldUseRecordPosition(false)
+        .withProps(metaClient.getTableConfig().getProps())
+        .build();
+    try {
+      return fileGroupReader.getClosableKeyIterator();
+    } catch (IOException e) {
+      throw new HoodieIOException("Unable to read the record keys of file slice " + fileSlice.get(), e);
+    }
+  }
+
   /***
    * Creates commit marker corresponding to hashing metadata file after post commit clustering operation.
    *
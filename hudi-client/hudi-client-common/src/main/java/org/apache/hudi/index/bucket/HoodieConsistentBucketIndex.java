@@ -21,6 +21,7 @@ package org.apache.hudi.index.bucket;
 import org.apache.hudi.client.WriteStatus;
 import org.apache.hudi.common.data.HoodieData;
 import org.apache.hudi.common.engine.HoodieEngineContext;
+import org.apache.hudi.common.engine.ReaderContextFactory;
 import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.ConsistentHashingNode;
 import org.apache.hudi.common.model.HoodieConsistentHashingMetadata;
@@ -29,17 +30,31 @@ import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.model.HoodieRecordLocation;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.StringUtils;
+import org.apache.hudi.common.util.collection.ClosableIterator;
+import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieIndexException;
 import org.apache.hudi.table.HoodieTable;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.function.Function;
 
+import static org.apache.hudi.index.HoodieIndexUtils.tagAsNewRecordIfNeeded;
+import static org.apache.hudi.table.action.commit.HoodieDeleteHelper.createDeleteRecord;
+
 /**
  * Consistent hashing bucket index implementation, with auto-adjust bucket number.
- * NOTE: bucket resizing is triggered by clustering.
+ * NOTE: bucket resizing is triggered by clustering. With {@code hoodie.bucket.index.online.split.enable}, buckets are split lazily
+ * and the clustering only finishes the physical split later.
  */
 @Slf4j
 public class HoodieConsistentBucketIndex extends HoodieBucketIndex {
@@ -67,11 +82,106 @@ public class HoodieConsistentBucketIndex extends HoodieBucketIndex {
     return true;
   }
 
+  /**
+   * Tags the records with the bucket of the hashing ring they belong to. With unfinished lazy splits, the parent file group of a split bucket
+   * may still hold a former version of a record routed to a child bucket, which must not be merged with the version written to the child bucket
+   * when reading the partition: such a record is paired with a delete of its key, routed to the parent file group. The deletes are only emitted
+   * for the keys that the parent file group holds, the parent only receives deletes once split so its keys are read from its latest file slice.
+   *
+   * <p>The records are tagged in a single pass, see {@link LazySplitTaggingIterator}, so the input is evaluated once and only the keys
+   * of the records routed to lazily split buckets are looked up in the parent file groups.
+   */
+  @Override
+  public <R> HoodieData<HoodieRecord<R>> tagLocation(
+      HoodieData<HoodieRecord<R>> records, HoodieEngineContext context,
+      HoodieTable hoodieTable)
+      throws HoodieIndexException {
+    if (!config.isBucketIndexOnlineSplitEnabled()) {
+      return super.tagLocation(records, context, hoodieTable);
+    }
+
+    ReaderContextFactory<R> readerContextFactory = (ReaderContextFactory<R>) context.getReaderContextFactoryForWrite(
+        hoodieTable.getMetaClient(), config.getRecordMerger().getRecordType(), hoodieTable.getMetaClient().getTableConfig().getProps());
+    return records.mapPartitions(iterator -> new LazySplitTaggingIterator<>(iterator, hoodieTable, readerContextFactory), false);
+  }
+
   @Override
   protected Function<HoodieRecord, Option<HoodieRecordLocation>> getIndexLocationFunctionForPartition(HoodieTable table, String partitionPath) {
     return new ConsistentBucketIndexLocationFunction(table, partitionPath);
   }
 
+  /**
+   * Tags the records of a task with their bucket and collects the keys of the records routed to the children of unfinished lazy splits,
+   * grouped by the file group of the parent. Once the records are exhausted, the parent file groups are read and a delete is emitted
+   * for each collected key that the parent holds.
+   */
+  private class LazySplitTaggingIterator<R> implements Iterator<HoodieRecord<R>> {
+    private final Iterator<HoodieRecord<R>> records;
+    private final HoodieTable table;
+    private final ReaderContextFactory<R> readerContextFactory;
+    // The per-partition location functions are lazily loaded and cached in each task
+    private final Map<String, ConsistentBucketIndexLocationFunction> partitionToLocationFunction = new HashMap<>();
+    // Keys routed to lazily split children, per (partition, file id) of the parent file group
+    private final Map<Pair<String, String>, Set<String>> parentToKeys = new HashMap<>();
+    private Iterator<HoodieRecord<R>> parentDeletes;
+
+    LazySplitTaggingIterator(Iterator<HoodieRecord<R>> records, HoodieTable table, ReaderContextFactory<R> readerContextFactory) {
+      this.records = records;
+      this.table = table;
+      this.readerContextFactory = readerContextFactory;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (records.hasNext()) {
+        return true;
+      }
+      if (parentDeletes == null) {
+        parentDeletes = readParentDeletes();
+      }
+      return parentDeletes.hasNext();
+    }
+
+    @Override
+    public HoodieRecord<R> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (parentDeletes != null) {
+        return parentDeletes.next();
+      }
+      HoodieRecord<R> record = records.next();
+      ConsistentBucketIndexLocationFunction locationFunction = partitionToLocationFunction.computeIfAbsent(
+          record.getPartitionPath(), partitionPath -> new ConsistentBucketIndexLocationFunction(table, partitionPath));
+      ConsistentHashingNode node = locationFunction.getBucket(record);
+      if (node.isLazilySplit()) {
+        parentToKeys.computeIfAbsent(Pair.of(record.getPartitionPath(), FSUtils.createNewFileId(node.getParentFileIdPrefix(), 0)), k -> new HashSet<>())
+            .add(record.getRecordKey());
+      }
+      return tagAsNewRecordIfNeeded(record, Option.of(locationFunction.toLocation(node)));
+    }
+
+    private Iterator<HoodieRecord<R>> readParentDeletes() {
+      List<HoodieRecord<R>> deletes = new ArrayList<>();
+      for (Map.Entry<Pair<String, String>, Set<String>> parent : parentToKeys.entrySet()) {
+        String partition = parent.getKey().getLeft();
+        String fileId = parent.getKey().getRight();
+        try (ClosableIterator<String> parentKeys = ConsistentBucketIndexUtils.readRecordKeys(table, readerContextFactory, partition, fileId)) {
+          while (parentKeys.hasNext()) {
+            String recordKey = parentKeys.next();
+            if (parent.getValue().contains(recordKey)) {
+              HoodieRecord<R> deleteRecord = createDeleteRecord(config, new HoodieKey(recordKey, partition));
+              deleteRecord.setIgnoreIndexUpdate(true);
+              deletes.add(tagAsNewRecordIfNeeded(deleteRecord, Option.of(new HoodieRecordLocation(null, fileId))));
+            }
+          }
+        }
+      }
+      parentToKeys.clear();
+      return deletes.iterator();
+    }
+  }
+
   private class ConsistentBucketIndexLocationFunction implements Function<HoodieRecord, Option<HoodieRecordLocation>> {
     private final String partitionPath;
     private final ConsistentBucketIdentifier identifier;
@@ -84,17 +194,25 @@ public class HoodieConsistentBucketIndex extends HoodieBucketIndex {
 
     @Override
     public Option<HoodieRecordLocation> apply(HoodieRecord record) {
+      return Option.of(toLocation(getBucket(record)));
+    }
+
+    ConsistentHashingNode getBucket(HoodieRecord record) {
       HoodieKey recordKey = record.getKey();
       ConsistentHashingNode node = identifier.getBucket(recordKey, indexKeyFields);
       if (!StringUtils.isNullOrEmpty(node.getFileIdPrefix())) {
-        // Dynamic Bucket Index doesn't need the instant time of the latest file group.
-        // We add suffix 0 here to the file uuid, following the naming convention, i.e., fileId = [uuid]_[numWrites]
-        return Option.of(new HoodieRecordLocation(null, FSUtils.createNewFileId(node.getFileIdPrefix(), 0)));
+        return node;
       }
 
       log.error("Consistent hashing node has no file group, partition: {}, meta: {}, record_key: {}",
           partitionPath, identifier.getMetadata().getFilename(), recordKey);
       throw new HoodieIndexException("Failed to getBucket as hashing node has no file group");
     }
+
+    HoodieRecordLocation toLocation(ConsistentHashingNode node) {
+      // Dynamic Bucket Index doesn't need the instant time of the latest file group.
+      // We add suffix 0 here to the file uuid, following the naming convention, i.e., fileId = [uuid]_[numWrites]
+      return new HoodieRecordLocation(null, FSUtils.createNewFileId(node.getFileIdPrefix(), 0));
+    }
   }
 }
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.io;
+
+import org.apache.hudi.common.bloom.BloomFilter;
+import org.apache.hudi.common.metrics.Registry;
+import org.apache.hudi.common.model.HoodieBaseFile;
+import org.apache.hudi.common.util.ObjectSizeCalculator;
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.config.HoodieWriteConfig;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Process-wide cache of the bloom filters and min/max record keys read from the footers of base files,
+ * shared by the index lookups of all the tables and writers in the same JVM, so that consecutive upsert batches
+ * do not read the same footers again from storage.
+ *
+ * <p>Entries are keyed by the base file path and size. Base files are never rewritten in place, so a new version
+ * of a file group from the file system view is a new key and is always read from storage, while the entries of the
+ * replaced versions are evicted once the cache reaches its max size in bytes.
+ */
+@Slf4j
+public class BaseFileIndexInfoCache {
+
+  private static final String REGISTRY_NAME = BaseFileIndexInfoCache.class.getSimpleName();
+  public static final String HIT_COUNT = "hitCount";
+  public static final String MISS_COUNT = "missCount";
+
+  private static volatile BaseFileIndexInfoCache instance;
+
+  private final Cache<CacheKey, Object> cache;
+  private final Registry registry;
+
+  private BaseFileIndexInfoCache(long maxBytes) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher(BaseFileIndexInfoCache::weigh)
+        .recordStats()
+        .build();
+    this.registry = Registry.getRegistry(REGISTRY_NAME);
+  }
+
+  /**
+   * Returns the cache of this process, if enabled with {@link HoodieWriteConfig#getBloomIndexFileInfoCacheMaxBytes()}.
+   * The cache is created with the max size of the first config that enables it.
+   */
+  public static Option<BaseFileIndexInfoCache> get(HoodieWriteConfig config) {
+    long maxBytes = config.getBloomIndexFileInfoCacheMaxBytes();
+    if (maxBytes <= 0) {
+      return Option.empty();
+    }
+    if (instance == null) {
+      synchronized (BaseFileIndexInfoCache.class) {
+        if (instance == null) {
+          log.info("Creating base file index info cache with max size of {} bytes", maxBytes);
+          instance = new BaseFileIndexInfoCache(maxBytes);
+        }
+      }
+    }
+    return Option.of(instance);
+  }
+
+  /**
+   * Returns the bloom filter of the base file, reading it with the loader on a cache miss.
+   */
+  public BloomFilter getBloomFilter(HoodieBaseFile baseFile, Loader<BloomFilter> loader) throws IOException {
+    return (BloomFilter) get(new CacheKey(baseFile, EntryType.BLOOM_FILTER), loader);
+  }
+
+  /**
+   * Returns the min and max record keys of the base file, reading them with the loader on a cache miss.
+   */
+  public String[] getMinMaxKeys(HoodieBaseFile baseFile, Loader<String[]> loader) throws IOException {
+    return (String[]) get(new CacheKey(baseFile, EntryType.MIN_MAX_KEYS), loader);
+  }
+
+  private Object get(CacheKey key, Loader<?> loader) throws IOException {
+    Object value = cache.getIfPresent(key);
+    if (value != null) {
+      registry.increment(HIT_COUNT);
+      return value;
+    }
+    registry.increment(MISS_COUNT);
+    try {
+      return cache.get(key, k -> {
+        try {
+          return loader.load();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static int weigh(CacheKey key, Object value) {
+    long size;
+    if (value instanceof String[]) {
+      size = 16;
+      for (String minMaxKey : (String[]) value) {
+        size += minMaxKey == null ? 0 : 40 + 2L * minMaxKey.length();
+      }
+    } else {
+      try {
+        size = ObjectSizeCalculator.getObjectSize(value);
+      } catch (UnsupportedOperationException e) {
+        size = ((BloomFilter) value).serializeToString().length();
+      }
+    }
+    return (int) Math.min(Integer.MAX_VALUE, size + 2L * key.path.length());
+  }
+
+  /**
+   * Reads an entry of a base file from storage.
+   */
+  @FunctionalInterface
+  public interface Loader<T> {
+    T load() throws IOException;
+  }
+
+  private enum EntryType {
+    BLOOM_FILTER,
+    MIN_MAX_KEYS
+  }
+
+  private static class CacheKey {
+    private final String path;
+    private final long fileSize;
+    private final EntryType type;
+
+    CacheKey(HoodieBaseFile baseFile, EntryType type) {
+      this.path = baseFile.getPath();
+      this.fileSize = baseFile.getFileSize();
+      this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CacheKey that = (CacheKey) o;
+      return fileSize == that.fileSize && path.equals(that.path) && type == that.type;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, fileSize, type);
+    }
+  }
+}
@@ -21,6 +21,7 @@ package org.apache.hudi.io;
 import org.apache.hudi.common.bloom.BloomFilter;
 import org.apache.hudi.common.model.HoodieBaseFile;
 import org.apache.hudi.common.util.HoodieTimer;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieIndexException;
@@ -64,8 +65,12 @@ public class HoodieKeyLookupHandle<T, I, K, O> extends HoodieReadHandle<T, I, K,
         bloomFilter = hoodieTable.getTableMetadata().getBloomFilter(partitionPathFileIDPair.getLeft(), partitionPathFileIDPair.getRight())
             .orElseThrow(() -> new HoodieIndexException("BloomFilter missing for " + partitionPathFileIDPair.getRight()));
       } else {
-        try (HoodieFileReader reader = createNewFileReader()) {
-          bloomFilter = reader.readBloomFilter();
+        Option<BaseFileIndexInfoCache> cache = BaseFileIndexInfoCache.get(config);
+        if (cache.isPresent()) {
+          HoodieBaseFile baseFile = getLatestBaseFile();
+          bloomFilter = cache.get().getBloomFilter(baseFile, () -> readBloomFilter(baseFile));
+        } else {
+          bloomFilter = readBloomFilter(getLatestBaseFile());
         }
       }
     } catch (IOException e) {
@@ -75,6 +80,12 @@ public class HoodieKeyLookupHandle<T, I, K, O> extends HoodieReadHandle<T, I, K,
     return bloomFilter;
   }
 
+  private BloomFilter readBloomFilter(HoodieBaseFile baseFile) throws IOException {
+    try (HoodieFileReader reader = createNewFileReader(baseFile)) {
+      return reader.readBloomFilter();
+    }
+  }
+
   /**
    * Adds the key for look up.
    */
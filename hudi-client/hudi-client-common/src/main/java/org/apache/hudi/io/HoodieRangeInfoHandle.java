@@ -19,6 +19,7 @@
 package org.apache.hudi.io;
 
 import org.apache.hudi.common.model.HoodieBaseFile;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.io.storage.HoodieFileReader;
@@ -37,12 +38,18 @@ public class HoodieRangeInfoHandle<T, I, K, O> extends HoodieReadHandle<T, I, K,
   }
 
   public String[] getMinMaxKeys() throws IOException {
-    try (HoodieFileReader reader = createNewFileReader()) {
-      return reader.readMinMaxRecordKeys();
-    }
+    return getMinMaxKeys(getLatestBaseFile());
   }
 
   public String[] getMinMaxKeys(HoodieBaseFile baseFile) throws IOException {
+    Option<BaseFileIndexInfoCache> cache = BaseFileIndexInfoCache.get(config);
+    if (cache.isPresent()) {
+      return cache.get().getMinMaxKeys(baseFile, () -> readMinMaxKeys(baseFile));
+    }
+    return readMinMaxKeys(baseFile);
+  }
+
+  private String[] readMinMaxKeys(HoodieBaseFile baseFile) throws IOException {
     try (HoodieFileReader reader = createNewFileReader(baseFile)) {
       return reader.readMinMaxRecordKeys();
     }
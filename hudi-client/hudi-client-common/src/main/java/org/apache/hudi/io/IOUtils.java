@@ -90,6 +90,15 @@ public class IOUtils {
     return getMaxMemoryAllowedForMerge(context, fraction);
   }
 
+  /**
+   * Returns the memory for spillable map of each of the {@code concurrency} compactions running concurrently
+   * in the same task, which share the memory of {@link #getMaxMemoryPerCompaction} evenly.
+   */
+  public static long getMaxMemoryPerConcurrentCompaction(TaskContextSupplier context, HoodieConfig hoodieConfig, int concurrency) {
+    long maxMemoryPerCompaction = getMaxMemoryPerCompaction(context, hoodieConfig);
+    return concurrency > 1 ? Math.max(1L, maxMemoryPerCompaction / concurrency) : maxMemoryPerCompaction;
+  }
+
   public static long getMaxMemoryPerCompaction(TaskContextSupplier context, Map<String, String> options) {
     if (options.containsKey(MAX_MEMORY_FOR_COMPACTION.key())) {
       return Long.parseLong(options.get(MAX_MEMORY_FOR_COMPACTION.key()));
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.keygen;
+
+import org.apache.hudi.avro.HoodieAvroUtils;
+import org.apache.hudi.common.util.PartitionPathEncodeUtils;
+import org.apache.hudi.common.util.StringUtils;
+import org.apache.hudi.exception.HoodieException;
+import org.apache.hudi.exception.HoodieKeyException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.apache.hudi.keygen.KeyGenUtils.DEFAULT_PARTITION_PATH_SEPARATOR;
+import static org.apache.hudi.keygen.KeyGenUtils.HUDI_DEFAULT_PARTITION_PATH;
+import static org.apache.hudi.keygen.KeyGenerator.DEFAULT_COLUMN_VALUE_SEPARATOR;
+import static org.apache.hudi.keygen.KeyGenerator.DEFAULT_RECORD_KEY_PARTS_SEPARATOR;
+import static org.apache.hudi.keygen.KeyGenerator.EMPTY_RECORDKEY_PLACEHOLDER;
+import static org.apache.hudi.keygen.KeyGenerator.NULL_RECORDKEY_PLACEHOLDER;
+
+/**
+ * Extracts the values of a fixed list of (possibly nested) fields from Avro records, producing the same
+ * results as {@link KeyGenUtils} and {@link HoodieAvroUtils#getNestedFieldVal}.
+ * <p>
+ * Instead of resolving the field names on every record, the field positions are resolved once per record schema
+ * and reused for all the records sharing the same schema instance. The encoded partition path segments are cached
+ * for repeated partition values, and the keys are built in a reusable buffer. Whenever a record does not match the
+ * resolved layout, e.g., a missing field or a nested record of another schema, the extraction falls back to
+ * {@link HoodieAvroUtils#getNestedFieldVal} so that the semantics and the error handling are unchanged.
+ * <p>
+ * Enabled by {@link org.apache.hudi.keygen.constant.KeyGeneratorOptions#KEYGENERATOR_COMPILED_FIELD_EXTRACTION_ENABLED}.
+ */
+public class CompiledAvroKeyExtractor implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  // Max number of encoded partition path segments cached per field
+  private static final int MAX_CACHED_PARTITION_SEGMENTS = 1024;
+
+  private final String[] fieldNames;
+  private final boolean consistentLogicalTimestampEnabled;
+
+  private transient volatile ResolvedFields resolvedFields;
+  private transient ThreadLocal<StringBuilder> keyBuilder;
+  private transient Map<String, String>[] partitionSegmentCache;
+
+  public CompiledAvroKeyExtractor(List<String> fieldNames, boolean consistentLogicalTimestampEnabled) {
+    this.fieldNames = fieldNames.toArray(new String[0]);
+    this.consistentLogicalTimestampEnabled = consistentLogicalTimestampEnabled;
+  }
+
+  public int getNumFields() {
+    return fieldNames.length;
+  }
+
+  /**
+   * Returns the value of the field at the given index, converted for logical types,
+   * see {@link HoodieAvroUtils#getNestedFieldVal(GenericRecord, String, boolean, boolean)}.
+   */
+  public Object getFieldVal(GenericRecord record, int index, boolean returnNullIfNotFound) {
+    ResolvedFields resolved = resolve(record.getSchema());
+    int[] positions = resolved.positions[index];
+    if (positions == null) {
+      return HoodieAvroUtils.getNestedFieldVal(record, fieldNames[index], returnNullIfNotFound, consistentLogicalTimestampEnabled);
+    }
+    GenericRecord valueNode = record;
+    Schema[] nestedSchemas = resolved.nestedSchemas[index];
+    int last = positions.length - 1;
+    for (int i = 0; i < last; i++) {
+      Object val = valueNode.get(positions[i]);
+      if (!(val instanceof GenericRecord) || ((GenericRecord) val).getSchema() != nestedSchemas[i]) {
+        return HoodieAvroUtils.getNestedFieldVal(record, fieldNames[index], returnNullIfNotFound, consistentLogicalTimestampEnabled);
+      }
+      valueNode = (GenericRecord) val;
+    }
+    Object val = valueNode.get(positions[last]);
+    if (val == null || !resolved.requiresConversion[index]) {
+      return val;
+    }
+    return HoodieAvroUtils.convertValueForSpecificDataTypes(resolved.leafSchemas[index], val, consistentLogicalTimestampEnabled);
+  }
+
+  /**
+   * Returns the value of the field at the given index as string,
+   * see {@link HoodieAvroUtils#getNestedFieldValAsString(GenericRecord, String, boolean, boolean)}.
+   */
+  public String getFieldValAsString(GenericRecord record, int index, boolean returnNullIfNotFound) {
+    return StringUtils.objToString(getFieldVal(record, index, returnNullIfNotFound));
+  }
+
+  /**
+   * Returns the record key made of the single field, see {@link KeyGenUtils#getRecordKey(GenericRecord, String, boolean)}.
+   */
+  public String getSingleFieldRecordKey(GenericRecord record) {
+    String recordKey = getFieldValAsString(record, 0, true);
+    if (recordKey == null || recordKey.isEmpty()) {
+      throw new HoodieKeyException("recordKey value: \"" + recordKey + "\" for field: \"" + fieldNames[0] + "\" cannot be null or empty.");
+    }
+    return recordKey;
+  }
+
+  /**
+   * Returns the record key in the format of {@code field1:value1,field2:value2},
+   * see {@link KeyGenUtils#getRecordKey(GenericRecord, List, boolean)}.
+   */
+  public String getRecordKey(GenericRecord record) {
+    StringBuilder recordKey = getKeyBuilder();
+    boolean keyIsNullEmpty = true;
+    for (int i = 0; i < fieldNames.length; i++) {
+      String recordKeyValue;
+      try {
+        recordKeyValue = getFieldValAsString(record, i, false);
+      } catch (HoodieException e) {
+        throw new HoodieKeyException("Record key field '" + fieldNames[i] + "' does not exist in the input record");
+      }
+      recordKey.append(fieldNames[i]).append(DEFAULT_COLUMN_VALUE_SEPARATOR);
+      if (recordKeyValue == null) {
+        recordKey.append(NULL_RECORDKEY_PLACEHOLDER);
+      } else if (recordKeyValue.isEmpty()) {
+        recordKey.append(EMPTY_RECORDKEY_PLACEHOLDER);
+      } else {
+        recordKey.append(recordKeyValue);
+        keyIsNullEmpty = false;
+      }
+      if (i != fieldNames.length - 1) {
+        recordKey.append(DEFAULT_RECORD_KEY_PARTS_SEPARATOR);
+      }
+    }
+    if (keyIsNullEmpty) {
+      throw new HoodieKeyException("recordKey values: \"" + recordKey + "\" for fields: "
+          + Arrays.toString(fieldNames) + " cannot be entirely null or empty.");
+    }
+    return recordKey.toString();
+  }
+
+  /**
+   * Returns the partition path made of the single field,
+   * see {@link KeyGenUtils#getPartitionPath(GenericRecord, String, boolean, boolean, boolean)}.
+   */
+  public String getSingleFieldPartitionPath(GenericRecord record, boolean hiveStylePartitioning, boolean encodePartitionPath) {
+    String partitionPath = getFieldValAsString(record, 0, true);
+    if (partitionPath == null || partitionPath.isEmpty()) {
+      partitionPath = HUDI_DEFAULT_PARTITION_PATH;
+    }
+    return getPartitionSegment(0, partitionPath, hiveStylePartitioning, encodePartitionPath);
+  }
+
+  /**
+   * Returns the partition path made of all the fields,
+   * see {@link KeyGenUtils#getRecordPartitionPath(GenericRecord, List, boolean, boolean, boolean)}.
+   */
+  public String getPartitionPath(GenericRecord record, boolean hiveStylePartitioning, boolean encodePartitionPath) {
+    if (fieldNames.length == 0) {
+      return "";
+    }
+    StringBuilder partitionPath = getKeyBuilder();
+    for (int i = 0; i < fieldNames.length; i++) {
+      String fieldVal = getFieldValAsString(record, i, true);
+      if (fieldVal == null || fieldVal.isEmpty()) {
+        // the default partition path is never encoded
+        partitionPath.append(getPartitionSegment(i, HUDI_DEFAULT_PARTITION_PATH, hiveStylePartitioning, false));
+      } else {
+        partitionPath.append(getPartitionSegment(i, fieldVal, hiveStylePartitioning, encodePartitionPath));
+      }
+      if (i != fieldNames.length - 1) {
+        partitionPath.append(DEFAULT_PARTITION_PATH_SEPARATOR);
+      }
+    }
+    return partitionPath.toString();
+  }
+
+  private String getPartitionSegment(int index, String value, boolean hiveStylePartitioning, boolean encodePartitionPath) {
+    if (!hiveStylePartitioning && !encodePartitionPath) {
+      return value;
+    }
+    Map<String, String> cache = getPartitionSegmentCache()[index];
+    String segment = cache.get(value);
+    if (segment == null) {
+      String encoded = encodePartitionPath ? PartitionPathEncodeUtils.escapePathName(value) : value;
+      segment = hiveStylePartitioning ? fieldNames[index] + "=" + encoded : encoded;
+      if (cache.size() >= MAX_CACHED_PARTITION_SEGMENTS) {
+        // high cardinality partition values, e.g. the partition field is not a low cardinality column
+        cache.clear();
+      }
+      cache.put(value, segment);
+    }
+    return segment;
+  }
+
+  private StringBuilder getKeyBuilder() {
+    if (keyBuilder == null) {
+      keyBuilder = ThreadLocal.withInitial(StringBuilder::new);
+    }
+    StringBuilder builder = keyBuilder.get();
+    builder.setLength(0);
+    return builder;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, String>[] getPartitionSegmentCache() {
+    if (partitionSegmentCache == null) {
+      Map<String, String>[] cache = new Map[fieldNames.length];
+      for (int i = 0; i < fieldNames.length; i++) {
+        cache[i] = new ConcurrentHashMap<>();
+      }
+      partitionSegmentCache = cache;
+    }
+    return partitionSegmentCache;
+  }
+
+  private ResolvedFields resolve(Schema schema) {
+    ResolvedFields resolved = resolvedFields;
+    if (resolved == null || resolved.schema != schema) {
+      resolved = new ResolvedFields(schema, fieldNames);
+      resolvedFields = resolved;
+    }
+    return resolved;
+  }
+
+  /**
+   * Field positions resolved against a record schema.
+   */
+  private static class ResolvedFields {
+    private final Schema schema;
+    // positions of each level of the nested field, null if the field cannot be resolved
+    private final int[][] positions;
+    // expected schemas of the intermediate nested records
+    private final Schema[][] nestedSchemas;
+    private final Schema[] leafSchemas;
+    private final boolean[] requiresConversion;
+
+    ResolvedFields(Schema schema, String[] fieldNames) {
+      this.schema = schema;
+      this.positions = new int[fieldNames.length][];
+      this.nestedSchemas = new Schema[fieldNames.length][];
+      this.leafSchemas = new Schema[fieldNames.length];
+      this.requiresConversion = new boolean[fieldNames.length];
+      for (int i = 0; i < fieldNames.length; i++) {
+        resolveField(i, fieldNames[i].split("\\."));
+      }
+    }
+
+    private void resolveField(int index, String[] parts) {
+      int[] fieldPositions = new int[parts.length];
+      Schema[] fieldNestedSchemas = new Schema[parts.length - 1];
+      Schema current = schema;
+      for (int i = 0; i < parts.length; i++) {
+        Schema.Field field = current.getType() == Schema.Type.RECORD ? current.getField(parts[i]) : null;
+        if (field == null) {
+          return;
+        }
+        fieldPositions[i] = field.pos();
+        if (i == parts.length - 1) {
+          leafSchemas[index] = field.schema();
+          requiresConversion[index] = requiresConversion(field.schema());
+        } else {
+          current = getRecordSchema(field.schema());
+          if (current == null) {
+            return;
+          }
+          fieldNestedSchemas[i] = current;
+        }
+      }
+      positions[index] = fieldPositions;
+      nestedSchemas[index] = fieldNestedSchemas;
+    }
+
+    private static Schema getRecordSchema(Schema schema) {
+      if (schema.getType() == Schema.Type.RECORD) {
+        return schema;
+      }
+      if (schema.getType() == Schema.Type.UNION) {
+        Schema recordSchema = null;
+        for (Schema type : schema.getTypes()) {
+          if (type.getType() == Schema.Type.RECORD) {
+            if (recordSchema != null) {
+              // ambiguous, let the fallback path handle it
+              return null;
+            }
+            recordSchema = type;
+          }
+        }
+        return recordSchema;
+      }
+      return null;
+    }
+
+    private static boolean requiresConversion(Schema fieldSchema) {
+      if (fieldSchema.getType() != Schema.Type.UNION) {
+        return fieldSchema.getLogicalType() != null;
+      }
+      List<Schema> types = fieldSchema.getTypes();
+      boolean firstIsNull = types.size() == 2 && types.get(0).getType() == Schema.Type.NULL;
+      boolean secondIsNull = types.size() == 2 && types.get(1).getType() == Schema.Type.NULL;
+      if (firstIsNull != secondIsNull) {
+        return (firstIsNull ? types.get(1) : types.get(0)).getLogicalType() != null;
+      }
+      // let the conversion handle the unsupported unions
+      return true;
+    }
+  }
+}
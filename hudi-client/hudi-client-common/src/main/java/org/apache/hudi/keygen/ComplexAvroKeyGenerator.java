@@ -19,6 +19,7 @@ package org.apache.hudi.keygen;
 
 import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.function.SerializableFunctionUnchecked;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.keygen.constant.KeyGeneratorOptions;
 
 import org.apache.avro.generic.GenericRecord;
@@ -32,6 +33,7 @@ import java.util.stream.Collectors;
 public class ComplexAvroKeyGenerator extends BaseKeyGenerator {
   public static final String DEFAULT_RECORD_KEY_SEPARATOR = ":";
   private final SerializableFunctionUnchecked<GenericRecord, String> recordKeyFunction;
+  private final Option<CompiledAvroKeyExtractor> partitionPathExtractor;
 
   public ComplexAvroKeyGenerator(TypedProperties props) {
     super(props);
@@ -41,6 +43,8 @@ public class ComplexAvroKeyGenerator extends BaseKeyGenerator {
         .filter(s -> !s.isEmpty())
         .collect(Collectors.toList());
     this.recordKeyFunction = getRecordKeyFunc(KeyGenUtils.encodeSingleKeyFieldNameForComplexKeyGen(props));
+    this.partitionPathExtractor = compiledFieldExtractionEnabled
+        ? Option.of(new CompiledAvroKeyExtractor(partitionPathFields, consistentLogicalTimestampEnabled)) : Option.empty();
   }
 
   @Override
@@ -50,10 +54,20 @@ public class ComplexAvroKeyGenerator extends BaseKeyGenerator {
 
   @Override
   public String getPartitionPath(GenericRecord record) {
+    if (partitionPathExtractor.isPresent()) {
+      return partitionPathExtractor.get().getPartitionPath(record, hiveStylePartitioning, encodePartitionPath);
+    }
     return KeyGenUtils.getRecordPartitionPath(record, getPartitionPathFields(), hiveStylePartitioning, encodePartitionPath, isConsistentLogicalTimestampEnabled());
   }
 
   private SerializableFunctionUnchecked<GenericRecord, String> getRecordKeyFunc(boolean encodeSingleKeyFieldName) {
+    if (compiledFieldExtractionEnabled) {
+      CompiledAvroKeyExtractor recordKeyExtractor = new CompiledAvroKeyExtractor(getRecordKeyFieldNames(), isConsistentLogicalTimestampEnabled());
+      if (getRecordKeyFieldNames().size() == 1 && !encodeSingleKeyFieldName) {
+        return recordKeyExtractor::getSingleFieldRecordKey;
+      }
+      return recordKeyExtractor::getRecordKey;
+    }
     if (getRecordKeyFieldNames().size() == 1) {
       if (encodeSingleKeyFieldName) {
         return record -> KeyGenUtils.getRecordKey(record, getRecordKeyFieldNames(), isConsistentLogicalTimestampEnabled());
@@ -17,6 +17,7 @@
 
 package org.apache.hudi.keygen;
 
+import org.apache.hudi.avro.HoodieAvroUtils;
 import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.keygen.constant.KeyGeneratorOptions;
@@ -30,6 +31,9 @@ import java.util.Collections;
  */
 public class SimpleAvroKeyGenerator extends BaseKeyGenerator {
 
+  private final Option<CompiledAvroKeyExtractor> recordKeyExtractor;
+  private final Option<CompiledAvroKeyExtractor> partitionPathExtractor;
+
   public SimpleAvroKeyGenerator(TypedProperties props) {
     this(props, Option.ofNullable(props.getString(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), null)),
         props.getString(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key()));
@@ -43,15 +47,35 @@ public class SimpleAvroKeyGenerator extends BaseKeyGenerator {
     super(props);
     this.recordKeyFields = recordKeyField.map(keyField -> Collections.singletonList(keyField)).orElse(Collections.emptyList());
     this.partitionPathFields = Collections.singletonList(partitionPathField);
+    this.recordKeyExtractor = compiledFieldExtractionEnabled && !recordKeyFields.isEmpty()
+        ? Option.of(new CompiledAvroKeyExtractor(recordKeyFields, consistentLogicalTimestampEnabled)) : Option.empty();
+    this.partitionPathExtractor = compiledFieldExtractionEnabled
+        ? Option.of(new CompiledAvroKeyExtractor(partitionPathFields, consistentLogicalTimestampEnabled)) : Option.empty();
   }
 
   @Override
   public String getRecordKey(GenericRecord record) {
+    if (recordKeyExtractor.isPresent()) {
+      return recordKeyExtractor.get().getSingleFieldRecordKey(record);
+    }
     return KeyGenUtils.getRecordKey(record, getRecordKeyFieldNames().get(0), isConsistentLogicalTimestampEnabled());
   }
 
   @Override
   public String getPartitionPath(GenericRecord record) {
+    if (partitionPathExtractor.isPresent()) {
+      return partitionPathExtractor.get().getSingleFieldPartitionPath(record, hiveStylePartitioning, encodePartitionPath);
+    }
     return KeyGenUtils.getPartitionPath(record, getPartitionPathFields().get(0), hiveStylePartitioning, encodePartitionPath, isConsistentLogicalTimestampEnabled());
   }
+
+  /**
+   * Returns the value of the partition path field converted for logical types.
+   */
+  protected Object getPartitionPathFieldVal(GenericRecord record) {
+    if (partitionPathExtractor.isPresent()) {
+      return partitionPathExtractor.get().getFieldVal(record, 0, true);
+    }
+    return HoodieAvroUtils.getNestedFieldVal(record, getPartitionPathFields().get(0), true, isConsistentLogicalTimestampEnabled());
+  }
 }
@@ -731,6 +731,10 @@ public abstract class HoodieBackedTableMetadataWriter<I, O> implements HoodieTab
     // initialize the metadata reader again so the MDT partition can be read after initialization
     initMetadataReader();
     long totalInitTime = partitionInitTimer.endTimer();
+    metrics.ifPresent(m -> {
+      m.updateMetrics(relativePartitionPath + "_" + HoodieMetadataMetrics.INITIALIZE_STR, totalInitTime);
+      m.setMetric(relativePartitionPath + "_" + HoodieMetadataMetrics.INITIALIZE_FILE_GROUP_COUNT_STR, fileGroupCount);
+    });
     LOG.info("Initializing {} index in metadata table took {} in ms", partitionTypeName, totalInitTime);
   }
 
@@ -1109,6 +1113,24 @@ public abstract class HoodieBackedTableMetadataWriter<I, O> implements HoodieTab
     }
   }
 
+  /**
+   * Lists the IDs of the file groups created by {@link #initializeFileGroups} in the MDT partition, so that the bulk commit
+   * of the partition knows the file ID prefixes of the file groups without a pass over the records.
+   */
+  protected List<String> listInitializedFileGroupIds(String relativePartitionPath) {
+    final StoragePath partitionPath = new StoragePath(metadataWriteConfig.getBasePath(), relativePartitionPath);
+    try {
+      return metadataMetaClient.getStorage().listDirectEntries(partitionPath).stream()
+          .map(StoragePathInfo::getPath)
+          .filter(FSUtils::isLogFile)
+          .map(FSUtils::getFileIdFromLogPath)
+          .distinct()
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new HoodieIOException("Failed to list the file groups of MDT partition " + relativePartitionPath, e);
+    }
+  }
+
   public void dropMetadataPartitions(List<String> metadataPartitions) throws IOException {
     for (String partitionPath : metadataPartitions) {
       LOG.info("Deleting Metadata Table partition: {}", partitionPath);
@@ -227,6 +227,7 @@ public class HoodieMetadataWriteUtils {
             // Keeping the log blocks as large as the log files themselves reduces the number of HFile blocks to be checked for
             // presence of keys
             .logFileDataBlockMaxSize(maxLogFileSizeBytes)
+            .logFileDataBlockKeyFilterEnabled(writeConfig.getMetadataConfig().isLogBlockKeyFilterEnabled())
                                .withBloomFilterType(writeConfig.getMetadataConfig().getBloomFilterType())
                                .withBloomFilterNumEntries(writeConfig.getMetadataConfig().getBloomFilterNumEntries())
                                .withBloomFilterFpp(writeConfig.getMetadataConfig().getBloomFilterFpp())
@@ -67,6 +67,8 @@ public class HoodieMetrics {
   public static final String DELETE_FILES_NUM_STR = "numFilesDeleted";
   public static final String DELETE_INSTANTS_NUM_STR = "numInstantsArchived";
   public static final String FINALIZED_FILES_NUM_STR = "numFilesFinalized";
+  public static final String PLAN_DURATION_STR = "planDuration";
+  public static final String SCANNED_PARTITIONS_NUM_STR = "numPartitionsScanned";
   public static final String CONFLICT_RESOLUTION_STR = "conflict_resolution";
   public static final String COMMIT_LATENCY_IN_MS_STR = "commitLatencyInMs";
   public static final String COMMIT_FRESHNESS_IN_MS_STR = "commitFreshnessInMs";
@@ -350,6 +352,15 @@ public class HoodieMetrics {
     }
   }
 
+  public void updateCleanPlanMetrics(long durationInMs, int numPartitionsScanned) {
+    if (config.isMetricsOn()) {
+      log.info("Sending clean plan metrics ({}={}, {}={})", PLAN_DURATION_STR, durationInMs,
+          SCANNED_PARTITIONS_NUM_STR, numPartitionsScanned);
+      metrics.registerGauge(getMetricsName(HoodieTimeline.CLEAN_ACTION, PLAN_DURATION_STR), durationInMs);
+      metrics.registerGauge(getMetricsName(HoodieTimeline.CLEAN_ACTION, SCANNED_PARTITIONS_NUM_STR), numPartitionsScanned);
+    }
+  }
+
   public void updateArchiveMetrics(long durationInMs, int numInstantsArchived) {
     if (config.isMetricsOn()) {
       log.info(
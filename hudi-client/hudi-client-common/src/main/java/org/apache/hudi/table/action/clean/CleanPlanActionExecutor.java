@@ -29,11 +29,13 @@ import org.apache.hudi.common.table.timeline.HoodieActiveTimeline;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.util.CleanerUtils;
+import org.apache.hudi.common.util.HoodieTimer;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.exception.HoodieIOException;
+import org.apache.hudi.metrics.HoodieMetrics;
 import org.apache.hudi.table.HoodieTable;
 import org.apache.hudi.table.action.BaseActionExecutor;
 
@@ -53,6 +55,7 @@ import static org.apache.hudi.common.util.MapUtils.nonEmpty;
 @Slf4j
 public class CleanPlanActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I, K, O, Option<HoodieCleanerPlan>> {
   private final Option<Map<String, String>> extraMetadata;
+  private final HoodieMetrics metrics;
 
   public CleanPlanActionExecutor(HoodieEngineContext context,
                                  HoodieWriteConfig config,
@@ -60,6 +63,7 @@ public class CleanPlanActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I
                                  Option<Map<String, String>> extraMetadata) {
     super(context, config, table, null);
     this.extraMetadata = extraMetadata;
+    this.metrics = new HoodieMetrics(config, table.getStorage());
   }
 
   private int getCommitsSinceLastCleaning() {
@@ -100,6 +104,7 @@ public class CleanPlanActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I
    */
   HoodieCleanerPlan requestClean(HoodieEngineContext context) {
     try {
+      HoodieTimer timer = HoodieTimer.start();
       CleanPlanner<T, I, K, O> planner = new CleanPlanner<>(context, table, config);
       Option<HoodieInstant> earliestInstant = planner.getEarliestCommitToRetain();
       context.setJobStatus(this.getClass().getSimpleName(), "Obtaining list of partitions to be cleaned: " + config.getTableName());
@@ -108,6 +113,7 @@ public class CleanPlanActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I
 
       if (partitionsToClean.isEmpty()) {
         log.info("Nothing to clean here. It is already clean");
+        metrics.updateCleanPlanMetrics(timer.endTimer(), 0);
         return HoodieCleanerPlan.newBuilder().setPolicy(HoodieCleaningPolicy.KEEP_LATEST_COMMITS.name()).build();
       }
       log.info(
@@ -123,6 +129,8 @@ public class CleanPlanActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I
 
       context.setJobStatus(this.getClass().getSimpleName(), "Generating list of file slices to be cleaned: " + config.getTableName());
 
+      // read the savepointed files once, before the planner is shipped with the partitions to clean
+      planner.getSavepointedFiles();
       Map<String, List<HoodieCleanFileInfo>> cleanOps = new HashMap<>();
       List<String> partitionsToDelete = new ArrayList<>();
       boolean shouldUseBatchLookup = table.getMetaClient().getTableConfig().isMetadataTableAvailable();
@@ -131,8 +139,12 @@ public class CleanPlanActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I
         // (remote or local embedded), thus to reduce the risk of an OOM exception.
         List<String> subPartitionsToClean = partitionsToClean.subList(i, Math.min(i + cleanerParallelism, partitionsToClean.size()));
         if (shouldUseBatchLookup) {
-          log.info("Load partitions and files into file system view in advance. Paths: {}", subPartitionsToClean);
-          table.getHoodieView().loadPartitions(subPartitionsToClean);
+          // the partitions planned with the superseded file groups only do not need the file system view
+          List<String> partitionsToLoad = subPartitionsToClean.stream().filter(planner::requiresFileSystemView).collect(Collectors.toList());
+          if (!partitionsToLoad.isEmpty()) {
+            log.info("Load partitions and files into file system view in advance. Paths: {}", partitionsToLoad);
+            table.getHoodieView().loadPartitions(partitionsToLoad);
+          }
         }
         Map<String, Pair<Boolean, List<CleanFileInfo>>> cleanOpsWithPartitionMeta = context
             .map(subPartitionsToClean, partitionPathToClean -> Pair.of(partitionPathToClean, planner.getDeletePaths(partitionPathToClean, earliestInstant)), cleanerParallelism)
@@ -147,6 +159,7 @@ public class CleanPlanActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I
             .collect(Collectors.toList()));
       }
       context.clearJobStatus();
+      metrics.updateCleanPlanMetrics(timer.endTimer(), partitionsToClean.size());
 
       return new HoodieCleanerPlan(
           earliestInstant.map(x -> new HoodieActionInstant(x.requestedTime(), x.getAction(), x.getState().name())).orElse(null),
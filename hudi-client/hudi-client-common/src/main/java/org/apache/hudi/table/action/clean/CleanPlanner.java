@@ -32,6 +32,8 @@ import org.apache.hudi.common.model.HoodieFileGroup;
 import org.apache.hudi.common.model.HoodieFileGroupId;
 import org.apache.hudi.common.model.HoodieLogFile;
 import org.apache.hudi.common.model.HoodieReplaceCommitMetadata;
+import org.apache.hudi.common.model.HoodieTableType;
+import org.apache.hudi.common.model.HoodieWriteStat;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.table.timeline.versioning.clean.CleanPlanV1MigrationHandler;
@@ -39,6 +41,7 @@ import org.apache.hudi.common.table.timeline.versioning.clean.CleanPlanV2Migrati
 import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
 import org.apache.hudi.common.table.view.SyncableFileSystemView;
 import org.apache.hudi.common.util.CleanerUtils;
+import org.apache.hudi.common.util.ClusteringUtils;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.StringUtils;
 import org.apache.hudi.common.util.collection.Pair;
@@ -58,9 +61,12 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -91,7 +97,14 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
   private final transient HoodieEngineContext context;
   @Getter(AccessLevel.PACKAGE)
   private final List<String> savepointedTimestamps;
+  // names of the data files savepointed by all the savepoints, read once for all the partitions to clean
+  private Set<String> savepointedFiles;
   private Option<HoodieInstant> earliestCommitToRetain = Option.empty();
+  // partition path -> ids of the file groups with file slices superseded since the last clean,
+  // only collected when the superseded file slices mode is used for the incremental cleaning
+  private Map<String, Set<String>> partitionToSupersededFileIds = Collections.emptyMap();
+  // partitions with file groups replaced since the last clean, which are planned with the file-system view
+  private Set<String> partitionsWithReplacedFileGroups = Collections.emptySet();
 
   public CleanPlanner(HoodieEngineContext context, HoodieTable<T, I, K, O> hoodieTable, HoodieWriteConfig config) {
     this.context = context;
@@ -128,6 +141,19 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
     return metadata.getPartitionMetadata().values().stream().flatMap(s -> s.getSavepointDataFile().stream());
   }
 
+  /**
+   * Returns the names of the data files savepointed by all the savepoints, they are read on first use and shared by
+   * all the partitions to clean.
+   */
+  public synchronized Set<String> getSavepointedFiles() {
+    if (savepointedFiles == null) {
+      savepointedFiles = hoodieTable.getSavepointTimestamps().stream()
+          .flatMap(this::getSavepointedDataFiles)
+          .collect(Collectors.toSet());
+    }
+    return savepointedFiles;
+  }
+
   private HoodieSavepointMetadata getSavepointMetadata(String savepointTimestamp) {
     if (!hoodieTable.getSavepointTimestamps().contains(savepointTimestamp)) {
       throw new HoodieSavepointException(
@@ -206,14 +232,68 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
           cleanMetadata.getEarliestCommitToRetain(),
           newInstantToRetain);
 
-      return hoodieTable.getCompletedCommitsTimeline().getInstantsAsStream()
+      Stream<HoodieInstant> instantsSinceLastClean = hoodieTable.getCompletedCommitsTimeline().getInstantsAsStream()
           .filter(instant -> compareTimestamps(instant.requestedTime(), GREATER_THAN_OR_EQUALS,
               cleanMetadata.getEarliestCommitToRetain()) && compareTimestamps(instant.requestedTime(),
-              LESSER_THAN, newInstantToRetain.get().requestedTime()))
-          .flatMap(this::getPartitionsForInstants).distinct().collect(Collectors.toList());
+              LESSER_THAN, newInstantToRetain.get().requestedTime()));
+      if (config.isCleanerSupersededFileSlicesModeEnabled()) {
+        return getPartitionPathsWithSupersededFileSlices(instantsSinceLastClean);
+      }
+      return instantsSinceLastClean.flatMap(this::getPartitionsForInstants).distinct().collect(Collectors.toList());
     }
   }
 
+  /**
+   * Collects the file groups with superseded file slices from the commit metadata of the given instants,
+   * i.e., the file groups where a new file slice was written or which were replaced, and returns their partitions.
+   *
+   * <p>Only these file groups can have new files to clean since the last clean, so the partitions are planned with
+   * the files of these file groups instead of building all the file groups of the partitions, see
+   * {@link #getFilesToCleanInSupersededFileGroups}. The partitions with replaced file groups are still planned with
+   * the file-system view, as the partition itself may need to be deleted.
+   */
+  private List<String> getPartitionPathsWithSupersededFileSlices(Stream<HoodieInstant> instants) {
+    Map<String, Set<String>> supersededFileIds = new HashMap<>();
+    Set<String> replacedPartitions = new HashSet<>();
+    // on MOR tables, the compaction of a file group without base file has no previous commit
+    boolean isMergeOnRead = hoodieTable.getMetaClient().getTableType() == HoodieTableType.MERGE_ON_READ;
+    instants.forEach(instant -> {
+      try {
+        Map<String, List<HoodieWriteStat>> partitionToWriteStats;
+        if (ClusteringUtils.isClusteringOrReplaceCommitAction(instant.getAction())) {
+          HoodieReplaceCommitMetadata replaceCommitMetadata = hoodieTable.getActiveTimeline().readReplaceCommitMetadata(instant);
+          replaceCommitMetadata.getPartitionToReplaceFileIds().forEach((partition, fileIds) -> {
+            if (!fileIds.isEmpty()) {
+              replacedPartitions.add(partition);
+            }
+          });
+          partitionToWriteStats = replaceCommitMetadata.getPartitionToWriteStats();
+        } else {
+          partitionToWriteStats = hoodieTable.getActiveTimeline().readCommitMetadata(instant).getPartitionToWriteStats();
+        }
+        partitionToWriteStats.forEach((partition, writeStats) -> writeStats.stream()
+            .filter(writeStat -> writeStat.getPath() != null && !FSUtils.isLogFile(new StoragePath(writeStat.getPath())))
+            .filter(writeStat -> isMergeOnRead || !HoodieWriteStat.NULL_COMMIT.equals(String.valueOf(writeStat.getPrevCommit())))
+            .forEach(writeStat -> supersededFileIds.computeIfAbsent(partition, k -> new HashSet<>()).add(writeStat.getFileId())));
+      } catch (IOException e) {
+        throw new HoodieIOException(e.getMessage(), e);
+      }
+    });
+    this.partitionToSupersededFileIds = supersededFileIds;
+    this.partitionsWithReplacedFileGroups = replacedPartitions;
+    Set<String> partitions = new HashSet<>(supersededFileIds.keySet());
+    partitions.addAll(replacedPartitions);
+    log.info("Found superseded file slices in {} partitions, {} of them with replaced file groups", partitions.size(), replacedPartitions.size());
+    return new ArrayList<>(partitions);
+  }
+
+  /**
+   * Returns whether the file groups of the partition need to be loaded into the file-system view in advance for the clean planning.
+   */
+  public boolean requiresFileSystemView(String partitionPath) {
+    return !partitionToSupersededFileIds.containsKey(partitionPath) || partitionsWithReplacedFileGroups.contains(partitionPath);
+  }
+
   private boolean isAnySavepointDeleted(HoodieCleanMetadata cleanMetadata) {
     List<String> savepointedTimestampsFromLastClean = cleanMetadata.getExtraMetadata() == null ? Collections.emptyList()
         : Arrays.stream(cleanMetadata.getExtraMetadata().getOrDefault(CleanerUtils.SAVEPOINTED_TIMESTAMPS, StringUtils.EMPTY_STRING).split(","))
@@ -264,7 +344,7 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
   /**
    *  Verify whether file slice exists in savepointedFiles, check both base file and log files
    */
-  private boolean isFileSliceExistInSavepointedFiles(FileSlice fs, List<String> savepointedFiles) {
+  private boolean isFileSliceExistInSavepointedFiles(FileSlice fs, Set<String> savepointedFiles) {
     if (fs.getBaseFile().isPresent() && savepointedFiles.contains(fs.getBaseFile().get().getFileName())) {
       return true;
     }
@@ -288,14 +368,9 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
         config.getCleanerFileVersionsRetained());
 
     List<CleanFileInfo> deletePaths = new ArrayList<>();
-    // Collect all the datafiles savepointed by all the savepoints
-    List<String> savepointedFiles = hoodieTable.getSavepointTimestamps().stream()
-        .flatMap(this::getSavepointedDataFiles)
-        .collect(Collectors.toList());
-
     // In this scenario, we will assume that once replaced a file group automatically becomes eligible for cleaning completely
     // In other words, the file versions only apply to the active file groups.
-    deletePaths.addAll(getReplacedFilesEligibleToClean(savepointedFiles, partitionPath, Option.empty()));
+    deletePaths.addAll(getReplacedFilesEligibleToClean(getSavepointedFiles(), partitionPath, Option.empty()));
     boolean toDeletePartition = false;
     List<HoodieFileGroup> fileGroups = hoodieTable.getHoodieView().getAllFileGroupsStateless(partitionPath).collect(Collectors.toList());
     for (HoodieFileGroup fileGroup : fileGroups) {
@@ -318,7 +393,7 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
       // Delete the remaining files
       while (fileSliceIterator.hasNext()) {
         FileSlice nextSlice = fileSliceIterator.next();
-        if (isFileSliceExistInSavepointedFiles(nextSlice, savepointedFiles)) {
+        if (isFileSliceExistInSavepointedFiles(nextSlice, getSavepointedFiles())) {
           // do not clean up a savepoint data file
           continue;
         }
@@ -363,65 +438,16 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
     log.info("Cleaning {}, retaining latest {} commits.", partitionPath, commitsRetained);
     List<CleanFileInfo> deletePaths = new ArrayList<>();
 
-    // Collect all the datafiles savepointed by all the savepoints
-    List<String> savepointedFiles = hoodieTable.getSavepointTimestamps().stream()
-        .flatMap(this::getSavepointedDataFiles)
-        .collect(Collectors.toList());
-
     // determine if we have enough commits, to start cleaning.
     boolean toDeletePartition = false;
     if (getCommitTimeline().countInstants() > commitsRetained) {
       HoodieInstant earliestInstant = earliestCommitToRetain.get();
       // all replaced file groups before earliestCommitToRetain are eligible to clean
-      deletePaths.addAll(getReplacedFilesEligibleToClean(savepointedFiles, partitionPath, earliestCommitToRetain));
+      deletePaths.addAll(getReplacedFilesEligibleToClean(getSavepointedFiles(), partitionPath, earliestCommitToRetain));
       // add active files
       List<HoodieFileGroup> fileGroups = hoodieTable.getHoodieView().getAllFileGroupsStateless(partitionPath).collect(Collectors.toList());
       for (HoodieFileGroup fileGroup : fileGroups) {
-        List<FileSlice> fileSliceList = fileGroup.getAllFileSlices().collect(Collectors.toList());
-
-        if (fileSliceList.isEmpty()) {
-          continue;
-        }
-
-        String lastVersion = fileSliceList.get(0).getBaseInstantTime();
-        String lastVersionBeforeEarliestCommitToRetain =
-            getLatestVersionBeforeCommit(fileSliceList, earliestInstant);
-
-        // Ensure there are more than 1 version of the file (we only clean old files from updates)
-        // i.e., always spare the last commit.
-        for (FileSlice aSlice : fileSliceList) {
-          Option<HoodieBaseFile> aFile = aSlice.getBaseFile();
-          String fileCommitTime = aSlice.getBaseInstantTime();
-          if (isFileSliceExistInSavepointedFiles(aSlice, savepointedFiles)) {
-            // do not clean up a savepoint data file
-            continue;
-          }
-
-          // Do not delete the latest commit and also the last commit before the earliest commit we
-          // are retaining
-          // The window of commit retain == max query run time. So a query could be running which
-          // still uses this file.
-          if (fileCommitTime.equals(lastVersion) || fileCommitTime.equals(lastVersionBeforeEarliestCommitToRetain)) {
-            // move on to the next file
-            continue;
-          }
-
-          // Always keep the last commit
-          if (!isFileSliceNeededForPendingMajorOrMinorCompaction(aSlice)
-              && compareTimestamps(earliestInstant.requestedTime(), GREATER_THAN, fileCommitTime)) {
-            // this is a commit, that should be cleaned.
-            aFile.ifPresent(hoodieDataFile -> {
-              deletePaths.add(new CleanFileInfo(hoodieDataFile.getPath(), false));
-              if (hoodieDataFile.getBootstrapBaseFile().isPresent() && config.shouldCleanBootstrapBaseFile()) {
-                deletePaths.add(new CleanFileInfo(hoodieDataFile.getBootstrapBaseFile().get().getPath(), true));
-              }
-            });
-            // clean the log files for the commits, which contain cdc log files in cdc scenario
-            // and normal log files for mor tables.
-            deletePaths.addAll(aSlice.getLogFiles().map(lf -> new CleanFileInfo(lf.getPath().toString(), false))
-                .collect(Collectors.toList()));
-          }
-        }
+        deletePaths.addAll(getFilesToCleanInFileGroup(fileGroup, earliestInstant, getSavepointedFiles()));
       }
       // if there are no valid file groups
       // and no pending data files under the partition [IMPORTANT],
@@ -436,6 +462,83 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
     return Pair.of(toDeletePartition, deletePaths);
   }
 
+  /**
+   * Selects the file slices of the file group to clean for the KEEP_LATEST_COMMITS and KEEP_LATEST_BY_HOURS policies,
+   * see {@link #getFilesToCleanKeepingLatestCommits(String, int, Option, HoodieCleaningPolicy)}.
+   */
+  private List<CleanFileInfo> getFilesToCleanInFileGroup(HoodieFileGroup fileGroup, HoodieInstant earliestInstant, Set<String> savepointedFiles) {
+    List<CleanFileInfo> deletePaths = new ArrayList<>();
+    List<FileSlice> fileSliceList = fileGroup.getAllFileSlices().collect(Collectors.toList());
+
+    if (fileSliceList.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    String lastVersion = fileSliceList.get(0).getBaseInstantTime();
+    String lastVersionBeforeEarliestCommitToRetain =
+        getLatestVersionBeforeCommit(fileSliceList, earliestInstant);
+
+    // Ensure there are more than 1 version of the file (we only clean old files from updates)
+    // i.e., always spare the last commit.
+    for (FileSlice aSlice : fileSliceList) {
+      Option<HoodieBaseFile> aFile = aSlice.getBaseFile();
+      String fileCommitTime = aSlice.getBaseInstantTime();
+      if (isFileSliceExistInSavepointedFiles(aSlice, savepointedFiles)) {
+        // do not clean up a savepoint data file
+        continue;
+      }
+
+      // Do not delete the latest commit and also the last commit before the earliest commit we
+      // are retaining
+      // The window of commit retain == max query run time. So a query could be running which
+      // still uses this file.
+      if (fileCommitTime.equals(lastVersion) || fileCommitTime.equals(lastVersionBeforeEarliestCommitToRetain)) {
+        // move on to the next file
+        continue;
+      }
+
+      // Always keep the last commit
+      if (!isFileSliceNeededForPendingMajorOrMinorCompaction(aSlice)
+          && compareTimestamps(earliestInstant.requestedTime(), GREATER_THAN, fileCommitTime)) {
+        // this is a commit, that should be cleaned.
+        aFile.ifPresent(hoodieDataFile -> {
+          deletePaths.add(new CleanFileInfo(hoodieDataFile.getPath(), false));
+          if (hoodieDataFile.getBootstrapBaseFile().isPresent() && config.shouldCleanBootstrapBaseFile()) {
+            deletePaths.add(new CleanFileInfo(hoodieDataFile.getBootstrapBaseFile().get().getPath(), true));
+          }
+        });
+        // clean the log files for the commits, which contain cdc log files in cdc scenario
+        // and normal log files for mor tables.
+        deletePaths.addAll(aSlice.getLogFiles().map(lf -> new CleanFileInfo(lf.getPath().toString(), false))
+            .collect(Collectors.toList()));
+      }
+    }
+    return deletePaths;
+  }
+
+  /**
+   * Selects the files to clean in the file groups with superseded file slices since the last clean, for the
+   * KEEP_LATEST_COMMITS and KEEP_LATEST_BY_HOURS policies.
+   *
+   * <p>The file groups are read from the table's file-system view without caching the partition in it, and only
+   * the superseded ones are planned. The savepointed files and the file slices needed by the pending compactions
+   * are retained in the same way as {@link #getFilesToCleanKeepingLatestCommits}.
+   */
+  private Pair<Boolean, List<CleanFileInfo>> getFilesToCleanInSupersededFileGroups(String partitionPath, int commitsRetained,
+                                                                                  Option<HoodieInstant> earliestCommitToRetain) {
+    Set<String> fileIds = partitionToSupersededFileIds.get(partitionPath);
+    log.info("Cleaning {} with {} superseded file groups, retaining latest {} commits.", partitionPath, fileIds.size(), commitsRetained);
+    if (getCommitTimeline().countInstants() <= commitsRetained) {
+      return Pair.of(false, Collections.emptyList());
+    }
+    HoodieInstant earliestInstant = earliestCommitToRetain.get();
+    List<CleanFileInfo> deletePaths = new ArrayList<>();
+    hoodieTable.getHoodieView().getAllFileGroupsStateless(partitionPath)
+        .filter(fileGroup -> fileIds.contains(fileGroup.getFileGroupId().getFileId()))
+        .forEach(fileGroup -> deletePaths.addAll(getFilesToCleanInFileGroup(fileGroup, earliestInstant, getSavepointedFiles())));
+    return Pair.of(false, deletePaths);
+  }
+
   /**
    * Returns whether there are uncommitted data files under the given partition,
    * the pending files are generated by the inflight instants and maybe ready to commit,
@@ -472,7 +575,7 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
     return getFilesToCleanKeepingLatestCommits(partitionPath, 0, earliestCommitToRetain, HoodieCleaningPolicy.KEEP_LATEST_BY_HOURS);
   }
 
-  private List<CleanFileInfo> getReplacedFilesEligibleToClean(List<String> savepointedFiles, String partitionPath, Option<HoodieInstant> earliestCommitToRetain) {
+  private List<CleanFileInfo> getReplacedFilesEligibleToClean(Set<String> savepointedFiles, String partitionPath, Option<HoodieInstant> earliestCommitToRetain) {
     final Stream<HoodieFileGroup> replacedGroups;
     if (earliestCommitToRetain.isPresent()) {
       replacedGroups = hoodieTable.getHoodieView().getReplacedFileGroupsBefore(earliestCommitToRetain.get().requestedTime(), partitionPath);
@@ -526,7 +629,10 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
   public Pair<Boolean, List<CleanFileInfo>> getDeletePaths(String partitionPath, Option<HoodieInstant> earliestCommitToRetain) {
     HoodieCleaningPolicy policy = config.getCleanerPolicy();
     Pair<Boolean, List<CleanFileInfo>> deletePaths;
-    if (policy == HoodieCleaningPolicy.KEEP_LATEST_COMMITS) {
+    if (!requiresFileSystemView(partitionPath)) {
+      deletePaths = getFilesToCleanInSupersededFileGroups(partitionPath,
+          policy == HoodieCleaningPolicy.KEEP_LATEST_BY_HOURS ? 0 : config.getCleanerCommitsRetained(), earliestCommitToRetain);
+    } else if (policy == HoodieCleaningPolicy.KEEP_LATEST_COMMITS) {
       deletePaths = getFilesToCleanKeepingLatestCommits(partitionPath, earliestCommitToRetain);
     } else if (policy == HoodieCleaningPolicy.KEEP_LATEST_FILE_VERSIONS) {
       deletePaths = getFilesToCleanKeepingLatestVersions(partitionPath);
@@ -64,6 +64,7 @@ public abstract class BaseConsistentHashingBucketClusteringPlanStrategy<T extend
   public static final String METADATA_PARTITION_KEY = "clustering.group.partition";
   public static final String METADATA_CHILD_NODE_KEY = "clustering.group.child.node";
   public static final String METADATA_SEQUENCE_NUMBER_KEY = "clustering.group.sequence.no";
+  public static final String METADATA_LAZY_SPLIT_PARENT_KEY = "clustering.group.lazy.split.parent";
 
   public BaseConsistentHashingBucketClusteringPlanStrategy(
       HoodieTable table, HoodieEngineContext engineContext, HoodieWriteConfig writeConfig) {
@@ -99,16 +100,34 @@ public abstract class BaseConsistentHashingBucketClusteringPlanStrategy<T extend
     ValidationUtils.checkArgument(metadata.isPresent(), "Metadata is empty for partition: " + partitionPath);
     ConsistentBucketIdentifier identifier = new ConsistentBucketIdentifier(metadata.get());
 
+    // Finish the physical split of lazily split buckets, the file groups involved are excluded from the other rules
+    Pair<List<HoodieClusteringGroup>, List<FileSlice>> lazySplitResult = buildLazySplitFinishingGroups(identifier, fileSlices);
+    List<HoodieClusteringGroup> ret = new ArrayList<>(lazySplitResult.getLeft());
+    List<FileSlice> remainedSlices = lazySplitResult.getRight();
+
     // Apply split rule
     int splitSlot = getWriteConfig().getBucketIndexMaxNumBuckets() - identifier.getNumBuckets();
-    Triple<List<HoodieClusteringGroup>, Integer, List<FileSlice>> splitResult =
-        buildSplitClusteringGroups(identifier, fileSlices, splitSlot);
-    List<HoodieClusteringGroup> ret = new ArrayList<>(splitResult.getLeft());
+    int numSplitBuckets = 0;
+    if (getWriteConfig().isBucketIndexOnlineSplitEnabled()) {
+      // Lazy splits are committed to the hashing metadata right away, so they wait for the pending ones to be finished
+      if (!identifier.hasLazilySplitBuckets()) {
+        List<ConsistentHashingNode> childNodes = lazySplitBuckets(identifier, remainedSlices, splitSlot);
+        if (!childNodes.isEmpty() && ConsistentBucketIndexUtils.commitLazySplit(getHoodieTable(), identifier.getMetadata(), childNodes).isPresent()) {
+          // The other rules are applied by the next clustering, on top of the new version of the hashing metadata
+          return Pair.of(Stream.empty(), true);
+        }
+      }
+    } else {
+      Triple<List<HoodieClusteringGroup>, Integer, List<FileSlice>> splitResult =
+          buildSplitClusteringGroups(identifier, remainedSlices, splitSlot);
+      ret.addAll(splitResult.getLeft());
+      remainedSlices = splitResult.getRight();
+      numSplitBuckets = splitResult.getMiddle();
+    }
 
-    List<FileSlice> remainedSlices = splitResult.getRight();
     if (isBucketClusteringMergeEnabled()) {
       // Apply merge rule
-      int mergeSlot = identifier.getNumBuckets() - getWriteConfig().getBucketIndexMinNumBuckets() + splitResult.getMiddle();
+      int mergeSlot = identifier.getNumBuckets() - getWriteConfig().getBucketIndexMinNumBuckets() + numSplitBuckets;
       Triple<List<HoodieClusteringGroup>, Integer, List<FileSlice>> mergeResult =
           buildMergeClusteringGroup(identifier, remainedSlices, mergeSlot);
       ret.addAll(mergeResult.getLeft());
@@ -218,6 +237,89 @@ public abstract class BaseConsistentHashingBucketClusteringPlanStrategy<T extend
     return Triple.of(retGroup, splitSlot - remainingSplitSlot, fsUntouched);
   }
 
+  /**
+   * Splits the buckets that reach the split size lazily, see {@link ConsistentBucketIdentifier#lazySplitBucket}.
+   *
+   * @param identifier bucket identifier
+   * @param fileSlices file slice candidates to be split
+   * @param splitSlot  number of new bucket allowed to produce, in order to constrain the upper bound of the total number of bucket
+   * @return children nodes of the split buckets, to be committed to the hashing metadata
+   */
+  protected List<ConsistentHashingNode> lazySplitBuckets(ConsistentBucketIdentifier identifier, List<FileSlice> fileSlices, int splitSlot) {
+    List<ConsistentHashingNode> childNodes = new ArrayList<>();
+    long splitSize = getSplitSize();
+    int remainingSplitSlot = splitSlot;
+    for (FileSlice fs : fileSlices) {
+      if (remainingSplitSlot == 0) {
+        break;
+      }
+      if (fs.getTotalFileSize() <= splitSize) {
+        continue;
+      }
+      Option<List<ConsistentHashingNode>> nodes = identifier.lazySplitBucket(fs.getFileId());
+      if (nodes.isPresent()) {
+        remainingSplitSlot--;
+        childNodes.addAll(nodes.get());
+      }
+    }
+    return childNodes;
+  }
+
+  /**
+   * Generate clustering groups that finish the physical split of lazily split buckets. The records of the parent file group
+   * and of the children file groups are rewritten into new file groups of the children buckets, which do not refer to the parent anymore.
+   * A lazy split is left pending if its parent file group is not eligible for clustering, e.g. it is under compaction.
+   *
+   * @param identifier bucket identifier
+   * @param fileSlices file slice candidates
+   * @return list of clustering group, remaining file slices (that are not involved in lazy splits)
+   */
+  protected Pair<List<HoodieClusteringGroup>, List<FileSlice>> buildLazySplitFinishingGroups(
+      ConsistentBucketIdentifier identifier, List<FileSlice> fileSlices) {
+    Map<String, List<ConsistentHashingNode>> lazySplits = identifier.getLazilySplitBuckets();
+    if (lazySplits.isEmpty()) {
+      return Pair.of(Collections.emptyList(), fileSlices);
+    }
+
+    Map<String, FileSlice> fileIdPfxToSlice = fileSlices.stream()
+        .collect(Collectors.toMap(fs -> FSUtils.getFileIdPfxFromFileId(fs.getFileId()), fs -> fs));
+    List<HoodieClusteringGroup> groups = new ArrayList<>();
+    for (Map.Entry<String, List<ConsistentHashingNode>> lazySplit : lazySplits.entrySet()) {
+      // The file groups of unfinished lazy splits are never candidates of the other rules
+      FileSlice parentSlice = fileIdPfxToSlice.remove(lazySplit.getKey());
+      List<FileSlice> fs = new ArrayList<>();
+      List<ConsistentHashingNode> childNodes = new ArrayList<>();
+      for (ConsistentHashingNode child : lazySplit.getValue()) {
+        FileSlice childSlice = fileIdPfxToSlice.remove(child.getFileIdPrefix());
+        if (childSlice != null) {
+          fs.add(childSlice);
+          childNodes.add(new ConsistentHashingNode(child.getValue(), FSUtils.createNewFileIdPfx(), ConsistentHashingNode.NodeTag.REPLACE));
+        } else {
+          // A child without file slice keeps its file id prefix: a write creating its first file group after the planning
+          // writes the same file group as the clustering and conflicts with it, instead of being dropped from the hashing metadata
+          childNodes.add(new ConsistentHashingNode(child.getValue(), child.getFileIdPrefix(), ConsistentHashingNode.NodeTag.REPLACE));
+        }
+      }
+      if (parentSlice == null) {
+        log.info("Parent file group of lazy split {} is not eligible for clustering, skip.", lazySplit.getKey());
+        continue;
+      }
+      fs.add(0, parentSlice);
+      Map<String, String> extraMetadata = constructExtraMetadata(parentSlice.getPartitionPath(), childNodes, identifier.getMetadata().getSeqNo());
+      extraMetadata.put(METADATA_LAZY_SPLIT_PARENT_KEY, lazySplit.getKey());
+      groups.add(HoodieClusteringGroup.newBuilder()
+          .setSlices(getFileSliceInfo(fs))
+          .setNumOutputFileGroups(childNodes.size())
+          .setMetrics(buildMetrics(fs))
+          .setExtraMetadata(extraMetadata)
+          .build());
+    }
+    List<FileSlice> fsUntouched = fileSlices.stream()
+        .filter(fs -> fileIdPfxToSlice.containsKey(FSUtils.getFileIdPfxFromFileId(fs.getFileId())))
+        .collect(Collectors.toList());
+    return Pair.of(groups, fsUntouched);
+  }
+
   /**
    * Generate clustering group according to merge rules
    *
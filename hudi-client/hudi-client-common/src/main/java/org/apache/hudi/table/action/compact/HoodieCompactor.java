@@ -26,6 +26,7 @@ import org.apache.hudi.common.engine.HoodieEngineContext;
 import org.apache.hudi.common.engine.HoodieReaderContext;
 import org.apache.hudi.common.engine.ReaderContextFactory;
 import org.apache.hudi.common.engine.TaskContextSupplier;
+import org.apache.hudi.common.function.SerializableFunction;
 import org.apache.hudi.common.model.CompactionOperation;
 import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.model.HoodieRecord.HoodieRecordType;
@@ -129,10 +130,10 @@ public abstract class HoodieCompactor<T, I, K, O> implements Serializable {
     // if this is a MDT, set up the instant range of log reader just like regular MDT snapshot reader.
     Option<InstantRange> instantRange = CompactHelpers.getInstance().getInstantRange(metaClient);
 
+    HoodieWriteConfig taskConfig = getTaskWriteConfig(config, operations.size());
     if (operationType == WriteOperationType.LOG_COMPACT) {
-      return context.parallelize(operations).map(
-              operation -> logCompact(config, operation, compactionInstantTime, instantRange, table, taskContextSupplier))
-          .flatMap(List::iterator);
+      return executeOperations(context, config, operations,
+          operation -> logCompact(taskConfig, operation, compactionInstantTime, instantRange, table, taskContextSupplier));
     } else {
       ReaderContextFactory<T> readerContextFactory;
       if (!metaClient.isMetadataTable()) {
@@ -141,12 +142,27 @@ public abstract class HoodieCompactor<T, I, K, O> implements Serializable {
         // Payload and HFile caching props are required here
         readerContextFactory = (ReaderContextFactory<T>) context.getReaderContextFactoryForWrite(metaClient, HoodieRecordType.AVRO, config.getProps());
       }
-      return context.parallelize(operations).map(
-              operation -> compact(config, operation, compactionInstantTime, readerContextFactory.getContext(), table, maxInstantTime, taskContextSupplier))
-          .flatMap(List::iterator);
+      return executeOperations(context, config, operations,
+          operation -> compact(taskConfig, operation, compactionInstantTime, readerContextFactory.getContext(), table, maxInstantTime, taskContextSupplier));
     }
   }
 
+  /**
+   * Returns the write config each compaction operation runs with, engines that execute several operations
+   * concurrently in the same process can override it to split the memory budget of the compaction between them.
+   */
+  protected HoodieWriteConfig getTaskWriteConfig(HoodieWriteConfig config, int numOperations) {
+    return config;
+  }
+
+  /**
+   * Executes the compaction operations with the engine context and flattens the write statuses.
+   */
+  protected HoodieData<WriteStatus> executeOperations(HoodieEngineContext context, HoodieWriteConfig config, List<CompactionOperation> operations,
+                                                      SerializableFunction<CompactionOperation, List<WriteStatus>> compactFunc) {
+    return context.parallelize(operations).map(compactFunc).flatMap(List::iterator);
+  }
+
   /**
    * Execute a single compaction operation and report back status.
    */
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.table.action.compact.strategy;
+
+import org.apache.hudi.avro.model.HoodieCompactionOperation;
+import org.apache.hudi.common.fs.FSUtils;
+import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.model.HoodieFileGroupId;
+import org.apache.hudi.common.model.HoodieWriteStat;
+import org.apache.hudi.common.table.HoodieTableMetaClient;
+import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
+import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.config.HoodieWriteConfig;
+import org.apache.hudi.storage.StoragePath;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Offline harness to evaluate {@link CompactionStrategy} implementations against the write history of a table.
+ *
+ * <p>The simulator replays the completed delta commits of a timeline and tracks, per file group, the base file size
+ * and the log files, log blocks and deleted records accumulated since the last simulated compaction. Every
+ * {@code deltaCommitsPerCompaction} delta commits, each strategy is asked to order and filter the pending file slices
+ * and the file slices it picks are considered compacted. The strategies never change the replayed timeline, so they
+ * can be compared on the compaction IO they spend versus the merge-on-read cost that queries keep paying in between.
+ */
+@Slf4j
+public class CompactionSimulator {
+
+  private final HoodieWriteConfig writeConfig;
+  private final int deltaCommitsPerCompaction;
+
+  public CompactionSimulator(HoodieWriteConfig writeConfig, int deltaCommitsPerCompaction) {
+    ValidationUtils.checkArgument(deltaCommitsPerCompaction > 0, "deltaCommitsPerCompaction should be positive");
+    this.writeConfig = writeConfig;
+    this.deltaCommitsPerCompaction = deltaCommitsPerCompaction;
+  }
+
+  /**
+   * Replays the completed delta commits of the active timeline of the table for each of the strategies.
+   */
+  public List<SimulationResult> simulate(HoodieTableMetaClient metaClient, List<CompactionStrategy> strategies) throws IOException {
+    HoodieTimeline deltaCommitTimeline = metaClient.getActiveTimeline().getDeltaCommitTimeline().filterCompletedInstants();
+    List<Pair<String, HoodieCommitMetadata>> deltaCommits = new ArrayList<>();
+    for (HoodieInstant instant : deltaCommitTimeline.getInstants()) {
+      deltaCommits.add(Pair.of(instant.requestedTime(), deltaCommitTimeline.readCommitMetadata(instant)));
+    }
+    log.info("Replaying {} delta commits of table {} for {} compaction strategies", deltaCommits.size(), metaClient.getBasePath(), strategies.size());
+    return simulate(deltaCommits, strategies);
+  }
+
+  /**
+   * Replays the given delta commits, in order, for each of the strategies.
+   */
+  public List<SimulationResult> simulate(List<Pair<String, HoodieCommitMetadata>> deltaCommits, List<CompactionStrategy> strategies) {
+    return strategies.stream().map(strategy -> simulate(deltaCommits, strategy)).collect(Collectors.toList());
+  }
+
+  private SimulationResult simulate(List<Pair<String, HoodieCommitMetadata>> deltaCommits, CompactionStrategy strategy) {
+    double logBlockReadCostMB = writeConfig.getCostBasedCompactionLogBlockReadCostMB();
+    Map<String, Double> queryWeights = CostBasedCompactionStrategy.parsePartitionQueryWeights(writeConfig.getCostBasedCompactionPartitionQueryWeights());
+    Map<HoodieFileGroupId, FileGroupState> fileGroups = new LinkedHashMap<>();
+    SimulationResult result = new SimulationResult(strategy.getClass().getSimpleName());
+    int deltaCommitsSinceCompaction = 0;
+    for (Pair<String, HoodieCommitMetadata> deltaCommit : deltaCommits) {
+      deltaCommit.getRight().getPartitionToWriteStats().forEach((partitionPath, writeStats) -> writeStats.forEach(writeStat ->
+          fileGroups.computeIfAbsent(new HoodieFileGroupId(partitionPath, writeStat.getFileId()), FileGroupState::new)
+              .update(deltaCommit.getLeft(), writeStat)));
+      // Every query issued after this delta commit pays the merge cost of the file slices left uncompacted
+      for (FileGroupState fileGroup : fileGroups.values()) {
+        if (fileGroup.hasLogFiles()) {
+          double queryWeight = queryWeights.getOrDefault(fileGroup.fileGroupId.getPartitionPath(), 1d);
+          result.readCostMB += CostBasedCompactionStrategy.readCostSavedMB(fileGroup.metrics(writeConfig), logBlockReadCostMB) * queryWeight;
+        }
+      }
+      if (++deltaCommitsSinceCompaction < deltaCommitsPerCompaction) {
+        continue;
+      }
+      deltaCommitsSinceCompaction = 0;
+      List<HoodieCompactionOperation> operations = fileGroups.values().stream()
+          .filter(FileGroupState::hasLogFiles)
+          .map(fileGroup -> fileGroup.toOperation(writeConfig))
+          .collect(Collectors.toList());
+      if (operations.isEmpty()) {
+        continue;
+      }
+      List<HoodieCompactionOperation> selected = strategy.orderAndFilter(writeConfig, operations, Collections.emptyList()).getLeft();
+      result.numCompactions++;
+      for (HoodieCompactionOperation op : selected) {
+        result.numOperations++;
+        result.ioMB += op.getMetrics().getOrDefault(CompactionStrategy.TOTAL_IO_MB, 0d);
+        fileGroups.get(new HoodieFileGroupId(op.getPartitionPath(), op.getFileId())).compact();
+      }
+    }
+    log.info("Simulated {}", result);
+    return result;
+  }
+
+  /**
+   * Outcome of replaying a timeline with one compaction strategy.
+   */
+  @Getter
+  public static class SimulationResult {
+    private final String strategyName;
+    private int numCompactions;
+    private int numOperations;
+    private double ioMB;
+    private double readCostMB;
+
+    SimulationResult(String strategyName) {
+      this.strategyName = strategyName;
+    }
+
+    @Override
+    public String toString() {
+      return "SimulationResult{strategyName=" + strategyName + ", numCompactions=" + numCompactions
+          + ", numOperations=" + numOperations + ", ioMB=" + ioMB + ", readCostMB=" + readCostMB + '}';
+    }
+  }
+
+  private static class FileGroupState {
+    private final HoodieFileGroupId fileGroupId;
+    private String baseInstantTime;
+    private long baseFileSize;
+    private final List<String> logFiles = new ArrayList<>();
+    private long logFilesSize;
+    private long numLogBlocks;
+    private long numDeltaCommits;
+    private long numLogRecords;
+    private long numDeletes;
+    private String lastDeltaCommit;
+
+    FileGroupState(HoodieFileGroupId fileGroupId) {
+      this.fileGroupId = fileGroupId;
+    }
+
+    void update(String instantTime, HoodieWriteStat writeStat) {
+      if (writeStat.getPath() != null && FSUtils.isLogFile(new StoragePath(writeStat.getPath()).getName())) {
+        if (!logFiles.contains(writeStat.getPath())) {
+          logFiles.add(writeStat.getPath());
+        }
+        logFilesSize += writeStat.getTotalWriteBytes();
+        numLogBlocks++;
+        numLogRecords += writeStat.getNumWrites() + writeStat.getNumDeletes();
+        numDeletes += writeStat.getNumDeletes();
+        if (!instantTime.equals(lastDeltaCommit)) {
+          numDeltaCommits++;
+          lastDeltaCommit = instantTime;
+        }
+      } else {
+        // A new base file version replaces the file slice
+        compact();
+        baseInstantTime = instantTime;
+        baseFileSize = writeStat.getFileSizeInBytes();
+      }
+    }
+
+    boolean hasLogFiles() {
+      return !logFiles.isEmpty();
+    }
+
+    void compact() {
+      baseFileSize += logFilesSize;
+      logFiles.clear();
+      logFilesSize = 0;
+      numLogBlocks = 0;
+      numDeltaCommits = 0;
+      numLogRecords = 0;
+      numDeletes = 0;
+      lastDeltaCommit = null;
+    }
+
+    Map<String, Double> metrics(HoodieWriteConfig writeConfig) {
+      Map<String, Double> metrics = new HashMap<>();
+      long totalIORead = FSUtils.getSizeInMB(baseFileSize + logFilesSize);
+      long totalIOWrite = FSUtils.getSizeInMB(baseFileSize > 0 ? baseFileSize : writeConfig.getParquetMaxFileSize());
+      metrics.put(CompactionStrategy.TOTAL_IO_READ_MB, (double) totalIORead);
+      metrics.put(CompactionStrategy.TOTAL_IO_WRITE_MB, (double) totalIOWrite);
+      metrics.put(CompactionStrategy.TOTAL_IO_MB, (double) (totalIORead + totalIOWrite));
+      metrics.put(CompactionStrategy.TOTAL_LOG_FILE_SIZE, (double) logFilesSize);
+      metrics.put(CompactionStrategy.TOTAL_LOG_FILES, (double) logFiles.size());
+      metrics.put(CostBasedCompactionStrategy.TOTAL_LOG_BLOCKS, (double) numLogBlocks);
+      metrics.put(CostBasedCompactionStrategy.NUM_DELTA_COMMITS, (double) numDeltaCommits);
+      metrics.put(CostBasedCompactionStrategy.DELETE_RATIO, numLogRecords > 0 ? (double) numDeletes / numLogRecords : 0d);
+      return metrics;
+    }
+
+    HoodieCompactionOperation toOperation(HoodieWriteConfig writeConfig) {
+      return new HoodieCompactionOperation(baseInstantTime, new ArrayList<>(logFiles), null, fileGroupId.getFileId(),
+          fileGroupId.getPartitionPath(), metrics(writeConfig), null);
+    }
+  }
+}
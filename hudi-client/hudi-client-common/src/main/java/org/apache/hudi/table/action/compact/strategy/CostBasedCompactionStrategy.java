@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.table.action.compact.strategy;
+
+import org.apache.hudi.avro.model.HoodieCompactionOperation;
+import org.apache.hudi.avro.model.HoodieCompactionPlan;
+import org.apache.hudi.common.model.FileSlice;
+import org.apache.hudi.common.model.HoodieLogFile;
+import org.apache.hudi.common.util.StringUtils;
+import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.config.HoodieWriteConfig;
+import org.apache.hudi.exception.HoodieException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * CostBasedCompactionStrategy scores every file slice by the read cost a compaction saves versus the I/O it costs to
+ * rewrite the file slice, and picks the best scoring file slices that fit in the configured IO budget.
+ *
+ * <p>The read cost saved per query is the size of the log files plus a fixed cost for every log block a reader has to
+ * open and merge (see {@code hoodie.compaction.cost.based.log.block.read.cost.mb}). It is amplified by the ratio of
+ * deleted records, when known, since those records are dropped from the rewritten base file, and multiplied by the
+ * optional query frequency of the partition (see {@code hoodie.compaction.cost.based.partition.query.weights}).
+ * The rewrite cost is the total IO of the compaction. Operations are ranked by the ratio of the two and greedily
+ * packed into {@code hoodie.compaction.target.io}; unlike {@link BoundedIOCompactionStrategy}, an operation that
+ * does not fit in the remaining budget is skipped in favor of smaller ones ranked after it.
+ *
+ * @see BoundedIOCompactionStrategy
+ * @see CompactionSimulator
+ */
+public class CostBasedCompactionStrategy extends CompactionStrategy {
+
+  public static final String TOTAL_LOG_BLOCKS = "TOTAL_LOG_BLOCKS";
+  public static final String NUM_DELTA_COMMITS = "NUM_DELTA_COMMITS";
+  public static final String DELETE_RATIO = "DELETE_RATIO";
+
+  private static final double MB = 1024 * 1024d;
+
+  @Override
+  public Map<String, Double> captureMetrics(HoodieWriteConfig writeConfig, FileSlice slice) {
+    Map<String, Double> metrics = super.captureMetrics(writeConfig, slice);
+    // Every delta commit appends at least one block, so the distinct delta commits of the log files are both the
+    // update frequency of the file group and a lower bound of the log blocks to merge on read.
+    long numDeltaCommits = slice.getLogFiles().map(HoodieLogFile::getDeltaCommitTime).distinct().count();
+    metrics.put(NUM_DELTA_COMMITS, (double) numDeltaCommits);
+    metrics.put(TOTAL_LOG_BLOCKS, (double) Math.max(numDeltaCommits, metrics.getOrDefault(TOTAL_LOG_FILES, 0d).longValue()));
+    return metrics;
+  }
+
+  @Override
+  public Pair<List<HoodieCompactionOperation>, List<String>> orderAndFilter(HoodieWriteConfig writeConfig,
+                                                                            List<HoodieCompactionOperation> operations,
+                                                                            List<HoodieCompactionPlan> pendingCompactionPlans) {
+    double logBlockReadCostMB = writeConfig.getCostBasedCompactionLogBlockReadCostMB();
+    Map<String, Double> queryWeights = parsePartitionQueryWeights(writeConfig.getCostBasedCompactionPartitionQueryWeights());
+    // Order the operations by the reverse score - so that the highest score is compacted first
+    List<Pair<HoodieCompactionOperation, Double>> scoredOperations = operations.stream()
+        .map(op -> Pair.of(op, score(op.getMetrics(), logBlockReadCostMB, queryWeights.getOrDefault(op.getPartitionPath(), 1d))))
+        .sorted(Comparator.comparing(Pair<HoodieCompactionOperation, Double>::getRight).reversed())
+        .collect(Collectors.toList());
+
+    ArrayList<String> missingPartitions = new ArrayList<>();
+    List<HoodieCompactionOperation> finalOperations = new ArrayList<>();
+    long targetIORemaining = writeConfig.getTargetIOPerCompactionInMB();
+    for (Pair<HoodieCompactionOperation, Double> scoredOperation : scoredOperations) {
+      HoodieCompactionOperation op = scoredOperation.getLeft();
+      long opIo = op.getMetrics().getOrDefault(TOTAL_IO_MB, 0d).longValue();
+      if (scoredOperation.getRight() > 0 && opIo <= targetIORemaining) {
+        targetIORemaining -= opIo;
+        finalOperations.add(op);
+      } else if (writeConfig.isIncrementalTableServiceEnabled()) {
+        missingPartitions.add(op.getPartitionPath());
+      }
+    }
+    return Pair.of(finalOperations, writeConfig.isIncrementalTableServiceEnabled() ? missingPartitions : Collections.emptyList());
+  }
+
+  /**
+   * Returns the read cost in MB saved by compacting a file slice with the given metrics, for one query.
+   */
+  public static double readCostSavedMB(Map<String, Double> metrics, double logBlockReadCostMB) {
+    double logSizeMB = metrics.getOrDefault(TOTAL_LOG_FILE_SIZE, 0d) / MB;
+    double logBlocks = metrics.getOrDefault(TOTAL_LOG_BLOCKS, metrics.getOrDefault(TOTAL_LOG_FILES, 0d));
+    return (logSizeMB + logBlocks * logBlockReadCostMB) * (1 + metrics.getOrDefault(DELETE_RATIO, 0d));
+  }
+
+  /**
+   * Returns the ratio of the weighted read cost saved by compacting a file slice to the IO of rewriting it.
+   */
+  public static double score(Map<String, Double> metrics, double logBlockReadCostMB, double queryWeight) {
+    double rewriteCostMB = Math.max(1d, metrics.getOrDefault(TOTAL_IO_MB, 0d));
+    return readCostSavedMB(metrics, logBlockReadCostMB) * queryWeight / rewriteCostMB;
+  }
+
+  static Map<String, Double> parsePartitionQueryWeights(String partitionQueryWeights) {
+    if (StringUtils.isNullOrEmpty(partitionQueryWeights)) {
+      return Collections.emptyMap();
+    }
+    Map<String, Double> queryWeights = new HashMap<>();
+    for (String entry : partitionQueryWeights.split(",")) {
+      if (StringUtils.isNullOrEmpty(entry.trim())) {
+        continue;
+      }
+      int idx = entry.lastIndexOf('=');
+      if (idx <= 0) {
+        throw new HoodieException("Invalid partition query weight '" + entry + "', expected 'partitionPath=weight'");
+      }
+      try {
+        queryWeights.put(entry.substring(0, idx).trim(), Double.parseDouble(entry.substring(idx + 1).trim()));
+      } catch (NumberFormatException e) {
+        throw new HoodieException("Invalid partition query weight '" + entry + "', expected 'partitionPath=weight'", e);
+      }
+    }
+    return queryWeights;
+  }
+}
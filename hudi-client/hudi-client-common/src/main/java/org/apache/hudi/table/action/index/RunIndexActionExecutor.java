@@ -24,6 +24,7 @@ import org.apache.hudi.avro.model.HoodieIndexPartitionInfo;
 import org.apache.hudi.avro.model.HoodieIndexPlan;
 import org.apache.hudi.client.heartbeat.HoodieHeartbeatClient;
 import org.apache.hudi.client.transaction.TransactionManager;
+import org.apache.hudi.common.config.HoodieMetadataConfig;
 import org.apache.hudi.common.engine.HoodieEngineContext;
 import org.apache.hudi.common.table.HoodieTableConfig;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
@@ -46,6 +47,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -150,7 +153,7 @@ public class RunIndexActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I,
           metrics.ifPresent(m -> m.updateMetrics(HoodieMetadataMetrics.INITIALIZE_STR, timer.endTimer()));
 
           // get remaining instants to catchup
-          List<HoodieInstant> instantsToCatchup = getInstantsToCatchup(indexUptoInstant);
+          List<HoodieInstant> instantsToCatchup = getInstantsToCatchup(indexUptoInstant, table.getMetaClient());
           log.info("Total remaining instants to index: {}", instantsToCatchup.size());
 
           // reconcile with metadata table timeline
@@ -161,9 +164,17 @@ public class RunIndexActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I,
           Set<String> metadataCompletedTimestamps = getCompletedArchivedAndActiveInstantsAfter(indexUptoInstant, metadataMetaClient).stream()
               .map(HoodieInstant::requestedTime).collect(Collectors.toSet());
 
-          // index catchup for all remaining instants with a timeout
+          // index catchup for all remaining instants, the tailing and the wait for the inflight writers sharing the timeout
           currentCaughtupInstant = indexUptoInstant;
-          catchupWithInflightWriters(metadataWriter, instantsToCatchup, metadataMetaClient, metadataCompletedTimestamps, indexPartitionInfos);
+          long catchupDeadlineMs = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(config.getIndexingCheckTimeoutSeconds());
+          if (config.getMetadataConfig().isIndexCatchupTailingEnabled()) {
+            instantsToCatchup = catchupByTailingTimeline(metadataWriter, indexUptoInstant, instantsToCatchup, metadataMetaClient, indexPartitionInfos,
+                catchupDeadlineMs);
+            metadataCompletedTimestamps = getCompletedArchivedAndActiveInstantsAfter(indexUptoInstant, metadataMetaClient).stream()
+                .map(HoodieInstant::requestedTime).collect(Collectors.toSet());
+          }
+          catchupWithInflightWriters(metadataWriter, instantsToCatchup, metadataMetaClient, metadataCompletedTimestamps, indexPartitionInfos,
+              catchupDeadlineMs);
           // save index commit metadata and update table config
           finalIndexPartitionInfos = indexPartitionInfos.stream()
               .map(info -> new HoodieIndexPartitionInfo(
@@ -227,11 +238,11 @@ public class RunIndexActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I,
     table.getMetaClient().reloadActiveTimeline().deleteInstantFileIfExists(instantGenerator.getIndexInflightInstant(indexInstant.requestedTime()));
   }
 
-  private List<HoodieInstant> getInstantsToCatchup(String indexUptoInstant) {
+  private List<HoodieInstant> getInstantsToCatchup(String indexUptoInstant, HoodieTableMetaClient metaClient) {
     // since only write timeline was considered while scheduling index, which gives us the indexUpto instant
     // here we consider other valid actions to pick catchupStart instant
     Set<String> validActions = CollectionUtils.createSet(CLEAN_ACTION, RESTORE_ACTION, ROLLBACK_ACTION);
-    Option<HoodieInstant> catchupStartInstant = table.getMetaClient().reloadActiveTimeline()
+    Option<HoodieInstant> catchupStartInstant = metaClient.reloadActiveTimeline()
         .getTimelineOfActions(validActions)
         .filterInflightsAndRequested()
         .findInstantsBefore(indexUptoInstant)
@@ -239,10 +250,12 @@ public class RunIndexActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I,
     // get all instants since the plan completed (both from active timeline and archived timeline)
     List<HoodieInstant> instantsToIndex;
     if (catchupStartInstant.isPresent()) {
-      instantsToIndex = getRemainingArchivedAndActiveInstantsSince(catchupStartInstant.get().requestedTime(), table.getMetaClient());
+      instantsToIndex = getRemainingArchivedAndActiveInstantsSince(catchupStartInstant.get().requestedTime(), metaClient);
     } else {
-      instantsToIndex = getRemainingArchivedAndActiveInstantsSince(indexUptoInstant, table.getMetaClient());
+      instantsToIndex = getRemainingArchivedAndActiveInstantsSince(indexUptoInstant, metaClient);
     }
+    // the instants are indexed in the order they were started in
+    instantsToIndex.sort(Comparator.comparing(HoodieInstant::requestedTime));
     return instantsToIndex;
   }
 
@@ -277,7 +290,7 @@ public class RunIndexActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I,
 
   private void catchupWithInflightWriters(HoodieTableMetadataWriter metadataWriter, List<HoodieInstant> instantsToIndex,
                                           HoodieTableMetaClient metadataMetaClient, Set<String> metadataCompletedTimestamps,
-                                          List<HoodieIndexPartitionInfo> indexPartitionInfos) {
+                                          List<HoodieIndexPartitionInfo> indexPartitionInfos, long deadlineMs) {
     HoodieHeartbeatClient heartbeatClient = new HoodieHeartbeatClient(table.getStorage(), table.getMetaClient().getBasePath().toString(),
         table.getConfig().getHoodieClientHeartbeatIntervalInMs(), table.getConfig().getHoodieClientHeartbeatTolerableMisses());
     ExecutorService executorService = Executors.newFixedThreadPool(MAX_CONCURRENT_INDEXING);
@@ -287,7 +300,7 @@ public class RunIndexActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I,
     try {
       log.info("Starting index catchup task");
       HoodieTimer timer = HoodieTimer.start();
-      indexingCatchupTaskFuture.get(config.getIndexingCheckTimeoutSeconds(), TimeUnit.SECONDS);
+      indexingCatchupTaskFuture.get(Math.max(0, deadlineMs - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
       metrics.ifPresent(m -> m.updateMetrics(HoodieMetadataMetrics.ASYNC_INDEXER_CATCHUP_TIME, timer.endTimer()));
     } catch (Exception e) {
       indexingCatchupTaskFuture.cancel(true);
@@ -298,6 +311,49 @@ public class RunIndexActionExecutor<T, I, K, O> extends BaseActionExecutor<T, I,
     }
   }
 
+  /**
+   * Catches up with the instants in rounds while writers keep committing: each round indexes the instants completed
+   * so far in instant order, without waiting for the pending ones, then tails the data table timeline for the instants
+   * that arrived in the meantime. Stops once at most {@link HoodieMetadataConfig#METADATA_INDEX_CATCHUP_TAILING_MAX_LAG_INSTANTS}
+   * instants are left, only pending instants are left, or the catch up deadline is reached.
+   *
+   * @return the instants left to catch up by waiting for the inflight writers.
+   */
+  private List<HoodieInstant> catchupByTailingTimeline(HoodieTableMetadataWriter metadataWriter, String indexUptoInstant,
+                                                       List<HoodieInstant> instantsToCatchup, HoodieTableMetaClient metadataMetaClient,
+                                                       List<HoodieIndexPartitionInfo> indexPartitionInfos, long deadlineMs) {
+    int maxLagInstants = config.getMetadataConfig().getIndexCatchupTailingMaxLagInstants();
+    HoodieHeartbeatClient heartbeatClient = new HoodieHeartbeatClient(table.getStorage(), table.getMetaClient().getBasePath().toString(),
+        table.getConfig().getHoodieClientHeartbeatIntervalInMs(), table.getConfig().getHoodieClientHeartbeatTolerableMisses());
+    Set<String> caughtupInstants = new HashSet<>();
+    List<HoodieInstant> remainingInstants = instantsToCatchup;
+    int round = 0;
+    try {
+      while (remainingInstants.size() > maxLagInstants && System.currentTimeMillis() < deadlineMs) {
+        List<HoodieInstant> completedInstants = remainingInstants.stream().filter(HoodieInstant::isCompleted).collect(Collectors.toList());
+        if (completedInstants.isEmpty()) {
+          break;
+        }
+        round++;
+        log.info("Index catchup round {}: indexing {} completed instants, {} instants pending", round, completedInstants.size(),
+            remainingInstants.size() - completedInstants.size());
+        Set<String> metadataCompletedTimestamps = getCompletedArchivedAndActiveInstantsAfter(indexUptoInstant, metadataMetaClient).stream()
+            .map(HoodieInstant::requestedTime).collect(Collectors.toSet());
+        IndexingCatchupTaskFactory.createCatchupTask(indexPartitionInfos, metadataWriter, completedInstants, metadataCompletedTimestamps,
+            table, metadataMetaClient, currentCaughtupInstant, txnManager, context, heartbeatClient).run();
+        completedInstants.forEach(instant -> caughtupInstants.add(instant.requestedTime()));
+        // tail the timeline for the instants that completed or started during this round
+        remainingInstants = getInstantsToCatchup(indexUptoInstant, table.getMetaClient()).stream()
+            .filter(instant -> !caughtupInstants.contains(instant.requestedTime()))
+            .collect(Collectors.toList());
+      }
+    } finally {
+      heartbeatClient.close();
+    }
+    log.info("Index catchup tailed the timeline in {} rounds, {} instants left to catch up", round, remainingInstants.size());
+    return remainingInstants;
+  }
+
   private static List<HoodieInstant> getRemainingArchivedAndActiveInstantsSince(String instant, HoodieTableMetaClient metaClient) {
     List<HoodieInstant> remainingInstantsToIndex = metaClient.getArchivedTimeline().getInstantsAsStream()
         .filter(i -> compareTimestamps(i.requestedTime(), GREATER_THAN_OR_EQUALS, instant))
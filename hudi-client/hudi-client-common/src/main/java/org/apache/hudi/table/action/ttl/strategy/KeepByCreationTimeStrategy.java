@@ -24,8 +24,9 @@ import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.table.HoodieTable;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * KeepByTimeStrategy will return expired partitions by their create time.
@@ -38,17 +39,17 @@ public class KeepByCreationTimeStrategy extends KeepByTimeStrategy {
 
   @Override
   protected List<String> getExpiredPartitionsForTimeStrategy(List<String> partitionPathsForTTL) {
+    if (partitionPathsForTTL.isEmpty()) {
+      return Collections.emptyList();
+    }
     HoodieTableMetaClient metaClient = hoodieTable.getMetaClient();
-    return partitionPathsForTTL.stream().parallel().filter(part -> {
+    int statsParallelism = Math.min(partitionPathsForTTL.size(), 200);
+    return hoodieTable.getContext().flatMap(partitionPathsForTTL, part -> {
       HoodiePartitionMetadata hoodiePartitionMetadata =
           new HoodiePartitionMetadata(metaClient.getStorage(), FSUtils.constructAbsolutePath(metaClient.getBasePath(), part));
       Option<String> instantOption = hoodiePartitionMetadata.readPartitionCreatedCommitTime();
-      if (instantOption.isPresent()) {
-        String instantTime = instantOption.get();
-        return isPartitionExpired(instantTime);
-      }
-      return false;
-    }).collect(Collectors.toList());
+      return instantOption.isPresent() && isPartitionExpired(instantOption.get()) ? Stream.of(part) : Stream.empty();
+    }, statsParallelism);
   }
 
 }
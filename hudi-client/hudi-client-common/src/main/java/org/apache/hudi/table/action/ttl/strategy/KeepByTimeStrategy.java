@@ -18,17 +18,26 @@
 
 package org.apache.hudi.table.action.ttl.strategy;
 
+import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.FileSlice;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.util.CollectionUtils;
 import org.apache.hudi.common.util.HoodieTimer;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.exception.HoodieIOException;
+import org.apache.hudi.metadata.HoodieTableMetadata;
+import org.apache.hudi.metadata.MetadataPartitionType;
+import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.storage.StoragePathInfo;
 import org.apache.hudi.table.HoodieTable;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -51,12 +60,7 @@ public class KeepByTimeStrategy extends PartitionTTLStrategy {
 
   @Override
   public List<String> getExpiredPartitionPaths() {
-    Option<HoodieInstant> lastCompletedInstant = hoodieTable.getActiveTimeline().filterCompletedInstants().lastInstant();
-    if (!lastCompletedInstant.isPresent() || ttlInMilis <= 0
-        || !hoodieTable.getMetaClient().getTableConfig().getPartitionFields().isPresent()) {
-      return Collections.emptyList();
-    }
-    List<String> expiredPartitions = getExpiredPartitionsForTimeStrategy(getPartitionPathsForTTL());
+    List<String> expiredPartitions = getAllExpiredPartitionPaths();
     int limit = writeConfig.getPartitionTTLMaxPartitionsToDelete();
     log.info("Total expired partitions count {}, limit {}", expiredPartitions.size(), limit);
     return expiredPartitions.stream()
@@ -64,6 +68,22 @@ public class KeepByTimeStrategy extends PartitionTTLStrategy {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public List<String> getAllExpiredPartitionPaths() {
+    Option<HoodieInstant> lastCompletedInstant = hoodieTable.getActiveTimeline().filterCompletedInstants().lastInstant();
+    if (!lastCompletedInstant.isPresent() || ttlInMilis <= 0
+        || !hoodieTable.getMetaClient().getTableConfig().getPartitionFields().isPresent()) {
+      return Collections.emptyList();
+    }
+    List<String> partitionsForTTL = getPartitionPathsForTTL();
+    HoodieTimer timer = HoodieTimer.start();
+    List<String> expiredPartitions = getExpiredPartitionsForTimeStrategy(partitionsForTTL);
+    long timeTakenMs = timer.endTimer();
+    log.info("Evaluated ttl of {} partitions in {} ms ({} partitions/s), {} expired",
+        partitionsForTTL.size(), timeTakenMs, partitionsForTTL.size() * 1000L / Math.max(timeTakenMs, 1), expiredPartitions.size());
+    return expiredPartitions;
+  }
+
   protected List<String> getExpiredPartitionsForTimeStrategy(List<String> partitionsForTTLManagement) {
     HoodieTimer timer = HoodieTimer.start();
     Map<String, Option<String>> lastCommitTimeForPartitions = getLastCommitTimeForPartitions(partitionsForTTLManagement);
@@ -80,6 +100,10 @@ public class KeepByTimeStrategy extends PartitionTTLStrategy {
    * @param partitionPaths Partitions to collect stats.
    */
   private Map<String, Option<String>> getLastCommitTimeForPartitions(List<String> partitionPaths) {
+    if (writeConfig.isPartitionTTLMetadataListingEnabled()
+        && hoodieTable.getMetaClient().getTableConfig().isMetadataPartitionAvailable(MetadataPartitionType.FILES)) {
+      return getLastCommitTimeForPartitionsFromMetadata(partitionPaths);
+    }
     int statsParallelism = Math.min(partitionPaths.size(), 200);
     return hoodieTable.getContext().map(partitionPaths, partitionPath -> {
       Option<String> partitionLastModifiedTime = hoodieTable.getHoodieView()
@@ -92,6 +116,39 @@ public class KeepByTimeStrategy extends PartitionTTLStrategy {
     }, statsParallelism).stream().collect(Collectors.toMap(Pair::getKey, Pair::getValue));
   }
 
+  /**
+   * Looks up the files of the partitions from the metadata table in batches and takes the latest instant time
+   * in the file names, so that no file system view needs to be built per partition.
+   *
+   * @param partitionPaths Partitions to collect stats.
+   */
+  private Map<String, Option<String>> getLastCommitTimeForPartitionsFromMetadata(List<String> partitionPaths) {
+    StoragePath basePath = hoodieTable.getMetaClient().getBasePath();
+    HoodieTableMetadata tableMetadata = hoodieTable.getTableMetadata();
+    Map<String, Option<String>> lastCommitTimeForPartitions = new HashMap<>();
+    for (List<String> batch : CollectionUtils.batches(partitionPaths, writeConfig.getPartitionTTLMetadataListingBatchSize())) {
+      List<String> absolutePartitionPaths = batch.stream()
+          .map(partitionPath -> FSUtils.constructAbsolutePath(basePath, partitionPath).toString())
+          .collect(Collectors.toList());
+      Map<String, List<StoragePathInfo>> partitionToFiles;
+      try {
+        partitionToFiles = tableMetadata.getAllFilesInPartitions(absolutePartitionPaths);
+      } catch (IOException e) {
+        throw new HoodieIOException("Failed to look up the files of partitions from the metadata table", e);
+      }
+      partitionToFiles.forEach((absolutePartitionPath, files) -> lastCommitTimeForPartitions.put(
+          FSUtils.getRelativePartitionPath(basePath, new StoragePath(absolutePartitionPath)),
+          files.stream()
+              .map(StoragePathInfo::getPath)
+              .filter(FSUtils::isDataFile)
+              .map(path -> FSUtils.getCommitTime(path.getName()))
+              .max(Comparator.naturalOrder())
+              .map(Option::of)
+              .orElse(Option.empty())));
+    }
+    return lastCommitTimeForPartitions;
+  }
+
   /**
    * Determines if a partition's reference time has exceeded its time-to-live (TTL).
    * <p>
@@ -53,6 +53,16 @@ public abstract class PartitionTTLStrategy implements TTLStrategy, Serializable
    */
   public abstract List<String> getExpiredPartitionPaths();
 
+  /**
+   * Get all the expired partition paths, without the limit on the number of partitions deleted by one replace commit,
+   * so that callers can delete them with several bounded replace commits.
+   *
+   * @return Expired partition paths.
+   */
+  public List<String> getAllExpiredPartitionPaths() {
+    return getExpiredPartitionPaths();
+  }
+
   /**
    * Scan and list all partitions for partition ttl management.
    *
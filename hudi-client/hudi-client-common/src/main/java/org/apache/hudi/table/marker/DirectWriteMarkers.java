@@ -25,6 +25,7 @@ import org.apache.hudi.common.model.IOType;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.marker.MarkerType;
 import org.apache.hudi.common.table.timeline.HoodieActiveTimeline;
+import org.apache.hudi.common.util.CollectionUtils;
 import org.apache.hudi.common.util.HoodieTimer;
 import org.apache.hudi.common.util.MarkerUtils;
 import org.apache.hudi.common.util.Option;
@@ -32,6 +33,7 @@ import org.apache.hudi.common.util.ReflectionUtils;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieException;
+import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.storage.HoodieStorage;
 import org.apache.hudi.storage.HoodieStorageUtils;
 import org.apache.hudi.storage.StorageConfiguration;
@@ -47,6 +49,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.apache.hudi.table.marker.ConflictDetectionUtils.getDefaultEarlyConflictDetectionStrategy;
 
@@ -77,13 +80,39 @@ public class DirectWriteMarkers extends WriteMarkers {
   }
 
   /**
-   * Deletes Marker directory corresponding to an instant.
+   * Deletes Marker directory corresponding to an instant. The marker files are listed with
+   * {@link #listMarkerFiles} and deleted in batches in parallel, one batch per task, before the directory itself
+   * is deleted.
    *
    * @param context     HoodieEngineContext.
    * @param parallelism parallelism for deletion.
    */
   public boolean deleteMarkerDir(HoodieEngineContext context, int parallelism) {
-    return FSUtils.deleteDir(context, storage, markerDirPath, parallelism);
+    try {
+      if (!doesMarkerDirExist()) {
+        return false;
+      }
+      List<String> markerFiles = listMarkerFiles(context, parallelism);
+      if (!markerFiles.isEmpty()) {
+        int numBatches = Math.max(Math.min(markerFiles.size(), parallelism), 1);
+        List<List<String>> batches = CollectionUtils.batchesAsStream(markerFiles, (markerFiles.size() + numBatches - 1) / numBatches)
+            .map(ArrayList::new)
+            .collect(Collectors.toList());
+        StorageConfiguration<?> storageConf = storage.getConf();
+        context.setJobStatus(this.getClass().getSimpleName(), "Deleting marker files");
+        context.foreach(batches, batch -> {
+          HoodieStorage storage = HoodieStorageUtils.getStorage(new StoragePath(batch.get(0)), storageConf);
+          for (String markerFile : batch) {
+            storage.deleteFile(new StoragePath(markerFile));
+          }
+        }, batches.size());
+      }
+      boolean result = storage.deleteDirectory(markerDirPath);
+      log.info("Removed directory at {}", markerDirPath);
+      return result;
+    } catch (IOException e) {
+      throw new HoodieIOException(e.getMessage(), e);
+    }
   }
 
   /**
@@ -150,6 +179,49 @@ public class DirectWriteMarkers extends WriteMarkers {
     return markerFiles;
   }
 
+  /**
+   * Lists the marker files in parallel, see {@link #listMarkerFiles}.
+   */
+  @Override
+  public Set<String> allMarkerFilePaths(HoodieEngineContext context, int parallelism) throws IOException {
+    Set<String> markerFiles = new HashSet<>();
+    if (doesMarkerDirExist()) {
+      listMarkerFiles(context, parallelism).forEach(markerFile ->
+          markerFiles.add(MarkerUtils.stripMarkerFolderPrefix(markerFile, basePath, instantTime)));
+    }
+    return markerFiles;
+  }
+
+  /**
+   * Lists the full paths of the marker files level by level, the directories of each level are listed in parallel,
+   * so that the listing of tables with many partitions, at any partition depth, does not add up on the driver.
+   */
+  private List<String> listMarkerFiles(HoodieEngineContext context, int parallelism) throws IOException {
+    List<String> markerFiles = new ArrayList<>();
+    List<StoragePathInfo> entries = storage.listDirectEntries(markerDirPath);
+    StorageConfiguration<?> storageConf = storage.getConf();
+    while (!entries.isEmpty()) {
+      List<String> directories = new ArrayList<>();
+      for (StoragePathInfo entry : entries) {
+        if (entry.isFile()) {
+          markerFiles.add(entry.getPath().toString());
+        } else {
+          directories.add(entry.getPath().toString());
+        }
+      }
+      if (directories.isEmpty()) {
+        break;
+      }
+      context.setJobStatus(this.getClass().getSimpleName(), "Obtaining all marker files");
+      entries = context.flatMap(directories, directory -> {
+        StoragePath path = new StoragePath(directory);
+        HoodieStorage storage = HoodieStorageUtils.getStorage(path, storageConf);
+        return storage.listDirectEntries(path).stream();
+      }, Math.max(Math.min(directories.size(), parallelism), 1));
+    }
+    return markerFiles;
+  }
+
   /**
    * Creates a marker file based on the full marker name excluding the base path and instant.
    *
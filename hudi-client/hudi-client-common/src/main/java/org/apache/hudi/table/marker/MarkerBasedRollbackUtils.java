@@ -69,7 +69,7 @@ public class MarkerBasedRollbackUtils {
     if (!markerTypeOption.isPresent()) {
       WriteMarkers writeMarkers = WriteMarkersFactory.get(DIRECT, table, instant);
       try {
-        return new ArrayList<>(writeMarkers.allMarkerFilePaths());
+        return new ArrayList<>(writeMarkers.allMarkerFilePaths(context, parallelism));
       } catch (IOException | IllegalArgumentException e) {
         log.warn("{} not present and {} marker failed with error: {}. Falling back to {} marker",
             MARKER_TYPE_FILENAME, DIRECT, e.getMessage(), TIMELINE_SERVER_BASED);
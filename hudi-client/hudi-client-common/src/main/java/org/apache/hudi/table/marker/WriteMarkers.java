@@ -232,6 +232,16 @@ public abstract class WriteMarkers implements Serializable {
    */
   public abstract Set<String> allMarkerFilePaths() throws IOException;
 
+  /**
+   * @param context {@code HoodieEngineContext} instance.
+   * @param parallelism parallelism for listing the marker files.
+   * @return all the marker paths
+   * @throws IOException
+   */
+  public Set<String> allMarkerFilePaths(HoodieEngineContext context, int parallelism) throws IOException {
+    return allMarkerFilePaths();
+  }
+
   /**
    * Creates a marker.
    *
@@ -99,6 +99,19 @@ public class TestBucketIdentifier {
         Arrays.asList(record.get(indexKeyField).toString()), 8);
   }
 
+  @Test
+  public void testBucketIdOfSingleValueKeyKeepsLayout() {
+    String[] recordKeys = {"key1", "", "a,b", "a:b", "2020-03-21 10:00:00", "中文"};
+    for (String recordKey : recordKeys) {
+      for (int numBuckets : new int[] {1, 8, 13, 256}) {
+        int expected = (Arrays.asList(KeyGenUtils.extractRecordKeysByFields(recordKey, Arrays.asList("_row_key"))).hashCode()
+            & Integer.MAX_VALUE) % numBuckets;
+        assertEquals(expected, BucketIdentifier.getBucketId(recordKey, "_row_key", numBuckets));
+        assertEquals(expected, BucketIdentifier.getBucketId(recordKey, Arrays.asList("_row_key"), numBuckets));
+      }
+    }
+  }
+
   @Test
   public void testGetHashKeys() {
     // if for recordKey one column only is used, then there is no added column name before value
@@ -39,7 +39,10 @@ import java.util.stream.Stream;
 
 import static org.apache.hudi.common.model.HoodieConsistentHashingMetadata.HASH_VALUE_MASK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -127,6 +130,36 @@ public class TestConsistentBucketIdIdentifier {
     assertEquals(nodes.get(0).getValue(), childNodes.get(1).getValue());
   }
 
+  @Test
+  public void testLazySplitBucket() {
+    HoodieConsistentHashingMetadata meta = new HoodieConsistentHashingMetadata("partition", 4);
+    List<ConsistentHashingNode> nodes = meta.getNodes();
+    ConsistentHashingNode parent = nodes.get(1);
+    ConsistentBucketIdentifier identifier = new ConsistentBucketIdentifier(meta);
+    assertFalse(identifier.hasLazilySplitBuckets());
+
+    List<ConsistentHashingNode> childNodes = identifier.lazySplitBucket(FSUtils.createNewFileId(parent.getFileIdPrefix(), 0)).get();
+    assertEquals(2, childNodes.size());
+    assertTrue(childNodes.stream().allMatch(c -> c.getTag() == ConsistentHashingNode.NodeTag.REPLACE));
+    assertTrue(childNodes.stream().allMatch(c -> parent.getFileIdPrefix().equals(c.getParentFileIdPrefix())));
+    assertEquals(parent.getValue(), childNodes.get(1).getValue());
+
+    // The children nodes take the place of the parent node, and keep referring to it
+    meta.setChildrenNodes(childNodes);
+    identifier = new ConsistentBucketIdentifier(meta);
+    assertEquals(5, identifier.getNumBuckets());
+    assertTrue(identifier.hasLazilySplitBuckets());
+    assertNull(identifier.getBucketByFileId(FSUtils.createNewFileId(parent.getFileIdPrefix(), 0)));
+    Map<String, List<ConsistentHashingNode>> lazySplits = identifier.getLazilySplitBuckets();
+    assertEquals(1, lazySplits.size());
+    assertEquals(childNodes.stream().map(ConsistentHashingNode::getFileIdPrefix).collect(Collectors.toList()),
+        lazySplits.get(parent.getFileIdPrefix()).stream().map(ConsistentHashingNode::getFileIdPrefix).collect(Collectors.toList()));
+
+    // A child bucket cannot be split again before the lazy split is finished
+    String childFileId = FSUtils.createNewFileId(childNodes.get(0).getFileIdPrefix(), 0);
+    assertThrows(IllegalStateException.class, () -> new ConsistentBucketIdentifier(meta).lazySplitBucket(childFileId));
+  }
+
   @Test
   public void testMerge() {
     HoodieConsistentHashingMetadata meta = new HoodieConsistentHashingMetadata("partition", 8);
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.io;
+
+import org.apache.hudi.common.bloom.BloomFilter;
+import org.apache.hudi.common.bloom.BloomFilterFactory;
+import org.apache.hudi.common.bloom.BloomFilterTypeCode;
+import org.apache.hudi.common.model.HoodieBaseFile;
+import org.apache.hudi.common.model.HoodieFileFormat;
+import org.apache.hudi.common.testutils.FileCreateUtilsLegacy;
+import org.apache.hudi.config.HoodieIndexConfig;
+import org.apache.hudi.config.HoodieWriteConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestBaseFileIndexInfoCache {
+
+  private BaseFileIndexInfoCache cache;
+
+  @BeforeEach
+  public void setup() {
+    cache = BaseFileIndexInfoCache.get(getConfig(16 * 1024 * 1024)).get();
+    cache.invalidateAll();
+  }
+
+  @Test
+  public void testDisabledWithoutMaxBytes() {
+    assertFalse(BaseFileIndexInfoCache.get(getConfig(0)).isPresent());
+  }
+
+  @Test
+  public void testReadOncePerBaseFile() throws IOException {
+    HoodieBaseFile baseFile = getBaseFile("f1", "001", 100);
+    BloomFilter bloomFilter = BloomFilterFactory.createBloomFilter(1000, 0.0001, -1, BloomFilterTypeCode.SIMPLE.name());
+    AtomicInteger numReads = new AtomicInteger();
+    for (int i = 0; i < 3; i++) {
+      assertSame(bloomFilter, cache.getBloomFilter(baseFile, () -> {
+        numReads.incrementAndGet();
+        return bloomFilter;
+      }));
+      assertArrayEquals(new String[] {"key1", "key9"}, cache.getMinMaxKeys(baseFile, () -> {
+        numReads.incrementAndGet();
+        return new String[] {"key1", "key9"};
+      }));
+    }
+    assertEquals(2, numReads.get());
+    assertEquals(4, cache.stats().hitCount());
+  }
+
+  @Test
+  public void testNewBaseFileVersionIsRead() throws IOException {
+    AtomicInteger numReads = new AtomicInteger();
+    BaseFileIndexInfoCache.Loader<String[]> loader = () -> {
+      numReads.incrementAndGet();
+      return new String[] {"key1", "key9"};
+    };
+    cache.getMinMaxKeys(getBaseFile("f1", "001", 100), loader);
+    // same file group, new version written by a later commit
+    cache.getMinMaxKeys(getBaseFile("f1", "002", 100), loader);
+    // same path with another size
+    cache.getMinMaxKeys(getBaseFile("f1", "002", 200), loader);
+    assertEquals(3, numReads.get());
+  }
+
+  @Test
+  public void testLoadFailureIsNotCached() throws IOException {
+    HoodieBaseFile baseFile = getBaseFile("f1", "001", 100);
+    IOException exception = assertThrows(IOException.class, () -> cache.getMinMaxKeys(baseFile, () -> {
+      throw new IOException("failed to read footer");
+    }));
+    assertEquals("failed to read footer", exception.getMessage());
+    assertArrayEquals(new String[] {"key1", "key9"}, cache.getMinMaxKeys(baseFile, () -> new String[] {"key1", "key9"}));
+    assertTrue(cache.stats().missCount() >= 2);
+  }
+
+  private static HoodieWriteConfig getConfig(long maxBytes) {
+    return HoodieWriteConfig.newBuilder().withPath("/tmp/base_file_index_info_cache")
+        .withIndexConfig(HoodieIndexConfig.newBuilder().bloomIndexFileInfoCacheMaxBytes(maxBytes).build())
+        .build();
+  }
+
+  private static HoodieBaseFile getBaseFile(String fileId, String instantTime, long fileSize) {
+    String fileName = FileCreateUtilsLegacy.baseFileName(instantTime, fileId, HoodieFileFormat.PARQUET.getFileExtension());
+    HoodieBaseFile baseFile = new HoodieBaseFile("/tmp/base_file_index_info_cache/2020/01/01/" + fileName);
+    baseFile.setFileLen(fileSize);
+    return baseFile;
+  }
+}
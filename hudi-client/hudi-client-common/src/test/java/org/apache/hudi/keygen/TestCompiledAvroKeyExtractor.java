@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.keygen;
+
+import org.apache.hudi.common.config.TypedProperties;
+import org.apache.hudi.common.model.HoodieKey;
+import org.apache.hudi.common.testutils.HoodieTestDataGenerator;
+import org.apache.hudi.exception.HoodieKeyException;
+import org.apache.hudi.keygen.constant.KeyGeneratorOptions;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link CompiledAvroKeyExtractor}.
+ */
+public class TestCompiledAvroKeyExtractor {
+
+  private static final Schema SCHEMA = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"rec\", \"fields\": ["
+      + "{\"name\": \"id\", \"type\": \"string\"},"
+      + "{\"name\": \"region\", \"type\": [\"null\", \"string\"], \"default\": null},"
+      + "{\"name\": \"dt\", \"type\": {\"type\": \"int\", \"logicalType\": \"date\"}},"
+      + "{\"name\": \"nested\", \"type\": [\"null\", {\"type\": \"record\", \"name\": \"nested\", \"fields\": ["
+      + "{\"name\": \"city\", \"type\": \"string\"}]}], \"default\": null}]}");
+
+  private static final Schema EVOLVED_SCHEMA = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"rec\", \"fields\": ["
+      + "{\"name\": \"extra\", \"type\": \"int\"},"
+      + "{\"name\": \"id\", \"type\": \"string\"},"
+      + "{\"name\": \"region\", \"type\": [\"null\", \"string\"], \"default\": null},"
+      + "{\"name\": \"dt\", \"type\": {\"type\": \"int\", \"logicalType\": \"date\"}},"
+      + "{\"name\": \"nested\", \"type\": [\"null\", {\"type\": \"record\", \"name\": \"nested\", \"fields\": ["
+      + "{\"name\": \"zip\", \"type\": \"int\"}, {\"name\": \"city\", \"type\": \"string\"}]}], \"default\": null}]}");
+
+  private static final List<String> FIELDS = Arrays.asList("id", "region", "dt", "nested.city");
+
+  @ParameterizedTest
+  @CsvSource(value = {"false,false", "true,false", "false,true", "true,true"})
+  void testSameKeysAsKeyGenUtils(boolean hiveStylePartitioning, boolean encodePartitionPath) {
+    CompiledAvroKeyExtractor extractor = new CompiledAvroKeyExtractor(FIELDS, false);
+    List<GenericRecord> records = Arrays.asList(
+        createRecord("key1", "us/west", 18000, "san francisco"),
+        createRecord("key2", null, 18001, null),
+        createRecord("key3", "", 18002, "new york"),
+        createEvolvedRecord("key4", "eu", 18003, "paris"),
+        createRecord("key5", "us/west", 18004, "seattle"));
+    for (GenericRecord record : records) {
+      assertSameResult(() -> KeyGenUtils.getRecordKey(record, FIELDS, false), () -> extractor.getRecordKey(record));
+      assertEquals(KeyGenUtils.getRecordPartitionPath(record, FIELDS, hiveStylePartitioning, encodePartitionPath, false),
+          extractor.getPartitionPath(record, hiveStylePartitioning, encodePartitionPath));
+      for (int i = 0; i < FIELDS.size(); i++) {
+        CompiledAvroKeyExtractor singleFieldExtractor = new CompiledAvroKeyExtractor(Collections.singletonList(FIELDS.get(i)), false);
+        assertEquals(KeyGenUtils.getPartitionPath(record, FIELDS.get(i), hiveStylePartitioning, encodePartitionPath, false),
+            singleFieldExtractor.getSingleFieldPartitionPath(record, hiveStylePartitioning, encodePartitionPath));
+      }
+    }
+  }
+
+  @Test
+  void testMissingFields() {
+    GenericRecord record = createRecord("key1", "us", 18000, null);
+    List<String> fields = Arrays.asList("id", "unknown");
+    CompiledAvroKeyExtractor extractor = new CompiledAvroKeyExtractor(fields, false);
+    HoodieKeyException expected = assertThrows(HoodieKeyException.class, () -> KeyGenUtils.getRecordKey(record, fields, false));
+    HoodieKeyException actual = assertThrows(HoodieKeyException.class, () -> extractor.getRecordKey(record));
+    assertEquals(expected.getMessage(), actual.getMessage());
+    assertEquals(KeyGenUtils.getRecordPartitionPath(record, fields, true, true, false), extractor.getPartitionPath(record, true, true));
+
+    CompiledAvroKeyExtractor nullKeyExtractor = new CompiledAvroKeyExtractor(Collections.singletonList("region"), false);
+    GenericRecord recordWithNullKey = createRecord("key1", null, 18000, null);
+    expected = assertThrows(HoodieKeyException.class, () -> KeyGenUtils.getRecordKey(recordWithNullKey, "region", false));
+    actual = assertThrows(HoodieKeyException.class, () -> nullKeyExtractor.getSingleFieldRecordKey(recordWithNullKey));
+    assertEquals(expected.getMessage(), actual.getMessage());
+  }
+
+  @ParameterizedTest
+  @CsvSource(value = {"false", "true"})
+  void testKeyGeneratorsWithCompiledFieldExtraction(boolean hiveStylePartitioning) {
+    TypedProperties props = new TypedProperties();
+    props.setProperty(KeyGeneratorOptions.HIVE_STYLE_PARTITIONING_ENABLE.key(), String.valueOf(hiveStylePartitioning));
+    props.setProperty(KeyGeneratorOptions.URL_ENCODE_PARTITIONING.key(), "true");
+    TypedProperties compiledProps = new TypedProperties();
+    compiledProps.putAll(props);
+    compiledProps.setProperty(KeyGeneratorOptions.KEYGENERATOR_COMPILED_FIELD_EXTRACTION_ENABLED.key(), "true");
+
+    props.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), "_row_key");
+    props.setProperty(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key(), "partition_path");
+    compiledProps.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), "_row_key");
+    compiledProps.setProperty(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key(), "partition_path");
+    assertSameKeys(new SimpleAvroKeyGenerator(props), new SimpleAvroKeyGenerator(compiledProps));
+
+    props.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), "_row_key,fare.currency");
+    props.setProperty(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key(), "rider,fare.currency");
+    compiledProps.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), "_row_key,fare.currency");
+    compiledProps.setProperty(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key(), "rider,fare.currency");
+    assertSameKeys(new ComplexAvroKeyGenerator(props), new ComplexAvroKeyGenerator(compiledProps));
+  }
+
+  private static void assertSameResult(Supplier<String> expected, Supplier<String> actual) {
+    String expectedResult;
+    try {
+      expectedResult = expected.get();
+    } catch (HoodieKeyException e) {
+      HoodieKeyException actualException = assertThrows(HoodieKeyException.class, actual::get);
+      assertEquals(e.getMessage(), actualException.getMessage());
+      return;
+    }
+    assertEquals(expectedResult, actual.get());
+  }
+
+  private static void assertSameKeys(BaseKeyGenerator keyGenerator, BaseKeyGenerator compiledKeyGenerator) {
+    HoodieTestDataGenerator dataGenerator = new HoodieTestDataGenerator();
+    for (GenericRecord record : dataGenerator.generateGenericRecords(10)) {
+      HoodieKey expected = keyGenerator.getKey(record);
+      HoodieKey actual = compiledKeyGenerator.getKey(record);
+      assertEquals(expected.getRecordKey(), actual.getRecordKey());
+      assertEquals(expected.getPartitionPath(), actual.getPartitionPath());
+    }
+  }
+
+  private static GenericRecord createRecord(String id, String region, int dt, String city) {
+    GenericRecord record = new GenericData.Record(SCHEMA);
+    record.put("id", id);
+    record.put("region", region);
+    record.put("dt", dt);
+    if (city != null) {
+      GenericRecord nested = new GenericData.Record(SCHEMA.getField("nested").schema().getTypes().get(1));
+      nested.put("city", city);
+      record.put("nested", nested);
+    }
+    return record;
+  }
+
+  private static GenericRecord createEvolvedRecord(String id, String region, int dt, String city) {
+    GenericRecord record = new GenericData.Record(EVOLVED_SCHEMA);
+    record.put("extra", 1);
+    record.put("id", id);
+    record.put("region", region);
+    record.put("dt", dt);
+    GenericRecord nested = new GenericData.Record(EVOLVED_SCHEMA.getField("nested").schema().getTypes().get(1));
+    nested.put("zip", 94105);
+    nested.put("city", city);
+    record.put("nested", nested);
+    return record;
+  }
+}
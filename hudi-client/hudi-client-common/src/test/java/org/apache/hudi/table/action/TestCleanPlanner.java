@@ -27,6 +27,7 @@ import org.apache.hudi.avro.model.HoodieSavepointMetadata;
 import org.apache.hudi.avro.model.HoodieSavepointPartitionMetadata;
 import org.apache.hudi.common.engine.HoodieEngineContext;
 import org.apache.hudi.common.engine.HoodieLocalEngineContext;
+import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.CleanFileInfo;
 import org.apache.hudi.common.model.HoodieBaseFile;
 import org.apache.hudi.common.model.HoodieCleaningPolicy;
@@ -42,7 +43,10 @@ import org.apache.hudi.common.table.timeline.HoodieInstantReader;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.table.timeline.TimelineLayout;
 import org.apache.hudi.common.table.timeline.versioning.v2.BaseTimelineV2;
+import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
 import org.apache.hudi.common.table.view.SyncableFileSystemView;
+import org.apache.hudi.common.testutils.HoodieTestTable;
+import org.apache.hudi.common.testutils.HoodieTestUtils;
 import org.apache.hudi.common.util.ClusteringUtils;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.StringUtils;
@@ -52,15 +56,20 @@ import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.metadata.HoodieTableMetadata;
 import org.apache.hudi.storage.HoodieStorage;
 import org.apache.hudi.storage.StorageConfiguration;
+import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.storage.StoragePathInfo;
 import org.apache.hudi.table.HoodieTable;
 import org.apache.hudi.table.action.clean.CleanPlanner;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -81,7 +90,11 @@ import static org.apache.hudi.common.testutils.HoodieTestUtils.getDefaultStorage
 import static org.apache.hudi.common.util.CleanerUtils.CLEAN_METADATA_VERSION_2;
 import static org.apache.hudi.common.util.CleanerUtils.SAVEPOINTED_TIMESTAMPS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TestCleanPlanner {
@@ -213,6 +226,146 @@ public class TestCleanPlanner {
     assertEquals(expectedPartitions, partitionsToClean);
   }
 
+  @Test
+  void testPartitionsForIncrCleaningWithSupersededFileSlices() throws IOException {
+    HoodieWriteConfig config = HoodieWriteConfig.newBuilder().withPath("/tmp")
+        .withCleanConfig(HoodieCleanConfig.newBuilder()
+            .withIncrementalCleaningMode(true)
+            .withSupersededFileSlicesCleaningMode(true)
+            .withCleanerPolicy(HoodieCleaningPolicy.KEEP_LATEST_COMMITS)
+            .retainCommits(1)
+            .build())
+        .build();
+    HoodieActiveTimeline activeTimeline = mock(HoodieActiveTimeline.class);
+    when(mockHoodieTable.getActiveTimeline()).thenReturn(activeTimeline);
+    when(mockHoodieTable.getSavepointTimestamps()).thenReturn(Collections.emptySet());
+    when(mockHoodieTable.getInstantGenerator()).thenReturn(INSTANT_GENERATOR);
+
+    String lastCleanInstant = "20231214194245000";
+    String earliestInstantInLastClean = "20231214184245000";
+    HoodieCleanMetadata cleanMetadata = getCleanCommitMetadata(Collections.singletonList(PARTITION1), lastCleanInstant,
+        earliestInstantInLastClean, lastCleanInstant, Collections.emptySet(), Option.empty());
+    mockLastCleanCommit(mockHoodieTable, lastCleanInstant, earliestInstantInLastClean, activeTimeline, cleanMetadata, Collections.emptySet());
+    String commitTime = "20231214194345000";
+    mockFewActiveInstants(mockHoodieTable, activeTimeline, Collections.singletonMap(commitTime, Arrays.asList(PARTITION1, PARTITION2)),
+        Collections.emptyMap(), false, Collections.emptyList());
+
+    // partition1 has an update superseding a file slice, partition2 only has inserts
+    HoodieCommitMetadata commitMetadata = new HoodieCommitMetadata();
+    HoodieWriteStat updateStat = new HoodieWriteStat();
+    updateStat.setFileId("file1");
+    updateStat.setPath(PARTITION1 + "/file1_1-0-1_" + commitTime + ".parquet");
+    updateStat.setPrevCommit(earliestInstantInLastClean);
+    commitMetadata.addWriteStat(PARTITION1, updateStat);
+    HoodieWriteStat insertStat = new HoodieWriteStat();
+    insertStat.setFileId("file2");
+    insertStat.setPath(PARTITION2 + "/file2_1-0-1_" + commitTime + ".parquet");
+    insertStat.setPrevCommit(HoodieWriteStat.NULL_COMMIT);
+    commitMetadata.addWriteStat(PARTITION2, insertStat);
+    when(activeTimeline.readCommitMetadata(INSTANT_GENERATOR.createNewInstant(COMPLETED, HoodieTimeline.COMMIT_ACTION, commitTime)))
+        .thenReturn(commitMetadata);
+
+    CleanPlanner<?, ?, ?, ?> cleanPlanner = new CleanPlanner<>(context, mockHoodieTable, config);
+    HoodieInstant earliestCommitToRetain = INSTANT_GENERATOR.createNewInstant(COMPLETED, HoodieTimeline.COMMIT_ACTION, "20231214194445000");
+    assertEquals(Collections.singletonList(PARTITION1), cleanPlanner.getPartitionPathsToClean(Option.of(earliestCommitToRetain)));
+    assertFalse(cleanPlanner.requiresFileSystemView(PARTITION1));
+  }
+
+  @Test
+  void testDeletePathsInSupersededFileGroups(@TempDir Path tempDir) throws Exception {
+    HoodieWriteConfig config = HoodieWriteConfig.newBuilder().withPath("/tmp")
+        .withCleanConfig(HoodieCleanConfig.newBuilder()
+            .withIncrementalCleaningMode(true)
+            .withSupersededFileSlicesCleaningMode(true)
+            .withCleanerPolicy(HoodieCleaningPolicy.KEEP_LATEST_COMMITS)
+            .retainCommits(1)
+            .build())
+        .build();
+    HoodieActiveTimeline activeTimeline = mock(HoodieActiveTimeline.class);
+    when(mockHoodieTable.getActiveTimeline()).thenReturn(activeTimeline);
+    when(mockHoodieTable.getInstantGenerator()).thenReturn(INSTANT_GENERATOR);
+
+    String instant0 = "20231214170000000";
+    String instant1 = "20231214175000000";
+    String instant2 = "20231214180000000";
+    String instant3 = "20231214194345000";
+    String instant4 = "20231214194445000";
+    String savepointInstant = "20231214176000000";
+    String lastCleanInstant = "20231214194245000";
+    String earliestInstantInLastClean = "20231214184245000";
+    HoodieCleanMetadata cleanMetadata = getCleanCommitMetadata(Collections.singletonList(PARTITION1), lastCleanInstant,
+        earliestInstantInLastClean, lastCleanInstant, Collections.emptySet(), Option.empty());
+    mockLastCleanCommit(mockHoodieTable, lastCleanInstant, earliestInstantInLastClean, activeTimeline, cleanMetadata, Collections.emptySet());
+    Map<String, List<String>> activeInstants = new HashMap<>();
+    Arrays.asList(instant0, instant1, instant2, instant3, instant4).forEach(instant -> activeInstants.put(instant, Collections.singletonList(PARTITION1)));
+    mockFewActiveInstants(mockHoodieTable, activeTimeline, activeInstants, Collections.emptyMap(), false, Collections.emptyList());
+
+    // file1 and file3 get a new base file in instant3, file2 is not touched since the last clean
+    HoodieCommitMetadata commitMetadata = new HoodieCommitMetadata();
+    for (String fileId : Arrays.asList("file1", "file3")) {
+      HoodieWriteStat updateStat = new HoodieWriteStat();
+      updateStat.setFileId(fileId);
+      updateStat.setPath(PARTITION1 + "/" + baseFileName(fileId, instant3));
+      updateStat.setPrevCommit(instant2);
+      commitMetadata.addWriteStat(PARTITION1, updateStat);
+    }
+    when(activeTimeline.readCommitMetadata(INSTANT_GENERATOR.createNewInstant(COMPLETED, HoodieTimeline.COMMIT_ACTION, instant3)))
+        .thenReturn(commitMetadata);
+
+    // the oldest base file of file3 is savepointed
+    when(mockHoodieTable.getSavepointTimestamps()).thenReturn(Collections.singleton(savepointInstant));
+    Map<String, HoodieSavepointPartitionMetadata> savepointPartitionMetadata = Collections.singletonMap(PARTITION1,
+        new HoodieSavepointPartitionMetadata(PARTITION1, Collections.singletonList(baseFileName("file3", instant0))));
+    when(activeTimeline.readSavepointMetadata(INSTANT_GENERATOR.createNewInstant(COMPLETED, HoodieTimeline.SAVEPOINT_ACTION, savepointInstant)))
+        .thenReturn(new HoodieSavepointMetadata("user", 1L, "comments", savepointPartitionMetadata, 1));
+
+    // the file groups are loaded into a file-system view over the completed commits of a real table
+    HoodieTableMetaClient metaClient = HoodieTestUtils.init(tempDir.toString());
+    HoodieTestTable testTable = HoodieTestTable.of(metaClient);
+    for (String instant : Arrays.asList(instant0, instant1, instant2, instant3, instant4)) {
+      testTable.addCommit(instant);
+    }
+    when(mockHoodieTable.getMetaClient()).thenReturn(metaClient);
+    StoragePath partitionPath = new StoragePath(metaClient.getBasePath(), PARTITION1);
+    List<StoragePathInfo> partitionFiles = Stream.of(
+            Pair.of("file1", instant0), Pair.of("file1", instant2), Pair.of("file1", instant3), Pair.of("file1", instant4),
+            Pair.of("file2", instant0), Pair.of("file2", instant1),
+            Pair.of("file3", instant0), Pair.of("file3", instant1), Pair.of("file3", instant3))
+        .map(file -> new StoragePathInfo(new StoragePath(partitionPath, baseFileName(file.getLeft(), file.getRight())), 100, false, (short) 1, 1024, 0))
+        .collect(Collectors.toList());
+    HoodieTableFileSystemView fsView = new HoodieTableFileSystemView(metaClient,
+        metaClient.reloadActiveTimeline().filterCompletedAndCompactionInstants(), partitionFiles);
+    when(mockHoodieTable.getHoodieView()).thenReturn(fsView);
+
+    CleanPlanner<?, ?, ?, ?> cleanPlanner = new CleanPlanner<>(context, mockHoodieTable, config);
+    Option<HoodieInstant> earliestCommitToRetain = Option.of(INSTANT_GENERATOR.createNewInstant(COMPLETED, HoodieTimeline.COMMIT_ACTION, instant4));
+    assertEquals(Collections.singletonList(PARTITION1), cleanPlanner.getPartitionPathsToClean(earliestCommitToRetain));
+    assertFalse(cleanPlanner.requiresFileSystemView(PARTITION1));
+
+    // - file1: the latest version and the latest version before the earliest commit to retain are kept
+    // - file2: not superseded since the last clean, so not planned
+    // - file3: the oldest version is savepointed, the latest version is kept
+    Pair<Boolean, List<CleanFileInfo>> deletePaths = cleanPlanner.getDeletePaths(PARTITION1, earliestCommitToRetain);
+    assertFalse(deletePaths.getLeft());
+    List<String> expectedDeletePaths = Stream.of(
+            baseFileName("file1", instant0), baseFileName("file1", instant2), baseFileName("file3", instant1))
+        .map(fileName -> new StoragePath(partitionPath, fileName).toString())
+        .sorted()
+        .collect(Collectors.toList());
+    assertEquals(expectedDeletePaths, deletePaths.getRight().stream()
+        .map(CleanFileInfo::getFilePath)
+        .sorted()
+        .collect(Collectors.toList()));
+    // the savepointed files are read once for all the partitions
+    assertEquals(deletePaths, cleanPlanner.getDeletePaths(PARTITION1, earliestCommitToRetain));
+    verify(activeTimeline, times(1)).readSavepointMetadata(any());
+    fsView.close();
+  }
+
+  private static String baseFileName(String fileId, String instantTime) {
+    return FSUtils.makeBaseFileName(instantTime, "1-0-1", fileId, ".parquet");
+  }
+
   static Stream<Arguments> testCases() {
     return Stream.concat(keepLatestByHoursOrCommitsArgs(), keepLatestVersionsArgs());
   }
@@ -60,7 +60,7 @@ public class FlinkLazyInsertIterable<T> extends HoodieLazyInsertIterable<T> {
     // Executor service used for launching writer thread.
     HoodieExecutor<List<WriteStatus>> executor = null;
     try {
-      Schema schema = AvroSchemaCache.intern(new Schema.Parser().parse(hoodieConfig.getSchema()));
+      Schema schema = AvroSchemaCache.parse(hoodieConfig.getSchema());
       executor = ExecutorFactory.create(hoodieConfig, inputItr, getExplicitInsertHandler(),
           getTransformer(schema, hoodieConfig));
       final List<WriteStatus> result = executor.execute();
@@ -78,8 +78,8 @@ public class HoodieFlinkParquetDataBlock extends HoodieParquetDataBlock implemen
     paramsMap.put(PARQUET_COMPRESSION_CODEC_NAME.key(), compressionCodecName.get());
     paramsMap.put(PARQUET_COMPRESSION_RATIO_FRACTION.key(), String.valueOf(expectedCompressionRatio.get()));
     paramsMap.put(PARQUET_DICTIONARY_ENABLED.key(), String.valueOf(useDictionaryEncoding.get()));
-    HoodieSchema writerSchema = HoodieSchemaCache.intern(HoodieSchema.parse(
-        super.getLogBlockHeader().get(HoodieLogBlock.HeaderMetadataType.SCHEMA)));
+    HoodieSchema writerSchema = HoodieSchemaCache.parse(
+        super.getLogBlockHeader().get(HoodieLogBlock.HeaderMetadataType.SCHEMA));
 
     Pair<ByteArrayOutputStream, Object> result =
         HoodieIOFactory.getIOFactory(storage).getFileFormatUtils(PARQUET)
@@ -23,6 +23,7 @@ import org.apache.hudi.avro.model.HoodieClusteringGroup;
 import org.apache.hudi.avro.model.HoodieClusteringPlan;
 import org.apache.hudi.client.WriteStatus;
 import org.apache.hudi.client.common.JavaTaskContextSupplier;
+import org.apache.hudi.client.common.JavaWorkStealingExecutor;
 import org.apache.hudi.client.utils.LazyConcatenatingIterator;
 import org.apache.hudi.common.data.HoodieData;
 import org.apache.hudi.common.data.HoodieListData;
@@ -69,13 +70,18 @@ public abstract class JavaExecutionStrategy<T>
   @Override
   public HoodieWriteMetadata<HoodieData<WriteStatus>> performClustering(
       HoodieClusteringPlan clusteringPlan, HoodieSchema schema, String instantTime) {
-    // execute clustering for each group and collect WriteStatus
-    List<WriteStatus> writeStatusList = new ArrayList<>();
-    clusteringPlan.getInputGroups().forEach(
-        inputGroup -> writeStatusList.addAll(runClusteringForGroup(
+    // execute clustering for each group and collect WriteStatus, the groups running concurrently
+    // share the memory budget of a single compaction
+    int parallelism = getWriteConfig().getJavaTableServiceExecutionParallelism();
+    int concurrency = Math.min(parallelism, clusteringPlan.getInputGroups().size());
+    long maxMemoryPerCompaction = IOUtils.getMaxMemoryPerConcurrentCompaction(new JavaTaskContextSupplier(), getWriteConfig(), concurrency);
+    log.info("MaxMemoryPerCompaction run as part of clustering => {}, concurrent clustering groups => {}", maxMemoryPerCompaction, concurrency);
+    List<WriteStatus> writeStatusList = JavaWorkStealingExecutor.map(clusteringPlan.getInputGroups(),
+        inputGroup -> runClusteringForGroup(
             inputGroup, clusteringPlan.getStrategy().getStrategyParams(),
             Option.ofNullable(clusteringPlan.getPreserveHoodieMetadata()).orElse(true),
-            instantTime)));
+            instantTime, maxMemoryPerCompaction), parallelism, "hoodie-java-clustering")
+        .stream().flatMap(List::stream).collect(Collectors.toList());
     HoodieWriteMetadata<HoodieData<WriteStatus>> writeMetadata = new HoodieWriteMetadata<>();
     writeMetadata.setWriteStatuses(HoodieListData.eager(writeStatusList));
     return writeMetadata;
@@ -122,8 +128,8 @@ public abstract class JavaExecutionStrategy<T>
    */
   private List<WriteStatus> runClusteringForGroup(
       HoodieClusteringGroup clusteringGroup, Map<String, String> strategyParams,
-      boolean preserveHoodieMetadata, String instantTime) {
-    List<HoodieRecord<T>> inputRecords = readRecordsForGroup(clusteringGroup, instantTime);
+      boolean preserveHoodieMetadata, String instantTime, long maxMemoryPerCompaction) {
+    List<HoodieRecord<T>> inputRecords = readRecordsForGroup(clusteringGroup, instantTime, maxMemoryPerCompaction);
     HoodieSchema readerSchema = HoodieSchemaUtils.addMetadataFields(HoodieSchema.parse(getWriteConfig().getSchema()));
     List<HoodieFileGroupId> inputFileIds = clusteringGroup.getSlices().stream()
         .map(info -> new HoodieFileGroupId(info.getPartitionPath(), info.getFileId()))
@@ -135,12 +141,9 @@ public abstract class JavaExecutionStrategy<T>
    * Get a list of all records for the group. This includes all records from file slice
    * (Apply updates from log files, if any).
    */
-  private List<HoodieRecord<T>> readRecordsForGroup(HoodieClusteringGroup clusteringGroup, String instantTime) {
+  private List<HoodieRecord<T>> readRecordsForGroup(HoodieClusteringGroup clusteringGroup, String instantTime, long maxMemoryPerCompaction) {
     List<ClusteringOperation> clusteringOps = clusteringGroup.getSlices().stream().map(ClusteringOperation::create).collect(Collectors.toList());
-    HoodieWriteConfig config = getWriteConfig();
     List<HoodieRecord<T>> records = new ArrayList<>();
-    long maxMemoryPerCompaction = IOUtils.getMaxMemoryPerCompaction(new JavaTaskContextSupplier(), config);
-    log.info("MaxMemoryPerCompaction run as part of clustering => {}", maxMemoryPerCompaction);
 
     List<Supplier<ClosableIterator<HoodieRecord<T>>>> suppliers = new ArrayList<>(clusteringOps.size());
     clusteringOps.forEach(op -> suppliers.add(() -> getRecordIterator(getEngineContext().getReaderContextFactory(getHoodieTable().getMetaClient()), op, instantTime, maxMemoryPerCompaction)));
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.common;
+
+import org.apache.hudi.common.function.SerializableFunction;
+import org.apache.hudi.exception.HoodieException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.apache.hudi.common.function.FunctionWrapper.throwingMapWrapper;
+
+/**
+ * Executes the table service tasks of the Java engine, e.g. the file slices of a compaction plan or the input
+ * groups of a clustering plan, on a dedicated work-stealing pool.
+ *
+ * <p>Every element is submitted as its own task, so that idle threads pick up the remaining elements as soon as
+ * they are done instead of waiting on a statically split range of the input, which matters since the cost of
+ * compacting or clustering file groups is usually skewed.
+ */
+@Slf4j
+public class JavaWorkStealingExecutor {
+
+  private JavaWorkStealingExecutor() {
+  }
+
+  /**
+   * Applies the function to each element of the data with up to {@code parallelism} threads.
+   *
+   * @return the results, in the order of the data.
+   */
+  public static <I, O> List<O> map(List<I> data, SerializableFunction<I, O> func, int parallelism, String threadNamePrefix) {
+    int numThreads = Math.min(parallelism, data.size());
+    if (numThreads <= 1) {
+      return data.stream().map(throwingMapWrapper(func)).collect(Collectors.toList());
+    }
+    log.info("Executing {} tasks with {} threads", data.size(), numThreads);
+    AtomicInteger threadNum = new AtomicInteger();
+    ForkJoinPool pool = new ForkJoinPool(numThreads, forkJoinPool -> {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+      thread.setName(threadNamePrefix + "-" + threadNum.getAndIncrement());
+      return thread;
+    }, null, false);
+    try {
+      List<Callable<O>> tasks = data.stream().<Callable<O>>map(element -> () -> func.apply(element)).collect(Collectors.toList());
+      List<O> results = new ArrayList<>(data.size());
+      for (Future<O> future : pool.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HoodieException("Interrupted while executing tasks on " + threadNamePrefix, e);
+    } catch (ExecutionException e) {
+      throw new HoodieException("Failed to execute tasks on " + threadNamePrefix, e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+}
@@ -19,8 +19,10 @@
 package org.apache.hudi.metadata;
 
 import org.apache.hudi.common.model.HoodieRecord;
+import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.table.BulkInsertPartitioner;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -28,20 +30,47 @@ import java.util.List;
  * A {@code BulkInsertPartitioner} implementation for Metadata Table to improve performance of initialization of metadata
  * table partition when a very large number of records are inserted.
  *
+ * <p>The records are bucketed by their file group and only sorted within each file group, so that every file group
+ * of the partition is written with its own base file. This partitioner requires the records to be already tagged
+ * with location.
+ *
  * @param <T> HoodieRecordPayload type
  */
 public class JavaHoodieMetadataBulkInsertPartitioner<T>
     implements BulkInsertPartitioner<List<HoodieRecord<T>>> {
-  private String fileId = null;
+  private final MetadataTableFileGroupIndexParser fileGroupIndexParser;
+  // Start offset in the repartitioned records and file ID prefix of each non-empty file group, in file group index order
+  private final List<Pair<Integer, String>> fileGroupOffsets = new ArrayList<>();
+
+  public JavaHoodieMetadataBulkInsertPartitioner(MetadataTableFileGroupIndexParser fileGroupIndexParser) {
+    this.fileGroupIndexParser = fileGroupIndexParser;
+  }
 
   @Override
   public List<HoodieRecord<T>> repartitionRecords(List<HoodieRecord<T>> records, int outputPartitions) {
+    fileGroupOffsets.clear();
     if (records.isEmpty()) {
       return records;
     }
-    records.sort(Comparator.comparing(record -> record.getKey().getRecordKey()));
-    fileId = HoodieTableMetadataUtil.getFileGroupPrefix(records.get(0).getCurrentLocation().getFileId());
-    return records;
+    List<List<HoodieRecord<T>>> fileGroupRecords = new ArrayList<>(fileGroupIndexParser.getNumberOfFileGroups());
+    for (int i = 0; i < fileGroupIndexParser.getNumberOfFileGroups(); i++) {
+      fileGroupRecords.add(new ArrayList<>());
+    }
+    for (HoodieRecord<T> record : records) {
+      fileGroupRecords.get(fileGroupIndexParser.getFileGroupIndex(record.getCurrentLocation().getFileId())).add(record);
+    }
+
+    List<HoodieRecord<T>> partitionedRecords = new ArrayList<>(records.size());
+    for (List<HoodieRecord<T>> recordsOfFileGroup : fileGroupRecords) {
+      if (recordsOfFileGroup.isEmpty()) {
+        continue;
+      }
+      recordsOfFileGroup.sort(Comparator.comparing(HoodieRecord::getRecordKey));
+      fileGroupOffsets.add(Pair.of(partitionedRecords.size(),
+          HoodieTableMetadataUtil.getFileGroupPrefix(recordsOfFileGroup.get(0).getCurrentLocation().getFileId())));
+      partitionedRecords.addAll(recordsOfFileGroup);
+    }
+    return partitionedRecords;
   }
 
   @Override
@@ -49,8 +78,22 @@ public class JavaHoodieMetadataBulkInsertPartitioner<T>
     return true;
   }
 
+  /**
+   * @return the number of file groups with records, after {@link #repartitionRecords}.
+   */
+  public int getNumFileGroups() {
+    return fileGroupOffsets.size();
+  }
+
+  /**
+   * @return the offset of the first record of the {@code partitionId}-th non-empty file group in the repartitioned records.
+   */
+  public int getFileGroupStartOffset(int partitionId) {
+    return fileGroupOffsets.get(partitionId).getKey();
+  }
+
   @Override
   public String getFileIdPfx(int partitionId) {
-    return fileId == null ? BulkInsertPartitioner.super.getFileIdPfx(partitionId) : fileId;
+    return fileGroupOffsets.isEmpty() ? BulkInsertPartitioner.super.getFileIdPfx(partitionId) : fileGroupOffsets.get(partitionId).getValue();
   }
 }
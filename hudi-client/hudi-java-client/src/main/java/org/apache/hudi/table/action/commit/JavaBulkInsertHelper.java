@@ -35,6 +35,8 @@ import org.apache.hudi.table.FileIdPrefixProvider;
 import org.apache.hudi.table.HoodieTable;
 import org.apache.hudi.table.action.HoodieWriteMetadata;
 
+import lombok.extern.slf4j.Slf4j;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,6 +45,7 @@ import java.util.List;
  *
  * @param <T>
  */
+@Slf4j
 @SuppressWarnings("checkstyle:LineLength")
 public class JavaBulkInsertHelper<T, R> extends BaseBulkInsertHelper<T, List<HoodieRecord<T>>,
     List<HoodieKey>, List<WriteStatus>, R> {
@@ -111,17 +114,29 @@ public class JavaBulkInsertHelper<T, R> extends BaseBulkInsertHelper<T, List<Hoo
     final List<HoodieRecord<T>> repartitionedRecords =
         (List<HoodieRecord<T>>) partitioner.repartitionRecords(dedupedRecords, targetParallelism);
 
-    String fileIdPrefix;
+    List<WriteStatus> writeStatuses = new ArrayList<>();
+
     if (partitioner instanceof JavaHoodieMetadataBulkInsertPartitioner) {
-      fileIdPrefix = partitioner.getFileIdPfx(0);
-    } else {
-      FileIdPrefixProvider fileIdPrefixProvider = (FileIdPrefixProvider) ReflectionUtils.loadClass(
-          config.getFileIdPrefixProviderClassName(),
-          config.getProps());
-      fileIdPrefix = fileIdPrefixProvider.createFilePrefix("");
+      // Each metadata table file group is written with its own sorted run of records
+      JavaHoodieMetadataBulkInsertPartitioner metadataPartitioner = (JavaHoodieMetadataBulkInsertPartitioner) partitioner;
+      int numFileGroups = metadataPartitioner.getNumFileGroups();
+      for (int i = 0; i < numFileGroups; i++) {
+        // A new handle factory per file group, so that the file ID of every file group keeps the same suffix
+        WriteHandleFactory fileGroupHandleFactory = new CreateHandleFactory(false);
+        int start = metadataPartitioner.getFileGroupStartOffset(i);
+        int end = i + 1 < numFileGroups ? metadataPartitioner.getFileGroupStartOffset(i + 1) : repartitionedRecords.size();
+        new JavaLazyInsertIterable<>(repartitionedRecords.subList(start, end).iterator(), true,
+            config, instantTime, table,
+            partitioner.getFileIdPfx(i), table.getTaskContextSupplier(), fileGroupHandleFactory).forEachRemaining(writeStatuses::addAll);
+        log.info("Wrote {} records to file group {} ({}/{}) for instant {}", end - start, partitioner.getFileIdPfx(i), i + 1, numFileGroups, instantTime);
+      }
+      return writeStatuses;
     }
 
-    List<WriteStatus> writeStatuses = new ArrayList<>();
+    FileIdPrefixProvider fileIdPrefixProvider = (FileIdPrefixProvider) ReflectionUtils.loadClass(
+        config.getFileIdPrefixProviderClassName(),
+        config.getProps());
+    String fileIdPrefix = fileIdPrefixProvider.createFilePrefix("");
 
     new JavaLazyInsertIterable<>(repartitionedRecords.iterator(), true,
         config, instantTime, table,
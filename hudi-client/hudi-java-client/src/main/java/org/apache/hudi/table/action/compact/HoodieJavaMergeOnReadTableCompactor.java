@@ -20,24 +20,35 @@
 package org.apache.hudi.table.action.compact;
 
 import org.apache.hudi.client.WriteStatus;
+import org.apache.hudi.client.common.JavaTaskContextSupplier;
+import org.apache.hudi.client.common.JavaWorkStealingExecutor;
 import org.apache.hudi.client.transaction.TransactionManager;
+import org.apache.hudi.common.config.HoodieMemoryConfig;
 import org.apache.hudi.common.data.HoodieData;
+import org.apache.hudi.common.data.HoodieListData;
 import org.apache.hudi.common.engine.HoodieEngineContext;
+import org.apache.hudi.common.function.SerializableFunction;
+import org.apache.hudi.common.model.CompactionOperation;
 import org.apache.hudi.common.model.HoodieKey;
 import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.model.WriteOperationType;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.config.HoodieWriteConfig;
+import org.apache.hudi.io.IOUtils;
 import org.apache.hudi.table.HoodieTable;
 
+import lombok.extern.slf4j.Slf4j;
+
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Compacts a hoodie table with merge on read storage in Java engine. Computes all possible
  * compactions, passes it through a CompactionFilter and executes all the compactions and
  * writes a new version of base files and make a normal commit.
  */
+@Slf4j
 public class HoodieJavaMergeOnReadTableCompactor<T>
     extends HoodieCompactor<T, List<HoodieRecord<T>>, List<HoodieKey>, List<WriteStatus>> {
 
@@ -61,6 +72,31 @@ public class HoodieJavaMergeOnReadTableCompactor<T>
     // No OP
   }
 
+  @Override
+  protected HoodieWriteConfig getTaskWriteConfig(HoodieWriteConfig config, int numOperations) {
+    int concurrency = Math.min(config.getJavaTableServiceExecutionParallelism(), numOperations);
+    if (concurrency <= 1) {
+      return config;
+    }
+    // the compactions running concurrently share the memory budget of a single compaction
+    long maxMemoryPerCompaction = IOUtils.getMaxMemoryPerConcurrentCompaction(new JavaTaskContextSupplier(), config, concurrency);
+    log.info("Running {} compactions concurrently with {} bytes of memory each", concurrency, maxMemoryPerCompaction);
+    HoodieWriteConfig taskConfig = HoodieWriteConfig.newBuilder()
+        .withEngineType(config.getEngineType())
+        .withProperties(config.getProps())
+        .build();
+    taskConfig.setValue(HoodieMemoryConfig.MAX_MEMORY_FOR_COMPACTION, String.valueOf(maxMemoryPerCompaction));
+    return taskConfig;
+  }
+
+  @Override
+  protected HoodieData<WriteStatus> executeOperations(HoodieEngineContext context, HoodieWriteConfig config, List<CompactionOperation> operations,
+                                                      SerializableFunction<CompactionOperation, List<WriteStatus>> compactFunc) {
+    List<WriteStatus> writeStatuses = JavaWorkStealingExecutor.map(operations, compactFunc, config.getJavaTableServiceExecutionParallelism(), "hoodie-java-compaction")
+        .stream().flatMap(List::stream).collect(Collectors.toList());
+    return HoodieListData.eager(writeStatuses);
+  }
+
   @Override
   protected HoodieRecord.HoodieRecordType getEngineRecordType() {
     return HoodieRecord.HoodieRecordType.AVRO;
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client;
+
+import org.apache.hudi.common.model.EmptyHoodieRecordPayload;
+import org.apache.hudi.common.model.HoodieAvroRecord;
+import org.apache.hudi.common.model.HoodieKey;
+import org.apache.hudi.common.model.HoodieRecord;
+import org.apache.hudi.common.model.HoodieRecordLocation;
+import org.apache.hudi.metadata.DefaultMetadataTableFileGroupIndexParser;
+import org.apache.hudi.metadata.JavaHoodieMetadataBulkInsertPartitioner;
+import org.apache.hudi.metadata.MetadataPartitionType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestJavaHoodieMetadataBulkInsertPartitioner {
+
+  @Test
+  public void testPartitioner() {
+    List<HoodieRecord> records = new ArrayList<>();
+    Random random = new Random(0);
+    // Assume there are 5 fileGroups in MDT partition FILES, with no records for fileGroup 003
+    int[] recordCounts = new int[] {3, 5, 18, 0, 9};
+    for (int fileGroup = 0; fileGroup < recordCounts.length; fileGroup++) {
+      for (int i = 0; i < recordCounts[fileGroup]; i++) {
+        HoodieRecord r = new HoodieAvroRecord<>(new HoodieKey("key" + random.nextInt(1000), MetadataPartitionType.FILES.getPartitionPath()),
+            new EmptyHoodieRecordPayload());
+        r.setCurrentLocation(new HoodieRecordLocation("001", MetadataPartitionType.FILES.getFileIdPrefix() + "00" + fileGroup));
+        r.seal();
+        records.add(r);
+      }
+    }
+    Collections.shuffle(records, random);
+
+    JavaHoodieMetadataBulkInsertPartitioner partitioner = new JavaHoodieMetadataBulkInsertPartitioner(new DefaultMetadataTableFileGroupIndexParser(5));
+    List<HoodieRecord> partitionedRecords = partitioner.repartitionRecords(records, 1);
+
+    // Record count should match
+    assertEquals(records.size(), partitionedRecords.size(), "Record count should match");
+    // Records must be sorted as we are writing to HFile
+    assertTrue(partitioner.arePartitionRecordsSorted(), "Must be sorted");
+
+    // Only the 4 file groups with records are written, each with a sorted run of its records
+    assertEquals(4, partitioner.getNumFileGroups());
+    int[] expectedFileGroups = new int[] {0, 1, 2, 4};
+    for (int i = 0; i < expectedFileGroups.length; i++) {
+      String expectedFileIdPrefix = MetadataPartitionType.FILES.getFileIdPrefix() + "00" + expectedFileGroups[i];
+      assertEquals(expectedFileIdPrefix, partitioner.getFileIdPfx(i), "fileIDPrefixes should match the name of the MDT fileGroups");
+      int start = partitioner.getFileGroupStartOffset(i);
+      int end = i + 1 < expectedFileGroups.length ? partitioner.getFileGroupStartOffset(i + 1) : partitionedRecords.size();
+      assertEquals(recordCounts[expectedFileGroups[i]], end - start, "Number of records in each file group should be correct");
+      for (int j = start; j < end; j++) {
+        assertEquals(expectedFileIdPrefix, partitionedRecords.get(j).getCurrentLocation().getFileId());
+        if (j > start) {
+          assertTrue(partitionedRecords.get(j - 1).getRecordKey().compareTo(partitionedRecords.get(j).getRecordKey()) <= 0,
+              "Records should be sorted within a file group");
+        }
+      }
+    }
+  }
+}
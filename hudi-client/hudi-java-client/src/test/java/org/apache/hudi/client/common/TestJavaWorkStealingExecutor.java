@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.common;
+
+import org.apache.hudi.exception.HoodieException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TestJavaWorkStealingExecutor {
+
+  @Test
+  public void testMapKeepsOrder() {
+    List<Integer> data = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    List<Integer> result = JavaWorkStealingExecutor.map(data, x -> {
+      threadNames.add(Thread.currentThread().getName());
+      // skew the tasks so that idle threads steal the remaining ones
+      Thread.sleep(x % 10 == 0 ? 20 : 1);
+      return x * 2;
+    }, 4, "test-executor");
+
+    Assertions.assertEquals(data.stream().map(x -> x * 2).collect(Collectors.toList()), result);
+    Assertions.assertTrue(threadNames.stream().allMatch(name -> name.startsWith("test-executor-")));
+    Assertions.assertTrue(threadNames.size() <= 4);
+  }
+
+  @Test
+  public void testMapWithSingleThread() {
+    List<Integer> result = JavaWorkStealingExecutor.map(Arrays.asList(1, 2, 3), x -> x + 1, 1, "test-executor");
+    Assertions.assertEquals(Arrays.asList(2, 3, 4), result);
+  }
+
+  @Test
+  public void testMapPropagatesFailure() {
+    HoodieException exception = Assertions.assertThrows(HoodieException.class, () -> JavaWorkStealingExecutor.map(Arrays.asList(1, 2, 3), x -> {
+      if (x == 2) {
+        throw new IOException("failed task " + x);
+      }
+      return x;
+    }, 2, "test-executor"));
+    Assertions.assertTrue(exception.getCause() instanceof IOException);
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.hudi.client.functional;
 
 import org.apache.hudi.client.HoodieJavaWriteClient;
 import org.apache.hudi.client.WriteClientTestUtils;
+import org.apache.hudi.client.WriteStatus;
 import org.apache.hudi.common.model.HoodieTableType;
 import org.apache.hudi.common.table.view.SyncableFileSystemView;
 import org.apache.hudi.common.testutils.HoodieTestDataGenerator;
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.apache.hudi.common.testutils.HoodieTestUtils.INSTANT_GENERATOR;
@@ -122,6 +124,40 @@ public class TestHoodieJavaClientOnMergeOnReadStorage extends HoodieJavaClientTe
     assertDataInMORTable(config, commitTime, timeStamp.get(), storageConf, Arrays.asList(dataGen.getPartitionPaths()));
   }
 
+  @Test
+  public void testConcurrentCompactionOnMORTable() throws Exception {
+    HoodieWriteConfig config = getConfigBuilder(HoodieTestDataGenerator.TRIP_EXAMPLE_SCHEMA,
+        HoodieIndex.IndexType.INMEMORY)
+        .withCompactionConfig(HoodieCompactionConfig.newBuilder().withMaxNumDeltaCommitsBeforeCompaction(2).build())
+        .withJavaTableServiceExecutionParallelism(4)
+        .build();
+    HoodieJavaWriteClient client = getHoodieWriteClient(config);
+
+    // Do insert and updates thrice one after the other.
+    // Insert
+    String commitTime = WriteClientTestUtils.createNewInstantTime();
+    insertBatch(config, client, commitTime, "000", 100, HoodieJavaWriteClient::insert,
+        false, false, 100, 100, 1, Option.empty(), INSTANT_GENERATOR);
+
+    // Update
+    String commitTimeBetweenPrevAndNew = commitTime;
+    commitTime = WriteClientTestUtils.createNewInstantTime();
+    updateBatch(config, client, commitTime, commitTimeBetweenPrevAndNew,
+        Option.of(Arrays.asList(commitTimeBetweenPrevAndNew)), "000", 50, HoodieJavaWriteClient::upsert,
+        false, false, 5, 100, 2, config.populateMetaFields(), INSTANT_GENERATOR);
+
+    // Schedule and execute compaction, the file groups of every partition are compacted concurrently.
+    Option<String> timeStamp = client.scheduleCompaction(Option.empty());
+    assertTrue(timeStamp.isPresent());
+    HoodieWriteMetadata writeMetadata = client.compact(timeStamp.get());
+    assertTrue(((List<WriteStatus>) writeMetadata.getWriteStatuses()).size() > 1);
+    client.commitCompaction(timeStamp.get(), writeMetadata, Option.empty());
+    assertTrue(metaClient.reloadActiveTimeline().filterCompletedInstants().containsInstant(timeStamp.get()));
+    // Verify all the records.
+    metaClient.reloadActiveTimeline();
+    assertDataInMORTable(config, commitTime, timeStamp.get(), storageConf, Arrays.asList(dataGen.getPartitionPaths()));
+  }
+
   @Test
   public void testAsyncCompactionOnMORTable() throws Exception {
     HoodieWriteConfig config = getConfigBuilder(HoodieTestDataGenerator.TRIP_EXAMPLE_SCHEMA,
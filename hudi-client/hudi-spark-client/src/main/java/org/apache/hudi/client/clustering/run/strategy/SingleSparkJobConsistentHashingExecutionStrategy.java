@@ -26,7 +26,6 @@ import org.apache.hudi.common.engine.ReaderContextFactory;
 import org.apache.hudi.common.engine.TaskContextSupplier;
 import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.ClusteringGroupInfo;
-import org.apache.hudi.common.model.ClusteringOperation;
 import org.apache.hudi.common.model.ConsistentHashingNode;
 import org.apache.hudi.common.model.HoodieConsistentHashingMetadata;
 import org.apache.hudi.common.model.HoodieRecord;
@@ -112,6 +111,14 @@ public class SingleSparkJobConsistentHashingExecutionStrategy<T> extends SingleS
     ValidationUtils.checkArgument(extraMetadata.isPresent(), "Extra metadata should be present for consistent hashing operations");
     String partition = extraMetadata.get().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_PARTITION_KEY);
     ValidationUtils.checkArgument(!StringUtils.isNullOrEmpty(partition), "Partition should not be null or empty");
+    // A split has one operation, unless it finishes a lazy split: then the parent file group comes first, followed by the children file groups
+    String lazySplitParent = extraMetadata.get().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_LAZY_SPLIT_PARENT_KEY);
+    if (StringUtils.isNullOrEmpty(lazySplitParent)) {
+      ValidationUtils.checkArgument(clusteringGroup.getOperations().size() == 1, "Split operation should have only one operation");
+    } else {
+      ValidationUtils.checkArgument(lazySplitParent.equals(FSUtils.getFileIdPfxFromFileId(clusteringGroup.getOperations().get(0).getFileId())),
+          "The first operation of a lazy split should read the parent file group " + lazySplitParent);
+    }
     List<ConsistentHashingNode> nodes = decodeConsistentHashingNodes(clusteringGroup);
     Option<ConsistentHashingNode> newBucket = Option.fromJavaOptional(nodes.stream().filter(node -> node.getTag() == ConsistentHashingNode.NodeTag.REPLACE).findFirst());
     ValidationUtils.checkArgument(newBucket.isPresent(), "New bucket should be present for merge operation");
@@ -193,18 +200,27 @@ public class SingleSparkJobConsistentHashingExecutionStrategy<T> extends SingleS
 
   private List<WriteStatus> performBucketSplitForGroup(ReaderContextFactory<T> readerContextFactory, ClusteringGroupInfo clusteringGroup, Map<String, String> strategyParams,
                                                        TaskContextSupplier taskContextSupplier, String instantTime) {
-    ValidationUtils.checkArgument(clusteringGroup.getOperations().size() == 1, "Split operation should have only one operation");
     Option<Map<String, String>> extraMetadata = clusteringGroup.getExtraMetadata();
     ValidationUtils.checkArgument(extraMetadata.isPresent(), "Extra metadata should be present for consistent hashing operations");
     String partition = extraMetadata.get().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_PARTITION_KEY);
     ValidationUtils.checkArgument(!StringUtils.isNullOrEmpty(partition), "Partition should not be null or empty");
+    // A split has one operation, unless it finishes a lazy split: then the parent file group comes first, followed by the children file groups
+    String lazySplitParent = extraMetadata.get().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_LAZY_SPLIT_PARENT_KEY);
+    if (StringUtils.isNullOrEmpty(lazySplitParent)) {
+      ValidationUtils.checkArgument(clusteringGroup.getOperations().size() == 1, "Split operation should have only one operation");
+    } else {
+      ValidationUtils.checkArgument(lazySplitParent.equals(FSUtils.getFileIdPfxFromFileId(clusteringGroup.getOperations().get(0).getFileId())),
+          "The first operation of a lazy split should read the parent file group " + lazySplitParent);
+    }
     List<ConsistentHashingNode> nodes = decodeConsistentHashingNodes(clusteringGroup);
     Integer seqNo = Integer.parseInt(extraMetadata.get().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_SEQUENCE_NUMBER_KEY));
     HoodieConsistentHashingMetadata metadata = new HoodieConsistentHashingMetadata((short) 0, partition, instantTime, 0, seqNo + 1, Collections.emptyList());
     metadata.setChildrenNodes(nodes);
     ConsistentBucketIdentifier identifier = new ConsistentBucketIdentifier(metadata);
-    ClusteringOperation operation = clusteringGroup.getOperations().get(0);
-    ClosableIterator<HoodieRecord<T>> iterator = getRecordIterator(readerContextFactory, operation, instantTime, IOUtils.getMaxMemoryPerCompaction(new SparkTaskContextSupplier(), writeConfig));
+    long maxMemoryPerCompaction = IOUtils.getMaxMemoryPerCompaction(new SparkTaskContextSupplier(), writeConfig);
+    List<Supplier<ClosableIterator<HoodieRecord<T>>>> readerSuppliers = new ArrayList<>(clusteringGroup.getOperations().size());
+    clusteringGroup.getOperations().forEach(op -> readerSuppliers.add(() -> getRecordIterator(readerContextFactory, op, instantTime, maxMemoryPerCompaction)));
+    LazyConcatenatingIterator<HoodieRecord<T>> iterator = new LazyConcatenatingIterator<>(readerSuppliers);
     Function<HoodieRecord<T>, String> fileIdPrefixExtractor = record -> identifier.getBucket(record.getRecordKey(), this.indexKeyFields).getFileIdPrefix();
 
     HoodieConsumer<HoodieRecord<T>, List<WriteStatus>> insertHandler =
@@ -59,9 +59,12 @@ public class SparkConsistentBucketDuplicateUpdateStrategy<T> extends UpdateStrat
       return Pair.of(taggedRecordsRDD, Collections.emptySet());
     }
 
+    // The deletes of records moved to the children of a lazy split only need to reach the parent file group,
+    // the children buckets receive the records themselves
     HoodieData<HoodieRecord<T>> filteredRecordsRDD = taggedRecordsRDD.filter(r -> {
       checkState(r.getCurrentLocation() != null);
-      return fileGroupsInPendingClustering.contains(new HoodieFileGroupId(r.getPartitionPath(), r.getCurrentLocation().getFileId()));
+      return !r.getIgnoreIndexUpdate()
+          && fileGroupsInPendingClustering.contains(new HoodieFileGroupId(r.getPartitionPath(), r.getCurrentLocation().getFileId()));
     });
 
     if (filteredRecordsRDD.count() == 0) {
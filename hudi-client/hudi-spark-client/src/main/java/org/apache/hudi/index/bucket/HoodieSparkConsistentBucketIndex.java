@@ -96,10 +96,10 @@ public class HoodieSparkConsistentBucketIndex extends HoodieConsistentBucketInde
       ValidationUtils.checkState(meta.getSeqNo() == seqNo,
           "Non serialized update to hashing metadata, old seq: " + meta.getSeqNo() + ", new seq: " + seqNo);
 
-      // Get new metadata and save
+      // Get new metadata and save, the lazy splits that are not finished by the clustering keep their parent bucket
       meta.setChildrenNodes(childNodes);
       List<ConsistentHashingNode> newNodes = (new ConsistentBucketIdentifier(meta)).getNodes().stream()
-          .map(n -> new ConsistentHashingNode(n.getValue(), n.getFileIdPrefix(), ConsistentHashingNode.NodeTag.NORMAL))
+          .map(n -> new ConsistentHashingNode(n.getValue(), n.getFileIdPrefix(), ConsistentHashingNode.NodeTag.NORMAL, n.getParentFileIdPrefix()))
           .collect(Collectors.toList());
       HoodieConsistentHashingMetadata newMeta = new HoodieConsistentHashingMetadata(meta.getVersion(), meta.getPartitionPath(),
           instantTime, meta.getNumBuckets(), seqNo + 1, newNodes);
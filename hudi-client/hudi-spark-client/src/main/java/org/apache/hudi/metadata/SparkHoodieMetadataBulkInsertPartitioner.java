@@ -28,6 +28,7 @@ import org.apache.spark.api.java.JavaRDD;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -45,6 +46,22 @@ public class SparkHoodieMetadataBulkInsertPartitioner implements BulkInsertParti
     this.fileGroupIndexParser = indexParser;
   }
 
+  /**
+   * Creates the partitioner with the IDs of the file groups being written, so that the file ID prefixes are known
+   * upfront instead of being collected from the first record of every partition, which sorts all the records once more.
+   * The prefixes are still collected from the records if the file groups do not match the number of partitions.
+   */
+  public SparkHoodieMetadataBulkInsertPartitioner(MetadataTableFileGroupIndexParser indexParser, List<String> fileGroupIds) {
+    this(indexParser);
+    if (fileGroupIds.size() == indexParser.getNumberOfFileGroups()) {
+      String[] fileIdPrefixes = new String[fileGroupIds.size()];
+      for (String fileGroupId : fileGroupIds) {
+        fileIdPrefixes[indexParser.getFileGroupIndex(fileGroupId)] = HoodieTableMetadataUtil.getFileGroupPrefix(fileGroupId);
+      }
+      this.fileIDPfxs = Arrays.asList(fileIdPrefixes);
+    }
+  }
+
   private class FileGroupPartitioner extends Partitioner {
 
     @Override
@@ -80,6 +97,9 @@ public class SparkHoodieMetadataBulkInsertPartitioner implements BulkInsertParti
             .repartitionAndSortWithinPartitions(new FileGroupPartitioner(), keyComparator)
             .map(t -> t._2);
 
+    if (fileIDPfxs != null) {
+      return partitionedRDD;
+    }
     fileIDPfxs = partitionedRDD.mapPartitions(recordItr -> {
       // Due to partitioning, all record in the partition should have same fileID. So we only can get the fileID prefix from the first record.
       List<String> fileIds = new ArrayList<>(1);
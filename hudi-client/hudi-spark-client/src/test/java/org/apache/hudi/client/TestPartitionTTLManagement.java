@@ -34,6 +34,9 @@ import org.apache.hudi.config.HoodieLockConfig;
 import org.apache.hudi.config.HoodieTTLConfig;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.index.HoodieIndex;
+import org.apache.hudi.table.HoodieSparkTable;
+import org.apache.hudi.table.action.ttl.strategy.HoodiePartitionTTLStrategyFactory;
+import org.apache.hudi.table.action.ttl.strategy.PartitionTTLStrategy;
 import org.apache.hudi.table.action.ttl.strategy.PartitionTTLStrategyType;
 import org.apache.hudi.testutils.HoodieClientTestBase;
 import org.apache.hudi.testutils.HoodieMergeOnReadTestUtils;
@@ -45,8 +48,10 @@ import org.apache.spark.api.java.JavaRDD;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -147,6 +152,48 @@ public class TestPartitionTTLManagement extends HoodieClientTestBase {
     }
   }
 
+  @Test
+  public void testKeepByTimeWithMetadataListing() throws IOException {
+    final HoodieWriteConfig cfg = getConfigBuilder()
+        .withPath(metaClient.getBasePath())
+        .withTTLConfig(HoodieTTLConfig
+            .newBuilder()
+            .withTTLDaysRetain(10)
+            .withTTLStrategyType(PartitionTTLStrategyType.KEEP_BY_TIME)
+            .enableMetadataListing(true)
+            .withMetadataListingBatchSize(1)
+            .build())
+        .withMetadataConfig(HoodieMetadataConfig.newBuilder().build())
+        .build();
+    HoodieTestDataGenerator dataGen = new HoodieTestDataGenerator(0xDEED);
+    try (SparkRDDWriteClient client = getHoodieWriteClient(cfg)) {
+      String partitionPath0 = dataGen.getPartitionPaths()[0];
+      String instant0 = getCommitTimeAtUTC(0);
+      writeRecordsForPartition(client, dataGen, partitionPath0, instant0);
+
+      String instant1 = getCommitTimeAtUTC(1000);
+      String partitionPath1 = dataGen.getPartitionPaths()[1];
+      writeRecordsForPartition(client, dataGen, partitionPath1, instant1);
+
+      String currentInstant = WriteClientTestUtils.createNewInstantTime();
+      String partitionPath2 = dataGen.getPartitionPaths()[2];
+      writeRecordsForPartition(client, dataGen, partitionPath2, currentInstant);
+
+      String instantTime = client.startDeletePartitionCommit();
+      metaClient.reloadActiveTimeline();
+      PartitionTTLStrategy strategy = HoodiePartitionTTLStrategyFactory.createStrategy(
+          HoodieSparkTable.create(cfg, context, metaClient), cfg.getProps(), instantTime);
+      Assertions.assertEquals(Sets.newHashSet(partitionPath0, partitionPath1), new HashSet<>(strategy.getAllExpiredPartitionPaths()));
+
+      HoodieWriteResult result = client.managePartitionTTL(instantTime);
+      client.commit(instantTime, result.getWriteStatuses(), Option.empty(), HoodieTimeline.REPLACE_COMMIT_ACTION,
+          result.getPartitionToReplaceFileIds(), Option.empty());
+
+      Assertions.assertEquals(Sets.newHashSet(partitionPath0, partitionPath1), result.getPartitionToReplaceFileIds().keySet());
+      Assertions.assertEquals(10, readRecords(new String[] {partitionPath0, partitionPath1, partitionPath2}).size());
+    }
+  }
+
   @Test
   public void testInlinePartitionTTL() {
     final HoodieWriteConfig cfg = getConfigBuilder()
@@ -21,8 +21,10 @@ package org.apache.hudi.client;
 
 import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.model.HoodieRecordLocation;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.metadata.DefaultMetadataTableFileGroupIndexParser;
 import org.apache.hudi.metadata.HoodieMetadataPayload;
+import org.apache.hudi.metadata.HoodieTableMetadataUtil;
 import org.apache.hudi.metadata.MetadataPartitionType;
 import org.apache.hudi.metadata.SparkHoodieMetadataBulkInsertPartitioner;
 import org.apache.hudi.testutils.SparkClientFunctionalTestHarness;
@@ -108,4 +110,44 @@ class TestSparkHoodieMetadataBulkInsertPartitioner extends SparkClientFunctional
     Set<String> fileIDPrefixes = IntStream.of(0, 1, 2, 4).mapToObj(partitioner::getFileIdPfx).collect(Collectors.toSet());
     assertEquals(fileIDPrefixes, recordsPerFileGroup.keySet(), "fileIDPrefixes should match the name of the MDT fileGroups");
   }
+
+  @Test
+  public void testPartitionerWithFileGroupIds() {
+    List<String> fileGroupIds = IntStream.range(0, 3)
+        .mapToObj(i -> HoodieTableMetadataUtil.getFileIDForFileGroup(MetadataPartitionType.FILES, i, MetadataPartitionType.FILES.getPartitionPath(), Option.empty()))
+        .collect(Collectors.toList());
+    Collections.reverse(fileGroupIds);
+    SparkHoodieMetadataBulkInsertPartitioner partitioner =
+        new SparkHoodieMetadataBulkInsertPartitioner(new DefaultMetadataTableFileGroupIndexParser(3), fileGroupIds);
+
+    // the file ID prefixes are known without a pass over the records, in file group index order
+    for (int i = 0; i < 3; i++) {
+      assertEquals(MetadataPartitionType.FILES.getFileIdPrefix() + "000" + i, partitioner.getFileIdPfx(i));
+    }
+
+    List<HoodieRecord> records = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      HoodieRecord r = HoodieMetadataPayload.createPartitionListRecord(Collections.EMPTY_LIST);
+      r.unseal();
+      r.setCurrentLocation(new HoodieRecordLocation("001", fileGroupIds.get(i % 2)));
+      r.seal();
+      records.add(r);
+    }
+    JavaRDD<HoodieRecord> partitionedRecords = partitioner.repartitionRecords(jsc().parallelize(records, 2), 0);
+    assertEquals(3, partitionedRecords.getNumPartitions());
+    List<List<HoodieRecord>> recordsPerPartition = partitionedRecords.glom().collect();
+    for (int i = 0; i < 3; i++) {
+      String fileIdPrefix = partitioner.getFileIdPfx(i);
+      assertTrue(recordsPerPartition.get(i).stream().allMatch(r -> r.getCurrentLocation().getFileId().startsWith(fileIdPrefix)));
+    }
+    assertEquals(0, recordsPerPartition.get(0).size());
+    assertEquals(5, recordsPerPartition.get(1).size());
+    assertEquals(5, recordsPerPartition.get(2).size());
+
+    // the prefixes are collected from the records if the file groups do not match the partitions
+    partitioner = new SparkHoodieMetadataBulkInsertPartitioner(new DefaultMetadataTableFileGroupIndexParser(3), fileGroupIds.subList(0, 2));
+    partitioner.repartitionRecords(jsc().parallelize(records, 2), 0);
+    assertEquals("", partitioner.getFileIdPfx(0));
+    assertEquals(MetadataPartitionType.FILES.getFileIdPrefix() + "0001", partitioner.getFileIdPfx(1));
+  }
 }
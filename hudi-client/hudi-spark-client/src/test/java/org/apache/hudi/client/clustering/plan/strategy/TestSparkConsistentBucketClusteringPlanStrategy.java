@@ -28,11 +28,13 @@ import org.apache.hudi.common.model.HoodieConsistentHashingMetadata;
 import org.apache.hudi.common.model.HoodieLogFile;
 import org.apache.hudi.common.model.HoodieTableType;
 import org.apache.hudi.common.testutils.HoodieTestUtils;
+import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.common.util.collection.Triple;
 import org.apache.hudi.config.HoodieIndexConfig;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.index.HoodieIndex;
 import org.apache.hudi.index.bucket.ConsistentBucketIdentifier;
+import org.apache.hudi.index.bucket.ConsistentBucketIndexUtils;
 import org.apache.hudi.keygen.constant.KeyGeneratorOptions;
 import org.apache.hudi.table.HoodieSparkTable;
 import org.apache.hudi.table.HoodieTable;
@@ -44,6 +46,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.Random;
@@ -184,6 +188,80 @@ public class TestSparkConsistentBucketClusteringPlanStrategy extends HoodieSpark
     Assertions.assertEquals(3, res1.getLeft().get(0).getSlices().size(), "should have 3 input files");
   }
 
+  @Test
+  public void testLazySplitAndFinishingClusteringGroups() throws Exception {
+    setup();
+    int maxFileSize = 5120;
+    Properties props = new Properties();
+    props.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), "uuid");
+    HoodieWriteConfig config = HoodieWriteConfig.newBuilder().withPath(basePath)
+        .withIndexConfig(HoodieIndexConfig.newBuilder().fromProperties(props).withIndexType(HoodieIndex.IndexType.BUCKET)
+            .withBucketIndexEngineType(HoodieIndex.BucketIndexEngineType.CONSISTENT_HASHING)
+            .withBucketIndexOnlineSplitEnabled(true)
+            .withBucketMaxNum(6)
+            .withBucketNum("4").build())
+        .withStorageConfig(HoodieStorageConfig.newBuilder()
+            .parquetMaxFileSize(maxFileSize).build())
+        .build();
+
+    HoodieTable hoodieTable = HoodieSparkTable.create(config, context, metaClient);
+    SparkConsistentBucketClusteringPlanStrategy planStrategy = new SparkConsistentBucketClusteringPlanStrategy(hoodieTable, context, config);
+
+    HoodieConsistentHashingMetadata metadata = ConsistentBucketIndexUtils.loadOrCreateMetadata(hoodieTable, "partition", 4);
+    ConsistentBucketIdentifier identifier = new ConsistentBucketIdentifier(metadata);
+    int[] fsSize = {maxFileSize * 5, maxFileSize, maxFileSize * 5, maxFileSize * 5};
+    List<FileSlice> fileSlices = IntStream.range(0, metadata.getNodes().size()).mapToObj(
+        i -> createFileSliceWithSize(metadata.getNodes().get(i).getFileIdPrefix(), 1024, fsSize[i] - 1024)
+    ).collect(Collectors.toList());
+
+    // Only two buckets can be split because of the split slot
+    List<ConsistentHashingNode> childNodes = planStrategy.lazySplitBuckets(identifier, fileSlices, 2);
+    Assertions.assertEquals(4, childNodes.size());
+    Assertions.assertTrue(childNodes.subList(0, 2).stream().allMatch(n -> metadata.getNodes().get(0).getFileIdPrefix().equals(n.getParentFileIdPrefix())));
+    Assertions.assertTrue(childNodes.subList(2, 4).stream().allMatch(n -> metadata.getNodes().get(2).getFileIdPrefix().equals(n.getParentFileIdPrefix())));
+
+    // The lazy split is committed right away
+    Assertions.assertTrue(ConsistentBucketIndexUtils.commitLazySplit(hoodieTable, metadata, childNodes).isPresent());
+    HoodieConsistentHashingMetadata committed = ConsistentBucketIndexUtils.loadMetadata(hoodieTable, "partition").get();
+    Assertions.assertEquals(metadata.getSeqNo() + 1, committed.getSeqNo());
+    Assertions.assertEquals(6, committed.getNodes().size());
+    Assertions.assertEquals(4, committed.getNodes().stream().filter(ConsistentHashingNode::isLazilySplit).count());
+    Assertions.assertTrue(committed.getNodes().stream().allMatch(n -> n.getTag() == ConsistentHashingNode.NodeTag.NORMAL));
+
+    // Only one child has received writes so far
+    List<FileSlice> fileSlicesAfterSplit = new ArrayList<>(fileSlices);
+    fileSlicesAfterSplit.add(createFileSliceWithSize(childNodes.get(1).getFileIdPrefix(), 0, 1024));
+    Pair<List<HoodieClusteringGroup>, List<FileSlice>> res = planStrategy.buildLazySplitFinishingGroups(
+        new ConsistentBucketIdentifier(committed), fileSlicesAfterSplit);
+    List<HoodieClusteringGroup> groups = res.getLeft();
+    Assertions.assertEquals(2, groups.size());
+    Assertions.assertEquals(2, groups.get(0).getSlices().size());
+    Assertions.assertEquals(fileSlices.get(0).getFileId(), groups.get(0).getSlices().get(0).getFileId());
+    Assertions.assertEquals(fileSlicesAfterSplit.get(4).getFileId(), groups.get(0).getSlices().get(1).getFileId());
+    Assertions.assertEquals(1, groups.get(1).getSlices().size());
+    Assertions.assertEquals(fileSlices.get(2).getFileId(), groups.get(1).getSlices().get(0).getFileId());
+    for (int i = 0; i < groups.size(); i++) {
+      List<ConsistentHashingNode> nodes = ConsistentHashingNode.fromJsonString(
+          groups.get(i).getExtraMetadata().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_CHILD_NODE_KEY));
+      Assertions.assertEquals(2, groups.get(i).getNumOutputFileGroups());
+      Assertions.assertEquals(childNodes.get(2 * i).getParentFileIdPrefix(),
+          groups.get(i).getExtraMetadata().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_LAZY_SPLIT_PARENT_KEY));
+      Assertions.assertEquals(childNodes.get(2 * i).getValue(), nodes.get(0).getValue());
+      Assertions.assertEquals(childNodes.get(2 * i + 1).getValue(), nodes.get(1).getValue());
+      Assertions.assertTrue(nodes.stream().allMatch(n -> n.getTag() == ConsistentHashingNode.NodeTag.REPLACE && !n.isLazilySplit()));
+    }
+    // The children without file slice keep their file id prefix, the child with a file slice is rewritten into a new file group
+    List<ConsistentHashingNode> firstGroupNodes = ConsistentHashingNode.fromJsonString(
+        groups.get(0).getExtraMetadata().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_CHILD_NODE_KEY));
+    List<ConsistentHashingNode> secondGroupNodes = ConsistentHashingNode.fromJsonString(
+        groups.get(1).getExtraMetadata().get(BaseConsistentHashingBucketClusteringPlanStrategy.METADATA_CHILD_NODE_KEY));
+    Assertions.assertEquals(childNodes.get(0).getFileIdPrefix(), firstGroupNodes.get(0).getFileIdPrefix());
+    Assertions.assertNotEquals(childNodes.get(1).getFileIdPrefix(), firstGroupNodes.get(1).getFileIdPrefix());
+    Assertions.assertEquals(childNodes.get(2).getFileIdPrefix(), secondGroupNodes.get(0).getFileIdPrefix());
+    Assertions.assertEquals(childNodes.get(3).getFileIdPrefix(), secondGroupNodes.get(1).getFileIdPrefix());
+    Assertions.assertEquals(Arrays.asList(fileSlices.get(1), fileSlices.get(3)), res.getRight());
+  }
+
   private FileSlice createFileSliceWithSize(String fileIdPfx, long baseFileSize, long totalLogFileSize) {
     String fileId = FSUtils.createNewFileId(fileIdPfx, 0);
     FileSlice fs = new FileSlice("partition", "001", fileId);
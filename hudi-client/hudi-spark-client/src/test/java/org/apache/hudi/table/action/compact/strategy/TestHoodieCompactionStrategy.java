@@ -22,8 +22,11 @@ import org.apache.hudi.avro.model.HoodieCompactionOperation;
 import org.apache.hudi.common.model.BaseFile;
 import org.apache.hudi.common.model.FileSlice;
 import org.apache.hudi.common.model.HoodieBaseFile;
+import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.model.HoodieDeltaWriteStat;
 import org.apache.hudi.common.model.HoodieFileGroupId;
 import org.apache.hudi.common.model.HoodieLogFile;
+import org.apache.hudi.common.model.HoodieWriteStat;
 import org.apache.hudi.common.table.HoodieTableConfig;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.config.HoodieCompactionConfig;
@@ -496,6 +499,102 @@ public class TestHoodieCompactionStrategy {
 
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void testCostBasedCompactionStrategy(boolean enableIncrTableService) {
+    Map<Long, List<Long>> sizesMap = new HashMap<>();
+    sizesMap.put(120 * MB, Arrays.asList(60 * MB, 10 * MB, 80 * MB));
+    sizesMap.put(110 * MB, new ArrayList<>());
+    sizesMap.put(100 * MB, Collections.singletonList(MB));
+    sizesMap.put(90 * MB, Collections.singletonList(1024 * MB));
+    Map<Long, String> keyToPartitionMap = new HashMap<>();
+    keyToPartitionMap.put(120 * MB, partitionPaths[0]);
+    keyToPartitionMap.put(110 * MB, partitionPaths[0]);
+    keyToPartitionMap.put(100 * MB, partitionPaths[1]);
+    keyToPartitionMap.put(90 * MB, partitionPaths[2]);
+    HoodieWriteConfig writeConfig = HoodieWriteConfig.newBuilder().withPath("/tmp")
+        .withIncrementalTableServiceEnabled(enableIncrTableService)
+        .withCompactionConfig(HoodieCompactionConfig.newBuilder().withCompactionStrategy(new CostBasedCompactionStrategy())
+            .withTargetIOPerCompactionInMB(1600).build())
+        .build();
+    List<HoodieCompactionOperation> operations = createCompactionOperations(writeConfig, sizesMap, keyToPartitionMap);
+    Pair<List<HoodieCompactionOperation>, List<String>> resPair = writeConfig.getCompactionStrategy().orderAndFilter(writeConfig, operations, new ArrayList<>());
+    List<HoodieCompactionOperation> returned = resPair.getLeft();
+    // the 1024 MB log file saves the most read cost per MB of IO, then the 150 MB of logs,
+    // the 1 MB log file does not fit in the remaining budget and the file slice without logs saves nothing
+    assertEquals(2, returned.size(), "CostBasedCompactionStrategy should have resulted in 2 compactions");
+    assertEquals(1594, returned.get(0).getMetrics().get(CompactionStrategy.TOTAL_IO_MB).longValue()
+        + returned.get(1).getMetrics().get(CompactionStrategy.TOTAL_IO_MB).longValue());
+    assertEquals(partitionPaths[2], returned.get(0).getPartitionPath());
+    assertEquals(partitionPaths[0], returned.get(1).getPartitionPath());
+    assertEquals(3, returned.get(1).getMetrics().get(CostBasedCompactionStrategy.TOTAL_LOG_BLOCKS).longValue());
+    if (enableIncrTableService) {
+      assertTrue(resPair.getRight().contains(partitionPaths[0]));
+      assertTrue(resPair.getRight().contains(partitionPaths[1]));
+    } else {
+      assertTrue(resPair.getRight().isEmpty());
+    }
+
+    // a frequently queried partition is compacted first even if its log files are small
+    writeConfig = HoodieWriteConfig.newBuilder().withPath("/tmp")
+        .withCompactionConfig(HoodieCompactionConfig.newBuilder().withCompactionStrategy(new CostBasedCompactionStrategy())
+            .withTargetIOPerCompactionInMB(1600)
+            .withCostBasedCompactionPartitionQueryWeights(partitionPaths[1] + "=100").build())
+        .build();
+    returned = writeConfig.getCompactionStrategy().orderAndFilter(writeConfig, operations, new ArrayList<>()).getLeft();
+    assertEquals(2, returned.size());
+    assertEquals(partitionPaths[1], returned.get(0).getPartitionPath());
+    assertEquals(partitionPaths[2], returned.get(1).getPartitionPath());
+  }
+
+  @Test
+  public void testCompactionSimulator() {
+    HoodieWriteConfig writeConfig = HoodieWriteConfig.newBuilder().withPath("/tmp")
+        .withCompactionConfig(HoodieCompactionConfig.newBuilder().withTargetIOPerCompactionInMB(300).build())
+        .build();
+    List<Pair<String, HoodieCommitMetadata>> deltaCommits = new ArrayList<>();
+    for (int i = 1; i <= 10; i++) {
+      String instantTime = String.valueOf(100 + i);
+      HoodieCommitMetadata commitMetadata = new HoodieCommitMetadata();
+      if (i == 1) {
+        commitMetadata.addWriteStat(partitionPaths[0], newWriteStat("fg1", "fg1_1-0-1_101.parquet", 50 * MB));
+        commitMetadata.addWriteStat(partitionPaths[0], newWriteStat("fg2", "fg2_1-0-1_101.parquet", 1000 * MB));
+      } else {
+        // fg1 is updated in every delta commit while fg2 is only updated once in a while
+        commitMetadata.addWriteStat(partitionPaths[0], newWriteStat("fg1", ".fg1_101.log." + i + "_1-0-1", 10 * MB));
+        if (i % 5 == 0) {
+          commitMetadata.addWriteStat(partitionPaths[0], newWriteStat("fg2", ".fg2_101.log." + i + "_1-0-1", MB));
+        }
+      }
+      deltaCommits.add(Pair.of(instantTime, commitMetadata));
+    }
+
+    CompactionSimulator simulator = new CompactionSimulator(writeConfig, 5);
+    List<CompactionSimulator.SimulationResult> results = simulator.simulate(deltaCommits,
+        Arrays.asList(new UnBoundedCompactionStrategy(), new CostBasedCompactionStrategy()));
+    assertEquals(2, results.size());
+    CompactionSimulator.SimulationResult unbounded = results.get(0);
+    CompactionSimulator.SimulationResult costBased = results.get(1);
+    assertEquals(UnBoundedCompactionStrategy.class.getSimpleName(), unbounded.getStrategyName());
+    assertEquals(2, unbounded.getNumCompactions());
+    assertEquals(4, unbounded.getNumOperations());
+    // the cost based strategy only compacts the small and hot file group within the IO budget
+    assertEquals(2, costBased.getNumCompactions());
+    assertEquals(2, costBased.getNumOperations());
+    assertTrue(costBased.getIoMB() < unbounded.getIoMB());
+    assertTrue(costBased.getReadCostMB() >= unbounded.getReadCostMB());
+  }
+
+  private static HoodieWriteStat newWriteStat(String fileId, String fileName, long size) {
+    HoodieWriteStat writeStat = new HoodieDeltaWriteStat();
+    writeStat.setFileId(fileId);
+    writeStat.setPath(fileName);
+    writeStat.setTotalWriteBytes(size);
+    writeStat.setFileSizeInBytes(size);
+    writeStat.setNumWrites(size / 1024);
+    return writeStat;
+  }
+
   private HoodieWriteConfig updateRegex(String regex) {
     HoodieWriteConfig writeConfig = HoodieWriteConfig.newBuilder().withPath("/tmp").withCompactionConfig(
         HoodieCompactionConfig.newBuilder()
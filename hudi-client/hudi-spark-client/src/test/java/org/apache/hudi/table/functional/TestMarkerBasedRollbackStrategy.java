@@ -82,6 +82,8 @@ import static org.apache.hudi.config.HoodieWriteConfig.ROLLBACK_PARALLELISM_VALU
 import static org.apache.hudi.table.action.rollback.BaseRollbackPlanActionExecutor.LATEST_ROLLBACK_PLAN_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -303,7 +305,7 @@ public class TestMarkerBasedRollbackStrategy extends HoodieClientTestBase {
 
     DirectWriteMarkers writeMarkers = mock(DirectWriteMarkers.class);
     initMocks(this);
-    when(writeMarkers.allMarkerFilePaths()).thenThrow(new IOException("Markers.type file not present"));
+    when(writeMarkers.allMarkerFilePaths(any(), anyInt())).thenThrow(new IOException("Markers.type file not present"));
     MarkerBasedRollbackStrategy rollbackStrategy = new MarkerBasedRollbackStrategy(hoodieTable, context, getConfig(), "002");
     List<HoodieRollbackRequest> rollbackRequests = rollbackStrategy.getRollbackRequests(INSTANT_GENERATOR.createNewInstant(HoodieInstant.State.INFLIGHT, HoodieTimeline.COMMIT_ACTION, "001"));
     assertEquals(1, rollbackRequests.size());
@@ -359,7 +361,7 @@ public class TestMarkerBasedRollbackStrategy extends HoodieClientTestBase {
 
     DirectWriteMarkers writeMarkers = mock(DirectWriteMarkers.class);
     MockitoAnnotations.openMocks(this);
-    when(writeMarkers.allMarkerFilePaths()).thenThrow(new IOException("Markers.type file not present"));
+    when(writeMarkers.allMarkerFilePaths(any(), anyInt())).thenThrow(new IOException("Markers.type file not present"));
     MarkerBasedRollbackStrategy rollbackStrategy =
         new MarkerBasedRollbackStrategy(hoodieTable, context, getConfig(), "004");
     HoodieInstant instantToRollback = INSTANT_GENERATOR.createNewInstant(
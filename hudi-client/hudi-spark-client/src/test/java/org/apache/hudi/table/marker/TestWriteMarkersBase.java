@@ -121,6 +121,18 @@ public abstract class TestWriteMarkersBase extends HoodieCommonTestHarness {
     assertFalse(writeMarkers.doesMarkerDirExist());
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void testDeletionWithParallelism(boolean isTablePartitioned) throws IOException {
+    // given
+    createSomeMarkers(isTablePartitioned);
+
+    // then
+    assertTrue(writeMarkers.deleteMarkerDir(context, 2));
+    assertFalse(writeMarkers.doesMarkerDirExist());
+    assertTrue(writeMarkers.allMarkerFilePaths(context, 2).isEmpty());
+  }
+
   @Test
   public void testDeletionWhenMarkerDirNotExists() throws IOException {
     // then
@@ -193,6 +205,19 @@ public abstract class TestWriteMarkersBase extends HoodieCommonTestHarness {
     );
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void testAllMarkerPathsWithParallelism(boolean isTablePartitioned) throws IOException {
+    // given
+    createSomeMarkers(isTablePartitioned);
+
+    // then
+    assertIterableEquals(
+        writeMarkers.allMarkerFilePaths().stream().sorted().collect(Collectors.toList()),
+        writeMarkers.allMarkerFilePaths(context, 2).stream().sorted().collect(Collectors.toList())
+    );
+  }
+
   @Test
   public void testStripMarkerSuffix() {
     // Given
@@ -135,6 +135,7 @@ public abstract class BaseHoodieTableFileIndex implements AutoCloseable {
   // NOTE: It always contains either all partition paths, or null if it is not initialized yet
   private transient volatile List<PartitionPath> cachedAllPartitionPaths = null;
 
+  @Getter(AccessLevel.PROTECTED)
   private transient HoodieTableMetadata tableMetadata = null;
 
   /**
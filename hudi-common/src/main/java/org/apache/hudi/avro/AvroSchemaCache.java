@@ -18,9 +18,17 @@
 
 package org.apache.hudi.avro;
 
+import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.common.util.collection.Triple;
+
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.avro.Schema;
+import org.apache.parquet.schema.AvroSchemaRepair;
+
+import static org.apache.hudi.avro.HoodieAvroUtils.recordNeedsRewriteForExtendedAvroTypePromotion;
 
 /**
  * An avro schema cache implementation for reusing avro schema instantces in JVM/process scope.
@@ -31,9 +39,18 @@ import org.apache.avro.Schema;
  */
 public class AvroSchemaCache {
 
+  private static final int MAX_CACHED_SCHEMAS = 1024;
 
   // Ensure that there is only one variable instance of the same schema within an entire JVM lifetime
-  private static final LoadingCache<Schema, Schema> SCHEMA_CACHE = Caffeine.newBuilder().weakValues().maximumSize(1024).build(k -> k);
+  private static final LoadingCache<Schema, Schema> SCHEMA_CACHE = Caffeine.newBuilder().weakValues().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build(k -> k);
+
+  // The mapping from schema string -> parsed schema, the schemas are interned through SCHEMA_CACHE
+  private static final LoadingCache<String, Schema> PARSED_SCHEMA_CACHE =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build(k -> intern(new Schema.Parser().parse(k)));
+
+  // The mapping from (writer schema, reader schema, repair logical types) -> (schema to decode with, whether the decoded record needs rewrite)
+  private static final Cache<Triple<Schema, Schema, Boolean>, Pair<Schema, Boolean>> READ_SCHEMA_CACHE =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build();
 
   /**
    * Get schema variable from global cache. If not found, put it into the cache and then return it.
@@ -44,4 +61,40 @@ public class AvroSchemaCache {
     return SCHEMA_CACHE.get(schema);
   }
 
+  /**
+   * Parses the schema string, the schema is parsed only once for the same schema string.
+   * @param schemaStr the JSON schema string
+   * @return the interned schema
+   */
+  public static Schema parse(String schemaStr) {
+    return PARSED_SCHEMA_CACHE.get(schemaStr);
+  }
+
+  /**
+   * Resolves the schemas to decode the records written with the writer schema and read with the reader schema.
+   *
+   * <p>The writer schema is repaired for the logical types if {@code repairLogicalTypes} is true, see {@link AvroSchemaRepair#repairLogicalTypes}.
+   * Avro does not support the promotion from numbers to string, in that case the records should be decoded with the writer schema
+   * and then rewritten into the reader schema, see {@link HoodieAvroUtils#recordNeedsRewriteForExtendedAvroTypePromotion}.
+   *
+   * @return the pair of the (repaired) writer schema and whether the decoded records need to be rewritten into the reader schema
+   */
+  public static Pair<Schema, Boolean> resolveReadSchemas(Schema writerSchema, Schema readerSchema, boolean repairLogicalTypes) {
+    return READ_SCHEMA_CACHE.get(Triple.of(writerSchema, readerSchema, repairLogicalTypes), key -> {
+      Schema repairedWriterSchema = repairLogicalTypes ? AvroSchemaRepair.repairLogicalTypes(writerSchema, readerSchema) : writerSchema;
+      return Pair.of(repairedWriterSchema, recordNeedsRewriteForExtendedAvroTypePromotion(repairedWriterSchema, readerSchema));
+    });
+  }
+
+  public static CacheStats getSchemaCacheStats() {
+    return SCHEMA_CACHE.stats();
+  }
+
+  public static CacheStats getParsedSchemaCacheStats() {
+    return PARSED_SCHEMA_CACHE.stats();
+  }
+
+  public static CacheStats getReadSchemaCacheStats() {
+    return READ_SCHEMA_CACHE.stats();
+  }
 }
@@ -269,6 +269,26 @@ public final class HoodieMetadataConfig extends HoodieConfig {
       .withDocumentation("After the async indexer has finished indexing upto the base instant, it will ensure that all inflight writers "
           + "reliably write index updates as well. If this timeout expires, then the indexer will abort itself safely.");
 
+  public static final ConfigProperty<Boolean> METADATA_INDEX_CATCHUP_TAILING_ENABLE = ConfigProperty
+      .key(METADATA_PREFIX + ".index.catchup.tailing.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("When enabled, the async indexer catches up with the instants written while the index was being built "
+          + "by tailing the data table timeline in rounds: each round only indexes the instants completed since the previous one "
+          + "without waiting for the pending ones. Once the number of instants left to catch up is at most "
+          + METADATA_PREFIX + ".index.catchup.tailing.max.lag.instants, the remaining instants are caught up by waiting for the "
+          + "inflight writers and the index is marked as available. Useful on busy tables where new commits keep arriving "
+          + "during the catch up.");
+
+  public static final ConfigProperty<Integer> METADATA_INDEX_CATCHUP_TAILING_MAX_LAG_INSTANTS = ConfigProperty
+      .key(METADATA_PREFIX + ".index.catchup.tailing.max.lag.instants")
+      .defaultValue(10)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Max number of instants left to catch up for the async indexer to stop tailing the timeline "
+          + "and finish the catch up, when " + METADATA_PREFIX + ".index.catchup.tailing.enable is enabled.");
+
   public static final ConfigProperty<Boolean> IGNORE_SPURIOUS_DELETES = ConfigProperty
       .key("_" + METADATA_PREFIX + ".ignore.spurious.deletes")
       .defaultValue(true)
@@ -286,6 +306,15 @@ public final class HoodieMetadataConfig extends HoodieConfig {
       .withDocumentation("Optimized log blocks scanner that addresses all the multi-writer use-cases while appending to log files. "
           + "It also differentiates original blocks written by ingestion writers and compacted blocks written by log compaction.");
 
+  public static final ConfigProperty<Boolean> ENABLE_LOG_BLOCK_KEY_FILTER = ConfigProperty
+      .key(METADATA_PREFIX + ".log.block.key.filter.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Whether to write the record key range and a bloom filter of the record keys into the header "
+          + "of the metadata table log blocks. Point lookups, e.g., on the record index, skip the log blocks that cannot "
+          + "contain the keys being looked up, which bounds the lookup latency as log files accumulate between compactions.");
+
   public static final ConfigProperty<Integer> METADATA_MAX_NUM_DELTACOMMITS_WHEN_PENDING = ConfigProperty
       .key(METADATA_PREFIX + ".max.deltacommits.when_pending")
       .defaultValue(1000)
@@ -478,6 +507,24 @@ public final class HoodieMetadataConfig extends HoodieConfig {
       .sinceVersion("1.0.0")
       .withDocumentation("Parallelism to use, when generating secondary index.");
 
+  public static final ConfigProperty<Boolean> SECONDARY_INDEX_STREAMING_LOOKUP_ENABLE = ConfigProperty
+      .key(METADATA_PREFIX + ".index.secondary.streaming.lookup.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("When enabled, the lookups of secondary keys given as a local collection, e.g., the values of an IN "
+          + "filter, are streamed: each secondary index file group is scanned once for the sorted key prefixes, and the matching "
+          + "record keys are resolved through the record index in batches as they come, instead of materializing and "
+          + "repartitioning the record keys in between.");
+
+  public static final ConfigProperty<Integer> SECONDARY_INDEX_STREAMING_LOOKUP_BATCH_SIZE = ConfigProperty
+      .key(METADATA_PREFIX + ".index.secondary.streaming.lookup.batch.size")
+      .defaultValue(10000)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Max number of record keys buffered before looking them up in the record index, when "
+          + METADATA_PREFIX + ".index.secondary.streaming.lookup.enable is enabled.");
+
   public static final ConfigProperty<String> SECONDARY_INDEX_NAME = HoodieIndexingConfig.INDEX_NAME;
 
   public static final ConfigProperty<String> SECONDARY_INDEX_COLUMN = ConfigProperty
@@ -688,6 +735,14 @@ public final class HoodieMetadataConfig extends HoodieConfig {
     return getIntOrDefault(METADATA_INDEX_CHECK_TIMEOUT_SECONDS);
   }
 
+  public boolean isIndexCatchupTailingEnabled() {
+    return getBooleanOrDefault(METADATA_INDEX_CATCHUP_TAILING_ENABLE);
+  }
+
+  public int getIndexCatchupTailingMaxLagInstants() {
+    return getIntOrDefault(METADATA_INDEX_CATCHUP_TAILING_MAX_LAG_INSTANTS);
+  }
+
   public boolean isMetricsEnabled() {
     return getBoolean(METRICS_ENABLE);
   }
@@ -704,6 +759,10 @@ public final class HoodieMetadataConfig extends HoodieConfig {
     return getBoolean(ENABLE_OPTIMIZED_LOG_BLOCKS_SCAN);
   }
 
+  public boolean isLogBlockKeyFilterEnabled() {
+    return getBoolean(ENABLE_LOG_BLOCK_KEY_FILTER);
+  }
+
   public int getMaxNumDeltacommitsWhenPending() {
     return getIntOrDefault(METADATA_MAX_NUM_DELTACOMMITS_WHEN_PENDING);
   }
@@ -842,6 +901,14 @@ public final class HoodieMetadataConfig extends HoodieConfig {
     return getInt(SECONDARY_INDEX_PARALLELISM);
   }
 
+  public boolean isSecondaryIndexStreamingLookupEnabled() {
+    return getBooleanOrDefault(SECONDARY_INDEX_STREAMING_LOOKUP_ENABLE);
+  }
+
+  public int getSecondaryIndexStreamingLookupBatchSize() {
+    return getIntOrDefault(SECONDARY_INDEX_STREAMING_LOOKUP_BATCH_SIZE);
+  }
+
   public String getSecondaryIndexColumn() {
     return getString(SECONDARY_INDEX_COLUMN);
   }
@@ -986,6 +1053,12 @@ public final class HoodieMetadataConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder withIndexCatchupTailing(boolean enable, int maxLagInstants) {
+      metadataConfig.setValue(METADATA_INDEX_CATCHUP_TAILING_ENABLE, String.valueOf(enable));
+      metadataConfig.setValue(METADATA_INDEX_CATCHUP_TAILING_MAX_LAG_INSTANTS, String.valueOf(maxLagInstants));
+      return this;
+    }
+
     public Builder enableMetrics(boolean enableMetrics) {
       metadataConfig.setValue(METRICS_ENABLE, String.valueOf(enableMetrics));
       return this;
@@ -1041,6 +1114,11 @@ public final class HoodieMetadataConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder withLogBlockKeyFilter(boolean enableLogBlockKeyFilter) {
+      metadataConfig.setValue(ENABLE_LOG_BLOCK_KEY_FILTER, String.valueOf(enableLogBlockKeyFilter));
+      return this;
+    }
+
     public Builder withOptimizedLogBlocksScan(boolean enableOptimizedLogBlocksScan) {
       metadataConfig.setValue(ENABLE_OPTIMIZED_LOG_BLOCKS_SCAN, String.valueOf(enableOptimizedLogBlocksScan));
       return this;
@@ -1159,6 +1237,12 @@ public final class HoodieMetadataConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder withSecondaryIndexStreamingLookup(boolean enable, int batchSize) {
+      metadataConfig.setValue(SECONDARY_INDEX_STREAMING_LOOKUP_ENABLE, String.valueOf(enable));
+      metadataConfig.setValue(SECONDARY_INDEX_STREAMING_LOOKUP_BATCH_SIZE, String.valueOf(batchSize));
+      return this;
+    }
+
     public Builder withDropMetadataIndex(String indexName) {
       metadataConfig.setValue(DROP_METADATA_INDEX, indexName);
       return this;
@@ -108,6 +108,24 @@ public class HoodieStorageConfig extends HoodieConfig {
           + "to be appended to a log file. This helps to make sure the data appended to the log file is broken up "
           + "into sizable blocks to prevent from OOM errors. This size should be greater than the JVM memory.");
 
+  public static final ConfigProperty<Boolean> LOGFILE_DATA_BLOCK_KEY_FILTER_ENABLED = ConfigProperty
+      .key("hoodie.logfile.data.block.key.filter.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Whether to write the record key range and a bloom filter of the record keys into the header "
+          + "of HFile data blocks. Key lookups use them to skip the blocks that cannot contain the keys being looked up, "
+          + "without reading the content of the blocks. Log files with such blocks can only be read by Hudi 1.2.0 or later.");
+
+  public static final ConfigProperty<String> LOGFILE_DATA_BLOCK_KEY_FILTER_FPP = ConfigProperty
+      .key("hoodie.logfile.data.block.key.filter.fpp")
+      .defaultValue("0.01")
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("False positive probability of the bloom filter written into the header of HFile data blocks, "
+          + "when " + LOGFILE_DATA_BLOCK_KEY_FILTER_ENABLED.key() + " is enabled. Lower values skip more blocks "
+          + "at the cost of larger block headers.");
+
   public static final ConfigProperty<String> PARQUET_COMPRESSION_RATIO_FRACTION = ConfigProperty
       .key("hoodie.parquet.compression.ratio")
       .defaultValue(String.valueOf(0.1))
@@ -262,6 +280,16 @@ public class HoodieStorageConfig extends HoodieConfig {
       .withDocumentation("The fully-qualified class name of the `HoodieStorage` implementation class to instantiate. "
           + "The provided class should implement `org.apache.hudi.storage.HoodieStorage`");
 
+  public static final ConfigProperty<Boolean> HOODIE_STORAGE_METRICS_ENABLE = ConfigProperty
+      .key("hoodie.storage.metrics.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("When enabled, the `HoodieStorage` instances record the latency histograms of the storage operations "
+          + "(open, seek, read, create, list, rename, delete...) and the number of bytes read and written, tagged by the "
+          + "accessing subsystem (timeline, metadata table, log files or base files). The metrics are reported with the "
+          + "other Hudi metrics, whatever the storage implementation.");
+
   public static final ConfigProperty<String> HOODIE_IO_FACTORY_CLASS = ConfigProperty
       .key("hoodie.io.factory.class")
       .defaultValue("org.apache.hudi.io.storage.hadoop.HoodieHadoopIOFactory")
@@ -444,6 +472,16 @@ public class HoodieStorageConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder logFileDataBlockKeyFilterEnabled(boolean enabled) {
+      storageConfig.setValue(LOGFILE_DATA_BLOCK_KEY_FILTER_ENABLED, String.valueOf(enabled));
+      return this;
+    }
+
+    public Builder logFileDataBlockKeyFilterFpp(double fpp) {
+      storageConfig.setValue(LOGFILE_DATA_BLOCK_KEY_FILTER_FPP, String.valueOf(fpp));
+      return this;
+    }
+
     public Builder logFileMaxSize(long logFileSize) {
       storageConfig.setValue(LOGFILE_MAX_SIZE, String.valueOf(logFileSize));
       return this;
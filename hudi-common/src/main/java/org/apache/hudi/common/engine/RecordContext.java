@@ -29,6 +29,7 @@ import org.apache.hudi.common.table.read.BufferedRecord;
 import org.apache.hudi.common.table.read.DeleteContext;
 import org.apache.hudi.common.util.JavaTypeConverter;
 import org.apache.hudi.common.util.LocalHoodieSchemaCache;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.OrderingValues;
 import org.apache.hudi.common.util.collection.ArrayComparable;
 import org.apache.hudi.common.util.collection.Pair;
@@ -41,11 +42,13 @@ import org.apache.avro.generic.IndexedRecord;
 import javax.annotation.Nullable;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 import static org.apache.hudi.common.model.HoodieRecord.HOODIE_IS_DELETED_FIELD;
@@ -185,6 +188,19 @@ public abstract class RecordContext<T> implements Serializable {
     return recordKeyExtractor.apply(record, schema);
   }
 
+  /**
+   * Gets a filter of the records that may have their record key in the given keys, checked without computing the
+   * record key in String. The filter may accept records whose key is not in the keys, but never rejects a record
+   * whose key is in the keys. Keys that are not String are ignored.
+   *
+   * @param recordKeys The record keys to check the records against.
+   * @param schema     The schema of the records.
+   * @return The filter, or empty if the engine has no check cheaper than the look up of the record key.
+   */
+  public Option<Predicate<T>> getRecordKeyFilter(Collection<?> recordKeys, HoodieSchema schema) {
+    return Option.empty();
+  }
+
   /**
    * Gets the field value.
    *
@@ -22,6 +22,7 @@ import org.apache.hudi.common.util.JsonUtils;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.io.IOException;
@@ -40,16 +41,29 @@ public class ConsistentHashingNode implements Serializable {
   private final int value;
   private final String fileIdPrefix;
   private final NodeTag tag;
+  /**
+   * File id prefix of the bucket this node was lazily split from, null if the node is not lazily split.
+   * Records of the node's hash range written before the split still live in the parent file group,
+   * until a clustering finishes the physical split.
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String parentFileIdPrefix;
 
   public ConsistentHashingNode(int value, String fileIdPrefix) {
     this(value, fileIdPrefix, NodeTag.NORMAL);
   }
 
+  public ConsistentHashingNode(int value, String fileIdPrefix, NodeTag tag) {
+    this(value, fileIdPrefix, tag, null);
+  }
+
   @JsonCreator
-  public ConsistentHashingNode(@JsonProperty("value") int value, @JsonProperty("fileIdPrefix") String fileIdPrefix, @JsonProperty("tag") NodeTag tag) {
+  public ConsistentHashingNode(@JsonProperty("value") int value, @JsonProperty("fileIdPrefix") String fileIdPrefix, @JsonProperty("tag") NodeTag tag,
+                               @JsonProperty("parentFileIdPrefix") String parentFileIdPrefix) {
     this.value = value;
     this.fileIdPrefix = fileIdPrefix;
     this.tag = tag;
+    this.parentFileIdPrefix = parentFileIdPrefix;
   }
 
   public static String toJsonString(List<ConsistentHashingNode> nodes) throws IOException {
@@ -77,10 +91,22 @@ public class ConsistentHashingNode implements Serializable {
     return tag;
   }
 
+  public String getParentFileIdPrefix() {
+    return parentFileIdPrefix;
+  }
+
+  /**
+   * Returns whether the node is a child bucket of a lazy split that has not been physically finished yet.
+   */
+  public boolean isLazilySplit() {
+    return parentFileIdPrefix != null;
+  }
+
   @Override
   public String toString() {
     return "ConsistentHashingNode{" + "value=" + value
         + ", fileIdPfx='" + fileIdPrefix + '\''
+        + (parentFileIdPrefix != null ? ", parentFileIdPfx='" + parentFileIdPrefix + '\'' : "")
         + '}';
   }
 
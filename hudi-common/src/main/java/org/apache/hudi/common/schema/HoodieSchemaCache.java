@@ -18,8 +18,23 @@
 
 package org.apache.hudi.common.schema;
 
+import org.apache.hudi.avro.AvroSchemaCache;
+import org.apache.hudi.common.util.InternalSchemaCache;
+import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.common.util.collection.Triple;
+import org.apache.hudi.exception.HoodieAvroSchemaException;
+import org.apache.hudi.internal.schema.InternalSchema;
+import org.apache.hudi.internal.schema.action.InternalSchemaMerger;
+import org.apache.hudi.internal.schema.convert.InternalSchemaConverter;
+
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A global cache for HoodieSchema instances to ensure that there is only one
@@ -28,13 +43,46 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
  * <p>This is a global cache which works for a JVM lifecycle.
  * A collection of schema instances are maintained.
  *
+ * <p>Besides the schema instances, the cache also maintains the schemas parsed from the schema strings,
+ * e.g., the schemas in the log block headers, and the read schemas merged for the schema evolution,
+ * so that they are not parsed or merged again for each log block or file.
+ *
  * <p>NOTE: The schema which is used frequently should be cached through this cache.
  */
 public class HoodieSchemaCache {
 
+  private static final int MAX_CACHED_SCHEMAS = 1024;
+
   // Ensure that there is only one variable instance of the same schema within an entire JVM lifetime
   private static final LoadingCache<HoodieSchema, HoodieSchema> SCHEMA_CACHE =
-      Caffeine.newBuilder().weakValues().maximumSize(1024).build(k -> k);
+      Caffeine.newBuilder().weakValues().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build(k -> k);
+
+  // The mapping from schema string -> parsed schema, the schemas are interned through SCHEMA_CACHE
+  private static final LoadingCache<String, HoodieSchema> PARSED_SCHEMA_CACHE =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build(k -> intern(HoodieSchema.parse(k)));
+
+  // Same as PARSED_SCHEMA_CACHE, for the schemas parsed without validating the default values
+  private static final LoadingCache<String, HoodieSchema> PARSED_SCHEMA_WITHOUT_DEFAULTS_VALIDATION_CACHE =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build(k -> intern(HoodieSchema.parse(k, false)));
+
+  // Same as PARSED_SCHEMA_CACHE, falls back to the parsing without validating the default values if the validation fails,
+  // so that the schemas failing the validation are not parsed again on each call
+  private static final LoadingCache<String, HoodieSchema> PARSED_SCHEMA_WITH_FALLBACK_CACHE =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build(k -> {
+        try {
+          return parse(k);
+        } catch (HoodieAvroSchemaException e) {
+          return parse(k, false);
+        }
+      });
+
+  // The mapping from (required schema, internal schema) -> internal schema pruned to the required fields
+  private static final Cache<Pair<HoodieSchema, InternalSchema>, InternalSchema> PRUNED_INTERNAL_SCHEMA_CACHE =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build();
+
+  // The mapping from (file schema, query schema, record name) -> (merged read schema, renamed columns)
+  private static final Cache<Triple<InternalSchema, InternalSchema, String>, Pair<HoodieSchema, Map<String, String>>> EVOLVED_SCHEMA_CACHE =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_SCHEMAS).recordStats().build();
 
   /**
    * Get schema variable from global cache. If not found, put it into the cache and then return it.
@@ -45,4 +93,96 @@ public class HoodieSchemaCache {
   public static HoodieSchema intern(HoodieSchema schema) {
     return SCHEMA_CACHE.get(schema);
   }
+
+  /**
+   * Parses the schema string, the schema is parsed only once for the same schema string.
+   *
+   * @param schemaStr the JSON schema string
+   * @return the interned schema
+   */
+  public static HoodieSchema parse(String schemaStr) {
+    return parse(schemaStr, true);
+  }
+
+  /**
+   * Parses the schema string, the schema is parsed only once for the same schema string.
+   *
+   * @param schemaStr        the JSON schema string
+   * @param validateDefaults whether to validate the default values of the fields
+   * @return the interned schema
+   */
+  public static HoodieSchema parse(String schemaStr, boolean validateDefaults) {
+    return validateDefaults
+        ? PARSED_SCHEMA_CACHE.get(schemaStr)
+        : PARSED_SCHEMA_WITHOUT_DEFAULTS_VALIDATION_CACHE.get(schemaStr);
+  }
+
+  /**
+   * Parses the schema string with the validation of the default values, and without it if the validation fails,
+   * e.g., for the schemas of the archived commits from earlier hudi versions.
+   * The schema is parsed only once for the same schema string, whether the validation fails or not.
+   *
+   * @param schemaStr the JSON schema string
+   * @return the interned schema
+   */
+  public static HoodieSchema parseWithFallback(String schemaStr) {
+    return PARSED_SCHEMA_WITH_FALLBACK_CACHE.get(schemaStr);
+  }
+
+  /**
+   * Merges the file schema with the query schema for the schema evolution, see {@link InternalSchemaMerger#mergeSchemaGetRenamed()},
+   * the result is cached for the same file schema and query schema.
+   *
+   * @param fileSchema  the schema the file is written with
+   * @param querySchema the schema to query with
+   * @param recordName  the record name of the merged schema
+   * @return the pair of the merged read schema and the renamed columns
+   */
+  public static Pair<HoodieSchema, Map<String, String>> getEvolvedReadSchema(InternalSchema fileSchema, InternalSchema querySchema, String recordName) {
+    return EVOLVED_SCHEMA_CACHE.get(Triple.of(fileSchema, querySchema, recordName), key -> {
+      Pair<InternalSchema, Map<String, String>> mergedInternalSchema =
+          new InternalSchemaMerger(fileSchema, querySchema, true, false, false).mergeSchemaGetRenamed();
+      // the renamed columns are shared by all the readers
+      return Pair.of(intern(InternalSchemaConverter.convert(mergedInternalSchema.getLeft(), recordName)),
+          Collections.unmodifiableMap(mergedInternalSchema.getRight()));
+    });
+  }
+
+  /**
+   * Prunes the internal schema to the fields of the required schema, see {@link InternalSchemaConverter#pruneHoodieSchemaToInternalSchema},
+   * the result is cached for the same required schema and internal schema.
+   *
+   * @param requiredSchema the schema with the required fields
+   * @param internalSchema the internal schema to prune
+   * @return the pruned internal schema
+   */
+  public static InternalSchema getPrunedInternalSchema(HoodieSchema requiredSchema, InternalSchema internalSchema) {
+    return PRUNED_INTERNAL_SCHEMA_CACHE.get(Pair.of(requiredSchema, internalSchema),
+        key -> InternalSchemaConverter.pruneHoodieSchemaToInternalSchema(requiredSchema, internalSchema));
+  }
+
+  /**
+   * Returns the hit/miss metrics of the global schema caches, including the caches of {@link AvroSchemaCache}
+   * and {@link InternalSchemaCache}.
+   */
+  public static Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new HashMap<>();
+    addMetrics(metrics, "schema", SCHEMA_CACHE.stats());
+    addMetrics(metrics, "parsed_schema", PARSED_SCHEMA_CACHE.stats()
+        .plus(PARSED_SCHEMA_WITHOUT_DEFAULTS_VALIDATION_CACHE.stats()).plus(PARSED_SCHEMA_WITH_FALLBACK_CACHE.stats()));
+    addMetrics(metrics, "pruned_internal_schema", PRUNED_INTERNAL_SCHEMA_CACHE.stats());
+    addMetrics(metrics, "evolved_schema", EVOLVED_SCHEMA_CACHE.stats());
+    addMetrics(metrics, "avro_schema", AvroSchemaCache.getSchemaCacheStats());
+    addMetrics(metrics, "avro_parsed_schema", AvroSchemaCache.getParsedSchemaCacheStats());
+    addMetrics(metrics, "avro_read_schema", AvroSchemaCache.getReadSchemaCacheStats());
+    addMetrics(metrics, "historical_internal_schema", InternalSchemaCache.getHistoricalSchemaCacheStats());
+    return metrics;
+  }
+
+  private static void addMetrics(Map<String, Long> metrics, String cacheName, CacheStats stats) {
+    String prefix = HoodieSchemaCache.class.getSimpleName() + "." + cacheName;
+    metrics.put(prefix + "_hit_count", stats.hitCount());
+    metrics.put(prefix + "_miss_count", stats.missCount());
+    metrics.put(prefix + "_eviction_count", stats.evictionCount());
+  }
 }
@@ -36,6 +36,7 @@ import org.apache.hudi.common.table.timeline.TimelineUtils;
 import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
 import org.apache.hudi.common.util.CollectionUtils;
 import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.StringUtils;
 import org.apache.hudi.common.util.ValidationUtils;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.exception.HoodieException;
@@ -54,8 +55,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.apache.hudi.common.table.cdc.HoodieCDCInferenceCase.AS_IS;
 import static org.apache.hudi.common.table.cdc.HoodieCDCInferenceCase.BASE_FILE_DELETE;
@@ -72,7 +75,8 @@ import static org.apache.hudi.common.table.timeline.HoodieTimeline.REPLACE_COMMI
  *
  * There are some steps:
  * 1. filter out the completed commit instants, and get the related {@link HoodieCommitMetadata} objects.
- * 2. initialize the {@link HoodieTableFileSystemView} by the touched data files.
+ * 2. initialize the {@link HoodieTableFileSystemView} by the touched data files, lazily and only if the
+ *   previous file slices can not be resolved from the write stats directly.
  * 3. extract the cdc information:
  *   generate a {@link HoodieCDCFileSplit} object for each of the instant in (startInstant, endInstant)
  *   and each of the file group which is touched in the range of instants.
@@ -117,48 +121,44 @@ public class HoodieCDCExtractor {
    * each commit/instant and changes to this file group.
    */
   public Map<HoodieFileGroupId, List<HoodieCDCFileSplit>> extractCDCFileSplits() {
-    ValidationUtils.checkState(commits != null, "Empty commits");
-
     Map<HoodieFileGroupId, List<HoodieCDCFileSplit>> fgToCommitChanges = new HashMap<>();
-    for (HoodieInstant instant : commits.keySet()) {
-      HoodieCommitMetadata commitMetadata = commits.get(instant);
+    streamCDCFileSplits().forEach(fileSplit ->
+        fgToCommitChanges.computeIfAbsent(fileSplit.getLeft(), k -> new ArrayList<>()).add(fileSplit.getRight()));
+    return fgToCommitChanges;
+  }
+
+  /**
+   * Returns the CDC file splits with the file group they belong to, in the order of the instants.
+   *
+   * <p>The splits are parsed lazily from the commit metadata of each instant while the stream is consumed,
+   * so that the callers which do not need the splits grouped by file group do not materialize all of them.
+   */
+  public Stream<Pair<HoodieFileGroupId, HoodieCDCFileSplit>> streamCDCFileSplits() {
+    ValidationUtils.checkState(commits != null, "Empty commits");
+    return commits.entrySet().stream().flatMap(entry -> extractCDCFileSplits(entry.getKey(), entry.getValue()));
+  }
 
-      // parse `partitionToWriteStats` in the metadata of commit
-      Map<String, List<HoodieWriteStat>> ptToWriteStats = commitMetadata.getPartitionToWriteStats();
-      for (String partition : ptToWriteStats.keySet()) {
-        List<HoodieWriteStat> hoodieWriteStats = ptToWriteStats.get(partition);
-        hoodieWriteStats.forEach(writeStat -> {
-          HoodieFileGroupId fileGroupId = new HoodieFileGroupId(partition, writeStat.getFileId());
+  private Stream<Pair<HoodieFileGroupId, HoodieCDCFileSplit>> extractCDCFileSplits(HoodieInstant instant, HoodieCommitMetadata commitMetadata) {
+    // parse `partitionToWriteStats` in the metadata of commit
+    Stream<Pair<HoodieFileGroupId, HoodieCDCFileSplit>> changeFiles = commitMetadata.getPartitionToWriteStats().entrySet().stream()
+        .flatMap(ptToWriteStats -> ptToWriteStats.getValue().stream().map(writeStat -> {
+          HoodieFileGroupId fileGroupId = new HoodieFileGroupId(ptToWriteStats.getKey(), writeStat.getFileId());
           // Identify the CDC source involved in this commit and
           // determine its type for subsequent loading using different methods.
-          HoodieCDCFileSplit changeFile =
-              parseWriteStat(fileGroupId, instant, writeStat, commitMetadata.getOperationType());
-          fgToCommitChanges.computeIfAbsent(fileGroupId, k -> new ArrayList<>());
-          fgToCommitChanges.get(fileGroupId).add(changeFile);
-        });
-      }
-
-      if (commitMetadata instanceof HoodieReplaceCommitMetadata) {
-        HoodieReplaceCommitMetadata replaceCommitMetadata = (HoodieReplaceCommitMetadata) commitMetadata;
-        Map<String, List<String>> ptToReplacedFileId = replaceCommitMetadata.getPartitionToReplaceFileIds();
-        for (String partition : ptToReplacedFileId.keySet()) {
-          List<String> fileIds = ptToReplacedFileId.get(partition);
-          fileIds.forEach(fileId -> {
-            Option<FileSlice> latestFileSliceOpt = getOrCreateFsView().fetchLatestFileSlice(partition, fileId);
-            if (latestFileSliceOpt.isPresent()) {
-              HoodieFileGroupId fileGroupId = new HoodieFileGroupId(partition, fileId);
-              HoodieCDCFileSplit changeFile = new HoodieCDCFileSplit(instant.requestedTime(),
-                  REPLACE_COMMIT, new ArrayList<>(), latestFileSliceOpt, Option.empty());
-              if (!fgToCommitChanges.containsKey(fileGroupId)) {
-                fgToCommitChanges.put(fileGroupId, new ArrayList<>());
-              }
-              fgToCommitChanges.get(fileGroupId).add(changeFile);
-            }
-          });
-        }
-      }
+          return Pair.of(fileGroupId, parseWriteStat(fileGroupId, instant, writeStat, commitMetadata.getOperationType()));
+        }));
+    if (!(commitMetadata instanceof HoodieReplaceCommitMetadata)) {
+      return changeFiles;
     }
-    return fgToCommitChanges;
+    Map<String, List<String>> ptToReplacedFileId = ((HoodieReplaceCommitMetadata) commitMetadata).getPartitionToReplaceFileIds();
+    Stream<Pair<HoodieFileGroupId, HoodieCDCFileSplit>> replacedFiles = ptToReplacedFileId.entrySet().stream()
+        .flatMap(ptToFileIds -> ptToFileIds.getValue().stream()
+            .map(fileId -> getOrCreateFsView().fetchLatestFileSlice(ptToFileIds.getKey(), fileId).map(latestFileSlice ->
+                Pair.of(new HoodieFileGroupId(ptToFileIds.getKey(), fileId), new HoodieCDCFileSplit(instant.requestedTime(),
+                    REPLACE_COMMIT, new ArrayList<>(), Option.of(latestFileSlice), Option.empty()))))
+            .filter(Option::isPresent)
+            .map(Option::get));
+    return Stream.concat(changeFiles, replacedFiles);
   }
 
   /**
@@ -240,7 +240,7 @@ public class HoodieCDCExtractor {
           }).filter(pair ->
               WriteOperationType.yieldChanges(pair.getRight().getOperationType())
                   || (this.consumeChangesFromCompaction && pair.getRight().getOperationType() == WriteOperationType.COMPACT)
-          ).collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
+          ).collect(Collectors.toMap(Pair::getLeft, Pair::getRight, (v1, v2) -> v1, TreeMap::new));
     } catch (Exception e) {
       throw new HoodieIOException("Fail to get the commit metadata for CDC");
     }
@@ -271,11 +271,7 @@ public class HoodieCDCExtractor {
           // and no records have been written out a new file.
           // So, we find the previous file that this operation delete from, and treat each of
           // records as a deleted one.
-          HoodieBaseFile beforeBaseFile = getOrCreateFsView().getBaseFileOn(
-              fileGroupId.getPartitionPath(), writeStat.getPrevCommit(), fileGroupId.getFileId()
-          ).orElseThrow(() ->
-              new HoodieIOException("Can not get the previous version of the base file")
-          );
+          HoodieBaseFile beforeBaseFile = getPreviousBaseFile(fileGroupId, writeStat);
           FileSlice beforeFileSlice = new FileSlice(fileGroupId, writeStat.getPrevCommit(), beforeBaseFile, Collections.emptyList());
           cdcFileSplit = new HoodieCDCFileSplit(instantTs, BASE_FILE_DELETE, new ArrayList<>(), Option.of(beforeFileSlice), Option.empty());
         } else if ((writeStat.getNumUpdateWrites() == 0L && writeStat.getNumWrites() == writeStat.getNumInserts())) {
@@ -295,11 +291,7 @@ public class HoodieCDCExtractor {
         cdcFileSplit = new HoodieCDCFileSplit(instantTs, AS_IS, writeStat.getCdcStats().keySet());
       } else {
         try {
-          HoodieBaseFile beforeBaseFile = getOrCreateFsView().getBaseFileOn(
-              fileGroupId.getPartitionPath(), writeStat.getPrevCommit(), fileGroupId.getFileId()
-          ).orElseThrow(() ->
-              new HoodieIOException("Can not get the previous version of the base file")
-          );
+          HoodieBaseFile beforeBaseFile = getPreviousBaseFile(fileGroupId, writeStat);
           FileSlice beforeFileSlice = null;
           FileSlice currentFileSlice = new FileSlice(fileGroupId, instant.requestedTime(),
               new HoodieBaseFile(
@@ -318,6 +310,29 @@ public class HoodieCDCExtractor {
     return cdcFileSplit;
   }
 
+  /**
+   * Returns the base file that the write stat merged with, i.e. the base file written by the previous commit.
+   *
+   * <p>The merge handles record the file name of the previous base file in the write stat, the file is fetched
+   * directly then, the fs view that lists all the touched partitions is only built for the write stats without it.
+   */
+  private HoodieBaseFile getPreviousBaseFile(HoodieFileGroupId fileGroupId, HoodieWriteStat writeStat) {
+    if (!StringUtils.isNullOrEmpty(writeStat.getPrevBaseFile())) {
+      StoragePath prevBaseFilePath = new StoragePath(
+          FSUtils.constructAbsolutePath(basePath, fileGroupId.getPartitionPath()), writeStat.getPrevBaseFile());
+      try {
+        return new HoodieBaseFile(storage.getPathInfo(prevBaseFilePath));
+      } catch (IOException e) {
+        throw new HoodieIOException("Can not get the previous version of the base file " + prevBaseFilePath, e);
+      }
+    }
+    return getOrCreateFsView().getBaseFileOn(
+        fileGroupId.getPartitionPath(), writeStat.getPrevCommit(), fileGroupId.getFileId()
+    ).orElseThrow(() ->
+        new HoodieIOException("Can not get the previous version of the base file")
+    );
+  }
+
   /**
    * For a mor log file, get the completed previous file slice from the related commit metadata.
    * This file slice will be used when we extract the change data from this mor log file.
@@ -118,6 +118,8 @@ public abstract class BaseHoodieLogRecordReader<T> {
   private AtomicLong totalRollbacks = new AtomicLong(0);
   // Total number of corrupt blocks written across all log files
   private AtomicLong totalCorruptBlocks = new AtomicLong(0);
+  // Total number of data blocks skipped by the key lookups based on the key filter in the block header
+  private AtomicLong totalSkippedDataBlocks = new AtomicLong(0);
   // Store the last instant log blocks (needed to implement rollback)
   private Deque<HoodieLogBlock> currentInstantLogBlocks = new ArrayDeque<>();
   // Enables full scan of log records
@@ -209,6 +211,7 @@ public abstract class BaseHoodieLogRecordReader<T> {
     totalLogFiles = new AtomicLong(0);
     totalRollbacks = new AtomicLong(0);
     totalCorruptBlocks = new AtomicLong(0);
+    totalSkippedDataBlocks = new AtomicLong(0);
     totalLogBlocks = new AtomicLong(0);
     totalLogRecords = new AtomicLong(0);
     HoodieLogFormatReader logFormatReaderWrapper = null;
@@ -371,6 +374,7 @@ public abstract class BaseHoodieLogRecordReader<T> {
     totalLogFiles = new AtomicLong(0);
     totalRollbacks = new AtomicLong(0);
     totalCorruptBlocks = new AtomicLong(0);
+    totalSkippedDataBlocks = new AtomicLong(0);
     totalLogBlocks = new AtomicLong(0);
     totalLogRecords = new AtomicLong(0);
     HoodieLogFormatReader logFormatReaderWrapper = null;
@@ -610,7 +614,14 @@ public abstract class BaseHoodieLogRecordReader<T> {
         case AVRO_DATA_BLOCK:
         case HFILE_DATA_BLOCK:
         case PARQUET_DATA_BLOCK:
-          recordBuffer.processDataBlock((HoodieDataBlock) lastBlock, keySpecOpt);
+          HoodieDataBlock dataBlock = (HoodieDataBlock) lastBlock;
+          if (keySpecOpt.isPresent() && dataBlock.canSkipKeyLookup(keySpecOpt.get())) {
+            LOG.debug("Skipping data block of instant {} as it does not contain any of the keys to look up",
+                dataBlock.getLogBlockHeader().get(INSTANT_TIME));
+            totalSkippedDataBlocks.incrementAndGet();
+            break;
+          }
+          recordBuffer.processDataBlock(dataBlock, keySpecOpt);
           break;
         case DELETE_BLOCK:
           recordBuffer.processDeleteBlock((HoodieDeleteBlock) lastBlock);
@@ -667,6 +678,10 @@ public abstract class BaseHoodieLogRecordReader<T> {
     return totalCorruptBlocks.get();
   }
 
+  public long getTotalSkippedDataBlocks() {
+    return totalSkippedDataBlocks.get();
+  }
+
   public boolean isWithOperationField() {
     return withOperationField;
   }
@@ -18,14 +18,17 @@
 
 package org.apache.hudi.common.table.log.block;
 
+import org.apache.hudi.common.bloom.BloomFilter;
+import org.apache.hudi.common.bloom.BloomFilterFactory;
+import org.apache.hudi.common.bloom.BloomFilterTypeCode;
 import org.apache.hudi.common.engine.HoodieReaderContext;
 import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.model.HoodieRecord.HoodieRecordType;
 import org.apache.hudi.common.schema.HoodieSchema;
 import org.apache.hudi.common.schema.HoodieSchemaCache;
+import org.apache.hudi.common.table.log.KeySpec;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.collection.ClosableIterator;
-import org.apache.hudi.exception.HoodieAvroSchemaException;
 import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.io.SeekableDataInputStream;
 import org.apache.hudi.storage.HoodieStorage;
@@ -40,7 +43,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -73,8 +75,8 @@ public abstract class HoodieDataBlock extends HoodieLogBlock {
 
   protected HoodieSchema readerSchema;
 
-  //  Map of string schema to parsed schema.
-  private static final ConcurrentHashMap<String, HoodieSchema> SCHEMA_MAP = new ConcurrentHashMap<>();
+  // Bloom filter of the record keys deserialized from the block header, lazily initialized
+  private Option<BloomFilter> recordKeyBloomFilter;
 
   /**
    * NOTE: This ctor is used on the write-path (ie when records ought to be written into the log)
@@ -141,8 +143,81 @@ public abstract class HoodieDataBlock extends HoodieLogBlock {
         && Boolean.parseBoolean(getLogBlockHeader().get(HeaderMetadataType.IS_PARTIAL));
   }
 
+  /**
+   * Adds the record key range and a bloom filter of the record keys of the given records to the block header,
+   * so that key lookups can decide whether the block may contain the keys of interest without reading the
+   * content of the block, see {@link #canSkipKeyLookup(KeySpec)}.
+   *
+   * @param records        The records to be written into the block.
+   * @param header         The header of the block to be written.
+   * @param bloomFilterFpp The false positive probability of the bloom filter.
+   */
+  public static void addRecordKeyFilterToHeader(List<HoodieRecord> records,
+                                                Map<HeaderMetadataType, String> header,
+                                                double bloomFilterFpp) {
+    if (records.isEmpty()) {
+      return;
+    }
+    String minRecordKey = null;
+    String maxRecordKey = null;
+    BloomFilter bloomFilter = BloomFilterFactory.createBloomFilter(
+        records.size(), bloomFilterFpp, -1, BloomFilterTypeCode.SIMPLE.name());
+    for (HoodieRecord record : records) {
+      String recordKey = record.getRecordKey();
+      if (recordKey == null) {
+        // Cannot derive the key filter if any of the keys is unknown
+        return;
+      }
+      if (minRecordKey == null || recordKey.compareTo(minRecordKey) < 0) {
+        minRecordKey = recordKey;
+      }
+      if (maxRecordKey == null || recordKey.compareTo(maxRecordKey) > 0) {
+        maxRecordKey = recordKey;
+      }
+      bloomFilter.add(recordKey);
+    }
+    header.put(HeaderMetadataType.MIN_RECORD_KEY, minRecordKey);
+    header.put(HeaderMetadataType.MAX_RECORD_KEY, maxRecordKey);
+    header.put(HeaderMetadataType.RECORD_KEY_BLOOM_FILTER, bloomFilter.serializeToString());
+  }
+
+  /**
+   * Checks whether the lookup of the given keys can skip this block entirely, based on the record key range
+   * and the bloom filter stored in the block header. The content of the block is not read.
+   *
+   * @param keySpec The keys of interest.
+   * @return {@code true} if none of the keys can be present in this block; {@code false} otherwise.
+   */
+  public boolean canSkipKeyLookup(KeySpec keySpec) {
+    Map<HeaderMetadataType, String> header = getLogBlockHeader();
+    String minRecordKey = header.get(HeaderMetadataType.MIN_RECORD_KEY);
+    String maxRecordKey = header.get(HeaderMetadataType.MAX_RECORD_KEY);
+    if (minRecordKey == null || maxRecordKey == null || keySpec.getKeys().isEmpty()) {
+      return false;
+    }
+    if (keySpec.isFullKey()) {
+      Option<BloomFilter> bloomFilter = getRecordKeyBloomFilter();
+      return keySpec.getKeys().stream().noneMatch(key -> key.compareTo(minRecordKey) >= 0 && key.compareTo(maxRecordKey) <= 0
+          && (!bloomFilter.isPresent() || bloomFilter.get().mightContain(key)));
+    }
+    // A key with the given prefix can only be in the range if the prefix is not greater than the max key,
+    // and the min key is either not greater than the prefix or starts with the prefix
+    return keySpec.getKeys().stream().noneMatch(prefix -> prefix.compareTo(maxRecordKey) <= 0
+        && (minRecordKey.compareTo(prefix) <= 0 || minRecordKey.startsWith(prefix)));
+  }
+
+  private Option<BloomFilter> getRecordKeyBloomFilter() {
+    if (recordKeyBloomFilter == null) {
+      String serializedBloomFilter = getLogBlockHeader().get(HeaderMetadataType.RECORD_KEY_BLOOM_FILTER);
+      recordKeyBloomFilter = serializedBloomFilter == null
+          ? Option.empty()
+          : Option.of(BloomFilterFactory.fromString(serializedBloomFilter, BloomFilterTypeCode.SIMPLE.name()));
+    }
+    return recordKeyBloomFilter;
+  }
+
   protected static HoodieSchema getWriterSchema(Map<HeaderMetadataType, String> logBlockHeader) {
-    return HoodieSchema.parse(logBlockHeader.get(HeaderMetadataType.SCHEMA));
+    return HoodieSchemaCache.parse(logBlockHeader.get(HeaderMetadataType.SCHEMA));
   }
 
   /**
@@ -367,18 +442,9 @@ public abstract class HoodieDataBlock extends HoodieLogBlock {
   }
 
   protected HoodieSchema getSchemaFromHeader() {
-    String schemaStr = getLogBlockHeader().get(HeaderMetadataType.SCHEMA);
-    SCHEMA_MAP.computeIfAbsent(schemaStr,
-        (schemaString) -> {
-          try {
-            return HoodieSchema.parse(schemaStr);
-          } catch (HoodieAvroSchemaException e) {
-            // Archived commits from earlier hudi versions fail the schema check
-            // So we retry in this one specific instance with validation disabled
-            return HoodieSchema.parse(schemaStr, false);
-          }
-        });
-    return SCHEMA_MAP.get(schemaStr);
+    // Archived commits from earlier hudi versions fail the schema check
+    // So we retry in this one specific instance with validation disabled
+    return HoodieSchemaCache.parseWithFallback(getLogBlockHeader().get(HeaderMetadataType.SCHEMA));
   }
 
   /**
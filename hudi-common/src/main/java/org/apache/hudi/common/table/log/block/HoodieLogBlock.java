@@ -25,6 +25,7 @@ import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.TypeUtils;
 import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.exception.HoodieIOException;
+import org.apache.hudi.io.ReadRange;
 import org.apache.hudi.io.SeekableDataInputStream;
 import org.apache.hudi.storage.HoodieStorage;
 
@@ -40,6 +41,7 @@ import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -231,7 +233,10 @@ public abstract class HoodieLogBlock {
     RECORD_POSITIONS(HoodieTableVersion.SIX),
     BLOCK_IDENTIFIER(HoodieTableVersion.SIX),
     IS_PARTIAL(HoodieTableVersion.EIGHT),
-    BASE_FILE_INSTANT_TIME_OF_RECORD_POSITIONS(HoodieTableVersion.EIGHT);
+    BASE_FILE_INSTANT_TIME_OF_RECORD_POSITIONS(HoodieTableVersion.EIGHT),
+    MIN_RECORD_KEY(HoodieTableVersion.NINE),
+    MAX_RECORD_KEY(HoodieTableVersion.NINE),
+    RECORD_KEY_BLOOM_FILTER(HoodieTableVersion.NINE);
 
     @SuppressWarnings("unused")
     private final HoodieTableVersion earliestTableVersion;
@@ -403,10 +408,10 @@ public abstract class HoodieLogBlock {
     checkState(inputStreamSupplier != null, "Block should have input-stream provided");
 
     try (SeekableDataInputStream inputStream = inputStreamSupplier.get()) {
-      content = Option.of(new byte[(int) this.getBlockContentLocation().get().getBlockSize()]);
-      inputStream.seek(this.getBlockContentLocation().get().getContentPositionInLogFile());
-      inputStream.readFully(content.get(), 0, content.get().length);
-      inputStream.seek(this.getBlockContentLocation().get().getBlockEndPos());
+      // positional read of the content, the stream is not reused afterward
+      HoodieLogBlockContentLocation contentLocation = this.getBlockContentLocation().get();
+      content = Option.of(inputStream.readVectored(Collections.singletonList(
+          new ReadRange(contentLocation.getContentPositionInLogFile(), (int) contentLocation.getBlockSize()))).get(0));
     } catch (InterruptedIOException e) {
       // Stop retry inflate if encounters InterruptedIOException
       Thread.currentThread().interrupt();
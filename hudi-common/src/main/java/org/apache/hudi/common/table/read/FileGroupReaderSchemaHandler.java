@@ -38,8 +38,6 @@ import org.apache.hudi.common.util.VisibleForTesting;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.common.util.collection.Triple;
 import org.apache.hudi.internal.schema.InternalSchema;
-import org.apache.hudi.internal.schema.action.InternalSchemaMerger;
-import org.apache.hudi.internal.schema.convert.InternalSchemaConverter;
 import org.apache.hudi.storage.StoragePath;
 
 import lombok.Getter;
@@ -137,10 +135,7 @@ public class FileGroupReaderSchemaHandler<T> {
     }
     long commitInstantTime = Long.parseLong(FSUtils.getCommitTime(path.getName()));
     InternalSchema fileSchema = InternalSchemaCache.searchSchemaAndCache(commitInstantTime, metaClient);
-    Pair<InternalSchema, Map<String, String>> mergedInternalSchema = new InternalSchemaMerger(fileSchema, internalSchema,
-        true, false, false).mergeSchemaGetRenamed();
-    HoodieSchema mergedAvroSchema = HoodieSchemaCache.intern(InternalSchemaConverter.convert(mergedInternalSchema.getLeft(), requiredSchema.getFullName()));
-    return Pair.of(mergedAvroSchema, mergedInternalSchema.getRight());
+    return HoodieSchemaCache.getEvolvedReadSchema(fileSchema, internalSchema, requiredSchema.getFullName());
   }
 
   private InternalSchema pruneInternalSchema(HoodieSchema requiredSchema, Option<InternalSchema> internalSchemaOption) {
@@ -160,7 +155,7 @@ public class FileGroupReaderSchemaHandler<T> {
   }
 
   protected InternalSchema doPruneInternalSchema(HoodieSchema requiredSchema, InternalSchema internalSchema) {
-    return InternalSchemaConverter.pruneHoodieSchemaToInternalSchema(requiredSchema, internalSchema);
+    return HoodieSchemaCache.getPrunedInternalSchema(requiredSchema, internalSchema);
   }
 
   @VisibleForTesting
@@ -52,6 +52,8 @@ public class HoodieReadStats implements Serializable {
   protected long totalCorruptLogBlock;
   // Total number of rollback blocks seen in a compaction operation
   protected long totalRollbackBlocks;
+  // Total number of data blocks skipped by key lookups based on the key filter in the block header
+  protected long totalSkippedLogBlocks;
 
   public HoodieReadStats() {
   }
@@ -106,6 +108,10 @@ public class HoodieReadStats implements Serializable {
     return totalRollbackBlocks;
   }
 
+  public long getTotalSkippedLogBlocks() {
+    return totalSkippedLogBlocks;
+  }
+
   public void incrementNumInserts() {
     numInserts++;
   }
@@ -149,4 +155,8 @@ public class HoodieReadStats implements Serializable {
   public void setTotalRollbackBlocks(long totalRollbackBlocks) {
     this.totalRollbackBlocks = totalRollbackBlocks;
   }
+
+  public void setTotalSkippedLogBlocks(long totalSkippedLogBlocks) {
+    this.totalSkippedLogBlocks = totalSkippedLogBlocks;
+  }
 }
@@ -45,6 +45,7 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * A buffer that is used to store log records by {@link org.apache.hudi.common.table.log.HoodieMergedLogRecordReader}
@@ -54,6 +55,9 @@ import java.util.List;
  */
 public class KeyBasedFileGroupRecordBuffer<T> extends FileGroupRecordBuffer<T> {
 
+  // rejects the base records without a log record before their record key is computed, built once the log records are loaded
+  private Option<Predicate<T>> baseRecordKeyFilter;
+
   public KeyBasedFileGroupRecordBuffer(HoodieReaderContext<T> readerContext,
                                        HoodieTableMetaClient hoodieTableMetaClient,
                                        RecordMergeMode recordMergeMode,
@@ -133,11 +137,21 @@ public class KeyBasedFileGroupRecordBuffer<T> extends FileGroupRecordBuffer<T> {
   }
 
   protected boolean hasNextBaseRecord(T baseRecord) throws IOException {
+    if (!mayHaveLogRecord(baseRecord)) {
+      return hasNextBaseRecord(baseRecord, null);
+    }
     String recordKey = readerContext.getRecordContext().getRecordKey(baseRecord, readerSchema);
     BufferedRecord<T> logRecordInfo = records.remove(recordKey);
     return hasNextBaseRecord(baseRecord, logRecordInfo);
   }
 
+  private boolean mayHaveLogRecord(T baseRecord) {
+    if (baseRecordKeyFilter == null) {
+      baseRecordKeyFilter = readerContext.getRecordContext().getRecordKeyFilter(records.keySet(), readerSchema);
+    }
+    return !baseRecordKeyFilter.isPresent() || baseRecordKeyFilter.get().test(baseRecord);
+  }
+
   @Override
   protected boolean doHasNext() throws IOException {
     ValidationUtils.checkState(baseFileIterator != null, "Base file iterator has not been set yet");
@@ -58,6 +58,7 @@ abstract class LogScanningRecordBufferLoader {
       readStats.setTotalLogBlocks(logRecordReader.getTotalLogBlocks());
       readStats.setTotalCorruptLogBlock(logRecordReader.getTotalCorruptBlocks());
       readStats.setTotalRollbackBlocks(logRecordReader.getTotalRollbacks());
+      readStats.setTotalSkippedLogBlocks(logRecordReader.getTotalSkippedDataBlocks());
       return logRecordReader.getValidBlockInstants();
     }
   }
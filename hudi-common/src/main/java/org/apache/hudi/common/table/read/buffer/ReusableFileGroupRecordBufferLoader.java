@@ -19,30 +19,47 @@
 
 package org.apache.hudi.common.table.read.buffer;
 
+import org.apache.hudi.common.config.RecordMergeMode;
 import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.engine.HoodieReaderContext;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.PartialUpdateMode;
+import org.apache.hudi.common.table.log.FullKeySpec;
+import org.apache.hudi.common.table.log.KeySpec;
+import org.apache.hudi.common.table.log.block.HoodieDataBlock;
+import org.apache.hudi.common.table.log.block.HoodieDeleteBlock;
+import org.apache.hudi.common.table.log.block.HoodieLogBlock;
 import org.apache.hudi.common.table.read.BaseFileUpdateCallback;
+import org.apache.hudi.common.table.read.BufferedRecord;
 import org.apache.hudi.common.table.read.HoodieReadStats;
 import org.apache.hudi.common.table.read.InputSplit;
 import org.apache.hudi.common.table.read.ReaderParameters;
 import org.apache.hudi.common.table.read.UpdateProcessor;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.storage.HoodieStorage;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A special case for when the record buffer needs to be reused across multiple reads of the same file group.
  *
+ * <p>The log blocks are merged lazily: a lookup only merges the log blocks it needs, the data blocks whose header tells
+ * that they do not contain any of the keys to look up are skipped, see {@link HoodieDataBlock#canSkipKeyLookup(KeySpec)}.
+ *
  * @param <T> the engine specific record type
  */
 public class ReusableFileGroupRecordBufferLoader<T> extends LogScanningRecordBufferLoader implements FileGroupRecordBufferLoader<T>, Closeable {
   private final HoodieReaderContext<T> readerContextWithoutFilters;
-  private Pair<KeyBasedFileGroupRecordBuffer<T>, List<String>> cachedResults;
+  private Pair<LazyMergingRecordBuffer<T>, List<String>> cachedResults;
 
   ReusableFileGroupRecordBufferLoader(HoodieReaderContext<T> readerContextWithoutFilters) {
     this.readerContextWithoutFilters = readerContextWithoutFilters;
@@ -61,15 +78,31 @@ public class ReusableFileGroupRecordBufferLoader<T> extends LogScanningRecordBuf
     UpdateProcessor<T> updateProcessor = UpdateProcessor.create(readStats, readerContext, readerParameters.emitDeletes(), fileGroupUpdateCallback, props);
     Option<PartialUpdateMode> partialUpdateModeOpt = hoodieTableMetaClient.getTableConfig().getPartialUpdateMode();
     if (cachedResults == null) {
-      // Create an initial buffer to process the log files
-      KeyBasedFileGroupRecordBuffer<T> initialBuffer = new KeyBasedFileGroupRecordBuffer<>(
+      // Create an initial buffer to collect the log blocks to merge
+      LazyMergingRecordBuffer<T> initialBuffer = new LazyMergingRecordBuffer<>(
           readerContext, hoodieTableMetaClient, readerContext.getMergeMode(), partialUpdateModeOpt, props, orderingFieldNames, updateProcessor);
       List<String> validInstants = scanLogFiles(readerContextWithoutFilters, storage, inputSplit, hoodieTableMetaClient, props, readerParameters, readStats, initialBuffer);
       cachedResults = Pair.of(initialBuffer, validInstants);
     }
-    // Create a reusable buffer with the results from the initial scan
+    Set<String> lookupKeys = ReusableKeyBasedRecordBuffer.getLookupKeys(readerContext);
+    LazyMergingRecordBuffer<T> cachedBuffer = cachedResults.getLeft();
+    try {
+      readStats.setTotalSkippedLogBlocks(cachedBuffer.mergeLogBlocks(new FullKeySpec(new ArrayList<>(lookupKeys))));
+    } catch (IOException e) {
+      throw new HoodieIOException("Failed to merge the log blocks in partition " + inputSplit.getPartitionPath(), e);
+    }
+    // The cached records are updated by the following lookups, the reusable buffer gets its own copy of the records to look up
+    Map<Serializable, BufferedRecord<T>> cachedRecords = cachedBuffer.getLogRecords();
+    Map<Serializable, BufferedRecord<T>> lookupRecords = new HashMap<>();
+    for (String lookupKey : lookupKeys) {
+      BufferedRecord<T> record = cachedRecords.get(lookupKey);
+      if (record != null) {
+        lookupRecords.put(lookupKey, record);
+      }
+    }
+    // Create a reusable buffer with the merged records of the keys to look up
     ReusableKeyBasedRecordBuffer<T> reusableBuffer = new ReusableKeyBasedRecordBuffer<>(
-        readerContext, hoodieTableMetaClient, readerContext.getMergeMode(), partialUpdateModeOpt, props, orderingFieldNames, updateProcessor, cachedResults.getLeft().getLogRecords());
+        readerContext, hoodieTableMetaClient, readerContext.getMergeMode(), partialUpdateModeOpt, props, orderingFieldNames, updateProcessor, lookupRecords);
     return Pair.of(reusableBuffer, cachedResults.getRight());
   }
 
@@ -80,4 +113,82 @@ public class ReusableFileGroupRecordBufferLoader<T> extends LogScanningRecordBuf
       cachedResults = null;
     }
   }
+
+  /**
+   * The log blocks pending to be merged, in the merging order.
+   *
+   * <p>The records of a key must be merged in the order of the log blocks, so a log block can only be merged after all
+   * the log blocks before it. A lookup merges the log blocks up to the last one that may contain any of its keys,
+   * the log blocks after it stay pending until a following lookup needs them.
+   */
+  static class PendingLogBlocks {
+    private final List<HoodieLogBlock> logBlocks = new ArrayList<>();
+
+    void add(HoodieLogBlock logBlock) {
+      logBlocks.add(logBlock);
+    }
+
+    /**
+     * Removes and returns the log blocks to merge for the lookup of the given keys.
+     */
+    List<HoodieLogBlock> pollLogBlocksToMerge(KeySpec keySpec) {
+      int numLogBlocksToMerge = 0;
+      for (int i = logBlocks.size() - 1; i >= 0; i--) {
+        HoodieLogBlock logBlock = logBlocks.get(i);
+        // the keys of the delete blocks are unknown without reading them
+        if (!(logBlock instanceof HoodieDataBlock) || !((HoodieDataBlock) logBlock).canSkipKeyLookup(keySpec)) {
+          numLogBlocksToMerge = i + 1;
+          break;
+        }
+      }
+      List<HoodieLogBlock> logBlocksToMerge = logBlocks.subList(0, numLogBlocksToMerge);
+      List<HoodieLogBlock> result = new ArrayList<>(logBlocksToMerge);
+      logBlocksToMerge.clear();
+      return result;
+    }
+
+    int size() {
+      return logBlocks.size();
+    }
+  }
+
+  /**
+   * {@link KeyBasedFileGroupRecordBuffer} collecting the log blocks of the scan, which are merged by {@link #mergeLogBlocks(KeySpec)}
+   * when a lookup needs them.
+   */
+  private static class LazyMergingRecordBuffer<T> extends KeyBasedFileGroupRecordBuffer<T> {
+    private final PendingLogBlocks pendingLogBlocks = new PendingLogBlocks();
+
+    LazyMergingRecordBuffer(HoodieReaderContext<T> readerContext, HoodieTableMetaClient hoodieTableMetaClient, RecordMergeMode recordMergeMode,
+                            Option<PartialUpdateMode> partialUpdateModeOpt, TypedProperties props, List<String> orderingFieldNames,
+                            UpdateProcessor<T> updateProcessor) {
+      super(readerContext, hoodieTableMetaClient, recordMergeMode, partialUpdateModeOpt, props, orderingFieldNames, updateProcessor);
+    }
+
+    @Override
+    public void processDataBlock(HoodieDataBlock dataBlock, Option<KeySpec> keySpecOpt) {
+      pendingLogBlocks.add(dataBlock);
+    }
+
+    @Override
+    public void processDeleteBlock(HoodieDeleteBlock deleteBlock) {
+      pendingLogBlocks.add(deleteBlock);
+    }
+
+    /**
+     * Merges the pending log blocks needed by the lookup of the given keys.
+     *
+     * @return the number of log blocks skipped by the lookup
+     */
+    int mergeLogBlocks(KeySpec keySpec) throws IOException {
+      for (HoodieLogBlock logBlock : pendingLogBlocks.pollLogBlocksToMerge(keySpec)) {
+        if (logBlock instanceof HoodieDataBlock) {
+          super.processDataBlock((HoodieDataBlock) logBlock, Option.empty());
+        } else {
+          super.processDeleteBlock((HoodieDeleteBlock) logBlock);
+        }
+      }
+      return pendingLogBlocks.size();
+    }
+  }
 }
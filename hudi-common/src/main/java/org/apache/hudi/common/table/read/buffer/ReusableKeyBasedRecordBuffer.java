@@ -60,10 +60,17 @@ public class ReusableKeyBasedRecordBuffer<T> extends FileGroupRecordBuffer<T> {
                                UpdateProcessor<T> updateProcessor, Map<Serializable, BufferedRecord<T>> records) {
     super(readerContext, hoodieTableMetaClient, recordMergeMode, partialUpdateModeOpt, props, orderingFieldNames, updateProcessor);
     this.existingRecords = records;
+    this.validKeys = getLookupKeys(readerContext);
+  }
+
+  /**
+   * Returns the record keys to look up, given by the key filter of the reader context.
+   */
+  static Set<String> getLookupKeys(HoodieReaderContext<?> readerContext) {
     ValidationUtils.checkArgument(readerContext.getKeyFilterOpt().orElse(null) instanceof Predicates.In,
         () -> "Key filter should be of type Predicates.In, but found: " + readerContext.getKeyFilterOpt().map(filter -> filter.getClass().getSimpleName()).orElse("NULL"));
     List<Expression> children = ((Predicates.In) readerContext.getKeyFilterOpt().get()).getRightChildren();
-    this.validKeys = children.stream().map(e -> (String) e.eval(null)).collect(Collectors.toSet());
+    return children.stream().map(e -> (String) e.eval(null)).collect(Collectors.toSet());
   }
 
   @Override
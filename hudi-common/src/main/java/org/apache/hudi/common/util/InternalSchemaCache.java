@@ -43,6 +43,7 @@ import org.apache.hudi.storage.StoragePathInfo;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,7 +75,7 @@ public class InternalSchemaCache {
   // historySchemas cache maintain a map about (tablePath, HistorySchemas).
   // this is a Global cache, all threads in one container/executor share the same cache.
   private static final Cache<String, TreeMap<Long, InternalSchema>>
-      HISTORICAL_SCHEMA_CACHE = Caffeine.newBuilder().maximumSize(1000).weakValues().build();
+      HISTORICAL_SCHEMA_CACHE = Caffeine.newBuilder().maximumSize(1000).weakValues().recordStats().build();
 
   /**
    * Search internalSchema based on versionID.
@@ -104,6 +105,14 @@ public class InternalSchemaCache {
     }
   }
 
+  /**
+   * Returns the hit/miss statistics of the historical schemas cache,
+   * reported through {@link org.apache.hudi.common.schema.HoodieSchemaCache#getMetrics()}.
+   */
+  public static CacheStats getHistoricalSchemaCacheStats() {
+    return HISTORICAL_SCHEMA_CACHE.stats();
+  }
+
   private static TreeMap<Long, InternalSchema> getHistoricalSchemas(HoodieTableMetaClient metaClient) {
     TreeMap<Long, InternalSchema> result = new TreeMap<>();
     FileBasedInternalSchemaStorageManager schemasManager = new FileBasedInternalSchemaStorageManager(metaClient);
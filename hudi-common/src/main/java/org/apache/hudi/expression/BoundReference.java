@@ -30,6 +30,10 @@ public class BoundReference extends LeafExpression {
     this.type = type;
   }
 
+  public int getOrdinal() {
+    return ordinal;
+  }
+
   @Override
   public Type getDataType() {
     return type;
@@ -48,6 +48,10 @@ public class Comparators {
         }
       });
 
+  public static boolean isSupported(Type.PrimitiveType type) {
+    return COMPARATORS.containsKey(type);
+  }
+
   public static <T> Comparator<T> forType(Type.PrimitiveType type) {
     return (Comparator<T>) Option.ofNullable(COMPARATORS.get(type))
         .orElseThrow(() -> new UnsupportedOperationException("The desired type " + type + " doesn't support comparator yet"));
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.expression;
+
+import org.apache.hudi.internal.schema.Type;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles a bound {@link Expression} into a tree of specialized closures, evaluated with the same semantics
+ * as {@link Expression#eval(StructLike)}.
+ *
+ * <p>The interpreter resolves the comparator of the data type, builds the set of valid values of IN and allocates
+ * the STARTS_WITH predicates on each evaluation. The compiled expression resolves them once, and compares the
+ * INT and LONG based references to the literals of the same type without going through the comparator.
+ * The expressions that are not supported are evaluated by the interpreter.
+ */
+public class ExpressionCompiler {
+
+  /**
+   * Expression compiled by {@link #compile(Expression)}.
+   */
+  @FunctionalInterface
+  public interface CompiledExpression {
+
+    Object eval(StructLike data);
+
+    /**
+     * Evaluates the compiled predicate.
+     */
+    default boolean test(StructLike data) {
+      return (Boolean) eval(data);
+    }
+  }
+
+  public static CompiledExpression compile(Expression expression) {
+    if (expression instanceof Predicates.TrueExpression) {
+      return data -> Boolean.TRUE;
+    }
+    if (expression instanceof Predicates.FalseExpression) {
+      return data -> Boolean.FALSE;
+    }
+    if (expression instanceof Literal) {
+      Object value = ((Literal<?>) expression).getValue();
+      return data -> value;
+    }
+    if (expression instanceof BoundReference) {
+      int ordinal = ((BoundReference) expression).getOrdinal();
+      Class<?> classTag = expression.getDataType().typeId().getClassTag();
+      return data -> data.get(ordinal, classTag);
+    }
+    if (expression instanceof Predicates.And) {
+      return compileAnd((Predicates.And) expression);
+    }
+    if (expression instanceof Predicates.Or) {
+      return compileOr((Predicates.Or) expression);
+    }
+    if (expression instanceof Predicates.Not) {
+      CompiledExpression child = compile(((Predicates.Not) expression).child);
+      return data -> !(Boolean) child.eval(data);
+    }
+    if (expression instanceof Predicates.IsNull) {
+      CompiledExpression child = compile(((Predicates.IsNull) expression).child);
+      return data -> child.eval(data) == null;
+    }
+    if (expression instanceof Predicates.IsNotNull) {
+      CompiledExpression child = compile(((Predicates.IsNotNull) expression).child);
+      return data -> child.eval(data) != null;
+    }
+    if (expression instanceof Predicates.In) {
+      return compileIn((Predicates.In) expression);
+    }
+    if (expression instanceof Predicates.BinaryComparison) {
+      return compileComparison((Predicates.BinaryComparison) expression);
+    }
+    if (expression instanceof Predicates.StringStartsWith) {
+      Predicates.StringStartsWith startsWith = (Predicates.StringStartsWith) expression;
+      CompiledExpression left = compile(startsWith.getLeft());
+      if (startsWith.getRight() instanceof Literal && ((Literal<?>) startsWith.getRight()).getValue() != null) {
+        String prefix = ((Literal<?>) startsWith.getRight()).getValue().toString();
+        return data -> left.eval(data).toString().startsWith(prefix);
+      }
+      CompiledExpression right = compile(startsWith.getRight());
+      return data -> left.eval(data).toString().startsWith(right.eval(data).toString());
+    }
+    if (expression instanceof Predicates.StringContains) {
+      Predicates.StringContains contains = (Predicates.StringContains) expression;
+      CompiledExpression left = compile(contains.getLeft());
+      CompiledExpression right = compile(contains.getRight());
+      return data -> left.eval(data).toString().contains(right.eval(data).toString());
+    }
+    if (expression instanceof Predicates.StringStartsWithAny) {
+      return compileStartsWithAny((Predicates.StringStartsWithAny) expression);
+    }
+    return expression::eval;
+  }
+
+  private static CompiledExpression compileAnd(Predicates.And and) {
+    if (and.getLeft() instanceof Predicates.FalseExpression || and.getRight() instanceof Predicates.FalseExpression) {
+      return data -> Boolean.FALSE;
+    }
+    CompiledExpression left = compile(and.getLeft());
+    CompiledExpression right = compile(and.getRight());
+    return data -> {
+      Object leftValue = left.eval(data);
+      if (leftValue != null && !(Boolean) leftValue) {
+        return false;
+      }
+      Object rightValue = right.eval(data);
+      if (rightValue != null && !(Boolean) rightValue) {
+        return false;
+      }
+      return leftValue != null && rightValue != null;
+    };
+  }
+
+  private static CompiledExpression compileOr(Predicates.Or or) {
+    if (or.getLeft() instanceof Predicates.TrueExpression || or.getRight() instanceof Predicates.TrueExpression) {
+      return data -> Boolean.TRUE;
+    }
+    CompiledExpression left = compile(or.getLeft());
+    CompiledExpression right = compile(or.getRight());
+    return data -> {
+      Object leftValue = left.eval(data);
+      if (leftValue == null) {
+        return false;
+      }
+      if ((Boolean) leftValue) {
+        return true;
+      }
+      Object rightValue = right.eval(data);
+      return rightValue != null && (Boolean) rightValue;
+    };
+  }
+
+  private static CompiledExpression compileIn(Predicates.In in) {
+    CompiledExpression value = compile(in.value);
+    if (in.validValues.stream().allMatch(validValue -> validValue instanceof Literal)) {
+      Set<Object> validValues = in.validValues.stream()
+          .map(validValue -> ((Literal<?>) validValue).getValue())
+          .collect(Collectors.toCollection(HashSet::new));
+      return data -> validValues.contains(value.eval(data));
+    }
+    List<CompiledExpression> validValues = in.validValues.stream().map(ExpressionCompiler::compile).collect(Collectors.toList());
+    return data -> {
+      Set<Object> values = new HashSet<>();
+      for (CompiledExpression validValue : validValues) {
+        values.add(validValue.eval(data));
+      }
+      return values.contains(value.eval(data));
+    };
+  }
+
+  private static CompiledExpression compileStartsWithAny(Predicates.StringStartsWithAny startsWithAny) {
+    List<Expression> children = startsWithAny.getChildren();
+    CompiledExpression left = compile(children.get(0));
+    List<CompiledExpression> prefixes = startsWithAny.getRightChildren().stream()
+        .map(ExpressionCompiler::compile).collect(Collectors.toList());
+    return data -> {
+      for (CompiledExpression prefix : prefixes) {
+        if (left.eval(data).toString().startsWith(prefix.eval(data).toString())) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  private static CompiledExpression compileComparison(Predicates.BinaryComparison comparison) {
+    Type leftType = comparison.getLeft().getDataType();
+    IntPredicate matches = comparisonTest(comparison.getOperator());
+    if (leftType.isNestedType() || matches == null || !Comparators.isSupported((Type.PrimitiveType) leftType)) {
+      // fails on evaluation like the interpreter
+      return comparison::eval;
+    }
+    if (comparison.getLeft() instanceof BoundReference && comparison.getRight() instanceof Literal) {
+      int ordinal = ((BoundReference) comparison.getLeft()).getOrdinal();
+      Object literal = ((Literal<?>) comparison.getRight()).getValue();
+      Class<?> classTag = leftType.typeId().getClassTag();
+      if (literal instanceof Integer && classTag == Integer.class) {
+        int bound = (Integer) literal;
+        return data -> matches.test(Integer.compare(data.get(ordinal, Integer.class), bound));
+      }
+      if (literal instanceof Long && classTag == Long.class) {
+        long bound = (Long) literal;
+        return data -> matches.test(Long.compare(data.get(ordinal, Long.class), bound));
+      }
+    }
+    Comparator<Object> comparator = Comparators.forType((Type.PrimitiveType) leftType);
+    CompiledExpression left = compile(comparison.getLeft());
+    CompiledExpression right = compile(comparison.getRight());
+    return data -> matches.test(comparator.compare(left.eval(data), right.eval(data)));
+  }
+
+  private static IntPredicate comparisonTest(Expression.Operator operator) {
+    switch (operator) {
+      case EQ:
+        return comparison -> comparison == 0;
+      case GT:
+        return comparison -> comparison > 0;
+      case GT_EQ:
+        return comparison -> comparison >= 0;
+      case LT:
+        return comparison -> comparison < 0;
+      case LT_EQ:
+        return comparison -> comparison <= 0;
+      default:
+        return null;
+    }
+  }
+}
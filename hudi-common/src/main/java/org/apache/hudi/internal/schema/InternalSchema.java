@@ -54,6 +54,8 @@ public class InternalSchema implements Serializable {
   private transient Map<String, Integer> nameToId = null;
   private transient Map<Integer, String> idToName = null;
   private transient Map<String, Integer> nameToPosition = null;
+  // the hash code walks the whole record type, which is immutable, so it is computed once
+  private transient int hashCode = 0;
 
   public static InternalSchema getEmptyInternalSchema() {
     return EMPTY_SCHEMA;
@@ -316,6 +318,11 @@ public class InternalSchema implements Serializable {
 
   @Override
   public int hashCode() {
-    return record.hashCode();
+    int hash = hashCode;
+    if (hash == 0) {
+      hash = record.hashCode();
+      hashCode = hash;
+    }
+    return hash;
   }
 }
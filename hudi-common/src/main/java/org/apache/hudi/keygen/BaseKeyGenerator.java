@@ -40,6 +40,7 @@ public abstract class BaseKeyGenerator extends KeyGenerator {
   protected final boolean encodePartitionPath;
   protected final boolean hiveStylePartitioning;
   protected final boolean consistentLogicalTimestampEnabled;
+  protected final boolean compiledFieldExtractionEnabled;
 
   protected BaseKeyGenerator(TypedProperties config) {
     super(config);
@@ -49,6 +50,8 @@ public abstract class BaseKeyGenerator extends KeyGenerator {
         Boolean.parseBoolean(KeyGeneratorOptions.HIVE_STYLE_PARTITIONING_ENABLE.defaultValue()));
     this.consistentLogicalTimestampEnabled = config.getBoolean(KeyGeneratorOptions.KEYGENERATOR_CONSISTENT_LOGICAL_TIMESTAMP_ENABLED.key(),
         Boolean.parseBoolean(KeyGeneratorOptions.KEYGENERATOR_CONSISTENT_LOGICAL_TIMESTAMP_ENABLED.defaultValue()));
+    this.compiledFieldExtractionEnabled = config.getBoolean(KeyGeneratorOptions.KEYGENERATOR_COMPILED_FIELD_EXTRACTION_ENABLED.key(),
+        Boolean.parseBoolean(KeyGeneratorOptions.KEYGENERATOR_COMPILED_FIELD_EXTRACTION_ENABLED.defaultValue()));
   }
 
   /**
@@ -84,4 +87,8 @@ public abstract class BaseKeyGenerator extends KeyGenerator {
   public boolean isConsistentLogicalTimestampEnabled() {
     return consistentLogicalTimestampEnabled;
   }
+
+  public boolean isCompiledFieldExtractionEnabled() {
+    return compiledFieldExtractionEnabled;
+  }
 }
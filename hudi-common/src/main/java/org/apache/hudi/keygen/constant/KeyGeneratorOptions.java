@@ -79,6 +79,16 @@ public class KeyGeneratorOptions extends HoodieConfig {
           + "`2016-12-29 09:54:00.0` in row-writer path, while it will be written as long value `1483023240000000` in non row-writer path. "
           + "If enabled, then the timestamp value will be written in both the cases.");
 
+  public static final ConfigProperty<String> KEYGENERATOR_COMPILED_FIELD_EXTRACTION_ENABLED = ConfigProperty
+      .key("hoodie.datasource.write.keygenerator.compiled.field.extraction.enabled")
+      .defaultValue("false")
+      .sinceVersion("1.2.0")
+      .markAdvanced()
+      .withDocumentation("When set to true, the Avro key generators (simple, complex, timestamp-based and custom) resolve "
+          + "the positions of the record key and partition path fields once per record schema instead of looking up "
+          + "the field names for every record, cache the encoded partition path segments for repeated values, and build "
+          + "the keys in a reusable buffer. The generated keys are identical to the ones generated when disabled.");
+
   /**
    * @deprecated Use {@link #URL_ENCODE_PARTITIONING} and its methods.
    */
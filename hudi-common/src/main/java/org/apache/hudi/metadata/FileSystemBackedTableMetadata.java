@@ -37,6 +37,7 @@ import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.exception.HoodieMetadataException;
 import org.apache.hudi.expression.BindVisitor;
 import org.apache.hudi.expression.Expression;
+import org.apache.hudi.expression.ExpressionCompiler;
 import org.apache.hudi.expression.PartialBindVisitor;
 import org.apache.hudi.expression.Predicates;
 import org.apache.hudi.internal.schema.Types;
@@ -152,6 +153,7 @@ public class FileSystemBackedTableMetadata extends AbstractHoodieTableMetadata {
       fullBoundExpr = Predicates.alwaysTrue();
       needPushDownExpressions = false;
     }
+    ExpressionCompiler.CompiledExpression fullCompiledExpr = ExpressionCompiler.compile(fullBoundExpr);
 
     while (!pathsToList.isEmpty()) {
       // TODO: Get the parallelism from HoodieWriteConfig
@@ -206,7 +208,7 @@ public class FileSystemBackedTableMetadata extends AbstractHoodieTableMetadata {
         partitionPaths.addAll(result.stream().filter(entry -> entry.getKey().isPresent())
             .map(entry -> entry.getKey().get())
             .filter(relativePartitionPath -> fullBoundExpr instanceof Predicates.TrueExpression
-                || (Boolean) fullBoundExpr.eval(
+                || fullCompiledExpr.test(
                 extractPartitionValues(partitionFields, relativePartitionPath,
                     urlEncodePartitioningEnabled)))
             .collect(Collectors.toList()));
@@ -227,10 +229,11 @@ public class FileSystemBackedTableMetadata extends AbstractHoodieTableMetadata {
         } else {
           partialBoundExpr = Predicates.alwaysTrue();
         }
+        ExpressionCompiler.CompiledExpression partialCompiledExpr = ExpressionCompiler.compile(partialBoundExpr);
 
         pathsToList.addAll(result.stream().filter(entry -> entry.getValue().isPresent()).map(entry -> entry.getValue().get())
             .filter(path -> partialBoundExpr instanceof Predicates.TrueExpression
-                || (Boolean) partialBoundExpr.eval(
+                || partialCompiledExpr.test(
                 extractPartitionValues(partitionFields, FSUtils.getRelativePartitionPath(dataBasePath, path), urlEncodePartitioningEnabled)))
             .collect(Collectors.toList()));
       }
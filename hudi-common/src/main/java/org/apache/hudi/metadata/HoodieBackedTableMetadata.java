@@ -49,6 +49,7 @@ import org.apache.hudi.common.table.read.buffer.ReusableFileGroupRecordBufferLoa
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
 import org.apache.hudi.common.util.ConfigUtils;
+import org.apache.hudi.common.util.HoodieTimer;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.StringUtils;
 import org.apache.hudi.common.util.ValidationUtils;
@@ -63,6 +64,7 @@ import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.exception.TableNotFoundException;
 import org.apache.hudi.expression.BindVisitor;
 import org.apache.hudi.expression.Expression;
+import org.apache.hudi.expression.ExpressionCompiler;
 import org.apache.hudi.expression.Literal;
 import org.apache.hudi.expression.Predicate;
 import org.apache.hudi.expression.Predicates;
@@ -88,6 +90,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -197,6 +200,7 @@ public class HoodieBackedTableMetadata extends BaseTableMetadata {
                                                                           Types.RecordType partitionFields,
                                                                           Expression expression) throws IOException {
     Expression boundedExpr = expression.accept(new BindVisitor(partitionFields, caseSensitive));
+    ExpressionCompiler.CompiledExpression compiledExpr = ExpressionCompiler.compile(boundedExpr);
     List<String> selectedPartitionPaths = getPartitionPathWithPathPrefixes(relativePathPrefixes);
 
     // Can only prune partitions if the number of partition levels matches partition fields
@@ -205,7 +209,7 @@ public class HoodieBackedTableMetadata extends BaseTableMetadata {
         && getPathPartitionLevel(partitionFields, selectedPartitionPaths.get(0)) == partitionFields.fields().size()) {
       return selectedPartitionPaths.stream()
           .filter(p ->
-              (boolean) boundedExpr.eval(extractPartitionValues(partitionFields, p, urlEncodePartitioningEnabled)))
+              compiledExpr.test(extractPartitionValues(partitionFields, p, urlEncodePartitioningEnabled)))
           .collect(Collectors.toList());
     }
 
@@ -415,6 +419,10 @@ public class HoodieBackedTableMetadata extends BaseTableMetadata {
       if (indexVersion.equals(HoodieIndexVersion.V1)) {
         return readSecondaryIndexLocationsWithKeysV1(secondaryKeys, partitionName).values();
       } else if (indexVersion.equals(HoodieIndexVersion.V2)) {
+        if (isStreamingSecondaryIndexLookup(secondaryKeys)) {
+          return HoodieListData.eager(streamSecondaryIndexLocationsV2(secondaryKeys.collectAsList(), partitionName).stream()
+              .map(Pair::getValue).collect(Collectors.toList()));
+        }
         return readRecordIndexLocations(readSecondaryIndexDataTableRecordKeysV2(secondaryKeys, partitionName));
       } else {
         throw new IllegalArgumentException("readSecondaryIndexResult does not support index with version " + indexVersion);
@@ -444,9 +452,107 @@ public class HoodieBackedTableMetadata extends BaseTableMetadata {
   }
 
   private HoodiePairData<String, HoodieRecordGlobalLocation> readSecondaryIndexLocationsWithKeysV2(HoodieData<String> secondaryKeys, String partitionName) {
+    if (isStreamingSecondaryIndexLookup(secondaryKeys)) {
+      return HoodieListPairData.eager(streamSecondaryIndexLocationsV2(secondaryKeys.collectAsList(), partitionName));
+    }
     return readRecordIndexLocationsWithKeys(readSecondaryIndexDataTableRecordKeysV2(secondaryKeys, partitionName));
   }
 
+  private boolean isStreamingSecondaryIndexLookup(HoodieData<String> secondaryKeys) {
+    return metadataConfig.isSecondaryIndexStreamingLookupEnabled() && secondaryKeys instanceof HoodieListData;
+  }
+
+  /**
+   * Resolves the secondary keys to the locations of the data table records in a single pass, without materializing the
+   * matching record keys: each secondary index file group is scanned once with the sorted prefixes of its secondary keys,
+   * and the record keys are looked up in the record index in batches of
+   * {@link HoodieMetadataConfig#SECONDARY_INDEX_STREAMING_LOOKUP_BATCH_SIZE} as they are read.
+   *
+   * @param secondaryKeys The secondary keys to look up
+   * @param partitionName The name of the secondary index partition
+   * @return the pairs of record key and location of the records matching the secondary keys
+   */
+  private List<Pair<String, HoodieRecordGlobalLocation>> streamSecondaryIndexLocationsV2(List<String> secondaryKeys, String partitionName) {
+    ValidationUtils.checkState(dataMetaClient.getTableConfig().isMetadataPartitionAvailable(RECORD_INDEX),
+        "Record index is not initialized in MDT");
+    List<FileSlice> secondaryIndexFileSlices = getPartitionFileSlices(partitionName);
+    List<FileSlice> recordIndexFileSlices = getPartitionFileSlices(RECORD_INDEX.getPartitionPath());
+    checkState(!HoodieTableMetadataUtil.verifyRLIFile(recordIndexFileSlices.get(0).getFileId(), true),
+        "File pruning with partitioned rli has not yet been implemented");
+    HoodieTimer timer = HoodieTimer.start();
+
+    // Sorted and distinct key prefixes of each secondary index file group
+    Map<Integer, TreeSet<String>> keyPrefixesByFileGroup = new TreeMap<>();
+    for (String secondaryKey : secondaryKeys) {
+      String keyPrefix = new SecondaryIndexPrefixRawKey(secondaryKey).encode();
+      keyPrefixesByFileGroup.computeIfAbsent(
+          HoodieTableMetadataUtil.mapRecordKeyToFileGroupIndex(keyPrefix, secondaryIndexFileSlices.size()), k -> new TreeSet<>()).add(keyPrefix);
+    }
+
+    int batchSize = metadataConfig.getSecondaryIndexStreamingLookupBatchSize();
+    List<TreeSet<String>> pendingRecordKeys = IntStream.range(0, recordIndexFileSlices.size())
+        .mapToObj(i -> new TreeSet<String>()).collect(Collectors.toList());
+    List<Pair<String, HoodieRecordGlobalLocation>> locations = new ArrayList<>();
+    long numRecordKeys = 0;
+    int numPendingRecordKeys = 0;
+    long recordIndexLookupTimeMs = 0;
+    for (Map.Entry<Integer, TreeSet<String>> entry : keyPrefixesByFileGroup.entrySet()) {
+      try (ClosableIterator<HoodieRecord<HoodieMetadataPayload>> secondaryIndexRecords =
+               lookupRecordsItr(partitionName, entry.getValue(), secondaryIndexFileSlices.get(entry.getKey()), false)) {
+        while (secondaryIndexRecords.hasNext()) {
+          String recordKey = new RecordIndexRawKey(
+              SecondaryIndexKeyUtils.getRecordKeyFromSecondaryIndexKey(secondaryIndexRecords.next().getRecordKey())).encode();
+          if (pendingRecordKeys.get(HoodieTableMetadataUtil.mapRecordKeyToFileGroupIndex(recordKey, recordIndexFileSlices.size())).add(recordKey)) {
+            numRecordKeys++;
+            if (++numPendingRecordKeys >= batchSize) {
+              recordIndexLookupTimeMs += lookupRecordIndexLocations(pendingRecordKeys, recordIndexFileSlices, locations);
+              numPendingRecordKeys = 0;
+            }
+          }
+        }
+      }
+    }
+    recordIndexLookupTimeMs += lookupRecordIndexLocations(pendingRecordKeys, recordIndexFileSlices, locations);
+
+    long totalTimeMs = timer.endTimer();
+    long recordKeysTimeMs = totalTimeMs - recordIndexLookupTimeMs;
+    long finalRecordIndexLookupTimeMs = recordIndexLookupTimeMs;
+    long finalNumRecordKeys = numRecordKeys;
+    metrics.ifPresent(m -> {
+      m.updateMetrics(HoodieMetadataMetrics.LOOKUP_SECONDARY_INDEX_RECORD_KEYS_TIME_STR, recordKeysTimeMs);
+      m.updateMetrics(HoodieMetadataMetrics.LOOKUP_SECONDARY_INDEX_LOCATIONS_TIME_STR, finalRecordIndexLookupTimeMs);
+      m.setMetric(HoodieMetadataMetrics.LOOKUP_SECONDARY_INDEX_RECORD_KEYS_COUNT_STR, finalNumRecordKeys);
+    });
+    LOG.debug("Looked up {} secondary keys matching {} record keys in {} ms, including {} ms in the record index",
+        secondaryKeys.size(), numRecordKeys, totalTimeMs, recordIndexLookupTimeMs);
+    return locations;
+  }
+
+  /**
+   * Looks up the pending record keys of each record index file group, and clears them.
+   *
+   * @return the time spent in the lookups, in ms.
+   */
+  private long lookupRecordIndexLocations(List<TreeSet<String>> pendingRecordKeys, List<FileSlice> recordIndexFileSlices,
+                                          List<Pair<String, HoodieRecordGlobalLocation>> locations) {
+    HoodieTimer timer = HoodieTimer.start();
+    for (int i = 0; i < pendingRecordKeys.size(); i++) {
+      TreeSet<String> recordKeys = pendingRecordKeys.get(i);
+      if (recordKeys.isEmpty()) {
+        continue;
+      }
+      try (ClosableIterator<HoodieRecord<HoodieMetadataPayload>> recordIndexRecords =
+               lookupRecordsItr(RECORD_INDEX.getPartitionPath(), recordKeys, recordIndexFileSlices.get(i), true)) {
+        while (recordIndexRecords.hasNext()) {
+          HoodieRecord<HoodieMetadataPayload> record = recordIndexRecords.next();
+          locations.add(Pair.of(record.getRecordKey(), record.getData().getRecordGlobalLocation()));
+        }
+      }
+      recordKeys.clear();
+    }
+    return timer.endTimer();
+  }
+
   private HoodiePairData<String, HoodieRecordGlobalLocation> readSecondaryIndexLocationsWithKeysV1(HoodieData<String> secondaryKeys, String partitionName) {
     // For secondary index v1 we keep the old implementation.
     ValidationUtils.checkState(secondaryKeys instanceof HoodieListData, "readSecondaryIndex only support HoodieListData at the moment");
@@ -464,15 +570,20 @@ public class HoodieBackedTableMetadata extends BaseTableMetadata {
   protected HoodieData<HoodieRecord<HoodieMetadataPayload>> readIndexRecords(HoodieData<? extends RawKey> rawKeys,
                                                                              String partitionName,
                                                                              Option<String> dataTablePartition) {
-    List<FileSlice> fileSlices = partitionFileSliceMap.computeIfAbsent(partitionName,
-        k -> HoodieTableMetadataUtil.getPartitionLatestMergedFileSlices(metadataMetaClient, getMetadataFileSystemView(), partitionName));
-    checkState(!fileSlices.isEmpty(), "No file slices found for partition: " + partitionName);
+    List<FileSlice> fileSlices = getPartitionFileSlices(partitionName);
 
     // Convert RawKey to String using encode()
     HoodieData<String> keys = rawKeys.map(key -> key.encode());
     return lookupIndexRecords(keys, partitionName, fileSlices, dataTablePartition);
   }
 
+  private List<FileSlice> getPartitionFileSlices(String partitionName) {
+    List<FileSlice> fileSlices = partitionFileSliceMap.computeIfAbsent(partitionName,
+        k -> HoodieTableMetadataUtil.getPartitionLatestMergedFileSlices(metadataMetaClient, getMetadataFileSystemView(), partitionName));
+    checkState(!fileSlices.isEmpty(), "No file slices found for partition: " + partitionName);
+    return fileSlices;
+  }
+
   // When testing we noticed that the parallelism can be very low which hurts the performance. so we should start with a reasonable
   // level of parallelism in that case.
   private HoodieData<String> repartitioningIfNeeded(
@@ -551,7 +662,12 @@ public class HoodieBackedTableMetadata extends BaseTableMetadata {
         .withEnableOptimizedLogBlockScan(metadataConfig.isOptimizedLogBlocksScanEnabled())
         .build();
 
-    return fileGroupReader.getClosableIterator();
+    ClosableIterator<IndexedRecord> iterator = fileGroupReader.getClosableIterator();
+    long skippedLogBlocks = fileGroupReader.getStats().getTotalSkippedLogBlocks();
+    if (skippedLogBlocks > 0) {
+      metrics.ifPresent(m -> m.incrementMetric(HoodieMetadataMetrics.LOOKUP_SKIPPED_LOG_BLOCKS_COUNT_STR, skippedLogBlocks));
+    }
+    return iterator;
   }
 
   private ReusableFileGroupRecordBufferLoader<IndexedRecord> buildReusableRecordBufferLoader(FileSlice fileSlice, String latestMetadataInstantTime,
@@ -62,9 +62,17 @@ public class HoodieMetadataMetrics implements Serializable {
   public static final String LOOKUP_RECORD_INDEX_KEYS_COUNT_STR = "lookup_record_index_key_count";
   // Number of keys found in record index
   public static final String LOOKUP_RECORD_INDEX_KEYS_HITS_COUNT_STR = "lookup_record_index_key_hit_count";
+  // Number of log blocks skipped by key lookups based on the key range and bloom filter in the block header
+  public static final String LOOKUP_SKIPPED_LOG_BLOCKS_COUNT_STR = "lookup_skipped_log_blocks_count";
+  // Time spent in each phase of the streaming secondary index lookups: secondary keys to record keys, and record keys to locations
+  public static final String LOOKUP_SECONDARY_INDEX_RECORD_KEYS_TIME_STR = "lookup_secondary_index_record_keys_time";
+  public static final String LOOKUP_SECONDARY_INDEX_LOCATIONS_TIME_STR = "lookup_secondary_index_locations_time";
+  // Number of record keys matched by the secondary keys in a streaming secondary index lookup
+  public static final String LOOKUP_SECONDARY_INDEX_RECORD_KEYS_COUNT_STR = "lookup_secondary_index_record_key_count";
   public static final String SCAN_STR = "scan";
   public static final String BASEFILE_READ_STR = "basefile_read";
   public static final String INITIALIZE_STR = "initialize";
+  public static final String INITIALIZE_FILE_GROUP_COUNT_STR = "initialize_file_group_count";
   public static final String REBOOTSTRAP_STR = "rebootstrap_count";
   public static final String BOOTSTRAP_ERR_STR = "bootstrap_error";
 
@@ -159,6 +167,10 @@ public class HoodieMetadataMetrics implements Serializable {
   }
 
   protected void incrementMetric(String action, long value) {
+    if (metricsRegistry == null) {
+      // Metrics are not available after deserialization, e.g., on the executors
+      return;
+    }
     LOG.debug("Updating metadata metrics ({}={}) in {}", action, value, metricsRegistry);
     Option<HoodieGauge<Long>> gaugeOpt = metrics.registerGauge(action);
     gaugeOpt.ifPresent(gauge -> gauge.setValue(gauge.getValue() + value));
@@ -19,6 +19,7 @@
 package org.apache.hudi.metrics;
 
 import org.apache.hudi.common.metrics.Registry;
+import org.apache.hudi.common.schema.HoodieSchemaCache;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.StringUtils;
@@ -76,6 +77,7 @@ public class Metrics {
 
   private void registerHoodieCommonMetrics() {
     registerGauges(Registry.getAllMetrics(true, true), Option.of(commonMetricPrefix));
+    registerGauges(HoodieSchemaCache.getMetrics(), Option.of(commonMetricPrefix));
   }
 
   public static synchronized Metrics getInstance(HoodieMetricsConfig metricConfig, HoodieStorage storage) {
@@ -25,6 +25,8 @@ import org.apache.hudi.exception.HoodieException;
 
 public class HoodieStorageUtils {
   public static final String DEFAULT_URI = "file:///";
+  private static final String HADOOP_STORAGE_CLASS = "org.apache.hudi.storage.hadoop.HoodieHadoopStorage";
+  private static final String HADOOP_INSTRUMENTED_STORAGE_CLASS = "org.apache.hudi.storage.hadoop.HoodieHadoopInstrumentedStorage";
 
   public static HoodieStorage getStorage(StorageConfiguration<?> conf) {
     return getStorage(DEFAULT_URI, conf);
@@ -38,10 +40,21 @@ public class HoodieStorageUtils {
     String storageClass = conf.getString(HoodieStorageConfig.HOODIE_STORAGE_CLASS.key())
         .orElse(HoodieStorageConfig.HOODIE_STORAGE_CLASS.defaultValue());
     try {
-      return (HoodieStorage) ReflectionUtils.loadClass(
+      HoodieStorage storage = (HoodieStorage) ReflectionUtils.loadClass(
           storageClass, new Class<?>[] {StoragePath.class, StorageConfiguration.class}, path, conf);
+      return conf.getBoolean(HoodieStorageConfig.HOODIE_STORAGE_METRICS_ENABLE.key(), HoodieStorageConfig.HOODIE_STORAGE_METRICS_ENABLE.defaultValue())
+          ? instrument(storage) : storage;
     } catch (Exception e) {
       throw new HoodieException("Unable to create " + storageClass, e);
     }
   }
+
+  private static HoodieStorage instrument(HoodieStorage storage) {
+    // the output streams of the Hadoop storage must stay Syncable for the log writer
+    if (HADOOP_STORAGE_CLASS.equals(storage.getClass().getName())) {
+      return (HoodieStorage) ReflectionUtils.loadClass(
+          HADOOP_INSTRUMENTED_STORAGE_CLASS, new Class<?>[] {HoodieStorage.class}, storage);
+    }
+    return new HoodieInstrumentedStorage(storage);
+  }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.hudi.common;
 
+import org.apache.hudi.common.metrics.Histogram;
 import org.apache.hudi.common.metrics.Registry;
 
 import org.junit.jupiter.api.Test;
@@ -76,4 +77,37 @@ public class TestRegistry {
     assertEquals(countsMap, r.getAllCounts());
   }
 
+  @Test
+  public void testHistograms() throws Exception {
+    Registry r = Registry.getRegistry("testHistograms");
+    for (long i = 1; i <= 1000; i++) {
+      r.updateHistogram("latency", i);
+    }
+    Map<String, Long> counts = r.getAllCounts();
+    assertEquals(1000L, counts.get("latency.count"));
+    assertEquals(500500L, counts.get("latency.total"));
+    assertEquals(1000L, counts.get("latency.max"));
+    // the percentiles are reported with a relative error below 1/16
+    assertTrue(Math.abs(counts.get("latency.p50") - 500) <= 500 / 16);
+    assertTrue(Math.abs(counts.get("latency.p99") - 990) <= 990 / 16);
+
+    r.clear();
+    assertTrue(r.getAllCounts().isEmpty());
+  }
+
+  @Test
+  public void testHistogramBuckets() {
+    Histogram histogram = new Histogram();
+    assertEquals(0L, histogram.getValueAtPercentile(50));
+    histogram.update(-1);
+    histogram.update(7);
+    histogram.update(Long.MAX_VALUE);
+    assertEquals(0L, histogram.getValueAtPercentile(0));
+    assertEquals(7L, histogram.getValueAtPercentile(50));
+    assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    histogram.reset();
+    assertEquals(0L, histogram.getCount());
+    assertEquals(0L, histogram.getMax());
+  }
+
 }
\ No newline at end of file
@@ -21,6 +21,9 @@ package org.apache.hudi.common.model;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Tests {@link HoodieConsistentHashingMetadata}.
  */
@@ -31,4 +34,24 @@ public class TestHoodieConsistentHashingMetadata {
     Assertions.assertTrue(HoodieConsistentHashingMetadata.getTimestampFromFile("0000.hashing_metadata").equals("0000"));
     Assertions.assertTrue(HoodieConsistentHashingMetadata.getTimestampFromFile("1234.hashing_metadata").equals("1234"));
   }
+
+  @Test
+  public void testLazilySplitNodesSerDe() throws Exception {
+    List<ConsistentHashingNode> nodes = Arrays.asList(
+        new ConsistentHashingNode(100, "0"),
+        new ConsistentHashingNode(200, "1", ConsistentHashingNode.NodeTag.NORMAL, "p"));
+    String json = ConsistentHashingNode.toJsonString(nodes);
+    // Nodes that are not lazily split are serialized as before
+    Assertions.assertEquals(1, json.split("parentFileIdPrefix", -1).length - 1);
+
+    List<ConsistentHashingNode> deserialized = ConsistentHashingNode.fromJsonString(json);
+    Assertions.assertFalse(deserialized.get(0).isLazilySplit());
+    Assertions.assertTrue(deserialized.get(1).isLazilySplit());
+    Assertions.assertEquals("p", deserialized.get(1).getParentFileIdPrefix());
+
+    HoodieConsistentHashingMetadata metadata = new HoodieConsistentHashingMetadata((short) 0, "partition", "001", 2, 1, nodes);
+    HoodieConsistentHashingMetadata restored = HoodieConsistentHashingMetadata.fromBytes(metadata.toBytes());
+    Assertions.assertEquals("p", restored.getNodes().get(1).getParentFileIdPrefix());
+    Assertions.assertNull(restored.getNodes().get(0).getParentFileIdPrefix());
+  }
 }
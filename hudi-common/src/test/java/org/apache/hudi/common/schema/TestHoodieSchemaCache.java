@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.common.schema;
+
+import org.apache.hudi.avro.AvroSchemaCache;
+import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.exception.HoodieAvroSchemaException;
+import org.apache.hudi.internal.schema.InternalSchema;
+import org.apache.hudi.internal.schema.action.InternalSchemaMerger;
+import org.apache.hudi.internal.schema.convert.InternalSchemaConverter;
+
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link HoodieSchemaCache} and {@link AvroSchemaCache}.
+ */
+public class TestHoodieSchemaCache {
+
+  private static final String SCHEMA_STR = "{\"type\": \"record\", \"name\": \"rec\", \"fields\": ["
+      + "{\"name\": \"id\", \"type\": \"string\"},"
+      + "{\"name\": \"value\", \"type\": \"int\"}]}";
+
+  private static final String PROMOTED_SCHEMA_STR = "{\"type\": \"record\", \"name\": \"rec\", \"fields\": ["
+      + "{\"name\": \"id\", \"type\": \"string\"},"
+      + "{\"name\": \"value\", \"type\": \"string\"}]}";
+
+  private static final String INVALID_DEFAULT_SCHEMA_STR = "{\"type\": \"record\", \"name\": \"rec\", \"fields\": ["
+      + "{\"name\": \"id\", \"type\": \"string\", \"default\": 1}]}";
+
+  @Test
+  void testParse() {
+    HoodieSchema schema = HoodieSchemaCache.parse(SCHEMA_STR);
+    assertEquals(HoodieSchema.parse(SCHEMA_STR), schema);
+    // the schema string is parsed only once, and the parsed schema is interned
+    assertSame(schema, HoodieSchemaCache.parse(new String(SCHEMA_STR)));
+    assertSame(schema, HoodieSchemaCache.intern(HoodieSchema.parse(SCHEMA_STR)));
+
+    Map<String, Long> metrics = HoodieSchemaCache.getMetrics();
+    assertTrue(metrics.get("HoodieSchemaCache.parsed_schema_hit_count") >= 1);
+    assertTrue(metrics.get("HoodieSchemaCache.parsed_schema_miss_count") >= 1);
+
+    // the failures are not cached
+    assertThrows(HoodieAvroSchemaException.class, () -> HoodieSchemaCache.parse(INVALID_DEFAULT_SCHEMA_STR));
+    assertThrows(HoodieAvroSchemaException.class, () -> HoodieSchemaCache.parse(INVALID_DEFAULT_SCHEMA_STR));
+    HoodieSchema schemaWithoutDefaultsValidation = HoodieSchemaCache.parse(INVALID_DEFAULT_SCHEMA_STR, false);
+    assertSame(schemaWithoutDefaultsValidation, HoodieSchemaCache.parse(INVALID_DEFAULT_SCHEMA_STR, false));
+
+    // the fallback parsing caches the schemas failing the validation
+    assertSame(schema, HoodieSchemaCache.parseWithFallback(SCHEMA_STR));
+    assertSame(schemaWithoutDefaultsValidation, HoodieSchemaCache.parseWithFallback(INVALID_DEFAULT_SCHEMA_STR));
+    long missCount = HoodieSchemaCache.getMetrics().get("HoodieSchemaCache.parsed_schema_miss_count");
+    assertSame(schemaWithoutDefaultsValidation, HoodieSchemaCache.parseWithFallback(INVALID_DEFAULT_SCHEMA_STR));
+    assertEquals(missCount, HoodieSchemaCache.getMetrics().get("HoodieSchemaCache.parsed_schema_miss_count"));
+  }
+
+  @Test
+  void testAvroParse() {
+    Schema schema = AvroSchemaCache.parse(SCHEMA_STR);
+    assertEquals(new Schema.Parser().parse(SCHEMA_STR), schema);
+    assertSame(schema, AvroSchemaCache.parse(new String(SCHEMA_STR)));
+    assertSame(schema, AvroSchemaCache.intern(new Schema.Parser().parse(SCHEMA_STR)));
+  }
+
+  @Test
+  void testResolveReadSchemas() {
+    Schema writerSchema = AvroSchemaCache.parse(SCHEMA_STR);
+    Pair<Schema, Boolean> readSchemas = AvroSchemaCache.resolveReadSchemas(writerSchema, writerSchema, true);
+    assertEquals(writerSchema, readSchemas.getLeft());
+    assertFalse(readSchemas.getRight());
+    assertSame(readSchemas, AvroSchemaCache.resolveReadSchemas(writerSchema, writerSchema, true));
+
+    // int -> string promotion is not supported by avro, the records are rewritten after decoding
+    Schema readerSchema = AvroSchemaCache.parse(PROMOTED_SCHEMA_STR);
+    readSchemas = AvroSchemaCache.resolveReadSchemas(writerSchema, readerSchema, false);
+    assertSame(writerSchema, readSchemas.getLeft());
+    assertTrue(readSchemas.getRight());
+  }
+
+  @Test
+  void testGetEvolvedReadSchema() {
+    InternalSchema fileSchema = InternalSchemaConverter.convert(HoodieSchema.parse(SCHEMA_STR));
+    InternalSchema querySchema = InternalSchemaConverter.convert(HoodieSchema.parse(PROMOTED_SCHEMA_STR));
+    Pair<HoodieSchema, Map<String, String>> evolvedSchema = HoodieSchemaCache.getEvolvedReadSchema(fileSchema, querySchema, "rec");
+
+    Pair<InternalSchema, Map<String, String>> expected = new InternalSchemaMerger(fileSchema, querySchema, true, false, false).mergeSchemaGetRenamed();
+    assertEquals(InternalSchemaConverter.convert(expected.getLeft(), "rec"), evolvedSchema.getLeft());
+    assertEquals(expected.getRight(), evolvedSchema.getRight());
+    assertSame(evolvedSchema, HoodieSchemaCache.getEvolvedReadSchema(fileSchema, querySchema, "rec"));
+    // the cached renamed columns are shared by the callers
+    assertThrows(UnsupportedOperationException.class, () -> evolvedSchema.getRight().put("a", "b"));
+  }
+
+  @Test
+  void testGetPrunedInternalSchema() {
+    InternalSchema internalSchema = InternalSchemaConverter.convert(HoodieSchema.parse(SCHEMA_STR));
+    HoodieSchema requiredSchema = HoodieSchemaCache.parse("{\"type\": \"record\", \"name\": \"rec\", \"fields\": ["
+        + "{\"name\": \"value\", \"type\": \"int\"}]}");
+    InternalSchema prunedSchema = HoodieSchemaCache.getPrunedInternalSchema(requiredSchema, internalSchema);
+    assertEquals(InternalSchemaConverter.pruneHoodieSchemaToInternalSchema(requiredSchema, internalSchema), prunedSchema);
+    assertEquals(1, prunedSchema.getRecord().fields().size());
+    assertSame(prunedSchema, HoodieSchemaCache.getPrunedInternalSchema(requiredSchema, internalSchema));
+    assertEquals(internalSchema.hashCode(), InternalSchemaConverter.convert(HoodieSchema.parse(SCHEMA_STR)).hashCode());
+  }
+}
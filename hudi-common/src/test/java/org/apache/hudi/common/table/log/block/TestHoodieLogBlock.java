@@ -19,11 +19,16 @@
 
 package org.apache.hudi.common.table.log.block;
 
+import org.apache.hudi.common.model.EmptyHoodieRecordPayload;
+import org.apache.hudi.common.model.HoodieAvroRecord;
+import org.apache.hudi.common.model.HoodieKey;
 import org.apache.hudi.common.model.HoodieLogFile;
+import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.schema.HoodieSchema;
+import org.apache.hudi.common.table.log.KeySpec;
 import org.apache.hudi.common.util.Option;
-import org.apache.hudi.io.ByteBufferBackedInputStream;
 import org.apache.hudi.io.ByteArraySeekableDataInputStream;
+import org.apache.hudi.io.ByteBufferBackedInputStream;
 import org.apache.hudi.io.SeekableDataInputStream;
 import org.apache.hudi.storage.HoodieStorage;
 
@@ -35,10 +40,13 @@ import org.mockito.stubbing.Answer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -104,6 +112,56 @@ public class TestHoodieLogBlock {
     Assertions.assertEquals("true", b.get(HoodieLogBlock.HeaderMetadataType.IS_PARTIAL));
   }
 
+  @Test
+  public void testSkipKeyLookupWithKeyFilterInHeader() throws IOException {
+    List<HoodieRecord> records = Arrays.asList("key03", "key05", "key07").stream()
+        .map(key -> new HoodieAvroRecord<>(new HoodieKey(key, ""), new EmptyHoodieRecordPayload()))
+        .collect(Collectors.toList());
+    Map<HoodieLogBlock.HeaderMetadataType, String> header = new HashMap<>();
+    header.put(HoodieLogBlock.HeaderMetadataType.INSTANT_TIME, "100");
+    HoodieDataBlock.addRecordKeyFilterToHeader(records, header, 0.000001);
+    Assertions.assertEquals("key03", header.get(HoodieLogBlock.HeaderMetadataType.MIN_RECORD_KEY));
+    Assertions.assertEquals("key07", header.get(HoodieLogBlock.HeaderMetadataType.MAX_RECORD_KEY));
+
+    // The key filter is read back from the serialized header
+    Map<HoodieLogBlock.HeaderMetadataType, String> readHeader = HoodieLogBlock.getHeaderMetadata(
+        new ByteArraySeekableDataInputStream(new ByteBufferBackedInputStream(HoodieLogBlock.getHeaderMetadataBytes(header))));
+    HoodieDataBlock dataBlock = createLazyDataBlock(readHeader);
+
+    assertFalse(dataBlock.canSkipKeyLookup(KeySpec.fullKeySpec(Collections.singletonList("key05"))));
+    assertFalse(dataBlock.canSkipKeyLookup(KeySpec.fullKeySpec(Arrays.asList("key01", "key07"))));
+    // Out of the key range
+    assertTrue(dataBlock.canSkipKeyLookup(KeySpec.fullKeySpec(Arrays.asList("key01", "key09"))));
+    // Within the key range, filtered by the bloom filter
+    assertTrue(dataBlock.canSkipKeyLookup(KeySpec.fullKeySpec(Arrays.asList("key04", "key06"))));
+
+    assertFalse(dataBlock.canSkipKeyLookup(KeySpec.prefixKeySpec(Collections.singletonList("key"))));
+    assertFalse(dataBlock.canSkipKeyLookup(KeySpec.prefixKeySpec(Collections.singletonList("key0"))));
+    assertFalse(dataBlock.canSkipKeyLookup(KeySpec.prefixKeySpec(Collections.singletonList("key04"))));
+    assertTrue(dataBlock.canSkipKeyLookup(KeySpec.prefixKeySpec(Arrays.asList("key1", "a"))));
+    assertTrue(dataBlock.canSkipKeyLookup(KeySpec.prefixKeySpec(Collections.singletonList("key08"))));
+
+    // Blocks without the key filter in the header are never skipped
+    HoodieDataBlock blockWithoutKeyFilter = createLazyDataBlock(Collections.singletonMap(HoodieLogBlock.HeaderMetadataType.INSTANT_TIME, "100"));
+    assertFalse(blockWithoutKeyFilter.canSkipKeyLookup(KeySpec.fullKeySpec(Collections.singletonList("key01"))));
+  }
+
+  private HoodieDataBlock createLazyDataBlock(Map<HoodieLogBlock.HeaderMetadataType, String> header) {
+    return new HoodieAvroDataBlock(
+        () -> {
+          throw new IllegalStateException("The block content should not be read");
+        },
+        Option.empty(),
+        true,
+        new HoodieLogBlock.HoodieLogBlockContentLocation(
+            mock(HoodieStorage.class), new HoodieLogFile("log_file"), 0, 0, 0),
+        Option.of(HoodieSchema.createRecord("test_schema", null, null, Collections.emptyList())),
+        header,
+        Collections.emptyMap(),
+        "key"
+    );
+  }
+
   private SeekableDataInputStream prepareMockedLogInputStream(int contentSize,
                                                               int numReadFailTimes) throws IOException {
     IOException exception = new IOException("Read content from log file fails");
@@ -23,6 +23,7 @@ import org.apache.hudi.avro.HoodieAvroReaderContext;
 import org.apache.hudi.common.config.RecordMergeMode;
 import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.engine.HoodieReaderContext;
+import org.apache.hudi.common.engine.RecordContext;
 import org.apache.hudi.common.model.DeleteRecord;
 import org.apache.hudi.common.model.HoodieAvroRecordMerger;
 import org.apache.hudi.common.model.HoodieRecord;
@@ -46,12 +47,20 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static org.apache.hudi.common.model.DefaultHoodieRecordPayload.DELETE_KEY;
 import static org.apache.hudi.common.model.DefaultHoodieRecordPayload.DELETE_MARKER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TestKeyBasedFileGroupRecordBuffer extends BaseTestFileGroupRecordBuffer {
@@ -176,6 +185,38 @@ class TestKeyBasedFileGroupRecordBuffer extends BaseTestFileGroupRecordBuffer {
     assertEquals(3, readStats.getNumUpdates());
   }
 
+  @Test
+  void readWithRecordKeyFilter() throws IOException {
+    HoodieReadStats readStats = new HoodieReadStats();
+    HoodieTableConfig tableConfig = mock(HoodieTableConfig.class);
+    when(tableConfig.getRecordKeyFields()).thenReturn(Option.of(new String[] {"record_key"}));
+    StorageConfiguration<?> storageConfiguration = mock(StorageConfiguration.class);
+    HoodieReaderContext<IndexedRecord> readerContext = spy(new HoodieAvroReaderContext(storageConfiguration, tableConfig, Option.empty(), Option.empty()));
+    RecordContext<IndexedRecord> recordContext = spy(readerContext.getRecordContext());
+    when(readerContext.getRecordContext()).thenReturn(recordContext);
+    // the filter rejects the base record without a log record
+    doReturn(Option.of((Predicate<IndexedRecord>) record -> record != testRecord3)).when(recordContext).getRecordKeyFilter(any(), any());
+    KeyBasedFileGroupRecordBuffer<IndexedRecord> fileGroupRecordBuffer = buildKeyBasedFileGroupRecordBuffer(readerContext, tableConfig, readStats, null,
+        RecordMergeMode.COMMIT_TIME_ORDERING, Collections.emptyList(), Option.of(Pair.of("counter", "3")));
+
+    fileGroupRecordBuffer.setBaseFileIterator(ClosableIterator.wrap(Arrays.asList(testRecord1, testRecord2, testRecord3).iterator()));
+
+    HoodieDataBlock dataBlock = mock(HoodieDataBlock.class);
+    when(dataBlock.getSchema()).thenReturn(SCHEMA);
+    when(dataBlock.getEngineRecordIterator(readerContext)).thenReturn(ClosableIterator.wrap(Arrays.asList(testRecord1UpdateWithSameTime, testRecord2Update).iterator()));
+
+    fileGroupRecordBuffer.processDataBlock(dataBlock, Option.empty());
+
+    List<IndexedRecord> actualRecords = getActualRecords(fileGroupRecordBuffer);
+    assertEquals(Arrays.asList(testRecord1UpdateWithSameTime, testRecord2Update, testRecord3), actualRecords);
+    assertEquals(0, readStats.getNumInserts());
+    assertEquals(0, readStats.getNumDeletes());
+    assertEquals(2, readStats.getNumUpdates());
+    // the filter is built once and the rejected base record skips the record key extraction
+    verify(recordContext, times(1)).getRecordKeyFilter(any(), any());
+    verify(recordContext, never()).getRecordKey(eq(testRecord3), any());
+  }
+
   @Test
   void readWithCommitTimeOrdering() throws IOException {
     HoodieReadStats readStats = new HoodieReadStats();
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.common.table.read.buffer;
+
+import org.apache.hudi.common.table.log.FullKeySpec;
+import org.apache.hudi.common.table.log.KeySpec;
+import org.apache.hudi.common.table.log.block.HoodieDataBlock;
+import org.apache.hudi.common.table.log.block.HoodieDeleteBlock;
+import org.apache.hudi.common.table.log.block.HoodieLogBlock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TestReusableFileGroupRecordBufferLoader {
+
+  @Test
+  void testPollLogBlocksToMerge() {
+    KeySpec firstLookup = new FullKeySpec(Collections.singletonList("key1"));
+    KeySpec secondLookup = new FullKeySpec(Collections.singletonList("key2"));
+    HoodieDataBlock dataBlock1 = mockDataBlock(firstLookup);
+    HoodieDataBlock dataBlock2 = mockDataBlock(null);
+    HoodieDeleteBlock deleteBlock = mock(HoodieDeleteBlock.class);
+    HoodieDataBlock dataBlock3 = mockDataBlock(null);
+    HoodieDataBlock dataBlock4 = mockDataBlock(secondLookup);
+    HoodieDataBlock dataBlock5 = mockDataBlock(null);
+
+    ReusableFileGroupRecordBufferLoader.PendingLogBlocks pendingLogBlocks = new ReusableFileGroupRecordBufferLoader.PendingLogBlocks();
+    Arrays.asList(dataBlock1, dataBlock2, deleteBlock, dataBlock3, dataBlock4, dataBlock5).forEach(pendingLogBlocks::add);
+
+    // the delete block is always merged, the blocks after it are skipped as they do not contain the key
+    assertEquals(Arrays.<HoodieLogBlock>asList(dataBlock1, dataBlock2, deleteBlock), pendingLogBlocks.pollLogBlocksToMerge(firstLookup));
+    assertEquals(3, pendingLogBlocks.size());
+    // the blocks are merged in order up to the last block that may contain the key
+    assertEquals(Arrays.<HoodieLogBlock>asList(dataBlock3, dataBlock4), pendingLogBlocks.pollLogBlocksToMerge(secondLookup));
+    assertEquals(1, pendingLogBlocks.size());
+    assertEquals(Collections.emptyList(), pendingLogBlocks.pollLogBlocksToMerge(firstLookup));
+    assertEquals(1, pendingLogBlocks.size());
+  }
+
+  /**
+   * Mocks a data block that may only contain the keys of the given lookup.
+   */
+  private static HoodieDataBlock mockDataBlock(KeySpec lookup) {
+    HoodieDataBlock dataBlock = mock(HoodieDataBlock.class);
+    when(dataBlock.canSkipKeyLookup(any())).thenAnswer(invocation -> invocation.getArgument(0) != lookup);
+    return dataBlock;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.expression;
+
+import org.apache.hudi.internal.schema.Types;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestExpressionCompiler {
+
+  private static final BoundReference REGION = new BoundReference(0, Types.StringType.get());
+  private static final BoundReference DAY = new BoundReference(1, Types.IntType.get());
+  private static final BoundReference TS = new BoundReference(2, Types.LongType.get());
+  private static final BoundReference FLAG = new BoundReference(3, Types.BooleanType.get());
+
+  @Test
+  void testSameResultsAsInterpreter() {
+    List<Expression> expressions = Arrays.asList(
+        Predicates.eq(DAY, Literal.from(5)),
+        Predicates.gt(DAY, Literal.from(5)),
+        Predicates.lteq(Literal.from(5), DAY),
+        Predicates.lt(TS, Literal.from(500L)),
+        Predicates.gteq(REGION, Literal.from("eu")),
+        Predicates.and(Predicates.gteq(DAY, Literal.from(3)), Predicates.lt(DAY, Literal.from(8))),
+        Predicates.or(Predicates.eq(REGION, Literal.from("us")), Predicates.gt(TS, Literal.from(900L))),
+        Predicates.not(Predicates.eq(REGION, Literal.from("us"))),
+        Predicates.in(REGION, Arrays.asList(Literal.from("us"), Literal.from("ap"))),
+        Predicates.in(DAY, Arrays.asList(Literal.from(1), DAY)),
+        Predicates.startsWith(REGION, Literal.from("e")),
+        Predicates.contains(REGION, Literal.from("p")),
+        Predicates.startsWithAny(REGION, Arrays.asList(Literal.from("a"), Literal.from("u"))),
+        Predicates.and(FLAG, Predicates.gt(DAY, Literal.from(2))),
+        Predicates.or(FLAG, Predicates.lt(DAY, Literal.from(2))),
+        Predicates.isNull(FLAG),
+        Predicates.isNotNull(FLAG));
+
+    List<StructLike> rows = new ArrayList<>();
+    Random random = new Random(0);
+    String[] regions = {"us", "eu", "ap", "sa"};
+    for (int i = 0; i < 500; i++) {
+      Boolean flag = i % 3 == 0 ? null : random.nextBoolean();
+      rows.add(new ArrayData(Arrays.asList(regions[random.nextInt(regions.length)], random.nextInt(10), (long) random.nextInt(1000), flag)));
+    }
+
+    for (Expression expression : expressions) {
+      ExpressionCompiler.CompiledExpression compiled = ExpressionCompiler.compile(expression);
+      for (StructLike row : rows) {
+        assertEquals(expression.eval(row), compiled.eval(row), "Mismatch for " + expression);
+      }
+    }
+  }
+
+  @Test
+  void testConstantsAndNulls() {
+    StructLike row = new ArrayData(Arrays.asList("us", null, 1L, null));
+    assertTrue(ExpressionCompiler.compile(Predicates.alwaysTrue()).test(row));
+    assertFalse(ExpressionCompiler.compile(Predicates.alwaysFalse()).test(row));
+    Expression dayEq = Predicates.eq(DAY, Literal.from(5));
+    // the comparison of a null value fails like with the interpreter
+    assertThrows(NullPointerException.class, () -> dayEq.eval(row));
+    assertThrows(NullPointerException.class, () -> ExpressionCompiler.compile(dayEq).eval(row));
+    assertTrue(ExpressionCompiler.compile(Predicates.isNull(DAY)).test(row));
+  }
+}
@@ -556,6 +556,19 @@ public class FlinkOptions extends HoodieConfig {
       .withDescription("Users can use this parameter to specify expression and the corresponding bucket "
           + "numbers (separated by commas).Multiple rules are separated by semicolons like "
           + "hoodie.bucket.index.partition.expressions=expression1,bucket-number1;expression2,bucket-number2");
+
+  @AdvancedConfig
+  public static final ConfigOption<Boolean> BUCKET_INDEX_INPUT_CO_PARTITIONED = ConfigOptions
+      .key("index.bucket.input.co_partitioned")
+      .booleanType()
+      .defaultValue(false)
+      .withDescription("Whether the input is already partitioned by the simple bucket index layout, i.e. every record is "
+          + "emitted by the source subtask that owns its bucket, for example when the upstream Kafka topic is partitioned "
+          + "by the bucket of the index key fields. When enabled, the bucket write and bucket bulk insert tasks consume "
+          + "their input with a forward connection instead of shuffling it by bucket, which requires the input to have "
+          + "the same parallelism as the write tasks; a record that does not belong to the bucket of its task fails the write. "
+          + "Only affects the SIMPLE bucket index engine, default false");
+
   public static final ConfigOption<String> PARTITION_PATH_FIELD = ConfigOptions
       .key(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key())
       .stringType()
@@ -208,6 +208,14 @@ public class OptionsResolver {
     return isBucketIndexType(conf) && getBucketEngineType(conf).equals(HoodieIndex.BucketIndexEngineType.SIMPLE);
   }
 
+  /**
+   * Returns whether the input is declared to be partitioned by the simple bucket index layout already,
+   * so that the bucket write tasks could consume it without shuffle.
+   */
+  public static boolean isBucketIndexInputCoPartitioned(Configuration conf) {
+    return isSimpleBucketIndexType(conf) && conf.get(FlinkOptions.BUCKET_INDEX_INPUT_CO_PARTITIONED);
+  }
+
   /**
    * Returns the default plan strategy class.
    */
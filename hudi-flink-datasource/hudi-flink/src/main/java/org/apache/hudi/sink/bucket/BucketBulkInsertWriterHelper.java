@@ -18,8 +18,12 @@
 
 package org.apache.hudi.sink.bucket;
 
+import org.apache.hudi.common.util.Functions;
+import org.apache.hudi.common.util.hash.BucketIndexUtil;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.configuration.FlinkOptions;
+import org.apache.hudi.configuration.OptionsResolver;
+import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.index.bucket.BucketIdentifier;
 import org.apache.hudi.index.bucket.partition.NumBucketsFunction;
 import org.apache.hudi.io.storage.row.HoodieRowDataCreateHandle;
@@ -51,10 +55,24 @@ public class BucketBulkInsertWriterHelper extends BulkInsertWriterHelper {
 
   private String lastFileId; // for efficient code path
 
+  /**
+   * Function to calculate num buckets per partition, only set up when the input is declared co-partitioned,
+   * to validate that the buckets of the input belong to this task.
+   */
+  private final NumBucketsFunction numBucketsFunction;
+  private final Functions.Function3<Integer, String, Integer, Integer> partitionIndexFunc;
+
   public BucketBulkInsertWriterHelper(Configuration conf, HoodieTable<?, ?, ?, ?> hoodieTable, HoodieWriteConfig writeConfig,
                                       String instantTime, int taskPartitionId, long taskId, long taskEpochId, RowType rowType) {
     super(conf, hoodieTable, writeConfig, instantTime, taskPartitionId, taskId, taskEpochId, rowType);
     this.recordArity = rowType.getFieldCount();
+    if (OptionsResolver.isBucketIndexInputCoPartitioned(conf)) {
+      this.numBucketsFunction = getNumBucketsFunction(conf);
+      this.partitionIndexFunc = BucketIndexUtil.getPartitionIndexFunc((int) totalSubtaskNum);
+    } else {
+      this.numBucketsFunction = null;
+      this.partitionIndexFunc = null;
+    }
   }
 
   public void write(RowData tuple) throws IOException {
@@ -64,6 +82,9 @@ public class BucketBulkInsertWriterHelper extends BulkInsertWriterHelper {
       String partitionPath = keyGen.getPartitionPath(record);
       String fileId = tuple.getString(0).toString();
       if ((lastFileId == null) || !lastFileId.equals(fileId)) {
+        if (partitionIndexFunc != null) {
+          validateCoPartitionedBucket(partitionPath, BucketIdentifier.bucketIdFromFileId(fileId));
+        }
         log.info("Creating new file for partition path " + partitionPath);
         handle = getRowCreateHandle(partitionPath, fileId);
         lastFileId = fileId;
@@ -76,6 +97,15 @@ public class BucketBulkInsertWriterHelper extends BulkInsertWriterHelper {
     }
   }
 
+  private void validateCoPartitionedBucket(String partitionPath, int bucketNum) {
+    int numBuckets = numBucketsFunction.getNumBuckets(partitionPath);
+    if (partitionIndexFunc.apply(numBuckets, partitionPath, bucketNum) != taskPartitionId) {
+      throw new HoodieException(String.format("Bucket %s of partition %s does not belong to the bulk insert task %s, "
+          + "the input is not partitioned by the bucket index layout, disable option '%s' to shuffle the input by bucket.",
+          bucketNum, partitionPath, taskPartitionId, FlinkOptions.BUCKET_INDEX_INPUT_CO_PARTITIONED.key()));
+    }
+  }
+
   private HoodieRowDataCreateHandle getRowCreateHandle(String partitionPath, String fileId) throws IOException {
     if (!handles.containsKey(fileId)) { // if there is no handle corresponding to the fileId
       if (this.isInputSorted) {
@@ -93,11 +123,10 @@ public class BucketBulkInsertWriterHelper extends BulkInsertWriterHelper {
     return new SortOperatorGen(rowType, new String[] {FILE_GROUP_META_FIELD});
   }
 
-  private static String getFileId(Map<String, String> bucketIdToFileId, RowDataKeyGen keyGen, RowData record, String indexKeys, Configuration conf, boolean needFixedFileIdSuffix) {
+  private static String getFileId(Map<String, String> bucketIdToFileId, RowDataKeyGen keyGen, RowData record, String indexKeys,
+                                  NumBucketsFunction numBucketsFunction, boolean needFixedFileIdSuffix) {
     String recordKey = keyGen.getRecordKey(record);
     String partition = keyGen.getPartitionPath(record);
-    NumBucketsFunction numBucketsFunction = new NumBucketsFunction(conf.get(FlinkOptions.BUCKET_INDEX_PARTITION_EXPRESSIONS), conf.get(FlinkOptions.BUCKET_INDEX_PARTITION_RULE),
-        conf.get(FlinkOptions.BUCKET_INDEX_NUM_BUCKETS));
 
     final int numBuckets = numBucketsFunction.getNumBuckets(partition);
     final int bucketNum = BucketIdentifier.getBucketId(recordKey, indexKeys, numBuckets);
@@ -106,10 +135,20 @@ public class BucketBulkInsertWriterHelper extends BulkInsertWriterHelper {
   }
 
   public static RowData rowWithFileId(Map<String, String> bucketIdToFileId, RowDataKeyGen keyGen, RowData record, String indexKeys, Configuration conf, boolean needFixedFileIdSuffix) {
-    final String fileId = getFileId(bucketIdToFileId, keyGen, record, indexKeys, conf, needFixedFileIdSuffix);
+    return rowWithFileId(bucketIdToFileId, keyGen, record, indexKeys, getNumBucketsFunction(conf), needFixedFileIdSuffix);
+  }
+
+  public static RowData rowWithFileId(Map<String, String> bucketIdToFileId, RowDataKeyGen keyGen, RowData record, String indexKeys,
+                                      NumBucketsFunction numBucketsFunction, boolean needFixedFileIdSuffix) {
+    final String fileId = getFileId(bucketIdToFileId, keyGen, record, indexKeys, numBucketsFunction, needFixedFileIdSuffix);
     return GenericRowData.of(StringData.fromString(fileId), record);
   }
 
+  private static NumBucketsFunction getNumBucketsFunction(Configuration conf) {
+    return new NumBucketsFunction(conf.get(FlinkOptions.BUCKET_INDEX_PARTITION_EXPRESSIONS), conf.get(FlinkOptions.BUCKET_INDEX_PARTITION_RULE),
+        conf.get(FlinkOptions.BUCKET_INDEX_NUM_BUCKETS));
+  }
+
   public static RowType rowTypeWithFileId(RowType rowType) {
     LogicalType[] types = new LogicalType[] {DataTypes.STRING().getLogicalType(), rowType};
     String[] names = new String[] {FILE_GROUP_META_FIELD, "record"};
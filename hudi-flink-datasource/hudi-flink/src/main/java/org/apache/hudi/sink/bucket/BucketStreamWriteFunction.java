@@ -23,6 +23,7 @@ import org.apache.hudi.common.util.Functions;
 import org.apache.hudi.common.util.hash.BucketIndexUtil;
 import org.apache.hudi.configuration.FlinkOptions;
 import org.apache.hudi.configuration.OptionsResolver;
+import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.index.bucket.BucketIdentifier;
 import org.apache.hudi.index.bucket.partition.NumBucketsFunction;
 import org.apache.hudi.sink.StreamWriteFunction;
@@ -85,6 +86,11 @@ public class BucketStreamWriteFunction extends StreamWriteFunction {
    */
   private boolean isInsertOverwrite;
 
+  /**
+   * Whether the input is declared to be partitioned by the bucket index layout and is not shuffled by bucket.
+   */
+  private boolean isInputCoPartitioned;
+
   /**
    * Constructs a BucketStreamWriteFunction.
    *
@@ -105,6 +111,7 @@ public class BucketStreamWriteFunction extends StreamWriteFunction {
     this.incBucketIndex = new HashSet<>();
     this.partitionIndexFunc = BucketIndexUtil.getPartitionIndexFunc(parallelism);
     this.isInsertOverwrite = OptionsResolver.isInsertOverwrite(config);
+    this.isInputCoPartitioned = OptionsResolver.isBucketIndexInputCoPartitioned(config);
     this.numBucketsFunction = new NumBucketsFunction(config.get(FlinkOptions.BUCKET_INDEX_PARTITION_EXPRESSIONS),
         config.get(FlinkOptions.BUCKET_INDEX_PARTITION_RULE), config.get(FlinkOptions.BUCKET_INDEX_NUM_BUCKETS));
   }
@@ -136,6 +143,11 @@ public class BucketStreamWriteFunction extends StreamWriteFunction {
     }
     Map<Integer, String> bucketToFileId = bucketIndex.computeIfAbsent(partition, p -> new HashMap<>());
     final int bucketNum = BucketIdentifier.getBucketId(record.getRecordKey(), indexKeyFields, numBucketsFunction.getNumBuckets(record.getPartitionPath()));
+    if (isInputCoPartitioned && !isBucketToLoad(bucketNum, partition)) {
+      throw new HoodieException(String.format("Record %s of bucket %s in partition %s does not belong to the bucket write task %s, "
+          + "the input is not partitioned by the bucket index layout, disable option '%s' to shuffle the input by bucket.",
+          record.getRecordKey(), bucketNum, partition, taskID, FlinkOptions.BUCKET_INDEX_INPUT_CO_PARTITIONED.key()));
+    }
     final String bucketId = partition + "/" + bucketNum;
 
     if (incBucketIndex.contains(bucketId)) {
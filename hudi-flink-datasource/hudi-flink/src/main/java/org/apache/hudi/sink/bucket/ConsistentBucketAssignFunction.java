@@ -24,16 +24,20 @@ import org.apache.hudi.client.model.HoodieFlinkInternalRow;
 import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.ConsistentHashingNode;
 import org.apache.hudi.common.model.HoodieConsistentHashingMetadata;
+import org.apache.hudi.common.model.HoodieOperation;
 import org.apache.hudi.common.model.HoodieReplaceCommitMetadata;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.util.StringUtils;
 import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.common.util.collection.ClosableIterator;
+import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.configuration.FlinkOptions;
 import org.apache.hudi.configuration.OptionsResolver;
 import org.apache.hudi.exception.HoodieLockException;
 import org.apache.hudi.index.bucket.ConsistentBucketIdentifier;
 import org.apache.hudi.index.bucket.ConsistentBucketIndexUtils;
+import org.apache.hudi.table.HoodieFlinkTable;
 import org.apache.hudi.util.FlinkWriteClients;
 
 import lombok.extern.slf4j.Slf4j;
@@ -46,10 +50,12 @@ import org.apache.flink.util.Preconditions;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * The function to tag each incoming record with a location of a file based on consistent bucket index.
@@ -62,6 +68,8 @@ public class ConsistentBucketAssignFunction extends ProcessFunctionAdapter<Hoodi
   private final int bucketNum;
   private transient HoodieFlinkWriteClient writeClient;
   private transient Map<String, ConsistentBucketIdentifier> partitionToIdentifier;
+  // Record keys of the parent file groups of unfinished lazy splits, which only receive deletes once split
+  private transient Map<Pair<String, String>, Set<String>> parentToRecordKeys;
   private transient String lastRefreshInstant;
   private final int maxRetries = 10;
   private final long maxWaitTimeInMs = 1000;
@@ -79,6 +87,7 @@ public class ConsistentBucketAssignFunction extends ProcessFunctionAdapter<Hoodi
       // is started in write coordinator which is started after bucket assigner operator finished
       this.writeClient = FlinkWriteClients.createWriteClient(this.config, getRuntimeContext(), !OptionsResolver.isIncrementalJobGraph(config));
       this.partitionToIdentifier = new HashMap<>();
+      this.parentToRecordKeys = new HashMap<>();
       this.lastRefreshInstant = HoodieTimeline.INIT_INSTANT_TS;
     } catch (Throwable e) {
       log.error("Fail to initialize consistent bucket assigner", e);
@@ -100,6 +109,29 @@ public class ConsistentBucketAssignFunction extends ProcessFunctionAdapter<Hoodi
     income.setInstantTime("U");
     income.setFileId(FSUtils.createNewFileId(node.getFileIdPrefix(), 0));
     collector.collect(income);
+    if (node.isLazilySplit() && getParentRecordKeys(partition, node.getParentFileIdPrefix()).contains(recordKey)) {
+      // The parent file group of an unfinished lazy split still holds a former version of the record
+      collector.collect(new HoodieFlinkInternalRow(recordKey, partition, FSUtils.createNewFileId(node.getParentFileIdPrefix(), 0), "U",
+          HoodieOperation.DELETE.getName(), false, income.getRowData()));
+    }
+  }
+
+  private Set<String> getParentRecordKeys(String partition, String parentFileIdPrefix) {
+    return parentToRecordKeys.computeIfAbsent(Pair.of(partition, parentFileIdPrefix), p -> {
+      HoodieFlinkTable<?> table = writeClient.getHoodieTable();
+      Set<String> recordKeys = new HashSet<>();
+      try (ClosableIterator<String> iterator = ConsistentBucketIndexUtils.readRecordKeys(table,
+          writeClient.getEngineContext().getReaderContextFactory(table.getMetaClient()), partition, FSUtils.createNewFileId(parentFileIdPrefix, 0))) {
+        iterator.forEachRemaining(recordKeys::add);
+      }
+      log.info("Loaded {} record keys of the parent file group {} of a lazy split in partition {}", recordKeys.size(), parentFileIdPrefix, partition);
+      return recordKeys;
+    });
+  }
+
+  private void invalidateBucketIdentifier(String partition) {
+    partitionToIdentifier.remove(partition);
+    parentToRecordKeys.keySet().removeIf(p -> p.getLeft().equals(partition));
   }
 
   private ConsistentBucketIdentifier getBucketIdentifier(String partition) {
@@ -139,10 +171,23 @@ public class ConsistentBucketAssignFunction extends ProcessFunctionAdapter<Hoodi
         HoodieReplaceCommitMetadata commitMetadata = timeline.readReplaceCommitMetadata(instant);
         Set<String> affectedPartitions = commitMetadata.getPartitionToReplaceFileIds().keySet();
         log.info("Clear up cached hashing metadata because find a new replace commit.\n Instant: {}.\n Effected Partitions: {}.",  lastRefreshInstant, affectedPartitions);
-        affectedPartitions.forEach(this.partitionToIdentifier::remove);
+        affectedPartitions.forEach(this::invalidateBucketIdentifier);
       }
       this.lastRefreshInstant = timeline.lastInstant().get().requestedTime();
     }
+    if (writeClient.getConfig().isBucketIndexOnlineSplitEnabled()) {
+      // Lazy splits update the hashing metadata without any replace commit, so the latest committed hashing metadata of the partitions is checked
+      HoodieFlinkTable<?> table = writeClient.getHoodieTable(false);
+      List<String> changedPartitions = partitionToIdentifier.entrySet().stream()
+          .filter(e -> !ConsistentBucketIndexUtils.getLatestCommittedMetadataInstant(table, e.getKey()).orElse(HoodieTimeline.INIT_INSTANT_TS)
+              .equals(e.getValue().getMetadata().getInstant()))
+          .map(Map.Entry::getKey)
+          .collect(Collectors.toList());
+      if (!changedPartitions.isEmpty()) {
+        log.info("Clear up cached hashing metadata because of new hashing metadata versions. Effected Partitions: {}.", changedPartitions);
+        changedPartitions.forEach(this::invalidateBucketIdentifier);
+      }
+    }
   }
 
   @Override
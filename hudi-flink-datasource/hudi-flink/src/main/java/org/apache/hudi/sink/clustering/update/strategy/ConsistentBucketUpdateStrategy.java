@@ -115,6 +115,11 @@ public class ConsistentBucketUpdateStrategy<T> extends UpdateStrategy<T, List<Bu
     Pair<String, ConsistentBucketIdentifier> bucketIdentifierPair = getBucketIdentifierOfPartition(fileId.getPartitionPath());
     String clusteringInstant = bucketIdentifierPair.getLeft();
     ConsistentBucketIdentifier identifier = bucketIdentifierPair.getRight();
+    if (isLazySplitParent(identifier, fileId)) {
+      // Only the deletes of the records moved to the children buckets of a lazy split reach the parent file group,
+      // the children buckets receive the records themselves
+      return Pair.of(Collections.singletonList(bucketRecords), Collections.singleton(fileId));
+    }
 
     List<HoodieRecord> records = new ArrayList<>();
     bucketRecords.getRecordItr().forEachRemaining(records::add);
@@ -139,6 +144,11 @@ public class ConsistentBucketUpdateStrategy<T> extends UpdateStrategy<T, List<Bu
     return Pair.of(bucketRecordsList, fgs);
   }
 
+  private static boolean isLazySplitParent(ConsistentBucketIdentifier identifier, HoodieFileGroupId fileId) {
+    String fileIdPrefix = FSUtils.getFileIdPfxFromFileId(fileId.getFileId());
+    return identifier.getMetadata().getNodes().stream().anyMatch(n -> fileIdPrefix.equals(n.getParentFileIdPrefix()));
+  }
+
   private Pair<String, ConsistentBucketIdentifier> getBucketIdentifierOfPartition(String partition) {
     return partitionToIdentifier.computeIfAbsent(partition, p -> ConsistentHashingUpdateStrategyUtils.constructPartitionToIdentifier(Collections.singleton(p), table).get(p)
     );
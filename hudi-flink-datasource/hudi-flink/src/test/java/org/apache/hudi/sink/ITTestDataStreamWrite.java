@@ -20,6 +20,7 @@ package org.apache.hudi.sink;
 
 import org.apache.hudi.avro.model.HoodieClusteringPlan;
 import org.apache.hudi.client.model.HoodieFlinkInternalRow;
+import org.apache.hudi.common.model.HoodieKey;
 import org.apache.hudi.common.model.HoodieTableType;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
@@ -30,7 +31,11 @@ import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.configuration.FlinkOptions;
 import org.apache.hudi.configuration.HadoopConfigurations;
 import org.apache.hudi.configuration.OptionsInference;
+import org.apache.hudi.configuration.OptionsResolver;
 import org.apache.hudi.exception.MissingSchemaFieldException;
+import org.apache.hudi.sink.bulk.RowDataKeyGen;
+import org.apache.hudi.sink.bulk.RowDataKeyGens;
+import org.apache.hudi.sink.partitioner.BucketIndexPartitioner;
 import org.apache.hudi.sink.transform.ChainedTransformer;
 import org.apache.hudi.sink.transform.Transformer;
 import org.apache.hudi.sink.utils.Pipelines;
@@ -161,6 +166,26 @@ public class ITTestDataStreamWrite extends TestLogger {
     writeWithTransformerAndCheckExpected(chainedTransformer, "cow_write_with_chained_transformer", EXPECTED_CHAINED_TRANSFORMER);
   }
 
+  @Test
+  public void testWriteWithCoPartitionedBucketInput() throws Exception {
+    Configuration conf = TestConfigurations.getDefaultConf(tempFile.toURI().toString());
+    conf.set(FlinkOptions.INDEX_TYPE, "BUCKET");
+    conf.set(FlinkOptions.BUCKET_INDEX_NUM_BUCKETS, 4);
+    conf.set(FlinkOptions.BUCKET_INDEX_INPUT_CO_PARTITIONED, true);
+    conf.set(FlinkOptions.PRE_COMBINE, true);
+
+    // partitions the input by the bucket index layout upstream, like a source topic that is keyed by bucket,
+    // so that the write tasks consume it without shuffle.
+    RowType rowType = (RowType) HoodieSchemaConverter.convertToDataType(StreamerUtil.getSourceSchema(conf)).getLogicalType();
+    RowDataKeyGen keyGen = RowDataKeyGens.instance(conf, rowType);
+    BucketIndexPartitioner<HoodieKey> partitioner = new BucketIndexPartitioner<>(conf, OptionsResolver.getIndexKeyField(conf));
+    Transformer coPartitioner = ds -> ds.partitionCustom(partitioner, keyGen::getHoodieKey)
+        .map(rowData -> rowData)
+        .setParallelism(4);
+
+    writeAndCheckExpected(conf, Option.of(coPartitioner), "cow_write_with_co_partitioned_bucket_input", 2, true, EXPECTED);
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"BUCKET", "FLINK_STATE"})
   public void testWriteMergeOnReadWithCompaction(String indexType) throws Exception {
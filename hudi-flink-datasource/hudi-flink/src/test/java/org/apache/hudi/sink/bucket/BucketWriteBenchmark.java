@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.sink.bucket;
+
+import org.apache.hudi.client.model.HoodieFlinkInternalRow;
+import org.apache.hudi.common.model.WriteOperationType;
+import org.apache.hudi.common.util.Functions;
+import org.apache.hudi.common.util.hash.BucketIndexUtil;
+import org.apache.hudi.configuration.FlinkOptions;
+import org.apache.hudi.index.bucket.BucketIdentifier;
+import org.apache.hudi.io.util.FileIOUtils;
+import org.apache.hudi.sink.utils.Pipelines;
+import org.apache.hudi.utils.RuntimeContextUtils;
+import org.apache.hudi.utils.TestConfigurations;
+
+import org.apache.flink.api.common.RuntimeExecutionMode;
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.Collector;
+
+import java.io.File;
+import java.nio.file.Files;
+
+/**
+ * Benchmark to measure the end-to-end throughput of the Flink simple bucket index writers, with the input
+ * shuffled by bucket versus consumed as is with {@link FlinkOptions#BUCKET_INDEX_INPUT_CO_PARTITIONED}.
+ *
+ * <p>The source generates the record keys so that every subtask only emits records of the buckets owned by
+ * the write task with the same index, so both modes write the same data set and only differ in the exchange
+ * between the source and the write tasks.
+ *
+ * <p>Arguments: [number of records] [parallelism], default 1000000 records and 4 tasks.
+ */
+public class BucketWriteBenchmark {
+
+  private static final int NUM_PARTITIONS = 4;
+
+  public static void main(String[] args) throws Exception {
+    long numRecords = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+    int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+    for (WriteOperationType operation : new WriteOperationType[] {WriteOperationType.UPSERT, WriteOperationType.BULK_INSERT}) {
+      for (boolean coPartitioned : new boolean[] {false, true}) {
+        File tempDir = Files.createTempDirectory("bucket_write_benchmark").toFile();
+        try {
+          long start = System.nanoTime();
+          run(tempDir.toURI().toString(), operation, coPartitioned, numRecords, parallelism);
+          double seconds = (System.nanoTime() - start) / 1e9;
+          System.out.printf("%-12s co-partitioned=%-5s %,d records in %.2f s, %,.0f records/s%n",
+              operation.value(), coPartitioned, numRecords, seconds, numRecords / seconds);
+        } finally {
+          FileIOUtils.deleteDirectory(tempDir);
+        }
+      }
+    }
+  }
+
+  private static void run(String basePath, WriteOperationType operation, boolean coPartitioned, long numRecords, int parallelism) throws Exception {
+    Configuration conf = TestConfigurations.getDefaultConf(basePath);
+    conf.set(FlinkOptions.OPERATION, operation.value());
+    conf.set(FlinkOptions.INDEX_TYPE, "BUCKET");
+    conf.set(FlinkOptions.BUCKET_INDEX_NUM_BUCKETS, parallelism * 4);
+    conf.set(FlinkOptions.BUCKET_INDEX_INPUT_CO_PARTITIONED, coPartitioned);
+    conf.set(FlinkOptions.WRITE_TASKS, parallelism);
+
+    StreamExecutionEnvironment execEnv = StreamExecutionEnvironment.getExecutionEnvironment();
+    execEnv.setRuntimeMode(RuntimeExecutionMode.BATCH);
+    execEnv.setParallelism(parallelism);
+
+    RowType rowType = TestConfigurations.ROW_TYPE;
+    DataStream<RowData> dataStream = execEnv.fromSequence(0, numRecords - 1)
+        .flatMap(new CoPartitionedRowGenerator(conf.get(FlinkOptions.BUCKET_INDEX_NUM_BUCKETS), parallelism), InternalTypeInfo.of(rowType))
+        .name("co_partitioned_row_generator");
+
+    DataStream<RowData> pipeline;
+    if (operation == WriteOperationType.BULK_INSERT) {
+      pipeline = Pipelines.bulkInsert(conf, rowType, dataStream);
+    } else {
+      DataStream<HoodieFlinkInternalRow> hoodieRecordDataStream = Pipelines.bootstrap(conf, rowType, dataStream, true, false);
+      pipeline = Pipelines.hoodieStreamWrite(conf, rowType, hoodieRecordDataStream);
+    }
+    execEnv.addOperator(pipeline.getTransformation());
+    execEnv.execute("bucket_write_benchmark_" + operation.value());
+  }
+
+  /**
+   * Generates one row per sequence number, with a record key picked from the buckets of the write task
+   * that has the same index as this subtask.
+   */
+  private static class CoPartitionedRowGenerator extends RichFlatMapFunction<Long, RowData> {
+    private final int numBuckets;
+    private final int parallelism;
+
+    private transient Functions.Function3<Integer, String, Integer, Integer> partitionIndexFunc;
+    private transient int taskID;
+
+    CoPartitionedRowGenerator(int numBuckets, int parallelism) {
+      this.numBuckets = numBuckets;
+      this.parallelism = parallelism;
+    }
+
+    @Override
+    public void flatMap(Long seq, Collector<RowData> out) {
+      if (partitionIndexFunc == null) {
+        partitionIndexFunc = BucketIndexUtil.getPartitionIndexFunc(parallelism);
+        taskID = RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext());
+      }
+      String partition = "par" + (seq % NUM_PARTITIONS);
+      // there are more buckets than tasks, so every task owns buckets in each partition
+      for (int suffix = 0; ; suffix++) {
+        String recordKey = "id" + seq + "_" + suffix;
+        int bucketNum = BucketIdentifier.getBucketId(recordKey, "uuid", numBuckets);
+        if (partitionIndexFunc.apply(numBuckets, partition, bucketNum) == taskID) {
+          out.collect(GenericRowData.of(StringData.fromString(recordKey), StringData.fromString("name" + (seq % 100)),
+              (int) (seq % 100), TimestampData.fromEpochMillis(seq), StringData.fromString(partition)));
+          return;
+        }
+      }
+    }
+  }
+}
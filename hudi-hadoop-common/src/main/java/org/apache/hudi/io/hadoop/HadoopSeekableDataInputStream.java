@@ -19,16 +19,54 @@
 
 package org.apache.hudi.io.hadoop;
 
+import org.apache.hudi.io.ReadRange;
 import org.apache.hudi.io.SeekableDataInputStream;
 
 import org.apache.hadoop.fs.FSDataInputStream;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntFunction;
 
 /**
- * An implementation of {@link SeekableDataInputStream} based on Hadoop's {@link FSDataInputStream}
+ * An implementation of {@link SeekableDataInputStream} based on Hadoop's {@link FSDataInputStream}.
+ * The vectored reads use the native vectored IO of the file system on Hadoop 3.3.5+, which lets
+ * object store clients fetch the ranges concurrently. On older Hadoop versions, the ranges are
+ * read one after the other with positional reads, which do not move the stream.
  */
 public class HadoopSeekableDataInputStream extends SeekableDataInputStream {
+  // FSDataInputStream#readVectored, FileRange#createFileRange and FileRange#getData, available on Hadoop 3.3.5+
+  private static final Method READ_VECTORED_METHOD;
+  private static final Method CREATE_FILE_RANGE_METHOD;
+  private static final Method GET_DATA_METHOD;
+
+  static {
+    Method readVectored = null;
+    Method createFileRange = null;
+    Method getData = null;
+    try {
+      Class<?> fileRangeClass = Class.forName("org.apache.hadoop.fs.FileRange");
+      readVectored = FSDataInputStream.class.getMethod("readVectored", List.class, IntFunction.class);
+      createFileRange = fileRangeClass.getMethod("createFileRange", long.class, int.class);
+      getData = fileRangeClass.getMethod("getData");
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      // vectored IO is not supported by this Hadoop version
+      readVectored = null;
+      createFileRange = null;
+      getData = null;
+    }
+    READ_VECTORED_METHOD = readVectored;
+    CREATE_FILE_RANGE_METHOD = createFileRange;
+    GET_DATA_METHOD = getData;
+  }
+
   private final FSDataInputStream stream;
 
   public HadoopSeekableDataInputStream(FSDataInputStream stream) {
@@ -45,4 +83,57 @@ public class HadoopSeekableDataInputStream extends SeekableDataInputStream {
   public void seek(long pos) throws IOException {
     stream.seek(pos);
   }
+
+  @Override
+  protected List<byte[]> readRanges(List<ReadRange> ranges) throws IOException {
+    // the native vectored IO rejects overlapping ranges
+    if (READ_VECTORED_METHOD == null || ranges.size() == 1 || !isDisjoint(ranges)) {
+      List<byte[]> contents = new ArrayList<>(ranges.size());
+      for (ReadRange range : ranges) {
+        byte[] content = new byte[range.getLength()];
+        stream.readFully(range.getOffset(), content);
+        contents.add(content);
+      }
+      return contents;
+    }
+    return readRangesNatively(ranges);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<byte[]> readRangesNatively(List<ReadRange> ranges) throws IOException {
+    try {
+      List<Object> fileRanges = new ArrayList<>(ranges.size());
+      for (ReadRange range : ranges) {
+        fileRanges.add(CREATE_FILE_RANGE_METHOD.invoke(null, range.getOffset(), range.getLength()));
+      }
+      READ_VECTORED_METHOD.invoke(stream, fileRanges, (IntFunction<ByteBuffer>) ByteBuffer::allocate);
+      List<byte[]> contents = new ArrayList<>(ranges.size());
+      for (Object fileRange : fileRanges) {
+        ByteBuffer buffer = ((CompletableFuture<ByteBuffer>) GET_DATA_METHOD.invoke(fileRange)).get();
+        byte[] content = new byte[buffer.remaining()];
+        buffer.get(content);
+        contents.add(content);
+      }
+      return contents;
+    } catch (InvocationTargetException | ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to read ranges", e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new IOException("Failed to read ranges", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while reading ranges");
+    }
+  }
+
+  private static boolean isDisjoint(List<ReadRange> sortedRanges) {
+    for (int i = 1; i < sortedRanges.size(); i++) {
+      if (sortedRanges.get(i).getOffset() < sortedRanges.get(i - 1).getEnd()) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.storage.hadoop;
+
+import org.apache.hudi.common.metrics.Registry;
+import org.apache.hudi.storage.HoodieInstrumentedStorage;
+import org.apache.hudi.storage.HoodieStorage;
+import org.apache.hudi.storage.StorageConfiguration;
+import org.apache.hudi.storage.StoragePath;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@link HoodieInstrumentedStorage} wrapping {@link HoodieHadoopStorage}, whose output streams stay
+ * {@link org.apache.hadoop.fs.Syncable}: the log writer relies on {@code hsync} for the durability of
+ * the log blocks, which {@link FSDataOutputStream} silently turns into a {@code flush} otherwise.
+ */
+public class HoodieHadoopInstrumentedStorage extends HoodieInstrumentedStorage {
+
+  public HoodieHadoopInstrumentedStorage(HoodieStorage delegate, Registry registry) {
+    super(delegate, registry);
+  }
+
+  public HoodieHadoopInstrumentedStorage(HoodieStorage delegate) {
+    super(delegate);
+  }
+
+  @Override
+  public HoodieStorage newInstance(StoragePath path, StorageConfiguration<?> storageConf) {
+    return new HoodieHadoopInstrumentedStorage(getDelegate().newInstance(path, storageConf), getRegistry());
+  }
+
+  @Override
+  protected OutputStream wrapOutputStream(StoragePath path, OutputStream stream) throws IOException {
+    return new InstrumentedFSDataOutputStream(stream, getRegistry(), getWriteBytesMetricName(path));
+  }
+
+  /**
+   * {@link FSDataOutputStream} counting the bytes written, added to the registry on close.
+   * {@code hflush} and {@code hsync} are passed to the wrapped stream.
+   */
+  private static class InstrumentedFSDataOutputStream extends FSDataOutputStream {
+    private final Registry registry;
+    private final String writeBytesMetricName;
+    private boolean closed = false;
+
+    InstrumentedFSDataOutputStream(OutputStream out, Registry registry, String writeBytesMetricName) throws IOException {
+      super(out, null);
+      this.registry = registry;
+      this.writeBytesMetricName = writeBytesMetricName;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        super.close();
+      } finally {
+        // the position counts the bytes written through this stream
+        registry.add(writeBytesMetricName, getPos());
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.io.hadoop;
+
+import org.apache.hudi.io.ReadRange;
+import org.apache.hudi.io.SeekableDataInputStream;
+import org.apache.hudi.storage.HoodieStorage;
+import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.storage.hadoop.HoodieHadoopStorage;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests {@link HadoopSeekableDataInputStream}.
+ */
+public class TestHadoopSeekableDataInputStream {
+  @TempDir
+  protected Path tempDir;
+
+  @Test
+  public void testReadVectored() throws IOException {
+    byte[] data = new byte[4 * 1024 * 1024];
+    new Random(0).nextBytes(data);
+    StoragePath path = new StoragePath(tempDir.toUri().toString(), "data.file");
+    HoodieStorage storage = new HoodieHadoopStorage(path.toString(), new Configuration());
+    try (OutputStream stream = storage.create(path)) {
+      stream.write(data);
+    }
+
+    // far apart ranges are read with separate positional reads
+    List<ReadRange> ranges = new ArrayList<>();
+    for (int i = 15; i >= 0; i--) {
+      ranges.add(new ReadRange(i * 256L * 1024, 1000 + i));
+    }
+    ranges.add(new ReadRange(100, 200));
+    try (SeekableDataInputStream stream = storage.openSeekable(path, false)) {
+      stream.seek(10);
+      List<byte[]> contents = stream.readVectored(ranges);
+      assertEquals(ranges.size(), contents.size());
+      for (int i = 0; i < ranges.size(); i++) {
+        ReadRange range = ranges.get(i);
+        assertArrayEquals(Arrays.copyOfRange(data, (int) range.getOffset(), (int) range.getEnd()), contents.get(i));
+      }
+      // the positional reads do not move the stream
+      assertEquals(10, stream.getPos());
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.storage.hadoop;
+
+import org.apache.hudi.common.config.HoodieStorageConfig;
+import org.apache.hudi.common.metrics.LocalRegistry;
+import org.apache.hudi.common.metrics.Registry;
+import org.apache.hudi.hadoop.fs.HadoopFSUtils;
+import org.apache.hudi.io.SeekableDataInputStream;
+import org.apache.hudi.io.storage.TestHoodieStorageBase;
+import org.apache.hudi.storage.HoodieInstrumentedStorage;
+import org.apache.hudi.storage.HoodieStorage;
+import org.apache.hudi.storage.HoodieStorageUtils;
+import org.apache.hudi.storage.StoragePath;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Syncable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link HoodieInstrumentedStorage} wrapping {@link HoodieHadoopStorage}.
+ */
+public class TestHoodieInstrumentedStorage extends TestHoodieStorageBase {
+
+  @Override
+  protected HoodieStorage getStorage(Object fs, Object conf) {
+    return new HoodieHadoopInstrumentedStorage(new HoodieHadoopStorage((FileSystem) fs), new LocalRegistry("test"));
+  }
+
+  @Override
+  protected Object getFileSystem(Object conf) {
+    return HadoopFSUtils.getFs(getTempDir(), (Configuration) conf, true);
+  }
+
+  @Override
+  protected Object getConf() {
+    return new Configuration();
+  }
+
+  @Test
+  void testMetrics() throws IOException {
+    Registry registry = new LocalRegistry("testMetrics");
+    HoodieStorage storage = new HoodieHadoopInstrumentedStorage(
+        new HoodieHadoopStorage((FileSystem) getFileSystem(getConf())), registry);
+    StoragePath instantPath = new StoragePath(getTempDir(), ".hoodie/timeline/001.commit");
+    StoragePath logPath = new StoragePath(getTempDir(), "par1/.f1_001.log.1_0-1-1");
+    StoragePath mdtPath = new StoragePath(getTempDir(), ".hoodie/metadata/files/base.hfile");
+
+    byte[] data = new byte[] {1, 2, 3, 4, 5, 6, 7, 8};
+    try (OutputStream stream = storage.create(logPath)) {
+      stream.write(data);
+    }
+    storage.createNewFile(instantPath);
+    try (SeekableDataInputStream stream = storage.openSeekable(logPath, false)) {
+      stream.seek(4);
+      assertEquals(0x05060708, stream.readInt());
+    }
+    assertFalse(storage.exists(mdtPath));
+    assertFalse(storage.exists(mdtPath.getParent()));
+    assertFalse(storage.listDirectEntries(instantPath.getParent()).isEmpty());
+
+    Map<String, Long> metrics = registry.getAllCounts();
+    assertEquals(1L, metrics.get("log.create.count"));
+    assertEquals(8L, metrics.get("log.write.totalBytes"));
+    assertEquals(1L, metrics.get("log.open.count"));
+    assertEquals(1L, metrics.get("log.seek.count"));
+    assertEquals(4L, metrics.get("log.read.totalBytes"));
+    assertEquals(1L, metrics.get("timeline.create.count"));
+    assertEquals(1L, metrics.get("timeline.list.count"));
+    assertEquals(2L, metrics.get("mdt.exists.count"));
+    assertTrue(metrics.get("log.seek.max") >= metrics.get("log.seek.p50"));
+  }
+
+  @Test
+  void testHsyncReachesUnderlyingStream() throws IOException {
+    Registry registry = new LocalRegistry("testHsync");
+    SyncableOutputStream underlying = new SyncableOutputStream();
+    HoodieStorage delegate = new HoodieHadoopStorage((FileSystem) getFileSystem(getConf())) {
+      @Override
+      public OutputStream create(StoragePath path, boolean overwrite, Integer bufferSize, Short replication, Long sizeThreshold)
+          throws IOException {
+        return new FSDataOutputStream(underlying, null);
+      }
+    };
+    HoodieStorage storage = new HoodieHadoopInstrumentedStorage(delegate, registry);
+    StoragePath logPath = new StoragePath(getTempDir(), "par1/.f1_001.log.1_0-1-1");
+    // the log writer wraps the stream the same way
+    try (FSDataOutputStream stream = new FSDataOutputStream(
+        storage.create(logPath, false, 4096, (short) 1, 1024L), null)) {
+      stream.write(new byte[] {1, 2, 3});
+      stream.hsync();
+      assertEquals(1, underlying.numHsyncs);
+      stream.hflush();
+      assertEquals(1, underlying.numHflushes);
+    }
+    assertEquals(3L, registry.getAllCounts().get("log.write.totalBytes"));
+  }
+
+  @Test
+  void testGetStorageWithMetricsEnabled() {
+    Configuration conf = new Configuration();
+    conf.setBoolean(HoodieStorageConfig.HOODIE_STORAGE_METRICS_ENABLE.key(), true);
+    HoodieStorage storage = HoodieStorageUtils.getStorage(getTempDir(), HadoopFSUtils.getStorageConf(conf));
+    assertInstanceOf(HoodieHadoopInstrumentedStorage.class, storage);
+    assertInstanceOf(HoodieHadoopInstrumentedStorage.class, storage.newInstance(new StoragePath(getTempDir()), storage.getConf()));
+    assertInstanceOf(HoodieHadoopStorage.class, ((HoodieInstrumentedStorage) storage).getDelegate());
+  }
+
+  @Test
+  void testGetSubsystem() {
+    assertEquals("timeline", HoodieInstrumentedStorage.getSubsystem(new StoragePath("/tbl/.hoodie/timeline/001.commit")));
+    assertEquals("mdt", HoodieInstrumentedStorage.getSubsystem(new StoragePath("/tbl/.hoodie/metadata/files/.files-0000_00.log.1_0-1-1")));
+    assertEquals("log", HoodieInstrumentedStorage.getSubsystem(new StoragePath("/tbl/par1/.f1_001.log.1_0-1-1")));
+    assertEquals("base", HoodieInstrumentedStorage.getSubsystem(new StoragePath("/tbl/par1/f1_0-1-1_001.parquet")));
+  }
+
+  /**
+   * In-memory {@link Syncable} stream counting the syncs.
+   */
+  private static class SyncableOutputStream extends ByteArrayOutputStream implements Syncable {
+    private int numHflushes = 0;
+    private int numHsyncs = 0;
+
+    @Override
+    public void hflush() {
+      numHflushes++;
+    }
+
+    @Override
+    public void hsync() {
+      numHsyncs++;
+    }
+
+    // Syncable#sync is only declared by Hadoop 2
+    public void sync() {
+      hflush();
+    }
+  }
+}
@@ -19,19 +19,34 @@
 package org.apache.hudi.hadoop;
 
 import org.apache.hudi.BaseHoodieTableFileIndex;
+import org.apache.hudi.avro.model.HoodieMetadataColumnStats;
 import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.engine.HoodieEngineContext;
 import org.apache.hudi.common.model.FileSlice;
 import org.apache.hudi.common.model.HoodieTableQueryType;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
+import org.apache.hudi.common.table.TableSchemaResolver;
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.common.util.collection.Triple;
+import org.apache.hudi.hadoop.utils.HiveColumnStatsFilter;
+import org.apache.hudi.metadata.MetadataPartitionType;
 import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.storage.StoragePathInfo;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.avro.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +56,8 @@ public class HiveHoodieTableFileIndex extends BaseHoodieTableFileIndex {
 
   public static final Logger LOG = LoggerFactory.getLogger(HiveHoodieTableFileIndex.class);
 
+  private final HoodieTableMetaClient metaClient;
+
   public HiveHoodieTableFileIndex(HoodieEngineContext engineContext,
                                   HoodieTableMetaClient metaClient,
                                   TypedProperties configProperties,
@@ -48,6 +65,22 @@ public class HiveHoodieTableFileIndex extends BaseHoodieTableFileIndex {
                                   List<StoragePath> queryPaths,
                                   Option<String> specifiedQueryInstant,
                                   boolean shouldIncludePendingCommits
+  ) {
+    this(engineContext, metaClient, configProperties, queryType, queryPaths, specifiedQueryInstant, shouldIncludePendingCommits, 0);
+  }
+
+  /**
+   * @param maxCachedPartitions max number of partition listings cached across the queries of this process,
+   *                            the listings are not cached if not positive
+   */
+  public HiveHoodieTableFileIndex(HoodieEngineContext engineContext,
+                                  HoodieTableMetaClient metaClient,
+                                  TypedProperties configProperties,
+                                  HoodieTableQueryType queryType,
+                                  List<StoragePath> queryPaths,
+                                  Option<String> specifiedQueryInstant,
+                                  boolean shouldIncludePendingCommits,
+                                  int maxCachedPartitions
   ) {
     super(engineContext,
         metaClient,
@@ -57,10 +90,11 @@ public class HiveHoodieTableFileIndex extends BaseHoodieTableFileIndex {
         specifiedQueryInstant,
         shouldIncludePendingCommits,
         true,
-        new NoopCache(),
+        maxCachedPartitions > 0 ? SessionFileStatusCache.forTable(metaClient, maxCachedPartitions) : new NoopCache(),
         false,
         Option.empty(),
         Option.empty());
+    this.metaClient = metaClient;
   }
 
   /**
@@ -73,6 +107,71 @@ public class HiveHoodieTableFileIndex extends BaseHoodieTableFileIndex {
         .collect(Collectors.toMap(e -> e.getKey().getPath(), Map.Entry::getValue));
   }
 
+  /**
+   * Lists latest file-slices per partition, skipping the file-slices that can not contain records matching
+   * the data filter according to the column stats index of the metadata table.
+   *
+   * <p>Only the file-slices without log files are pruned, as the column stats of the log files are not merged
+   * with the ones of the base file here.
+   */
+  public Map<String, List<FileSlice>> listFileSlices(Option<HiveColumnStatsFilter> dataFilter) {
+    Map<String, List<FileSlice>> partitionedFileSlices = listFileSlices();
+    if (!dataFilter.isPresent() || !getMetadataConfig().isEnabled()
+        || !metaClient.getTableConfig().isMetadataPartitionAvailable(MetadataPartitionType.COLUMN_STATS)) {
+      return partitionedFileSlices;
+    }
+    Map<String, String> columnNames = resolveColumnNames(dataFilter.get());
+    if (columnNames.isEmpty()) {
+      return partitionedFileSlices;
+    }
+
+    List<Pair<String, String>> partitionFileNames = partitionedFileSlices.entrySet().stream()
+        .flatMap(e -> e.getValue().stream()
+            .filter(fileSlice -> fileSlice.getBaseFile().isPresent() && !fileSlice.hasLogFiles())
+            .map(fileSlice -> Pair.of(e.getKey(), fileSlice.getBaseFile().get().getFileName())))
+        .collect(Collectors.toList());
+    if (partitionFileNames.isEmpty()) {
+      return partitionedFileSlices;
+    }
+    Map<Pair<String, String>, List<HoodieMetadataColumnStats>> columnStats =
+        getTableMetadata().getColumnStats(partitionFileNames, new ArrayList<>(columnNames.values()));
+
+    Map<String, List<FileSlice>> prunedFileSlices = new HashMap<>();
+    int numPrunedFiles = 0;
+    for (Map.Entry<String, List<FileSlice>> entry : partitionedFileSlices.entrySet()) {
+      List<FileSlice> fileSlices = new ArrayList<>(entry.getValue().size());
+      for (FileSlice fileSlice : entry.getValue()) {
+        if (fileSlice.getBaseFile().isPresent() && !fileSlice.hasLogFiles()) {
+          List<HoodieMetadataColumnStats> stats = columnStats.get(Pair.of(entry.getKey(), fileSlice.getBaseFile().get().getFileName()));
+          if (stats != null && !dataFilter.get().mayMatch(stats.stream()
+              .collect(Collectors.toMap(s -> s.getColumnName().toLowerCase(), Function.identity(), (s1, s2) -> s1)))) {
+            numPrunedFiles++;
+            continue;
+          }
+        }
+        fileSlices.add(fileSlice);
+      }
+      prunedFileSlices.put(entry.getKey(), fileSlices);
+    }
+    LOG.info("Skipped {} out of {} file slices of table {} with the column stats index", numPrunedFiles,
+        partitionedFileSlices.values().stream().mapToInt(Collection::size).sum(), metaClient.getTableConfig().getTableName());
+    return prunedFileSlices;
+  }
+
+  /**
+   * Maps the lower-case column names referenced by the filter, as provided by Hive, to the names of the table schema.
+   */
+  private Map<String, String> resolveColumnNames(HiveColumnStatsFilter dataFilter) {
+    Option<Schema> schema = new TableSchemaResolver(metaClient).getTableAvroSchemaIfPresent(false);
+    if (!schema.isPresent()) {
+      return new HashMap<>();
+    }
+    return schema.get().getFields().stream()
+        .map(Schema.Field::name)
+        .filter(name -> dataFilter.getReferencedColumns().contains(name.toLowerCase()))
+        .collect(Collectors.toMap(String::toLowerCase, Function.identity(), (n1, n2) -> n1));
+  }
+
   @Override
   public Object[] parsePartitionColumnValues(String[] partitionColumns, String partitionPath) {
     // NOTE: Parsing partition path into partition column values isn't required on Hive,
@@ -80,4 +179,52 @@ public class HiveHoodieTableFileIndex extends BaseHoodieTableFileIndex {
     //       fetched by the query engine)
     return new Object[0];
   }
+
+  /**
+   * Cache of the partition listings shared by the file indexes of all the queries of the process, like the ones of a
+   * HiveServer2 session planning queries over the same tables.
+   *
+   * <p>The listings are cached per table and state of its completed timeline, so that any newly completed instant,
+   * including cleans and rollbacks, makes the file index list the partitions again.
+   */
+  static class SessionFileStatusCache implements FileStatusCache {
+    private static volatile Cache<Triple<String, String, StoragePath>, List<StoragePathInfo>> sharedCache;
+
+    private final String basePath;
+    private final String timelineVersion;
+
+    private SessionFileStatusCache(String basePath, String timelineVersion) {
+      this.basePath = basePath;
+      this.timelineVersion = timelineVersion;
+    }
+
+    static SessionFileStatusCache forTable(HoodieTableMetaClient metaClient, int maxCachedPartitions) {
+      if (sharedCache == null) {
+        synchronized (SessionFileStatusCache.class) {
+          if (sharedCache == null) {
+            sharedCache = Caffeine.newBuilder().maximumSize(maxCachedPartitions).build();
+          }
+        }
+      }
+      // the count and the latest completion time change with any instant completed by the writers
+      HoodieTimeline completedTimeline = metaClient.getActiveTimeline().filterCompletedInstants();
+      String timelineVersion = completedTimeline.countInstants() + "_" + completedTimeline.getLatestCompletionTime().orElse("");
+      return new SessionFileStatusCache(metaClient.getBasePath().toString(), timelineVersion);
+    }
+
+    @Override
+    public Option<List<StoragePathInfo>> get(StoragePath path) {
+      return Option.ofNullable(sharedCache.getIfPresent(Triple.of(basePath, timelineVersion, path)));
+    }
+
+    @Override
+    public void put(StoragePath path, List<StoragePathInfo> leafFiles) {
+      sharedCache.put(Triple.of(basePath, timelineVersion, path), leafFiles);
+    }
+
+    @Override
+    public void invalidate() {
+      sharedCache.asMap().keySet().removeIf(key -> key.getLeft().equals(basePath));
+    }
+  }
 }
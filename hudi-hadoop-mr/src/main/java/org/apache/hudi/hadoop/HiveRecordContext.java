@@ -24,8 +24,11 @@ import org.apache.hudi.common.model.HoodieEmptyRecord;
 import org.apache.hudi.common.model.HoodieKey;
 import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.schema.HoodieSchema;
+import org.apache.hudi.common.schema.HoodieSchemaField;
 import org.apache.hudi.common.table.HoodieTableConfig;
 import org.apache.hudi.common.table.read.BufferedRecord;
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.hadoop.realtime.DeltaRecordKeyFilter;
 import org.apache.hudi.hadoop.utils.HiveAvroSerializer;
 import org.apache.hudi.hadoop.utils.HiveJavaTypeConverter;
 import org.apache.hudi.hadoop.utils.HoodieArrayWritableSchemaUtils;
@@ -44,8 +47,10 @@ import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.io.WritableComparable;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 public class HiveRecordContext extends RecordContext<ArrayWritable> {
@@ -56,6 +61,7 @@ public class HiveRecordContext extends RecordContext<ArrayWritable> {
   }
 
   private final Map<HoodieSchema, HiveAvroSerializer> serializerCache = new ConcurrentHashMap<>();
+  private final boolean populateMetaFields;
 
   private HiveAvroSerializer getHiveAvroSerializer(HoodieSchema schema) {
     return serializerCache.computeIfAbsent(schema, HiveAvroSerializer::new);
@@ -63,10 +69,12 @@ public class HiveRecordContext extends RecordContext<ArrayWritable> {
 
   public HiveRecordContext(HoodieTableConfig tableConfig) {
     super(tableConfig, new HiveJavaTypeConverter());
+    this.populateMetaFields = tableConfig.populateMetaFields();
   }
 
   private HiveRecordContext() {
     super(new HiveJavaTypeConverter());
+    this.populateMetaFields = false;
   }
 
   @Override
@@ -74,6 +82,21 @@ public class HiveRecordContext extends RecordContext<ArrayWritable> {
     return getHiveAvroSerializer(schema).getValue(record, fieldName);
   }
 
+  /**
+   * Checks the binary record key meta field against a hash filter of the keys, so that the base records without a
+   * log record skip the record key decoding through the object inspector.
+   */
+  @Override
+  public Option<Predicate<ArrayWritable>> getRecordKeyFilter(Collection<?> recordKeys, HoodieSchema schema) {
+    Option<HoodieSchemaField> recordKeyField = populateMetaFields ? schema.getField(HoodieRecord.RECORD_KEY_METADATA_FIELD) : Option.empty();
+    if (!recordKeyField.isPresent()) {
+      return Option.empty();
+    }
+    int pos = recordKeyField.get().pos();
+    DeltaRecordKeyFilter filter = new DeltaRecordKeyFilter(recordKeys);
+    return Option.of(record -> pos >= record.get().length || filter.mightContain(record.get()[pos]));
+  }
+
   @Override
   public String getMetaFieldValue(ArrayWritable record, int pos) {
     return record.get()[pos].toString();
@@ -32,6 +32,7 @@ import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.hadoop.fs.HadoopFSUtils;
+import org.apache.hudi.hadoop.utils.HiveColumnStatsFilter;
 import org.apache.hudi.hadoop.utils.HoodieHiveUtils;
 import org.apache.hudi.hadoop.utils.HoodieInputFormatUtils;
 import org.apache.hudi.metadata.HoodieTableMetadataUtil;
@@ -228,6 +229,8 @@ public class HoodieCopyOnWriteTableInputFormat extends HoodieTableInputFormat {
                                                      List<Path> snapshotPaths) {
     HoodieLocalEngineContext engineContext = new HoodieLocalEngineContext(HadoopFSUtils.getStorageConf(job));
     List<FileStatus> targetFiles = new ArrayList<>();
+    Option<HiveColumnStatsFilter> dataFilter = HoodieHiveUtils.isDataSkippingEnabled(job)
+        ? HiveColumnStatsFilter.fromJobConf(job) : Option.empty();
 
     Map<HoodieTableMetaClient, List<Path>> groupedPaths =
         HoodieInputFormatUtils.groupSnapshotPathsByMetaClient(tableMetaClientMap.values(), snapshotPaths);
@@ -253,9 +256,10 @@ public class HoodieCopyOnWriteTableInputFormat extends HoodieTableInputFormat {
                 HoodieTableQueryType.SNAPSHOT,
                 partitionPaths.stream().map(HadoopFSUtils::convertToStoragePath).collect(Collectors.toList()),
                 queryCommitInstant,
-                shouldIncludePendingCommits);
+                shouldIncludePendingCommits,
+                HoodieHiveUtils.getFileIndexCacheMaxPartitions(job));
 
-        Map<String, List<FileSlice>> partitionedFileSlices = fileIndex.listFileSlices();
+        Map<String, List<FileSlice>> partitionedFileSlices = fileIndex.listFileSlices(dataFilter);
 
         targetFiles.addAll(
             partitionedFileSlices.values()
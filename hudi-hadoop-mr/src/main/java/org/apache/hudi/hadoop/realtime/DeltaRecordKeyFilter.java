@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.hadoop.realtime;
+
+import org.apache.hadoop.io.BinaryComparable;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableComparator;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+import static org.apache.hudi.common.util.StringUtils.getUTF8Bytes;
+
+/**
+ * Hash filter of the record keys present in the log files of a file slice, checked against the record keys of the
+ * base file in their binary form as read from parquet.
+ *
+ * <p>Most of the base records of a file slice usually have no update in the log files, the filter lets the reader
+ * pass these records through without decoding their record key into a string to look it up in the log records.
+ * The filter may return false positives, which are resolved by the look up of the decoded key. Keys that are not
+ * String, e.g. the record positions of a position based merge, are ignored.
+ */
+public class DeltaRecordKeyFilter {
+
+  // bits per record key, gives a false positive rate around 12% with the single hash function
+  private static final int BITS_PER_KEY = 8;
+
+  private final BitSet bits;
+  private final int mask;
+
+  public DeltaRecordKeyFilter(Collection<?> recordKeys) {
+    int numBits = Integer.highestOneBit(Math.max(64, recordKeys.size() * BITS_PER_KEY - 1)) << 1;
+    this.bits = new BitSet(numBits);
+    this.mask = numBits - 1;
+    for (Object recordKey : recordKeys) {
+      if (recordKey instanceof String) {
+        byte[] bytes = getUTF8Bytes((String) recordKey);
+        bits.set(index(WritableComparator.hashBytes(bytes, bytes.length)));
+      }
+    }
+  }
+
+  /**
+   * Returns whether the record key may be present in the log files, true if the key is not binary comparable.
+   */
+  public boolean mightContain(Writable recordKey) {
+    if (!(recordKey instanceof BinaryComparable)) {
+      return true;
+    }
+    return bits.get(index(recordKey.hashCode()));
+  }
+
+  private int index(int hash) {
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+}
@@ -69,6 +69,7 @@ public class RealtimeCompactedRecordReader extends AbstractRealtimeRecordReader
 
   private final HoodieRecordMerger merger = new HoodieAvroRecordMerger();
   private final Set<String> deltaRecordKeys;
+  private final DeltaRecordKeyFilter deltaRecordKeyFilter;
   private final HoodieMergedLogRecordScanner mergedLogRecordScanner;
   private final int recordKeyIndex;
   private final String[] orderingFields;
@@ -82,6 +83,7 @@ public class RealtimeCompactedRecordReader extends AbstractRealtimeRecordReader
     this.mergedLogRecordScanner = getMergedLogRecordScanner();
     this.deltaRecordMap = mergedLogRecordScanner.getRecords();
     this.deltaRecordKeys = new HashSet<>(this.deltaRecordMap.keySet());
+    this.deltaRecordKeyFilter = new DeltaRecordKeyFilter(this.deltaRecordKeys);
     this.recordKeyIndex = split.getVirtualKeyInfo()
         .map(HoodieVirtualKeyInfo::getRecordKeyFieldIndex)
         .orElse(HoodieInputFormatUtils.HOODIE_RECORD_KEY_COL_POS);
@@ -133,7 +135,8 @@ public class RealtimeCompactedRecordReader extends AbstractRealtimeRecordReader
     // Call the underlying parquetReader.next - which may replace the passed in ArrayWritable
     // with a new block of values
     while (this.parquetReader.next(aVoid, arrayWritable)) {
-      if (!deltaRecordMap.isEmpty()) {
+      // most base records have no update in the log files, pass them through without decoding the record key
+      if (!deltaRecordMap.isEmpty() && deltaRecordKeyFilter.mightContain(arrayWritable.get()[recordKeyIndex])) {
         String key = arrayWritable.get()[recordKeyIndex].toString();
         if (deltaRecordMap.containsKey(key)) {
           // mark the key as handled
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.hadoop.utils;
+
+import org.apache.hudi.avro.HoodieAvroWrapperUtils;
+import org.apache.hudi.avro.model.HoodieMetadataColumnStats;
+import org.apache.hudi.common.util.Option;
+
+import org.apache.avro.util.Utf8;
+import org.apache.hadoop.hive.common.type.HiveBaseChar;
+import org.apache.hadoop.hive.common.type.HiveDecimal;
+import org.apache.hadoop.hive.ql.exec.SerializationUtilities;
+import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.ql.plan.TableScanDesc;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFIn;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPAnd;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPOr;
+import org.apache.hadoop.mapred.JobConf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Filter of the files of a Hive table scan based on the column stats index of the metadata table.
+ *
+ * <p>The filter is translated from the filter expression Hive pushes down to the table scan
+ * ({@link TableScanDesc#FILTER_EXPR_CONF_STR}). Only comparisons and {@code IN} lists between a top-level column and
+ * literals, null checks and their conjunctions and disjunctions are translated, any other sub-expression is
+ * considered to match all the files. The filter is conservative: a file is only pruned if its column ranges prove
+ * that it does not contain any matching record.
+ */
+public class HiveColumnStatsFilter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HiveColumnStatsFilter.class);
+
+  private final ColumnStatsPredicate predicate;
+  private final Set<String> referencedColumns;
+
+  private HiveColumnStatsFilter(ColumnStatsPredicate predicate, Set<String> referencedColumns) {
+    this.predicate = predicate;
+    this.referencedColumns = referencedColumns;
+  }
+
+  /**
+   * Creates the filter from the filter expression pushed down to the table scan of the job, if any part of the
+   * expression can be evaluated against the column stats.
+   */
+  public static Option<HiveColumnStatsFilter> fromJobConf(JobConf job) {
+    String filterExprSerialized = job.get(TableScanDesc.FILTER_EXPR_CONF_STR);
+    if (filterExprSerialized == null) {
+      return Option.empty();
+    }
+    try {
+      return fromExpression(SerializationUtilities.deserializeExpression(filterExprSerialized));
+    } catch (Exception e) {
+      LOG.warn("Failed to translate the pushed down filter for data skipping, all the files are read", e);
+      return Option.empty();
+    }
+  }
+
+  public static Option<HiveColumnStatsFilter> fromExpression(ExprNodeDesc expr) {
+    Set<String> referencedColumns = new HashSet<>();
+    ColumnStatsPredicate predicate = translate(expr, referencedColumns);
+    if (predicate == null) {
+      return Option.empty();
+    }
+    return Option.of(new HiveColumnStatsFilter(predicate, referencedColumns));
+  }
+
+  /**
+   * Returns the lower-case names of the columns the filter needs the stats of.
+   */
+  public Set<String> getReferencedColumns() {
+    return referencedColumns;
+  }
+
+  /**
+   * Returns whether the file with the given column stats, keyed by lower-case column name, may contain records
+   * matching the filter. Columns without stats are considered to match.
+   */
+  public boolean mayMatch(Map<String, HoodieMetadataColumnStats> columnStats) {
+    return predicate.mayMatch(columnStats);
+  }
+
+  /**
+   * Translates the expression, returning null if it can not be evaluated against the column stats.
+   */
+  private static ColumnStatsPredicate translate(ExprNodeDesc expr, Set<String> referencedColumns) {
+    if (!(expr instanceof ExprNodeGenericFuncDesc)) {
+      return null;
+    }
+    GenericUDF udf = ((ExprNodeGenericFuncDesc) expr).getGenericUDF();
+    List<ExprNodeDesc> children = expr.getChildren();
+
+    if (udf instanceof GenericUDFOPAnd) {
+      List<ColumnStatsPredicate> predicates = new ArrayList<>();
+      for (ExprNodeDesc child : children) {
+        ColumnStatsPredicate predicate = translate(child, referencedColumns);
+        if (predicate != null) {
+          predicates.add(predicate);
+        }
+      }
+      return predicates.isEmpty() ? null : stats -> predicates.stream().allMatch(p -> p.mayMatch(stats));
+    }
+    if (udf instanceof GenericUDFOPOr) {
+      List<ColumnStatsPredicate> predicates = new ArrayList<>();
+      for (ExprNodeDesc child : children) {
+        ColumnStatsPredicate predicate = translate(child, referencedColumns);
+        if (predicate == null) {
+          // any record may match the untranslated branch
+          return null;
+        }
+        predicates.add(predicate);
+      }
+      return stats -> predicates.stream().anyMatch(p -> p.mayMatch(stats));
+    }
+
+    if (children.isEmpty() || !(children.get(0) instanceof ExprNodeColumnDesc)) {
+      // the column is expected on the left after normalization, unless it's a binary comparison
+      return translateComparison(udf, children, referencedColumns);
+    }
+    String column = ((ExprNodeColumnDesc) children.get(0)).getColumn().toLowerCase();
+
+    if (udf instanceof GenericUDFOPNull) {
+      referencedColumns.add(column);
+      return stats -> withColumnStats(stats, column, s -> s.getNullCount() == null || s.getNullCount() > 0);
+    }
+    if (udf instanceof GenericUDFOPNotNull) {
+      referencedColumns.add(column);
+      return stats -> withColumnStats(stats, column,
+          s -> s.getNullCount() == null || s.getValueCount() == null || s.getValueCount() > s.getNullCount());
+    }
+    if (udf instanceof GenericUDFIn) {
+      List<Object> values = new ArrayList<>();
+      for (ExprNodeDesc child : children.subList(1, children.size())) {
+        if (!(child instanceof ExprNodeConstantDesc) || ((ExprNodeConstantDesc) child).getValue() == null) {
+          return null;
+        }
+        values.add(((ExprNodeConstantDesc) child).getValue());
+      }
+      referencedColumns.add(column);
+      return stats -> withColumnStats(stats, column, s -> values.stream().anyMatch(v -> inRange(s, v)));
+    }
+    return translateComparison(udf, children, referencedColumns);
+  }
+
+  private static ColumnStatsPredicate translateComparison(GenericUDF udf, List<ExprNodeDesc> children, Set<String> referencedColumns) {
+    if (children.size() != 2) {
+      return null;
+    }
+    boolean normalized = children.get(0) instanceof ExprNodeColumnDesc && children.get(1) instanceof ExprNodeConstantDesc;
+    boolean reversed = children.get(1) instanceof ExprNodeColumnDesc && children.get(0) instanceof ExprNodeConstantDesc;
+    if (!normalized && !reversed) {
+      return null;
+    }
+    String column = ((ExprNodeColumnDesc) children.get(normalized ? 0 : 1)).getColumn().toLowerCase();
+    Object value = ((ExprNodeConstantDesc) children.get(normalized ? 1 : 0)).getValue();
+    if (value == null) {
+      return null;
+    }
+
+    ColumnStatsPredicate predicate;
+    if (udf instanceof GenericUDFOPEqual) {
+      predicate = stats -> withColumnStats(stats, column, s -> inRange(s, value));
+    } else if (udf instanceof GenericUDFOPLessThan && normalized || udf instanceof GenericUDFOPGreaterThan && reversed) {
+      // column < value
+      predicate = stats -> withColumnStats(stats, column, s -> compareMin(s, value, c -> c < 0));
+    } else if (udf instanceof GenericUDFOPEqualOrLessThan && normalized || udf instanceof GenericUDFOPEqualOrGreaterThan && reversed) {
+      // column <= value
+      predicate = stats -> withColumnStats(stats, column, s -> compareMin(s, value, c -> c <= 0));
+    } else if (udf instanceof GenericUDFOPGreaterThan && normalized || udf instanceof GenericUDFOPLessThan && reversed) {
+      // column > value
+      predicate = stats -> withColumnStats(stats, column, s -> compareMax(s, value, c -> c > 0));
+    } else if (udf instanceof GenericUDFOPEqualOrGreaterThan && normalized || udf instanceof GenericUDFOPEqualOrLessThan && reversed) {
+      // column >= value
+      predicate = stats -> withColumnStats(stats, column, s -> compareMax(s, value, c -> c >= 0));
+    } else {
+      return null;
+    }
+    referencedColumns.add(column);
+    return predicate;
+  }
+
+  private static boolean withColumnStats(Map<String, HoodieMetadataColumnStats> stats, String column, Predicate<HoodieMetadataColumnStats> predicate) {
+    HoodieMetadataColumnStats columnStats = stats.get(column);
+    return columnStats == null || predicate.test(columnStats);
+  }
+
+  private static boolean inRange(HoodieMetadataColumnStats stats, Object value) {
+    return compareMin(stats, value, c -> c <= 0) && compareMax(stats, value, c -> c >= 0);
+  }
+
+  /**
+   * Returns whether the min value of the column compared to the literal satisfies the condition,
+   * or true if they can not be compared.
+   */
+  private static boolean compareMin(HoodieMetadataColumnStats stats, Object value, IntPredicate condition) {
+    return compare(stats, stats.getMinValue(), value, condition);
+  }
+
+  private static boolean compareMax(HoodieMetadataColumnStats stats, Object value, IntPredicate condition) {
+    return compare(stats, stats.getMaxValue(), value, condition);
+  }
+
+  private static boolean compare(HoodieMetadataColumnStats stats, Object wrappedBound, Object value, IntPredicate condition) {
+    Comparable<?> bound = wrappedBound == null ? null : HoodieAvroWrapperUtils.unwrapAvroValueWrapper(wrappedBound);
+    if (bound == null) {
+      // the bounds are only missing if all the values are null, which never match a comparison
+      return !(stats.getValueCount() != null && stats.getNullCount() != null && stats.getValueCount().equals(stats.getNullCount()));
+    }
+    Integer result = compare(bound, value);
+    return result == null || condition.test(result);
+  }
+
+  /**
+   * Compares the column stats bound with the literal of the filter, returns null if they are not comparable.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static Integer compare(Comparable<?> bound, Object literal) {
+    Object left = normalize(bound);
+    Object right = normalize(literal);
+    if (left instanceof BigDecimal && right instanceof BigDecimal) {
+      return ((BigDecimal) left).compareTo((BigDecimal) right);
+    }
+    if (left instanceof String && right instanceof String) {
+      return ((String) left).compareTo((String) right);
+    }
+    if (left != null && right != null && left.getClass() == right.getClass() && left instanceof Comparable) {
+      return ((Comparable) left).compareTo(right);
+    }
+    return null;
+  }
+
+  private static Object normalize(Object value) {
+    try {
+      if (value instanceof BigDecimal) {
+        return value;
+      } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+        return BigDecimal.valueOf(((Number) value).longValue());
+      } else if (value instanceof Float || value instanceof Double) {
+        return new BigDecimal(value.toString());
+      } else if (value instanceof HiveDecimal) {
+        return ((HiveDecimal) value).bigDecimalValue();
+      } else if (value instanceof HiveBaseChar) {
+        return ((HiveBaseChar) value).getValue();
+      } else if (value instanceof Utf8) {
+        return value.toString();
+      }
+    } catch (NumberFormatException e) {
+      // NaN or infinity
+      return null;
+    }
+    return value;
+  }
+
+  /**
+   * Predicate evaluated against the column stats of a file, returns true if the file may contain matching records.
+   */
+  @FunctionalInterface
+  private interface ColumnStatsPredicate {
+    boolean mayMatch(Map<String, HoodieMetadataColumnStats> columnStats);
+  }
+}
@@ -78,6 +78,16 @@ public class HoodieHiveUtils {
   public static final int MAX_COMMIT_ALL = -1;
   public static final Pattern HOODIE_CONSUME_MODE_PATTERN_STRING = Pattern.compile("hoodie\\.(.*)\\.consume\\.mode");
   public static final String GLOBALLY_CONSISTENT_READ_TIMESTAMP = "last_replication_timestamp";
+  /*
+   * Boolean property to skip the files of snapshot queries that can not match the filter pushed down by Hive,
+   * based on the column stats index of the metadata table.
+   */
+  public static final String HOODIE_DATA_SKIPPING_ENABLE = "hoodie.hive.data.skipping.enable";
+  /*
+   * Max number of partition listings cached across the queries of the process (e.g. a HiveServer2),
+   * the listings are not cached if not positive.
+   */
+  public static final String HOODIE_FILE_INDEX_CACHE_MAX_PARTITIONS = "hoodie.hive.file.index.cache.max.partitions";
 
   private static final boolean IS_HIVE3 = isHive3();
 
@@ -87,6 +97,14 @@ public class HoodieHiveUtils {
     return job.getBoolean(String.format(HOODIE_CONSUME_PENDING_COMMITS, tableName), false);
   }
 
+  public static boolean isDataSkippingEnabled(JobConf job) {
+    return job.getBoolean(HOODIE_DATA_SKIPPING_ENABLE, false);
+  }
+
+  public static int getFileIndexCacheMaxPartitions(JobConf job) {
+    return job.getInt(HOODIE_FILE_INDEX_CACHE_MAX_PARTITIONS, 0);
+  }
+
   public static Option<String> getMaxCommit(JobConf job, String tableName) {
     return Option.ofNullable(job.get(String.format(HOODIE_CONSUME_COMMIT, tableName)));
   }
@@ -22,6 +22,7 @@ package org.apache.hudi.hadoop;
 import org.apache.hudi.common.schema.HoodieSchema;
 import org.apache.hudi.common.schema.HoodieSchemaField;
 import org.apache.hudi.common.schema.HoodieSchemaType;
+import org.apache.hudi.common.schema.HoodieSchemaUtils;
 import org.apache.hudi.common.table.HoodieTableConfig;
 import org.apache.hudi.common.table.read.BufferedRecord;
 import org.apache.hudi.common.util.Option;
@@ -39,8 +40,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -85,6 +88,29 @@ class TestHiveHoodieReaderContext {
     assertEquals("value3", avroReaderContext.getRecordContext().getValue(row, getBaseSchema(), "field_3.nested_field").toString());
   }
 
+  @Test
+  void getRecordKeyFilterWithMetaFields() {
+    when(tableConfig.populateMetaFields()).thenReturn(true);
+    HiveHoodieReaderContext avroReaderContext = new HiveHoodieReaderContext(readerCreator, Collections.emptyList(), storageConfiguration, tableConfig);
+    HoodieSchema schema = HoodieSchemaUtils.addMetadataFields(SCHEMA);
+    Option<Predicate<ArrayWritable>> filter = avroReaderContext.getRecordContext().getRecordKeyFilter(Arrays.asList("key1", "key2", 3L), schema);
+
+    assertTrue(filter.isPresent());
+    assertTrue(filter.get().test(createRowWithRecordKey("key1")));
+    assertTrue(filter.get().test(createRowWithRecordKey("key2")));
+    assertFalse(filter.get().test(createRowWithRecordKey("key3")));
+    assertEquals("key3", avroReaderContext.getRecordContext().getRecordKey(createRowWithRecordKey("key3"), schema));
+  }
+
+  @Test
+  void getRecordKeyFilterWithVirtualKeys() {
+    when(tableConfig.populateMetaFields()).thenReturn(false);
+    when(tableConfig.getRecordKeyFields()).thenReturn(Option.of(new String[]{"field_1"}));
+    HiveHoodieReaderContext avroReaderContext = new HiveHoodieReaderContext(readerCreator, Collections.emptyList(), storageConfiguration, tableConfig);
+
+    assertFalse(avroReaderContext.getRecordContext().getRecordKeyFilter(Collections.singletonList("value1"), getBaseSchema()).isPresent());
+  }
+
   @Test
   void testConstructEngineRecordWithFieldValues() {
     when(tableConfig.populateMetaFields()).thenReturn(true);
@@ -157,6 +183,11 @@ class TestHiveHoodieReaderContext {
         ));
   }
 
+  private static ArrayWritable createRowWithRecordKey(String recordKey) {
+    return new ArrayWritable(Writable.class, new Writable[]{new Text("001"), new Text("001_0"), new Text(recordKey), new Text("p1"), new Text("f1"),
+        new IntWritable(1), new Text("Alice"), new BooleanWritable(true)});
+  }
+
   private ArrayWritable createBaseRecord(Writable[] values) {
     return new ArrayWritable(Writable.class, values);
   }
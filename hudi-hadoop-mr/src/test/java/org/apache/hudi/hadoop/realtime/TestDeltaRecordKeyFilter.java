@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.hadoop.realtime;
+
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.apache.hudi.common.util.StringUtils.getUTF8Bytes;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestDeltaRecordKeyFilter {
+
+  @Test
+  public void testNoFalseNegatives() {
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      keys.add(UUID.randomUUID().toString());
+    }
+    keys.add("key_with_unicode_é中");
+    DeltaRecordKeyFilter filter = new DeltaRecordKeyFilter(keys);
+    for (String key : keys) {
+      assertTrue(filter.mightContain(new Text(key)));
+      assertTrue(filter.mightContain(new BytesWritable(getUTF8Bytes(key))));
+    }
+  }
+
+  @Test
+  public void testFalsePositiveRate() {
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      keys.add("key" + i);
+    }
+    DeltaRecordKeyFilter filter = new DeltaRecordKeyFilter(keys);
+    int falsePositives = 0;
+    for (int i = 1000; i < 11000; i++) {
+      if (filter.mightContain(new Text("key" + i))) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < 2000, "Too many false positives: " + falsePositives);
+  }
+
+  @Test
+  public void testEmptyAndNonBinaryKeys() {
+    DeltaRecordKeyFilter filter = new DeltaRecordKeyFilter(Collections.emptyList());
+    assertFalse(filter.mightContain(new Text("key1")));
+    assertTrue(filter.mightContain(new IntWritable(1)));
+  }
+}
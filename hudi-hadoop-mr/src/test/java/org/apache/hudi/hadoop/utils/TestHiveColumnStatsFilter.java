@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.hadoop.utils;
+
+import org.apache.hudi.avro.HoodieAvroWrapperUtils;
+import org.apache.hudi.avro.model.HoodieMetadataColumnStats;
+import org.apache.hudi.common.util.Option;
+
+import org.apache.hadoop.hive.ql.exec.SerializationUtilities;
+import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.ql.plan.TableScanDesc;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFIn;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPAnd;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPOr;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFUpper;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
+import org.apache.hadoop.mapred.JobConf;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestHiveColumnStatsFilter {
+
+  private static final ExprNodeDesc ID = new ExprNodeColumnDesc(TypeInfoFactory.intTypeInfo, "id", "t", false);
+  private static final ExprNodeDesc NAME = new ExprNodeColumnDesc(TypeInfoFactory.stringTypeInfo, "name", "t", false);
+
+  @Test
+  public void testComparisons() {
+    // id in [10, 20], name in ['b', 'd']
+    Map<String, HoodieMetadataColumnStats> stats = stats(10, 20, "b", "d", 0);
+
+    assertTrue(mayMatch(call(new GenericUDFOPEqual(), ID, intLiteral(15)), stats));
+    assertFalse(mayMatch(call(new GenericUDFOPEqual(), ID, intLiteral(25)), stats));
+    assertFalse(mayMatch(call(new GenericUDFOPLessThan(), ID, intLiteral(10)), stats));
+    assertTrue(mayMatch(call(new GenericUDFOPLessThan(), ID, intLiteral(11)), stats));
+    // literal on the left: 20 < id
+    assertFalse(mayMatch(call(new GenericUDFOPLessThan(), intLiteral(20), ID), stats));
+    assertTrue(mayMatch(call(new GenericUDFOPGreaterThan(), intLiteral(20), ID), stats));
+    // bigint literal against int stats
+    assertFalse(mayMatch(call(new GenericUDFOPGreaterThan(), ID, new ExprNodeConstantDesc(TypeInfoFactory.longTypeInfo, 20L)), stats));
+    assertFalse(mayMatch(call(new GenericUDFOPEqual(), NAME, stringLiteral("a")), stats));
+    assertTrue(mayMatch(call(new GenericUDFIn(), NAME, stringLiteral("a"), stringLiteral("c")), stats));
+    assertFalse(mayMatch(call(new GenericUDFIn(), NAME, stringLiteral("a"), stringLiteral("e")), stats));
+    assertFalse(mayMatch(call(new GenericUDFOPNull(), ID), stats));
+    assertTrue(mayMatch(call(new GenericUDFOPNull(), ID), stats(10, 20, "b", "d", 1)));
+  }
+
+  @Test
+  public void testConjunctionsAndDisjunctions() {
+    Map<String, HoodieMetadataColumnStats> stats = stats(10, 20, "b", "d", 0);
+    ExprNodeDesc idMatches = call(new GenericUDFOPEqual(), ID, intLiteral(15));
+    ExprNodeDesc idNotMatches = call(new GenericUDFOPEqual(), ID, intLiteral(25));
+    ExprNodeDesc untranslated = call(new GenericUDFOPEqual(), call(new GenericUDFUpper(), NAME), stringLiteral("A"));
+
+    assertFalse(mayMatch(call(new GenericUDFOPAnd(), idMatches, idNotMatches), stats));
+    assertTrue(mayMatch(call(new GenericUDFOPOr(), idMatches, idNotMatches), stats));
+    // the untranslated conjunct is ignored, while the untranslated disjunct matches all files
+    assertFalse(mayMatch(call(new GenericUDFOPAnd(), untranslated, idNotMatches), stats));
+    assertFalse(HiveColumnStatsFilter.fromExpression(call(new GenericUDFOPOr(), untranslated, idNotMatches)).isPresent());
+    assertFalse(HiveColumnStatsFilter.fromExpression(untranslated).isPresent());
+  }
+
+  @Test
+  public void testMissingColumnStatsMatch() {
+    Option<HiveColumnStatsFilter> filter = HiveColumnStatsFilter.fromExpression(call(new GenericUDFOPEqual(), ID, intLiteral(25)));
+    assertTrue(filter.get().mayMatch(new HashMap<>()));
+    assertEquals(1, filter.get().getReferencedColumns().size());
+  }
+
+  @Test
+  public void testFromJobConf() {
+    JobConf jobConf = new JobConf();
+    assertFalse(HiveColumnStatsFilter.fromJobConf(jobConf).isPresent());
+    jobConf.set(TableScanDesc.FILTER_EXPR_CONF_STR, SerializationUtilities.serializeExpression(
+        (ExprNodeGenericFuncDesc) call(new GenericUDFOPEqual(), ID, intLiteral(25))));
+    Option<HiveColumnStatsFilter> filter = HiveColumnStatsFilter.fromJobConf(jobConf);
+    assertTrue(filter.isPresent());
+    assertFalse(filter.get().mayMatch(stats(10, 20, "b", "d", 0)));
+  }
+
+  private static boolean mayMatch(ExprNodeDesc expr, Map<String, HoodieMetadataColumnStats> stats) {
+    return HiveColumnStatsFilter.fromExpression(expr).get().mayMatch(stats);
+  }
+
+  private static ExprNodeDesc call(GenericUDF udf, ExprNodeDesc... children) {
+    return new ExprNodeGenericFuncDesc(TypeInfoFactory.booleanTypeInfo, udf, Arrays.asList(children));
+  }
+
+  private static ExprNodeDesc intLiteral(int value) {
+    return new ExprNodeConstantDesc(TypeInfoFactory.intTypeInfo, value);
+  }
+
+  private static ExprNodeDesc stringLiteral(String value) {
+    return new ExprNodeConstantDesc(TypeInfoFactory.stringTypeInfo, value);
+  }
+
+  private static Map<String, HoodieMetadataColumnStats> stats(int minId, int maxId, String minName, String maxName, long nullCount) {
+    Map<String, HoodieMetadataColumnStats> stats = new HashMap<>();
+    stats.put("id", columnStats("id", minId, maxId, nullCount));
+    stats.put("name", columnStats("name", minName, maxName, nullCount));
+    return stats;
+  }
+
+  private static HoodieMetadataColumnStats columnStats(String column, Comparable<?> min, Comparable<?> max, long nullCount) {
+    return HoodieMetadataColumnStats.newBuilder()
+        .setFileName("f1.parquet")
+        .setColumnName(column)
+        .setMinValue(HoodieAvroWrapperUtils.wrapValueIntoAvro(min))
+        .setMaxValue(HoodieAvroWrapperUtils.wrapValueIntoAvro(max))
+        .setNullCount(nullCount)
+        .setValueCount(100L)
+        .setTotalSize(1000L)
+        .setTotalUncompressedSize(1000L)
+        .setIsDeleted(false)
+        .build();
+  }
+}
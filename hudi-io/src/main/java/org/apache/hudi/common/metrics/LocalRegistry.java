@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class LocalRegistry implements Registry {
   ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+  ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
   private final String name;
 
   public LocalRegistry(String name) {
@@ -36,6 +37,7 @@ public class LocalRegistry implements Registry {
   @Override
   public void clear() {
     counters.clear();
+    histograms.clear();
   }
 
   @Override
@@ -53,8 +55,17 @@ public class LocalRegistry implements Registry {
     getCounter(name).set(value);
   }
 
+  @Override
+  public void updateHistogram(String name, long value) {
+    Histogram histogram = histograms.get(name);
+    if (histogram == null) {
+      histogram = histograms.computeIfAbsent(name, k -> new Histogram());
+    }
+    histogram.update(value);
+  }
+
   /**
-   * Get all Counter type metrics.
+   * Get all Counter type metrics, and the count, total, max and percentiles of the histograms.
    */
   @Override
   public Map<String, Long> getAllCounts(boolean prefixWithRegistryName) {
@@ -63,13 +74,20 @@ public class LocalRegistry implements Registry {
       String key = prefixWithRegistryName ? name + "." + k : k;
       countersMap.put(key, v.getValue());
     });
+    histograms.forEach((k, v) -> {
+      String key = prefixWithRegistryName ? name + "." + k : k;
+      countersMap.put(key + ".count", v.getCount());
+      countersMap.put(key + ".total", v.getSum());
+      countersMap.put(key + ".max", v.getMax());
+      countersMap.put(key + ".p50", v.getValueAtPercentile(50));
+      countersMap.put(key + ".p95", v.getValueAtPercentile(95));
+      countersMap.put(key + ".p99", v.getValueAtPercentile(99));
+    });
     return countersMap;
   }
 
-  private synchronized Counter getCounter(String name) {
-    if (!counters.containsKey(name)) {
-      counters.put(name, new Counter());
-    }
-    return counters.get(name);
+  private Counter getCounter(String name) {
+    Counter counter = counters.get(name);
+    return counter != null ? counter : counters.computeIfAbsent(name, k -> new Counter());
   }
 }
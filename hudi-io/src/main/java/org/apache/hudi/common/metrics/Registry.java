@@ -110,6 +110,19 @@ public interface Registry extends Serializable {
    */
   void set(String name, long value);
 
+  /**
+   * Record a value to the histogram metric.
+   *
+   * The registries without histograms only track the number and the total of the recorded values.
+   *
+   * @param name Name of the metric.
+   * @param value The value to record.
+   */
+  default void updateHistogram(String name, long value) {
+    increment(name + ".count");
+    add(name + ".total", value);
+  }
+
   /**
    * Get all Counter type metrics.
    */
@@ -42,4 +42,9 @@ public class ByteArraySeekableDataInputStream extends SeekableDataInputStream {
   public void seek(long pos) throws IOException {
     stream.seek(pos);
   }
+
+  @Override
+  protected long getLength() {
+    return stream.getLength();
+  }
 }
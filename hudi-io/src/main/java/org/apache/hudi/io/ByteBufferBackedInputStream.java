@@ -82,6 +82,13 @@ public class ByteBufferBackedInputStream extends InputStream {
     return buffer.position() - bufferOffset;
   }
 
+  /**
+   * Returns the length of the stream
+   */
+  public int getLength() {
+    return buffer.limit() - bufferOffset;
+  }
+
   /**
    * Seeks to a position w/in the stream
    *
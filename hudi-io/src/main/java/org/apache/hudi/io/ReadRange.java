@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.io;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A range of bytes of a file, read with {@link SeekableDataInputStream#readVectored(List)}.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class ReadRange {
+  private final long offset;
+  private final int length;
+
+  public ReadRange(long offset, int length) {
+    if (offset < 0 || length < 0) {
+      throw new IllegalArgumentException("Invalid range: offset=" + offset + ", length=" + length);
+    }
+    this.offset = offset;
+    this.length = length;
+  }
+
+  public long getEnd() {
+    return offset + length;
+  }
+
+  /**
+   * Merges the ranges separated by at most {@code maxGap} bytes, as long as the merged range
+   * does not exceed {@code maxMergedSize} bytes.
+   *
+   * @param ranges        ranges to merge, possibly overlapping and in any order.
+   * @param maxGap        maximum number of bytes between two ranges to merge.
+   * @param maxMergedSize maximum size of a merged range, a single range larger than it is kept as is.
+   * @return the merged ranges sorted by offset.
+   */
+  public static List<ReadRange> merge(List<ReadRange> ranges, int maxGap, int maxMergedSize) {
+    List<ReadRange> sortedRanges = new ArrayList<>(ranges);
+    sortedRanges.sort(Comparator.comparingLong(ReadRange::getOffset));
+    List<ReadRange> mergedRanges = new ArrayList<>();
+    long start = -1;
+    long end = -1;
+    for (ReadRange range : sortedRanges) {
+      if (start >= 0 && range.getOffset() - end <= maxGap
+          && Math.max(end, range.getEnd()) - start <= maxMergedSize) {
+        end = Math.max(end, range.getEnd());
+        continue;
+      }
+      if (start >= 0) {
+        mergedRanges.add(new ReadRange(start, (int) (end - start)));
+      }
+      start = range.getOffset();
+      end = range.getEnd();
+    }
+    if (start >= 0) {
+      mergedRanges.add(new ReadRange(start, (int) (end - start)));
+    }
+    return mergedRanges;
+  }
+}
@@ -20,8 +20,11 @@
 package org.apache.hudi.io;
 
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A {@link InputStream} that supports random access by allowing to seek to
@@ -50,4 +53,102 @@ public abstract class SeekableDataInputStream extends DataInputStream {
    * @throws IOException upon error.
    */
   public abstract void seek(long pos) throws IOException;
+
+  /**
+   * Reads the ranges of bytes, in any order and possibly overlapping.
+   *
+   * <p>The ranges separated by at most {@link #getVectoredReadMaxGap()} bytes are merged, so that
+   * close blocks are fetched with a single request on object stores. The merged ranges are read with
+   * {@link #readRanges(List)}, in parallel for the implementations supporting positional reads.
+   * The position of the stream after the call is not specified.
+   *
+   * @param ranges ranges to read.
+   * @return the content of each range, in the order of the ranges.
+   * @throws EOFException if a range ends past the end of the stream.
+   * @throws IOException upon error.
+   */
+  public List<byte[]> readVectored(List<ReadRange> ranges) throws IOException {
+    List<ReadRange> mergedRanges = ReadRange.merge(ranges, getVectoredReadMaxGap(), getVectoredReadMaxMergedSize());
+    long length = getLength();
+    for (ReadRange range : mergedRanges) {
+      if (length >= 0 && range.getEnd() > length) {
+        throw new EOFException("Range " + range + " ends past the end of the stream of length " + length);
+      }
+    }
+    List<byte[]> mergedContents = readRanges(mergedRanges);
+    List<byte[]> contents = new ArrayList<>(ranges.size());
+    for (ReadRange range : ranges) {
+      int index = findContainingRange(mergedRanges, range);
+      ReadRange mergedRange = mergedRanges.get(index);
+      byte[] mergedContent = mergedContents.get(index);
+      if (mergedRange.equals(range)) {
+        contents.add(mergedContent);
+      } else {
+        byte[] content = new byte[range.getLength()];
+        System.arraycopy(mergedContent, (int) (range.getOffset() - mergedRange.getOffset()), content, 0, range.getLength());
+        contents.add(content);
+      }
+    }
+    return contents;
+  }
+
+  /**
+   * Reads the ranges returned by {@link ReadRange#merge}: they are sorted by offset, but may overlap
+   * when a range larger than {@link #getVectoredReadMaxMergedSize()} is kept apart from the ranges
+   * starting in it. By default, the ranges are read one after the other.
+   *
+   * @param ranges ranges to read.
+   * @return the content of each range, in the order of the ranges.
+   * @throws IOException upon error.
+   */
+  protected List<byte[]> readRanges(List<ReadRange> ranges) throws IOException {
+    List<byte[]> contents = new ArrayList<>(ranges.size());
+    for (ReadRange range : ranges) {
+      byte[] content = new byte[range.getLength()];
+      seek(range.getOffset());
+      readFully(content);
+      contents.add(content);
+    }
+    return contents;
+  }
+
+  /**
+   * @return the length of the stream, or -1 if unknown, in which case reading past the end
+   * fails in {@link #readRanges(List)}.
+   */
+  protected long getLength() {
+    return -1;
+  }
+
+  /**
+   * @return the maximum number of bytes between two ranges merged by {@link #readVectored(List)}.
+   */
+  protected int getVectoredReadMaxGap() {
+    return 64 * 1024;
+  }
+
+  /**
+   * @return the maximum size of the ranges merged by {@link #readVectored(List)}.
+   */
+  protected int getVectoredReadMaxMergedSize() {
+    return 8 * 1024 * 1024;
+  }
+
+  private static int findContainingRange(List<ReadRange> sortedRanges, ReadRange range) {
+    int low = 0;
+    int high = sortedRanges.size() - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (sortedRanges.get(mid).getOffset() <= range.getOffset()) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    // a range too large to be merged may start at the same offset as the range containing the given one
+    while (sortedRanges.get(low).getEnd() < range.getEnd()) {
+      low--;
+    }
+    return low;
+  }
 }
@@ -80,6 +80,25 @@ public class HFileBlockReader {
       isReadFully = true;
     }
 
+    HFileBlock block = parseBlock(context, byteBuff, offset, expectedBlockType);
+    offset += block.getOnDiskSizeWithHeader();
+    return block;
+  }
+
+  /**
+   * Parses the block starting at the offset of the bytes, based on the expected block type.
+   *
+   * @param context           HFile context.
+   * @param byteBuff          bytes of the block.
+   * @param offset            offset of the block in the bytes.
+   * @param expectedBlockType expected block type.
+   * @return {@link HFileBlock} instance matching the expected block type.
+   * @throws IOException if the type of the block does not match the expected type.
+   */
+  public static HFileBlock parseBlock(HFileContext context,
+                                      byte[] byteBuff,
+                                      int offset,
+                                      HFileBlockType expectedBlockType) throws IOException {
     HFileBlock block = HFileBlock.parse(context, byteBuff, offset);
     block.unpack();
 
@@ -87,8 +106,6 @@ public class HFileBlockReader {
       throw new IOException("Unexpected block type: " + block.getBlockType()
           + "; expecting " + expectedBlockType);
     }
-
-    offset += block.getOnDiskSizeWithHeader();
     return block;
   }
 }
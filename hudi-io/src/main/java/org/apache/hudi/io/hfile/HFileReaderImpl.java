@@ -21,6 +21,7 @@ package org.apache.hudi.io.hfile;
 
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.io.ReadRange;
 import org.apache.hudi.io.SeekableDataInputStream;
 
 import lombok.AccessLevel;
@@ -31,11 +32,10 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import static org.apache.hudi.io.hfile.HFileBlock.HFILEBLOCK_HEADER_SIZE;
 import static org.apache.hudi.io.hfile.HFileUtils.readMajorVersion;
@@ -358,20 +358,19 @@ public class HFileReaderImpl implements HFileReader {
     levels--;
 
     // Supports BFS search for leaf index entries
-    Queue<BlockIndexEntry> queue = new LinkedList<>();
     while (levels >= 1) {
-      // (2) Put intermediate / leaf index entries to the queue
-      queue.addAll(indexEntryList);
+      // (2) Read all the intermediate / leaf index blocks of the level with a vectored read
+      List<ReadRange> ranges = indexEntryList.stream()
+          .map(indexEntry -> new ReadRange(indexEntry.getOffset(), indexEntry.getSize()))
+          .collect(Collectors.toList());
+      List<byte[]> blockContents = stream.readVectored(ranges);
       indexEntryList.clear();
 
       // (3) BFS
-      while (!queue.isEmpty()) {
-        BlockIndexEntry indexEntry = queue.poll();
-        HFileBlockReader blockReader = new HFileBlockReader(
-            context, stream, indexEntry.getOffset(), indexEntry.getOffset() + indexEntry.getSize());
-        HFileBlockType blockType = levels > 1
-            ? HFileBlockType.INTERMEDIATE_INDEX : HFileBlockType.LEAF_INDEX;
-        HFileBlock tempBlock = blockReader.nextBlock(blockType);
+      HFileBlockType blockType = levels > 1
+          ? HFileBlockType.INTERMEDIATE_INDEX : HFileBlockType.LEAF_INDEX;
+      for (byte[] blockContent : blockContents) {
+        HFileBlock tempBlock = HFileBlockReader.parseBlock(context, blockContent, 0, blockType);
         indexEntryList.addAll(((HFileLeafIndexBlock) tempBlock).readBlockIndex());
       }
 
@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.storage;
+
+import org.apache.hudi.common.metrics.Registry;
+import org.apache.hudi.io.ReadRange;
+import org.apache.hudi.io.SeekableDataInputStream;
+
+import lombok.Getter;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * {@link HoodieStorage} recording the latency histograms of the operations and the number of bytes
+ * read and written on the wrapped storage, whatever its implementation.
+ *
+ * <p>The metrics are named {@code <subsystem>.<operation>}, the subsystem being inferred from the path:
+ * {@code mdt} for the metadata table, {@code timeline} for the other files of the meta folder, {@code log}
+ * for the log files and {@code base} for the other files. The latencies are recorded in microseconds.
+ */
+public class HoodieInstrumentedStorage extends HoodieStorage {
+
+  public static final String REGISTRY_NAME = HoodieInstrumentedStorage.class.getSimpleName();
+
+  private static final String METAFOLDER_NAME = ".hoodie";
+  private static final String METADATA_TABLE_FOLDER = METAFOLDER_NAME + "/metadata";
+  private static final String LOG_FILE_MARKER = ".log.";
+
+  /**
+   * Names for metrics.
+   */
+  protected enum MetricName {
+    open, seek, read, readVectored, create, write, append, exists, getPathInfo, mkdirs, list, rename, delete
+  }
+
+  /**
+   * Storage operation throwing {@link IOException}.
+   *
+   * @param <R> Type of return value.
+   */
+  @FunctionalInterface
+  private interface StorageOperation<R> {
+    R get() throws IOException;
+  }
+
+  @Getter
+  private final HoodieStorage delegate;
+  private final Registry registry;
+
+  public HoodieInstrumentedStorage(HoodieStorage delegate, Registry registry) {
+    super(delegate.getConf());
+    this.delegate = delegate;
+    this.registry = registry;
+  }
+
+  public HoodieInstrumentedStorage(HoodieStorage delegate) {
+    this(delegate, Registry.getRegistry(REGISTRY_NAME));
+  }
+
+  /**
+   * @return the subsystem of Hudi accessing the path, used to tag the metrics.
+   */
+  public static String getSubsystem(StoragePath path) {
+    String pathStr = path.toString();
+    if (pathStr.contains(METADATA_TABLE_FOLDER)) {
+      return "mdt";
+    }
+    if (pathStr.contains(METAFOLDER_NAME)) {
+      return "timeline";
+    }
+    return path.getName().contains(LOG_FILE_MARKER) ? "log" : "base";
+  }
+
+  private <R> R executeWithTimeMetrics(MetricName metricName, StoragePath path, StorageOperation<R> operation) throws IOException {
+    long startNanos = System.nanoTime();
+    try {
+      return operation.get();
+    } finally {
+      recordLatency(registry, getSubsystem(path) + "." + metricName.name(), startNanos);
+    }
+  }
+
+  private static void recordLatency(Registry registry, String metricName, long startNanos) {
+    registry.updateHistogram(metricName, (System.nanoTime() - startNanos) / 1000);
+  }
+
+  @Override
+  public HoodieStorage newInstance(StoragePath path, StorageConfiguration<?> storageConf) {
+    return new HoodieInstrumentedStorage(delegate.newInstance(path, storageConf), registry);
+  }
+
+  @Override
+  public String getScheme() {
+    return delegate.getScheme();
+  }
+
+  @Override
+  public int getDefaultBlockSize(StoragePath path) {
+    return delegate.getDefaultBlockSize(path);
+  }
+
+  @Override
+  public int getDefaultBufferSize() {
+    return delegate.getDefaultBufferSize();
+  }
+
+  @Override
+  public short getDefaultReplication(StoragePath path) {
+    return delegate.getDefaultReplication(path);
+  }
+
+  @Override
+  public URI getUri() {
+    return delegate.getUri();
+  }
+
+  @Override
+  public OutputStream create(StoragePath path, boolean overwrite) throws IOException {
+    return wrapOutputStream(path, executeWithTimeMetrics(MetricName.create, path, () -> delegate.create(path, overwrite)));
+  }
+
+  @Override
+  public OutputStream create(StoragePath path, boolean overwrite, Integer bufferSize, Short replication, Long sizeThreshold) throws IOException {
+    return wrapOutputStream(path, executeWithTimeMetrics(MetricName.create, path,
+        () -> delegate.create(path, overwrite, bufferSize, replication, sizeThreshold)));
+  }
+
+  @Override
+  public InputStream open(StoragePath path) throws IOException {
+    InputStream stream = executeWithTimeMetrics(MetricName.open, path, () -> delegate.open(path));
+    return new InstrumentedInputStream(stream, registry, getSubsystem(path));
+  }
+
+  @Override
+  public SeekableDataInputStream openSeekable(StoragePath path, int bufferSize, boolean wrapStream) throws IOException {
+    SeekableDataInputStream stream = executeWithTimeMetrics(MetricName.open, path, () -> delegate.openSeekable(path, bufferSize, wrapStream));
+    return new InstrumentedSeekableDataInputStream(stream, registry, getSubsystem(path));
+  }
+
+  @Override
+  public OutputStream append(StoragePath path) throws IOException {
+    return wrapOutputStream(path, executeWithTimeMetrics(MetricName.append, path, () -> delegate.append(path)));
+  }
+
+  @Override
+  public boolean exists(StoragePath path) throws IOException {
+    return executeWithTimeMetrics(MetricName.exists, path, () -> delegate.exists(path));
+  }
+
+  @Override
+  public StoragePathInfo getPathInfo(StoragePath path) throws IOException {
+    return executeWithTimeMetrics(MetricName.getPathInfo, path, () -> delegate.getPathInfo(path));
+  }
+
+  @Override
+  public boolean createDirectory(StoragePath path) throws IOException {
+    return executeWithTimeMetrics(MetricName.mkdirs, path, () -> delegate.createDirectory(path));
+  }
+
+  @Override
+  public List<StoragePathInfo> listDirectEntries(StoragePath path) throws IOException {
+    return executeWithTimeMetrics(MetricName.list, path, () -> delegate.listDirectEntries(path));
+  }
+
+  @Override
+  public List<StoragePathInfo> listFiles(StoragePath path) throws IOException {
+    return executeWithTimeMetrics(MetricName.list, path, () -> delegate.listFiles(path));
+  }
+
+  @Override
+  public List<StoragePathInfo> listDirectEntries(StoragePath path, StoragePathFilter filter) throws IOException {
+    return executeWithTimeMetrics(MetricName.list, path, () -> delegate.listDirectEntries(path, filter));
+  }
+
+  @Override
+  public void setModificationTime(StoragePath path, long modificationTimeInMillisEpoch) throws IOException {
+    delegate.setModificationTime(path, modificationTimeInMillisEpoch);
+  }
+
+  @Override
+  public List<StoragePathInfo> globEntries(StoragePath pathPattern, StoragePathFilter filter) throws IOException {
+    return executeWithTimeMetrics(MetricName.list, pathPattern, () -> delegate.globEntries(pathPattern, filter));
+  }
+
+  @Override
+  public boolean rename(StoragePath oldPath, StoragePath newPath) throws IOException {
+    return executeWithTimeMetrics(MetricName.rename, newPath, () -> delegate.rename(oldPath, newPath));
+  }
+
+  @Override
+  public boolean deleteDirectory(StoragePath path) throws IOException {
+    return executeWithTimeMetrics(MetricName.delete, path, () -> delegate.deleteDirectory(path));
+  }
+
+  @Override
+  public boolean deleteFile(StoragePath path) throws IOException {
+    return executeWithTimeMetrics(MetricName.delete, path, () -> delegate.deleteFile(path));
+  }
+
+  @Override
+  public Object getFileSystem() {
+    return delegate.getFileSystem();
+  }
+
+  @Override
+  public HoodieStorage getRawStorage() {
+    return delegate.getRawStorage();
+  }
+
+  @Override
+  public void close() throws IOException {
+    delegate.close();
+  }
+
+  /**
+   * Wraps the output stream to count the bytes written, added to {@code <subsystem>.write.totalBytes} on close.
+   * The implementations whose streams expose more than {@link OutputStream}, like the Hadoop {@code Syncable}
+   * streams, override it to keep these capabilities.
+   */
+  protected OutputStream wrapOutputStream(StoragePath path, OutputStream stream) throws IOException {
+    return new InstrumentedOutputStream(stream, registry, getWriteBytesMetricName(path));
+  }
+
+  protected Registry getRegistry() {
+    return registry;
+  }
+
+  protected static String getWriteBytesMetricName(StoragePath path) {
+    return getSubsystem(path) + "." + MetricName.write.name() + ".totalBytes";
+  }
+
+  /**
+   * Input stream counting the bytes read and recording the latency of the bulk reads.
+   * The number of bytes read is added to the registry on close.
+   */
+  private static class InstrumentedInputStream extends FilterInputStream {
+    private final Registry registry;
+    private final String readMetricName;
+    private long bytesRead = 0;
+
+    InstrumentedInputStream(InputStream in, Registry registry, String subsystem) {
+      super(in);
+      this.registry = registry;
+      this.readMetricName = subsystem + "." + MetricName.read.name();
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = in.read();
+      if (value >= 0) {
+        bytesRead++;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      long startNanos = System.nanoTime();
+      int read = in.read(b, off, len);
+      recordLatency(registry, readMetricName, startNanos);
+      if (read > 0) {
+        bytesRead += read;
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        registry.add(readMetricName + ".totalBytes", bytesRead);
+        bytesRead = 0;
+      }
+    }
+  }
+
+  /**
+   * Seekable input stream counting the bytes read and recording the latency of the seeks and of the bulk reads.
+   */
+  private static class InstrumentedSeekableDataInputStream extends SeekableDataInputStream {
+    private final SeekableDataInputStream stream;
+    private final Registry registry;
+    private final String seekMetricName;
+    private final String readVectoredMetricName;
+
+    InstrumentedSeekableDataInputStream(SeekableDataInputStream stream, Registry registry, String subsystem) {
+      super(new InstrumentedInputStream(stream, registry, subsystem));
+      this.stream = stream;
+      this.registry = registry;
+      this.seekMetricName = subsystem + "." + MetricName.seek.name();
+      this.readVectoredMetricName = subsystem + "." + MetricName.readVectored.name();
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return stream.getPos();
+    }
+
+    @Override
+    public void seek(long pos) throws IOException {
+      long startNanos = System.nanoTime();
+      stream.seek(pos);
+      recordLatency(registry, seekMetricName, startNanos);
+    }
+
+    @Override
+    public List<byte[]> readVectored(List<ReadRange> ranges) throws IOException {
+      long startNanos = System.nanoTime();
+      List<byte[]> contents = stream.readVectored(ranges);
+      recordLatency(registry, readVectoredMetricName, startNanos);
+      registry.add(readVectoredMetricName + ".totalBytes", contents.stream().mapToLong(content -> content.length).sum());
+      return contents;
+    }
+  }
+
+  /**
+   * Output stream counting the bytes written, added to the registry on close.
+   */
+  private static class InstrumentedOutputStream extends FilterOutputStream {
+    private final Registry registry;
+    private final String writeBytesMetricName;
+    private long bytesWritten = 0;
+
+    InstrumentedOutputStream(OutputStream out, Registry registry, String writeBytesMetricName) {
+      super(out);
+      this.registry = registry;
+      this.writeBytesMetricName = writeBytesMetricName;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      bytesWritten++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      bytesWritten += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        registry.add(writeBytesMetricName, bytesWritten);
+        bytesWritten = 0;
+      }
+    }
+  }
+}
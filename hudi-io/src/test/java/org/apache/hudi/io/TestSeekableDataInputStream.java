@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the vectored reads of {@link SeekableDataInputStream}.
+ */
+public class TestSeekableDataInputStream {
+
+  private static final byte[] DATA = new byte[200 * 1024];
+
+  static {
+    for (int i = 0; i < DATA.length; i++) {
+      DATA[i] = (byte) i;
+    }
+  }
+
+  @Test
+  public void testMergeRanges() {
+    assertEquals(Collections.emptyList(), ReadRange.merge(Collections.emptyList(), 10, 100));
+    assertEquals(
+        Arrays.asList(new ReadRange(0, 30), new ReadRange(50, 10)),
+        ReadRange.merge(Arrays.asList(
+            new ReadRange(50, 10), new ReadRange(20, 10), new ReadRange(0, 10), new ReadRange(5, 2)), 10, 100));
+    // merged ranges are limited in size
+    assertEquals(
+        Arrays.asList(new ReadRange(0, 60), new ReadRange(60, 60)),
+        ReadRange.merge(Arrays.asList(
+            new ReadRange(0, 60), new ReadRange(60, 60)), 10, 100));
+    assertThrows(IllegalArgumentException.class, () -> new ReadRange(-1, 10));
+  }
+
+  @Test
+  public void testReadVectored() throws IOException {
+    List<ReadRange> ranges = Arrays.asList(
+        new ReadRange(150 * 1024, 100),
+        new ReadRange(10, 20),
+        new ReadRange(0, 15),
+        new ReadRange(1024, 4096),
+        new ReadRange(DATA.length - 10, 10),
+        new ReadRange(5000, 0));
+    try (CountingSeekableDataInputStream stream = new CountingSeekableDataInputStream(DATA)) {
+      List<byte[]> contents = stream.readVectored(ranges);
+      assertEquals(ranges.size(), contents.size());
+      for (int i = 0; i < ranges.size(); i++) {
+        ReadRange range = ranges.get(i);
+        assertArrayEquals(
+            Arrays.copyOfRange(DATA, (int) range.getOffset(), (int) range.getEnd()), contents.get(i));
+      }
+      // [0, 5120) and [150K, 200K) are read with one seek each
+      assertEquals(2, stream.numSeeks);
+    }
+  }
+
+  @Test
+  public void testReadVectoredPastEnd() {
+    assertThrows(EOFException.class, () -> {
+      try (CountingSeekableDataInputStream stream = new CountingSeekableDataInputStream(DATA)) {
+        stream.readVectored(Collections.singletonList(new ReadRange(DATA.length - 10, 20)));
+      }
+    });
+  }
+
+  /**
+   * In-memory stream counting the seeks, each one standing for a request to the storage.
+   */
+  private static class CountingSeekableDataInputStream extends ByteArraySeekableDataInputStream {
+    private int numSeeks = 0;
+
+    CountingSeekableDataInputStream(byte[] data) {
+      super(new ByteBufferBackedInputStream(data));
+    }
+
+    @Override
+    public void seek(long pos) throws IOException {
+      numSeeks++;
+      super.seek(pos);
+    }
+  }
+}
@@ -47,6 +47,11 @@ public interface HoodieMetaserverClient extends Serializable, AutoCloseable {
 
   HoodieInstant transitionInstantState(String db, String tb, HoodieInstant fromInstant, HoodieInstant toInstant, Option<byte[]> content);
 
+  /**
+   * Transitions the states of the instants in a single transaction on the metaserver.
+   */
+  List<HoodieInstant> transitionInstantStates(String db, String tb, List<HoodieInstant> fromInstants, List<HoodieInstant> toInstants, List<Option<byte[]>> contents);
+
   void deleteInstant(String db, String tb, HoodieInstant instant);
 
   boolean isLocal();
@@ -25,10 +25,15 @@ import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.ReflectionUtils;
 import org.apache.hudi.common.util.RetryHelper;
 import org.apache.hudi.exception.HoodieException;
+import org.apache.hudi.metaserver.thrift.THoodieInstant;
+import org.apache.hudi.metaserver.thrift.THoodieTimelineDelta;
+import org.apache.hudi.metaserver.thrift.TState;
 import org.apache.hudi.metaserver.thrift.Table;
 import org.apache.hudi.metaserver.thrift.ThriftHoodieMetaserver;
 import org.apache.hudi.metaserver.util.EntityConversions;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.thrift.TException;
@@ -39,8 +44,12 @@ import org.apache.thrift.transport.TTransportException;
 
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -50,6 +59,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class HoodieMetaserverClientImp implements HoodieMetaserverClient {
 
+  private static final int MAX_CACHED_TIMELINES = 1000;
+
+  // timelines of the tables listed by the process, the clients are created per call by the proxy
+  private static final Cache<String, CachedTimeline> TIMELINE_CACHE = Caffeine.newBuilder().maximumSize(MAX_CACHED_TIMELINES).build();
+
   private final HoodieMetaserverConfig config;
   private final int retryLimit;
   private final long retryDelayMs;
@@ -113,10 +127,22 @@ public class HoodieMetaserverClientImp implements HoodieMetaserverClient {
 
   @Override
   public List<HoodieInstant> listInstants(String db, String tb, int commitNum) {
-    return exceptionWrapper(() -> this.client.listInstants(db, tb, commitNum).stream()
+    CachedTimeline timeline = TIMELINE_CACHE.get(config.getMetaserverUris() + "/" + db + "." + tb + "/" + commitNum, key -> new CachedTimeline());
+    long version;
+    synchronized (timeline) {
+      version = timeline.version;
+    }
+    // only fetches the instants changed since the cached version of the timeline, without holding the lock
+    THoodieTimelineDelta delta = exceptionWrapper(() -> this.client.listInstantsSinceVersion(db, tb, commitNum, version)).get();
+    List<THoodieInstant> instants;
+    synchronized (timeline) {
+      timeline.apply(delta, commitNum);
+      instants = new ArrayList<>(timeline.instants.values());
+    }
+    return instants.stream()
         .map(instant -> EntityConversions.fromTHoodieInstant(instant, instantGenerator))
         .sorted(Comparator.comparing(HoodieInstant::requestedTime).reversed())
-        .collect(Collectors.toList())).get();
+        .collect(Collectors.toList());
   }
 
   @Override
@@ -146,6 +172,16 @@ public class HoodieMetaserverClientImp implements HoodieMetaserverClient {
     return toInstant;
   }
 
+  @Override
+  public List<HoodieInstant> transitionInstantStates(String db, String tb, List<HoodieInstant> fromInstants, List<HoodieInstant> toInstants,
+                                                     List<Option<byte[]>> contents) {
+    exceptionWrapper(() -> this.client.transitionInstantStates(db, tb,
+        fromInstants.stream().map(EntityConversions::toTHoodieInstant).collect(Collectors.toList()),
+        toInstants.stream().map(EntityConversions::toTHoodieInstant).collect(Collectors.toList()),
+        contents.stream().map(this::getByteBuffer).collect(Collectors.toList()))).get();
+    return toInstants;
+  }
+
   @Override
   public void deleteInstant(String db, String tb, HoodieInstant instant) {
     exceptionWrapper(() -> this.client.deleteInstant(db, tb, EntityConversions.toTHoodieInstant(instant))).get();
@@ -169,6 +205,39 @@ public class HoodieMetaserverClientImp implements HoodieMetaserverClient {
     }
   }
 
+  /**
+   * Instants of a table as of a version of its timeline on the metaserver, with the last completed instants
+   * limited to the number listed.
+   */
+  @Getter
+  static class CachedTimeline {
+    private final NavigableMap<String, THoodieInstant> instants = new TreeMap<>();
+    private long version = -1L;
+
+    /**
+     * Applies the instants changed since a version not newer than the cached one. The delta is skipped
+     * if a concurrent listing already applied the changes up to its version.
+     */
+    void apply(THoodieTimelineDelta delta, int commitNum) {
+      if (delta.getVersion() <= version) {
+        return;
+      }
+      if (delta.isFull()) {
+        instants.clear();
+      }
+      delta.getInstants().forEach(instant -> instants.put(instant.getTimestamp(), instant));
+      if (commitNum > 0) {
+        int completed = 0;
+        for (Iterator<THoodieInstant> it = instants.descendingMap().values().iterator(); it.hasNext(); ) {
+          if (it.next().getState() == TState.COMPLETED && ++completed > commitNum) {
+            it.remove();
+          }
+        }
+      }
+      this.version = delta.getVersion();
+    }
+  }
+
   interface FunctionWithTException<R, E extends TException> {
     R get() throws E;
   }
@@ -20,9 +20,18 @@ package org.apache.hudi.metaserver.client;
 
 import org.apache.hudi.common.config.HoodieMetaserverConfig;
 import org.apache.hudi.metaserver.HoodieMetaserver;
+import org.apache.hudi.metaserver.thrift.TAction;
+import org.apache.hudi.metaserver.thrift.THoodieInstant;
+import org.apache.hudi.metaserver.thrift.THoodieTimelineDelta;
+import org.apache.hudi.metaserver.thrift.TState;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -49,4 +58,30 @@ public class TestHoodieMetaserverClient {
     assertFalse(client.isLocal());
     assertTrue(client.isConnected());
   }
+
+  @Test
+  public void testCachedTimeline() {
+    HoodieMetaserverClientImp.CachedTimeline timeline = new HoodieMetaserverClientImp.CachedTimeline();
+    THoodieInstant completed1 = new THoodieInstant("001", TAction.COMMIT, TState.COMPLETED);
+    THoodieInstant completed2 = new THoodieInstant("002", TAction.COMMIT, TState.COMPLETED);
+    THoodieInstant requested3 = new THoodieInstant("003", TAction.COMMIT, TState.REQUESTED);
+    timeline.apply(new THoodieTimelineDelta(3, true, Arrays.asList(completed1, completed2, requested3)), 2);
+    assertEquals(Arrays.asList(completed1, completed2, requested3), new ArrayList<>(timeline.getInstants().values()));
+
+    // the delta updates the state of the pending instant and the oldest completed instant is dropped
+    THoodieInstant completed3 = new THoodieInstant("003", TAction.COMMIT, TState.COMPLETED);
+    THoodieInstant requested4 = new THoodieInstant("004", TAction.DELTACOMMIT, TState.REQUESTED);
+    timeline.apply(new THoodieTimelineDelta(5, false, Arrays.asList(completed3, requested4)), 2);
+    assertEquals(Arrays.asList(completed2, completed3, requested4), new ArrayList<>(timeline.getInstants().values()));
+    assertEquals(5, timeline.getVersion());
+
+    // a full listing replaces the cached instants
+    timeline.apply(new THoodieTimelineDelta(6, true, Collections.singletonList(completed3)), 2);
+    assertEquals(Collections.singletonList(completed3), new ArrayList<>(timeline.getInstants().values()));
+
+    // the delta of a concurrent listing older than the cached timeline is skipped
+    timeline.apply(new THoodieTimelineDelta(5, false, Collections.singletonList(requested4)), 2);
+    assertEquals(Collections.singletonList(completed3), new ArrayList<>(timeline.getInstants().values()));
+    assertEquals(6, timeline.getVersion());
+  }
 }
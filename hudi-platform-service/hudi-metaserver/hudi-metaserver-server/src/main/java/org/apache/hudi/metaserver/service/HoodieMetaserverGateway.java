@@ -24,6 +24,7 @@ import org.apache.hudi.metaserver.thrift.MetaserverException;
 import org.apache.hudi.metaserver.thrift.MetaserverStorageException;
 import org.apache.hudi.metaserver.thrift.NoSuchObjectException;
 import org.apache.hudi.metaserver.thrift.THoodieInstant;
+import org.apache.hudi.metaserver.thrift.THoodieTimelineDelta;
 import org.apache.hudi.metaserver.thrift.Table;
 import org.apache.hudi.metaserver.thrift.ThriftHoodieMetaserver;
 
@@ -63,6 +64,11 @@ public class HoodieMetaserverGateway implements ThriftHoodieMetaserver.Iface, Se
     return timelineService.listInstants(db, tb, num);
   }
 
+  @Override
+  public THoodieTimelineDelta listInstantsSinceVersion(String db, String tb, int num, long version) throws MetaserverStorageException, NoSuchObjectException {
+    return timelineService.listInstantsSinceVersion(db, tb, num, version);
+  }
+
   @Override
   public ByteBuffer getInstantMetadata(String db, String tb, THoodieInstant instant) throws MetaserverStorageException, NoSuchObjectException {
     return timelineService.getInstantMetadata(db, tb, instant);
@@ -84,6 +90,12 @@ public class HoodieMetaserverGateway implements ThriftHoodieMetaserver.Iface, Se
     return timelineService.transitionInstantState(db, tb, fromInstant, toInstant, metadata);
   }
 
+  @Override
+  public List<HoodieInstantChangeResult> transitionInstantStates(String db, String tb, List<THoodieInstant> fromInstants, List<THoodieInstant> toInstants,
+                                                                 List<ByteBuffer> metadata) throws MetaserverStorageException, NoSuchObjectException, MetaserverException {
+    return timelineService.transitionInstantStates(db, tb, fromInstants, toInstants, metadata);
+  }
+
   @Override
   public HoodieInstantChangeResult deleteInstant(String db, String tb, THoodieInstant instant) throws MetaserverStorageException, NoSuchObjectException {
     return timelineService.deleteInstant(db, tb, instant);
@@ -20,12 +20,14 @@ package org.apache.hudi.metaserver.service;
 
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.metaserver.store.MetaserverStorage;
+import org.apache.hudi.metaserver.store.bean.TimelineVersionBean;
 import org.apache.hudi.metaserver.thrift.HoodieInstantChangeResult;
 import org.apache.hudi.metaserver.thrift.MetaserverException;
 import org.apache.hudi.metaserver.thrift.MetaserverStorageException;
 import org.apache.hudi.metaserver.thrift.NoSuchObjectException;
 import org.apache.hudi.metaserver.thrift.TAction;
 import org.apache.hudi.metaserver.thrift.THoodieInstant;
+import org.apache.hudi.metaserver.thrift.THoodieTimelineDelta;
 import org.apache.hudi.metaserver.thrift.TState;
 import org.apache.hudi.metaserver.util.MetaserverTableUtils;
 
@@ -33,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -56,6 +59,30 @@ public class TimelineService implements Serializable {
 
   public List<THoodieInstant> listInstants(String db, String tb, int num) throws MetaserverStorageException, NoSuchObjectException {
     Long tableId = MetaserverTableUtils.getTableId(store, db, tb);
+    return listInstants(tableId, num);
+  }
+
+  /**
+   * Lists the instants changed since the version of the timeline, or the whole timeline like
+   * {@link #listInstants(String, String, int)} if the version is negative or some instants have been deleted since.
+   */
+  public THoodieTimelineDelta listInstantsSinceVersion(String db, String tb, int num, long version) throws MetaserverStorageException, NoSuchObjectException {
+    Long tableId = MetaserverTableUtils.getTableId(store, db, tb);
+    // read the version before the instants, the changes committed in between are sent again with the next delta
+    TimelineVersionBean currentVersion = store.getTimelineVersion(tableId);
+    THoodieTimelineDelta delta = new THoodieTimelineDelta();
+    delta.setVersion(currentVersion.getVersion());
+    if (version < 0 || version > currentVersion.getVersion() || currentVersion.getDeleteVersion() > version) {
+      delta.setFull(true);
+      delta.setInstants(listInstants(tableId, num));
+    } else {
+      delta.setFull(false);
+      delta.setInstants(store.scanInstantsSinceVersion(tableId, version));
+    }
+    return delta;
+  }
+
+  private List<THoodieInstant> listInstants(Long tableId, int num) throws MetaserverStorageException {
     List<THoodieInstant> completeds = store.scanInstants(tableId, TState.COMPLETED, num);
     List<THoodieInstant> pendings = store.scanInstants(tableId, PENDING_STATES, -1);
     completeds.addAll(pendings);
@@ -82,8 +109,7 @@ public class TimelineService implements Serializable {
       result.setSuccess(true);
       return result;
     }
-    store.saveInstantMetadata(tableId, instant, content.array());
-    result.setSuccess(store.createInstant(tableId, instant));
+    result.setSuccess(store.createInstant(tableId, instant, content.array()));
     return result;
   }
 
@@ -99,6 +125,47 @@ public class TimelineService implements Serializable {
     }
   }
 
+  /**
+   * Transitions the states of the instants like {@link #transitionInstantState}, but in a single transaction of the store
+   * that increments the version of the timeline once for the whole batch. The instants already transitioned are skipped.
+   */
+  public List<HoodieInstantChangeResult> transitionInstantStates(String db, String tb, List<THoodieInstant> fromInstants,
+                                                                 List<THoodieInstant> toInstants, List<ByteBuffer> metadata)
+      throws MetaserverStorageException, NoSuchObjectException, MetaserverException {
+    checkArgument(fromInstants.size() == toInstants.size() && toInstants.size() == metadata.size(),
+        "The instants to transition and their metadata should be of the same size");
+    Long tableId = MetaserverTableUtils.getTableId(store, db, tb);
+    List<HoodieInstantChangeResult> results = new ArrayList<>(toInstants.size());
+    List<THoodieInstant> pendingFromInstants = new ArrayList<>();
+    List<THoodieInstant> pendingToInstants = new ArrayList<>();
+    List<byte[]> pendingMetadata = new ArrayList<>();
+    for (int i = 0; i < toInstants.size(); i++) {
+      THoodieInstant fromInstant = fromInstants.get(i);
+      THoodieInstant toInstant = toInstants.get(i);
+      TState expectedToState = fromInstant.getState() == TState.REQUESTED ? TState.INFLIGHT
+          : fromInstant.getState() == TState.INFLIGHT ? TState.COMPLETED : null;
+      if (expectedToState == null) {
+        throw new MetaserverException("Unsupported state " + fromInstant.getState() + " when do the state transition.");
+      }
+      checkArgument(toInstant.getState().equals(expectedToState));
+      HoodieInstantChangeResult result = new HoodieInstantChangeResult();
+      result.setInstant(toInstant);
+      result.setSuccess(true);
+      results.add(result);
+      if (store.instantExists(tableId, toInstant)) {
+        log.info("Instant {} has been already changed to", toInstant);
+        continue;
+      }
+      pendingFromInstants.add(fromInstant);
+      pendingToInstants.add(toInstant);
+      pendingMetadata.add(metadata.get(i).array());
+    }
+    if (!pendingToInstants.isEmpty()) {
+      store.updateInstants(tableId, pendingFromInstants, pendingToInstants, pendingMetadata);
+    }
+    return results;
+  }
+
   private HoodieInstantChangeResult transitionRequestedToInflight(String db, String tb, THoodieInstant fromInstant, THoodieInstant toInstant, ByteBuffer metadata)
       throws MetaserverStorageException, NoSuchObjectException {
     checkArgument(fromInstant.getState().equals(TState.REQUESTED));
@@ -111,8 +178,7 @@ public class TimelineService implements Serializable {
       return result;
     }
     // todo: add conflict check for inflight
-    store.saveInstantMetadata(tableId, toInstant, metadata.array());
-    result.setSuccess(store.updateInstant(tableId, fromInstant, toInstant));
+    result.setSuccess(store.updateInstant(tableId, fromInstant, toInstant, metadata.array()));
     return result;
   }
 
@@ -128,9 +194,8 @@ public class TimelineService implements Serializable {
       return result;
     }
     // todo: add conflict check for completed
-    store.saveInstantMetadata(tableId, toInstant, metadata.array());
     // todo: sync snapshot
-    result.setSuccess(store.updateInstant(tableId, fromInstant, toInstant));
+    result.setSuccess(store.updateInstant(tableId, fromInstant, toInstant, metadata.array()));
     return result;
   }
 
@@ -22,6 +22,7 @@ import org.apache.hudi.ApiMaturityLevel;
 import org.apache.hudi.PublicAPIClass;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.VisibleForTesting;
+import org.apache.hudi.metaserver.store.bean.TimelineVersionBean;
 import org.apache.hudi.metaserver.thrift.MetaserverStorageException;
 import org.apache.hudi.metaserver.thrift.THoodieInstant;
 import org.apache.hudi.metaserver.thrift.TState;
@@ -66,6 +67,32 @@ public interface MetaserverStorage extends AutoCloseable {
 
   boolean deleteInstant(long tableId, THoodieInstant instant) throws MetaserverStorageException;
 
+  /**
+   * Saves the metadata and creates the instant in a single transaction.
+   */
+  boolean createInstant(long tableId, THoodieInstant instant, byte[] metadata) throws MetaserverStorageException;
+
+  /**
+   * Saves the metadata of the new instant and updates the instant in a single transaction.
+   */
+  boolean updateInstant(long tableId, THoodieInstant fromInstant, THoodieInstant toInstant, byte[] metadata) throws MetaserverStorageException;
+
+  /**
+   * Saves the metadata of the new instants and updates the instants in a single transaction,
+   * the version of the timeline is incremented once for the whole batch.
+   */
+  boolean updateInstants(long tableId, List<THoodieInstant> fromInstants, List<THoodieInstant> toInstants, List<byte[]> metadata) throws MetaserverStorageException;
+
+  TimelineVersionBean getTimelineVersion(long tableId) throws MetaserverStorageException;
+
+  @VisibleForTesting
+  boolean deleteTimelineVersion(long tableId) throws MetaserverStorageException;
+
+  /**
+   * Scans the instants created or updated after the version of the timeline, deleted instants are not returned.
+   */
+  List<THoodieInstant> scanInstantsSinceVersion(long tableId, long version) throws MetaserverStorageException;
+
   List<THoodieInstant> scanInstants(long tableId, List<TState> states, int limit) throws MetaserverStorageException;
 
   List<THoodieInstant> scanInstants(long tableId, TState state, int limit) throws MetaserverStorageException;
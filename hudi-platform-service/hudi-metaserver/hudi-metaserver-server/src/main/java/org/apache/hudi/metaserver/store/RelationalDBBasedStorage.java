@@ -22,6 +22,8 @@ import org.apache.hudi.common.table.timeline.HoodieInstantTimeGenerator;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.metaserver.store.bean.InstantBean;
 import org.apache.hudi.metaserver.store.bean.TableBean;
+import org.apache.hudi.metaserver.store.bean.TimelineVersionBean;
+import org.apache.hudi.metaserver.store.jdbc.BatchDaoOperation;
 import org.apache.hudi.metaserver.store.jdbc.WrapperDao;
 import org.apache.hudi.metaserver.thrift.MetaserverStorageException;
 import org.apache.hudi.metaserver.thrift.THoodieInstant;
@@ -29,6 +31,8 @@ import org.apache.hudi.metaserver.thrift.TState;
 import org.apache.hudi.metaserver.thrift.Table;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -39,6 +43,7 @@ import java.util.stream.Collectors;
 import static org.apache.hudi.common.table.timeline.InstantComparison.LESSER_THAN_OR_EQUALS;
 import static org.apache.hudi.common.table.timeline.InstantComparison.compareTimestamps;
 import static org.apache.hudi.common.util.CollectionUtils.isNullOrEmpty;
+import static org.apache.hudi.common.util.ValidationUtils.checkArgument;
 import static org.apache.hudi.common.util.ValidationUtils.checkState;
 
 /**
@@ -57,7 +62,11 @@ public class RelationalDBBasedStorage implements MetaserverStorage, Serializable
     dao.updateBySql("createTableParams", null);
     dao.updateBySql("createPartitions", null);
     dao.updateBySql("createTableTimestamp", null);
+    dao.updateBySql("createTimelineVersion", null);
     dao.updateBySql("createInstant", null);
+    if (!dao.columnExists("instant", "timeline_version")) {
+      dao.updateBySql("addInstantTimelineVersion", null);
+    }
     dao.updateBySql("createInstantMetadata", null);
     dao.updateBySql("createFiles", null);
   }
@@ -158,23 +167,69 @@ public class RelationalDBBasedStorage implements MetaserverStorage, Serializable
 
   @Override
   public boolean createInstant(long tableId, THoodieInstant instant) throws MetaserverStorageException {
+    return createInstant(tableId, instant, null);
+  }
+
+  @Override
+  public boolean createInstant(long tableId, THoodieInstant instant, byte[] metadata) throws MetaserverStorageException {
     InstantBean instantBean = new InstantBean(tableId, instant);
     Map<String, Object> params = new HashMap<>();
     params.put("instant", instantBean);
     // todo: support heartbeat
     params.put("duration", 120);
     params.put("startTs", (int) (System.currentTimeMillis() / 1000L));
-    return timelineDao.insertBySql("insertInstant", params) == 1;
+    List<BatchDaoOperation> operations = new ArrayList<>();
+    if (metadata != null) {
+      operations.add(instantMetadataInsert(instantBean, metadata));
+    }
+    operations.addAll(timelineVersionIncrement(tableId));
+    operations.add(operation("insertInstant", params, BatchDaoOperation.OPERATION_TYPE_INSERT));
+    return executeTimelineChange(operations) == 1;
   }
 
   @Override
   public boolean updateInstant(long tableId, THoodieInstant fromInstant, THoodieInstant toInstant) throws MetaserverStorageException {
+    return updateInstant(tableId, fromInstant, toInstant, null);
+  }
+
+  @Override
+  public boolean updateInstant(long tableId, THoodieInstant fromInstant, THoodieInstant toInstant, byte[] metadata) throws MetaserverStorageException {
     InstantBean oldInstant = new InstantBean(tableId, fromInstant);
     InstantBean newInstant = new InstantBean(tableId, toInstant);
     Map<String, Object> params = new HashMap<>();
     params.put("oldInstant", oldInstant);
     params.put("newInstant", newInstant);
-    return timelineDao.updateBySql("updateInstant", params) == 1;
+    List<BatchDaoOperation> operations = new ArrayList<>();
+    if (metadata != null) {
+      operations.add(instantMetadataInsert(newInstant, metadata));
+    }
+    operations.addAll(timelineVersionIncrement(tableId));
+    operations.add(operation("updateInstant", params, BatchDaoOperation.OPERATION_TYPE_UPDATE));
+    return executeTimelineChange(operations) == 1;
+  }
+
+  @Override
+  public boolean updateInstants(long tableId, List<THoodieInstant> fromInstants, List<THoodieInstant> toInstants, List<byte[]> metadata)
+      throws MetaserverStorageException {
+    checkArgument(fromInstants.size() == toInstants.size() && toInstants.size() == metadata.size(),
+        "The instants to transition and their metadata should be of the same size");
+    List<BatchDaoOperation> operations = new ArrayList<>();
+    List<BatchDaoOperation> instantUpdates = new ArrayList<>(toInstants.size());
+    for (int i = 0; i < toInstants.size(); i++) {
+      InstantBean oldInstant = new InstantBean(tableId, fromInstants.get(i));
+      InstantBean newInstant = new InstantBean(tableId, toInstants.get(i));
+      if (metadata.get(i) != null) {
+        operations.add(instantMetadataInsert(newInstant, metadata.get(i)));
+      }
+      Map<String, Object> params = new HashMap<>();
+      params.put("oldInstant", oldInstant);
+      params.put("newInstant", newInstant);
+      instantUpdates.add(operation("updateInstant", params, BatchDaoOperation.OPERATION_TYPE_UPDATE));
+    }
+    // the version is incremented once for the whole batch, all the instants are updated to the same version
+    operations.addAll(timelineVersionIncrement(tableId));
+    operations.addAll(instantUpdates);
+    return executeTimelineChange(operations, instantUpdates.size()) == 1;
   }
 
   @Override
@@ -182,7 +237,81 @@ public class RelationalDBBasedStorage implements MetaserverStorage, Serializable
     Map<String, Object> params = new HashMap<>();
     params.put("tableId", tableId);
     params.put("ts", instant.getTimestamp());
-    return timelineDao.deleteBySql("deleteInstant", params) == 1;
+    List<BatchDaoOperation> operations = new ArrayList<>(timelineVersionIncrement(tableId));
+    // the readers of the changes since a version need to list the whole timeline to see the deletion
+    operations.add(operation("updateTimelineDeleteVersion", params, BatchDaoOperation.OPERATION_TYPE_UPDATE));
+    operations.add(operation("deleteInstant", params, BatchDaoOperation.OPERATION_TYPE_DELETE));
+    return executeTimelineChange(operations) == 1;
+  }
+
+  @Override
+  public TimelineVersionBean getTimelineVersion(long tableId) throws MetaserverStorageException {
+    List<TimelineVersionBean> versions = timelineDao.queryForListBySql("selectTimelineVersion", tableId);
+    validate(versions, "timeline version");
+    return versions.isEmpty() ? TimelineVersionBean.INITIAL : versions.get(0);
+  }
+
+  @Override
+  public boolean deleteTimelineVersion(long tableId) throws MetaserverStorageException {
+    Map<String, Object> params = new HashMap<>();
+    params.put("tableId", tableId);
+    return timelineDao.deleteBySql("deleteTimelineVersion", params) == 1;
+  }
+
+  @Override
+  public List<THoodieInstant> scanInstantsSinceVersion(long tableId, long version) throws MetaserverStorageException {
+    Map<String, Object> params = new HashMap<>();
+    params.put("tableId", tableId);
+    params.put("version", version);
+    List<InstantBean> instantBeans = timelineDao.queryForListBySql("selectInstantsSinceVersion", params);
+    return instantBeans.stream().map(InstantBean::toTHoodieInstant).collect(Collectors.toList());
+  }
+
+  /**
+   * Increments the version of the timeline, in the same transaction as the change of the instant so that the
+   * changes are visible to the readers in the order of their versions.
+   */
+  private static List<BatchDaoOperation> timelineVersionIncrement(long tableId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("tableId", tableId);
+    return Arrays.asList(
+        operation("insertTimelineVersion", params, BatchDaoOperation.OPERATION_TYPE_INSERT),
+        operation("incrementTimelineVersion", params, BatchDaoOperation.OPERATION_TYPE_UPDATE));
+  }
+
+  private static BatchDaoOperation instantMetadataInsert(InstantBean instantBean, byte[] metadata) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("instant", instantBean);
+    params.put("metadata", metadata);
+    return operation("insertInstantMetadata", params, BatchDaoOperation.OPERATION_TYPE_INSERT);
+  }
+
+  private static BatchDaoOperation operation(String sqlID, Object parameter, String operationType) {
+    BatchDaoOperation operation = new BatchDaoOperation();
+    operation.setSqlID(sqlID);
+    operation.setParameter(parameter);
+    operation.setOperationType(operationType);
+    return operation;
+  }
+
+  private int executeTimelineChange(List<BatchDaoOperation> operations) throws MetaserverStorageException {
+    return executeTimelineChange(operations, 1);
+  }
+
+  /**
+   * Executes the operations in a single transaction, returns the number of rows affected by the last one.
+   * The transaction is rolled back and fails if any of the last {@code numInstantChanges} operations, changing the instants,
+   * affects no row, so that neither the metadata nor the version of the timeline change without all the instants.
+   */
+  private int executeTimelineChange(List<BatchDaoOperation> operations, int numInstantChanges) throws MetaserverStorageException {
+    List<Integer> results = timelineDao.batchOperateBySql(operations, numInstantChanges);
+    for (int i = results.size() - numInstantChanges; i < results.size(); i++) {
+      if (results.get(i) == 0) {
+        throw new MetaserverStorageException("No instant changed by " + operations.get(i).getSqlID()
+            + " with " + operations.get(i).getParameter() + ", the timeline change is rolled back");
+      }
+    }
+    return results.get(results.size() - 1);
   }
 
   @Override
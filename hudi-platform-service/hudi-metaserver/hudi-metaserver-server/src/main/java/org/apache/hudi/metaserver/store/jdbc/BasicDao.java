@@ -23,6 +23,11 @@ import org.apache.hudi.metaserver.thrift.MetaserverStorageException;
 import org.apache.ibatis.session.SqlSession;
 
 import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -65,24 +70,59 @@ public class BasicDao implements Serializable {
     }
   }
 
-  public void batchOperateBySql(List<BatchDaoOperation> batchDaoOperations) throws MetaserverStorageException {
+  /**
+   * Executes the operations in a single transaction, returns the number of rows affected by each operation.
+   */
+  public List<Integer> batchOperateBySql(List<BatchDaoOperation> batchDaoOperations) throws MetaserverStorageException {
+    return batchOperateBySql(batchDaoOperations, 0);
+  }
+
+  /**
+   * Executes the operations in a single transaction, returns the number of rows affected by each operation.
+   * The transaction is rolled back when any of the last {@code numRequiredLast} operations affects no row.
+   */
+  public List<Integer> batchOperateBySql(List<BatchDaoOperation> batchDaoOperations, int numRequiredLast) throws MetaserverStorageException {
     try (SqlSession session = SqlSessionFactoryUtils.openSqlSession()) {
+      List<Integer> results = new ArrayList<>(batchDaoOperations.size());
       for (BatchDaoOperation batchDaoOperation: batchDaoOperations) {
         switch (batchDaoOperation.getOperationType()) {
           case BatchDaoOperation.OPERATION_TYPE_INSERT:
-            session.insert(statement(batchDaoOperation.getNamespace(), batchDaoOperation.getSqlID()), batchDaoOperation.getParameter());
+            results.add(session.insert(statement(batchDaoOperation.getNamespace(), batchDaoOperation.getSqlID()), batchDaoOperation.getParameter()));
             break;
           case BatchDaoOperation.OPERATION_TYPE_UPDATE:
-            session.update(statement(batchDaoOperation.getNamespace(), batchDaoOperation.getSqlID()), batchDaoOperation.getParameter());
+            results.add(session.update(statement(batchDaoOperation.getNamespace(), batchDaoOperation.getSqlID()), batchDaoOperation.getParameter()));
             break;
           case BatchDaoOperation.OPERATION_TYPE_DELETE:
-            session.delete(statement(batchDaoOperation.getNamespace(), batchDaoOperation.getSqlID()), batchDaoOperation.getParameter());
+            results.add(session.delete(statement(batchDaoOperation.getNamespace(), batchDaoOperation.getSqlID()), batchDaoOperation.getParameter()));
             break;
           default:
             throw new MetaserverStorageException("Unsupported type: " + batchDaoOperation.getOperationType());
         }
       }
-      session.commit();
+      if (results.subList(Math.max(0, results.size() - numRequiredLast), results.size()).contains(0)) {
+        session.rollback();
+      } else {
+        session.commit();
+      }
+      return results;
+    }
+  }
+
+  /**
+   * Checks whether the column exists in the table of the current database, through the JDBC metadata
+   * since the information schemas differ between the databases.
+   */
+  public boolean columnExists(String tableName, String columnName) throws MetaserverStorageException {
+    try (SqlSession session = SqlSessionFactoryUtils.openSqlSession()) {
+      Connection connection = session.getConnection();
+      DatabaseMetaData metaData = connection.getMetaData();
+      boolean upperCase = metaData.storesUpperCaseIdentifiers();
+      try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+          upperCase ? tableName.toUpperCase() : tableName, upperCase ? columnName.toUpperCase() : columnName)) {
+        return columns.next();
+      }
+    } catch (SQLException e) {
+      throw new MetaserverStorageException(e.getMessage());
     }
   }
 
@@ -75,14 +75,27 @@ public class WrapperDao extends BasicDao {
     }
   }
 
-  public void batchOperateBySql(List<BatchDaoOperation> batchDaoOperations) throws MetaserverStorageException {
+  public List<Integer> batchOperateBySql(List<BatchDaoOperation> batchDaoOperations) throws MetaserverStorageException {
+    return batchOperateBySql(batchDaoOperations, 0);
+  }
+
+  public List<Integer> batchOperateBySql(List<BatchDaoOperation> batchDaoOperations, int numRequiredLast) throws MetaserverStorageException {
     try {
       batchDaoOperations.forEach(x -> {
         if (x.getNamespace() == null) {
           x.setNamespace(namespace);
         }
       });
-      super.batchOperateBySql(batchDaoOperations);
+      return super.batchOperateBySql(batchDaoOperations, numRequiredLast);
+    } catch (PersistenceException e) {
+      throw new MetaserverStorageException(e.getMessage());
+    }
+  }
+
+  @Override
+  public boolean columnExists(String tableName, String columnName) throws MetaserverStorageException {
+    try {
+      return super.columnExists(tableName, columnName);
     } catch (PersistenceException e) {
       throw new MetaserverStorageException(e.getMessage());
     }
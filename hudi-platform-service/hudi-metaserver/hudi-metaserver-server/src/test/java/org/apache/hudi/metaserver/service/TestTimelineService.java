@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.metaserver.service;
+
+import org.apache.hudi.metaserver.HoodieMetaserver;
+import org.apache.hudi.metaserver.store.MetaserverStorage;
+import org.apache.hudi.metaserver.thrift.HoodieInstantChangeResult;
+import org.apache.hudi.metaserver.thrift.MetaserverStorageException;
+import org.apache.hudi.metaserver.thrift.TAction;
+import org.apache.hudi.metaserver.thrift.THoodieInstant;
+import org.apache.hudi.metaserver.thrift.THoodieTimelineDelta;
+import org.apache.hudi.metaserver.thrift.TState;
+import org.apache.hudi.metaserver.thrift.Table;
+import org.apache.hudi.metaserver.thrift.ThriftHoodieMetaserver;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.apache.hudi.common.util.StringUtils.getUTF8Bytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests on the timeline service of hoodie meta server, with the embedded H2 store.
+ */
+@Slf4j
+public class TestTimelineService {
+
+  private static final ByteBuffer METADATA = ByteBuffer.wrap(getUTF8Bytes("metadata"));
+
+  private ThriftHoodieMetaserver.Iface metaserver;
+  private MetaserverStorage store;
+  private final String db = "test_timeline_db";
+  private final String tb = "test_timeline_tb";
+
+  @BeforeEach
+  public void setUp() throws TException {
+    metaserver = HoodieMetaserver.getEmbeddedMetaserver();
+    store = HoodieMetaserver.getMetaserverStorage();
+    Table table = new Table();
+    table.setDatabaseName(db);
+    table.setTableName(tb);
+    table.setOwner("owner");
+    table.setLocation("test_timeline_db.db/test_timeline_tb");
+    metaserver.createTable(table);
+  }
+
+  @Test
+  public void testListInstantsSinceVersion() throws TException {
+    String ts1 = createCompletedInstant();
+    THoodieTimelineDelta full = metaserver.listInstantsSinceVersion(db, tb, 10, -1);
+    assertTrue(full.isFull());
+    assertEquals(Collections.singletonList(new THoodieInstant(ts1, TAction.COMMIT, TState.COMPLETED)), full.getInstants());
+    assertEquals(3, full.getVersion());
+
+    // only the new instant is returned
+    String ts2 = metaserver.createNewInstantTime(db, tb);
+    THoodieInstant requested = new THoodieInstant(ts2, TAction.COMMIT, TState.REQUESTED);
+    metaserver.createNewInstantWithTime(db, tb, requested, METADATA);
+    THoodieTimelineDelta delta = metaserver.listInstantsSinceVersion(db, tb, 10, full.getVersion());
+    assertFalse(delta.isFull());
+    assertEquals(Collections.singletonList(requested), delta.getInstants());
+    assertEquals(4, delta.getVersion());
+    assertTrue(metaserver.listInstantsSinceVersion(db, tb, 10, delta.getVersion()).getInstants().isEmpty());
+
+    // a transition returns the instant with its new state
+    THoodieInstant inflight = new THoodieInstant(ts2, TAction.COMMIT, TState.INFLIGHT);
+    metaserver.transitionInstantState(db, tb, requested, inflight, METADATA);
+    delta = metaserver.listInstantsSinceVersion(db, tb, 10, delta.getVersion());
+    assertFalse(delta.isFull());
+    assertEquals(Collections.singletonList(inflight), delta.getInstants());
+    assertEquals("metadata", new String(metaserver.getInstantMetadata(db, tb, inflight).array()));
+
+    // a deletion needs the full timeline
+    metaserver.deleteInstant(db, tb, inflight);
+    delta = metaserver.listInstantsSinceVersion(db, tb, 10, delta.getVersion());
+    assertTrue(delta.isFull());
+    assertEquals(Collections.singletonList(new THoodieInstant(ts1, TAction.COMMIT, TState.COMPLETED)), delta.getInstants());
+  }
+
+  @Test
+  public void testTimelineChangeRolledBackWithoutInstant() throws TException {
+    createCompletedInstant();
+    long version = metaserver.listInstantsSinceVersion(db, tb, 10, -1).getVersion();
+    // the transition of a missing instant changes neither the metadata nor the version of the timeline
+    Long tableId = store.getTableId(db, tb);
+    String ts = metaserver.createNewInstantTime(db, tb);
+    THoodieInstant requested = new THoodieInstant(ts, TAction.COMMIT, TState.REQUESTED);
+    THoodieInstant inflight = new THoodieInstant(ts, TAction.COMMIT, TState.INFLIGHT);
+    assertThrows(MetaserverStorageException.class, () -> store.updateInstant(tableId, requested, inflight, METADATA.array()));
+    assertFalse(store.getInstantMetadata(tableId, inflight).isPresent());
+    assertEquals(version, metaserver.listInstantsSinceVersion(db, tb, 10, -1).getVersion());
+  }
+
+  @Test
+  public void testInitStorageOnExistingTables() throws TException {
+    // the tables and the columns added since they were created already exist
+    store.initStorage();
+    String ts = createCompletedInstant();
+    assertEquals(Collections.singletonList(new THoodieInstant(ts, TAction.COMMIT, TState.COMPLETED)),
+        metaserver.listInstantsSinceVersion(db, tb, 10, -1).getInstants());
+  }
+
+  @Test
+  public void testConcurrentWritersAndDeltaReader() throws Exception {
+    int numWriters = 4;
+    int numInstantsPerWriter = 25;
+    ExecutorService executor = Executors.newFixedThreadPool(numWriters + 1);
+    AtomicBoolean writing = new AtomicBoolean(true);
+    try {
+      // the reader keeps applying the deltas while the writers commit
+      Future<Map<String, THoodieInstant>> reader = executor.submit(() -> {
+        Map<String, THoodieInstant> timeline = new HashMap<>();
+        long version = -1;
+        boolean lastRound = false;
+        while (!lastRound) {
+          lastRound = !writing.get();
+          THoodieTimelineDelta delta = metaserver.listInstantsSinceVersion(db, tb, -1, version);
+          if (delta.isFull()) {
+            timeline.clear();
+          }
+          delta.getInstants().forEach(instant -> timeline.put(instant.getTimestamp(), instant));
+          version = delta.getVersion();
+        }
+        return timeline;
+      });
+      List<Future<?>> writers = new ArrayList<>();
+      for (int i = 0; i < numWriters; i++) {
+        writers.add(executor.submit(() -> {
+          for (int j = 0; j < numInstantsPerWriter; j++) {
+            createCompletedInstant();
+          }
+          return null;
+        }));
+      }
+      for (Future<?> writer : writers) {
+        writer.get();
+      }
+      writing.set(false);
+
+      Map<String, THoodieInstant> timeline = reader.get();
+      assertEquals(numWriters * numInstantsPerWriter, timeline.size());
+      assertTrue(timeline.values().stream().allMatch(instant -> instant.getState() == TState.COMPLETED));
+      assertEquals(3L * numWriters * numInstantsPerWriter, metaserver.listInstantsSinceVersion(db, tb, -1, -1).getVersion());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testTransitionInstantStatesInBatch() throws TException {
+    long version = metaserver.listInstantsSinceVersion(db, tb, 10, -1).getVersion();
+    List<THoodieInstant> requesteds = createRequestedInstants(3);
+    List<THoodieInstant> inflights = withState(requesteds, TState.INFLIGHT);
+    List<ByteBuffer> metadata = Collections.nCopies(requesteds.size(), METADATA);
+    assertTrue(metaserver.transitionInstantStates(db, tb, requesteds, inflights, metadata).stream().allMatch(HoodieInstantChangeResult::isSuccess));
+    // the version of the timeline is incremented once for the whole batch
+    THoodieTimelineDelta delta = metaserver.listInstantsSinceVersion(db, tb, 10, version + requesteds.size());
+    assertFalse(delta.isFull());
+    assertEquals(version + requesteds.size() + 1, delta.getVersion());
+    assertEquals(new HashSet<>(inflights), new HashSet<>(delta.getInstants()));
+    assertEquals("metadata", new String(metaserver.getInstantMetadata(db, tb, inflights.get(2)).array()));
+
+    // the batch is rolled back if any of the instants is missing
+    List<THoodieInstant> completeds = withState(requesteds, TState.COMPLETED);
+    List<THoodieInstant> fromInstants = new ArrayList<>(inflights);
+    fromInstants.set(1, new THoodieInstant("000", TAction.COMMIT, TState.INFLIGHT));
+    List<THoodieInstant> toInstants = new ArrayList<>(completeds);
+    toInstants.set(1, new THoodieInstant("000", TAction.COMMIT, TState.COMPLETED));
+    assertThrows(MetaserverStorageException.class, () -> metaserver.transitionInstantStates(db, tb, fromInstants, toInstants, metadata));
+    assertEquals(delta.getVersion(), metaserver.listInstantsSinceVersion(db, tb, 10, -1).getVersion());
+    assertFalse(metaserver.getInstantMetadata(db, tb, completeds.get(0)).hasRemaining());
+
+    // the instants already transitioned are skipped
+    metaserver.transitionInstantState(db, tb, inflights.get(0), completeds.get(0), METADATA);
+    assertTrue(metaserver.transitionInstantStates(db, tb, inflights, completeds, metadata).stream().allMatch(HoodieInstantChangeResult::isSuccess));
+    assertEquals(new HashSet<>(completeds), new HashSet<>(metaserver.listInstants(db, tb, 10)));
+  }
+
+  @Test
+  public void testConcurrentWritersThroughputWithBatchedTransitions() throws Exception {
+    int numWriters = 4;
+    int numInstantsPerWriter = 25;
+    ExecutorService executor = Executors.newFixedThreadPool(numWriters);
+    try {
+      long singleStart = System.nanoTime();
+      runWriters(executor, numWriters, () -> {
+        for (int j = 0; j < numInstantsPerWriter; j++) {
+          createCompletedInstant();
+        }
+      });
+      long singleNanos = System.nanoTime() - singleStart;
+      long version = metaserver.listInstantsSinceVersion(db, tb, -1, -1).getVersion();
+
+      long batchedStart = System.nanoTime();
+      runWriters(executor, numWriters, () -> {
+        List<THoodieInstant> requesteds = createRequestedInstants(numInstantsPerWriter);
+        List<THoodieInstant> inflights = withState(requesteds, TState.INFLIGHT);
+        List<ByteBuffer> metadata = Collections.nCopies(requesteds.size(), METADATA);
+        metaserver.transitionInstantStates(db, tb, requesteds, inflights, metadata);
+        metaserver.transitionInstantStates(db, tb, inflights, withState(requesteds, TState.COMPLETED), metadata);
+      });
+      long batchedNanos = System.nanoTime() - batchedStart;
+
+      int numInstants = numWriters * numInstantsPerWriter;
+      log.info("Committed {} instants with {} concurrent writers: {} instants/s with a transaction per transition, {} instants/s with batched transitions",
+          numInstants, numWriters, numInstants * 1_000_000_000L / singleNanos, numInstants * 1_000_000_000L / batchedNanos);
+      List<THoodieInstant> instants = metaserver.listInstants(db, tb, -1);
+      assertEquals(2 * numInstants, instants.size());
+      assertTrue(instants.stream().allMatch(instant -> instant.getState() == TState.COMPLETED));
+      // a version per creation and one per batch of transitions
+      assertEquals(version + numInstants + 2L * numWriters, metaserver.listInstantsSinceVersion(db, tb, -1, -1).getVersion());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void runWriters(ExecutorService executor, int numWriters, ThrowingRunnable writer) throws Exception {
+    List<Future<?>> writers = new ArrayList<>();
+    for (int i = 0; i < numWriters; i++) {
+      writers.add(executor.submit(() -> {
+        writer.run();
+        return null;
+      }));
+    }
+    for (Future<?> future : writers) {
+      future.get();
+    }
+  }
+
+  private interface ThrowingRunnable {
+    void run() throws TException;
+  }
+
+  private List<THoodieInstant> createRequestedInstants(int num) throws TException {
+    List<THoodieInstant> requesteds = new ArrayList<>(num);
+    for (int i = 0; i < num; i++) {
+      String ts = metaserver.createNewInstantTime(db, tb);
+      THoodieInstant requested = new THoodieInstant(ts, TAction.COMMIT, TState.REQUESTED);
+      assertTrue(metaserver.createNewInstantWithTime(db, tb, requested, METADATA).isSuccess());
+      requesteds.add(requested);
+    }
+    return requesteds;
+  }
+
+  private static List<THoodieInstant> withState(List<THoodieInstant> instants, TState state) {
+    return instants.stream().map(instant -> new THoodieInstant(instant.getTimestamp(), instant.getAction(), state)).collect(Collectors.toList());
+  }
+
+  private String createCompletedInstant() throws TException {
+    String ts = metaserver.createNewInstantTime(db, tb);
+    THoodieInstant requested = new THoodieInstant(ts, TAction.COMMIT, TState.REQUESTED);
+    THoodieInstant inflight = new THoodieInstant(ts, TAction.COMMIT, TState.INFLIGHT);
+    THoodieInstant completed = new THoodieInstant(ts, TAction.COMMIT, TState.COMPLETED);
+    assertTrue(metaserver.createNewInstantWithTime(db, tb, requested, METADATA).isSuccess());
+    assertTrue(metaserver.transitionInstantState(db, tb, requested, inflight, METADATA).isSuccess());
+    assertTrue(metaserver.transitionInstantState(db, tb, inflight, completed, METADATA).isSuccess());
+    return ts;
+  }
+
+  @AfterEach
+  public void tearDown() throws MetaserverStorageException {
+    Long tableId = store.getTableId(db, tb);
+    for (THoodieInstant instant : store.scanInstants(tableId, Arrays.asList(TState.values()), -1)) {
+      store.deleteInstantAllMeta(tableId, instant.getTimestamp());
+      store.deleteInstant(tableId, instant);
+    }
+    store.deleteTimelineVersion(tableId);
+    store.deleteTableTimestamp(tableId);
+    store.deleteTable(tableId);
+    store.deleteDatabase(store.getDatabaseId(db));
+  }
+}
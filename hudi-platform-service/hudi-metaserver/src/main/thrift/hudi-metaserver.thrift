@@ -62,6 +62,14 @@ struct THoodieInstant {
    3: TState state
 }
 
+// instants changed since a version of the timeline of a table,
+// the full timeline is returned if some instants have been deleted since the version
+struct THoodieTimelineDelta {
+  1: i64 version,
+  2: bool full,
+  3: list<THoodieInstant> instants
+}
+
 struct HoodieInstantChangeResult {
   1: bool success,
   2: optional THoodieInstant instant,
@@ -92,9 +100,12 @@ service ThriftHoodieMetaserver {
 
   // timeline related
   list<THoodieInstant> listInstants(1:string db, 2:string tb, 3:i32 num) throws (1:MetaserverStorageException o1, 2:NoSuchObjectException o2)
+  THoodieTimelineDelta listInstantsSinceVersion(1:string db, 2:string tb, 3:i32 num, 4:i64 version) throws (1:MetaserverStorageException o1, 2:NoSuchObjectException o2)
   binary getInstantMetadata(1:string db, 2:string tb, 3:THoodieInstant instant) throws (1:MetaserverStorageException o1, 2:NoSuchObjectException o2)
   string createNewInstantTime(1:string db, 2:string tb) throws (1:MetaserverStorageException o1, 2:NoSuchObjectException o2)
   HoodieInstantChangeResult createNewInstantWithTime(1:string db, 2:string tb, 3:THoodieInstant instant, 4:optional binary content) throws (1:MetaserverStorageException o1, 2:NoSuchObjectException o2)
   HoodieInstantChangeResult transitionInstantState(1:string db, 2:string tb, 3: THoodieInstant fromInstant, 4: THoodieInstant toInstant, 5:optional binary metadata) throws (1:MetaserverStorageException o1, 2:NoSuchObjectException o2, 3:MetaserverException o3)
+  // transitions the states of the instants in a single transaction, bumping the version of the timeline once
+  list<HoodieInstantChangeResult> transitionInstantStates(1:string db, 2:string tb, 3:list<THoodieInstant> fromInstants, 4:list<THoodieInstant> toInstants, 5:list<binary> metadata) throws (1:MetaserverStorageException o1, 2:NoSuchObjectException o2, 3:MetaserverException o3)
   HoodieInstantChangeResult deleteInstant(1:string db, 2:string tb, 3:THoodieInstant instant) throws (1:MetaserverStorageException o1, 2:NoSuchObjectException o2)
 }
@@ -27,7 +27,7 @@ import org.apache.hudi.common.config.{HoodieCommonConfig, HoodieMemoryConfig, Ho
 import org.apache.hudi.common.config.HoodieCommonConfig.{DISK_MAP_BITCASK_COMPRESSION_ENABLED, SPILLABLE_DISK_MAP_TYPE}
 import org.apache.hudi.common.config.HoodieMemoryConfig.SPILLABLE_MAP_BASE_PATH
 import org.apache.hudi.common.fs.FSUtils
-import org.apache.hudi.common.model.{FileSlice, HoodieLogFile, HoodieRecordMerger}
+import org.apache.hudi.common.model.{FileSlice, HoodieLogFile, HoodieRecord, HoodieRecordMerger}
 import org.apache.hudi.common.model.HoodieRecordMerger.PAYLOAD_BASED_MERGE_STRATEGY_UUID
 import org.apache.hudi.common.schema.{HoodieSchema, HoodieSchemaUtils}
 import org.apache.hudi.common.serialization.DefaultSerializer
@@ -56,6 +56,7 @@ import org.apache.spark.sql.avro.HoodieAvroDeserializer
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.catalyst.expressions.Projection
 import org.apache.spark.sql.execution.datasources.SparkColumnarFileReader
+import org.apache.spark.sql.sources.In
 import org.apache.spark.sql.types.StructType
 import org.apache.spark.unsafe.types.UTF8String
 
@@ -398,6 +399,7 @@ class CDCFileGroupIterator(split: HoodieCDCFileGroupSplit,
     keyBasedFileGroupRecordBuffer.ifPresent(k => k.close())
     keyBasedFileGroupRecordBuffer = Option.empty.asInstanceOf[Option[KeyBasedFileGroupRecordBuffer[InternalRow]]]
     beforeImageRecords.clear()
+    beforeImageFiles.clear()
     afterImageRecords.clear()
     if (cdcLogRecordIterator != null) {
       cdcLogRecordIterator.close()
@@ -431,22 +433,28 @@ class CDCFileGroupIterator(split: HoodieCDCFileGroupSplit,
           logRecordIter = loadLogFile(logFile, split.getInstant)
         case AS_IS =>
           assert(currentCDCFileSplit.getCdcFiles != null && !currentCDCFileSplit.getCdcFiles.isEmpty)
-          // load beforeFileSlice to beforeImageRecords
-          if (currentCDCFileSplit.getBeforeFileSlice.isPresent) {
-            loadBeforeFileSliceIfNeeded(currentCDCFileSplit.getBeforeFileSlice.get)
-          }
-          // load afterFileSlice to afterImageRecords
-          if (currentCDCFileSplit.getAfterFileSlice.isPresent) {
-            val iter = loadFileSlice(currentCDCFileSplit.getAfterFileSlice.get())
-            afterImageRecords.clear()
-            iter.foreach { bufferedRecord =>
-              afterImageRecords.put(bufferedRecord.getRecordKey, bufferedRecord)
-            }
-          }
-
           val cdcLogFiles = currentCDCFileSplit.getCdcFiles.asScala.map { cdcFile =>
             new HoodieLogFile(storage.getPathInfo(new StoragePath(basePath, cdcFile)))
           }.toArray
+          if (currentCDCFileSplit.getBeforeFileSlice.isPresent || currentCDCFileSplit.getAfterFileSlice.isPresent) {
+            // only the images of the records changed in the cdc log files are loaded, instead of all the records
+            // of the before and after file slices: the changed keys are pushed down into the file slice reads
+            val changedRecordKeys = readChangedRecordKeys(cdcLogFiles)
+            val keyFilteringReaderContext = createKeyFilteringReaderContext(changedRecordKeys)
+            // load beforeFileSlice to beforeImageRecords
+            if (currentCDCFileSplit.getBeforeFileSlice.isPresent) {
+              loadFileSlice(currentCDCFileSplit.getBeforeFileSlice.get, keyFilteringReaderContext)
+                .filter(bufferedRecord => changedRecordKeys.contains(bufferedRecord.getRecordKey))
+                .foreach(bufferedRecord => beforeImageRecords.put(bufferedRecord.getRecordKey, bufferedRecord))
+            }
+            // load afterFileSlice to afterImageRecords
+            if (currentCDCFileSplit.getAfterFileSlice.isPresent) {
+              loadFileSlice(currentCDCFileSplit.getAfterFileSlice.get(), createKeyFilteringReaderContext(changedRecordKeys))
+                .filter(bufferedRecord => changedRecordKeys.contains(bufferedRecord.getRecordKey))
+                .foreach(bufferedRecord => afterImageRecords.put(bufferedRecord.getRecordKey, bufferedRecord))
+            }
+          }
+          // the change data is streamed from the cdc log files
           cdcLogRecordIterator = new HoodieCDCLogRecordIterator(storage, cdcLogFiles, cdcHoodieSchema)
         case REPLACE_COMMIT =>
           if (currentCDCFileSplit.getBeforeFileSlice.isPresent) {
@@ -489,6 +497,41 @@ class CDCFileGroupIterator(split: HoodieCDCFileGroupSplit,
     }
   }
 
+  /**
+   * Returns the keys of the records in the cdc log files written in the supplemental logging mode
+   * [[OP_KEY_ONLY]] or [[DATA_BEFORE]], which both keep the record key as the second field.
+   * Only the keys are kept, the change data itself is streamed from the cdc log files afterwards.
+   */
+  private def readChangedRecordKeys(cdcLogFiles: Array[HoodieLogFile]): Set[String] = {
+    val recordKeys = mutable.HashSet.empty[String]
+    val iter = new HoodieCDCLogRecordIterator(storage, cdcLogFiles, cdcHoodieSchema)
+    try {
+      while (iter.hasNext) {
+        recordKeys += String.valueOf(iter.next().asInstanceOf[GenericRecord].get(1))
+      }
+    } finally {
+      iter.close()
+    }
+    recordKeys.toSet
+  }
+
+  /**
+   * Creates a reader context that pushes down a filter on the record key meta field into the reads of the file slices,
+   * so that the parquet row groups without any of the given keys are skipped. The filter is safe with log files to merge
+   * as it only refers to the record key. Without the meta fields, the file slices are read without the filter.
+   */
+  private def createKeyFilteringReaderContext(recordKeys: Set[String]): SparkFileFormatInternalRowReaderContext = {
+    val keyFilters = if (metaClient.getTableConfig.populateMetaFields()) {
+      Seq(In(HoodieRecord.RECORD_KEY_METADATA_FIELD, recordKeys.toArray[Any]))
+    } else {
+      Seq.empty
+    }
+    val keyFilteringReaderContext = new SparkFileFormatInternalRowReaderContext(baseFileReader,
+      keyFilters, Seq.empty, conf, metaClient.getTableConfig)
+    keyFilteringReaderContext.initRecordMerger(readerProperties)
+    keyFilteringReaderContext
+  }
+
   /**
    * If [[beforeImageFiles]] are the list of file that we want to load exactly, use this directly.
    * Otherwise we need to re-load what we need.
@@ -595,6 +638,7 @@ class CDCFileGroupIterator(split: HoodieCDCFileGroupSplit,
     keyBasedFileGroupRecordBuffer.ifPresent(k => k.close())
     keyBasedFileGroupRecordBuffer = Option.empty.asInstanceOf[Option[KeyBasedFileGroupRecordBuffer[InternalRow]]]
     beforeImageRecords.clear()
+    beforeImageFiles.clear()
     afterImageRecords.clear()
     if (cdcLogRecordIterator != null) {
       cdcLogRecordIterator.close()
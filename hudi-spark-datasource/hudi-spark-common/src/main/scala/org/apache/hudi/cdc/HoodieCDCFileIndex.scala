@@ -21,6 +21,7 @@ package org.apache.hudi.cdc
 
 import org.apache.hudi.{DataSourceReadOptions, HoodieFileIndex}
 import org.apache.hudi.cdc.HoodieCDCFileIndex.isCDCEnabled
+import org.apache.hudi.common.model.HoodieFileGroupId
 import org.apache.hudi.common.table.HoodieTableMetaClient
 import org.apache.hudi.common.table.cdc.{HoodieCDCExtractor, HoodieCDCUtils}
 import org.apache.hudi.common.table.log.InstantRange
@@ -67,36 +68,38 @@ class HoodieCDCFileIndex(override val spark: SparkSession,
 
   override def listFiles(partitionFilters: Seq[Expression], dataFilters: Seq[Expression]): Seq[PartitionDirectory] = {
     hasPushedDownPartitionPredicates = true
-    cdcExtractor.extractCDCFileSplits().asScala.map {
-      case (fileGroupId, fileSplits) =>
-        val partitionPath = if (fileGroupId.getPartitionPath.isEmpty) emptyPartitionPath else fileGroupId.getPartitionPath
-        val partitionFields = metaClient.getTableConfig.getPartitionFields
-        val partitionValues: InternalRow = if (partitionFields.isPresent) {
-          new GenericInternalRow(parsePartitionColumnValues(partitionFields.get(), partitionPath).asInstanceOf[Array[Any]])
-        } else {
-          InternalRow.empty
-        }
+    val partitionFields = metaClient.getTableConfig.getPartitionFields
+    // The splits are turned into partition directories while they are streamed from the extractor, one directory per split,
+    // instead of being grouped by file group into an intermediate map first.
+    // Note that each split loads the images it needs, so the splits of a file group are read independently of each other.
+    cdcExtractor.streamCDCFileSplits().iterator().asScala.map { fileSplit =>
+      val fileGroupId = fileSplit.getLeft
+      val partitionPath = if (fileGroupId.getPartitionPath.isEmpty) emptyPartitionPath else fileGroupId.getPartitionPath
+      val partitionValues: InternalRow = if (partitionFields.isPresent) {
+        new GenericInternalRow(parsePartitionColumnValues(partitionFields.get(), partitionPath).asInstanceOf[Array[Any]])
+      } else {
+        InternalRow.empty
+      }
 
-        // Bogus file status, not used during read.
-        val fileStatus = new FileStatus(0, true, 0, 0, 0,
-          0, null, "", "", null,
-          new Path(partitionPath, fileGroupId.getFileId))
+      // Bogus file status, not used during read.
+      val fileStatus = new FileStatus(0, true, 0, 0, 0,
+        0, null, "", "", null,
+        new Path(partitionPath, fileGroupId.getFileId))
 
-        // Note that CDC file splits must be sorted based on their instant time.
-        // Otherwise, the resulting records may not be correct.
-        sparkAdapter.getSparkPartitionedFileUtils.newPartitionDirectory(
-          sparkAdapter.createPartitionCDCFileGroupMapping(
-            partitionValues, fileSplits.asScala.sortBy(_.getInstant).toList),
-          Seq(fileStatus)
-        )
+      sparkAdapter.getSparkPartitionedFileUtils.newPartitionDirectory(
+        sparkAdapter.createPartitionCDCFileGroupMapping(partitionValues, List(fileSplit.getRight)),
+        Seq(fileStatus)
+      )
     }.toList
   }
 
   override def inputFiles: Array[String] = {
-    cdcExtractor.extractCDCFileSplits().asScala.map { fileGroupSplit =>
-      val fileGroupId = fileGroupSplit._1
-      new Path(fileGroupId.getPartitionPath, fileGroupId.getFileId).toString
-    }.toArray
+    // Only the file groups are needed, the splits are not kept
+    cdcExtractor.streamCDCFileSplits().iterator().asScala
+      .map(_.getLeft)
+      .toSet[HoodieFileGroupId]
+      .map(fileGroupId => new Path(fileGroupId.getPartitionPath, fileGroupId.getFileId).toString)
+      .toArray
   }
 }
 
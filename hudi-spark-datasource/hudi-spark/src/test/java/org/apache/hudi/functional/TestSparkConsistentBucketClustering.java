@@ -28,6 +28,7 @@ import org.apache.hudi.client.timeline.versioning.v2.TimelineArchiverV2;
 import org.apache.hudi.common.config.HoodieStorageConfig;
 import org.apache.hudi.common.fs.ConsistencyGuardConfig;
 import org.apache.hudi.common.fs.FSUtils;
+import org.apache.hudi.common.model.ConsistentHashingNode;
 import org.apache.hudi.common.model.HoodieConsistentHashingMetadata;
 import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.model.HoodieTableType;
@@ -47,6 +48,7 @@ import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.execution.bulkinsert.BulkInsertSortMode;
 import org.apache.hudi.index.HoodieIndex;
+import org.apache.hudi.index.bucket.ConsistentBucketIdentifier;
 import org.apache.hudi.index.bucket.ConsistentBucketIndexUtils;
 import org.apache.hudi.keygen.constant.KeyGeneratorOptions;
 import org.apache.hudi.storage.StoragePath;
@@ -327,6 +329,83 @@ public class TestSparkConsistentBucketClustering extends HoodieSparkClientTestHa
     Assertions.assertEquals(4000, readRecords().size());
   }
 
+  /**
+   * 1. A lazy split is not committed while a writer is pending, as the writer may still route records with the former hashing metadata
+   * 2. Writers keep going across the lazy split and the clustering finishing it, without duplicating keys in the parent and children buckets
+   * 3. The children of a lazy split without file slice keep their file id prefix when the split is finished
+   */
+  @Test
+  public void testConcurrentWriteAcrossLazySplit() throws IOException {
+    setup(5120, Collections.singletonMap(HoodieIndexConfig.BUCKET_INDEX_ONLINE_SPLIT_ENABLE.key(), "true"));
+    config.setValue("hoodie.metadata.enable", "false");
+    writeData(2000, true);
+
+    // A pending writer defers the lazy split
+    String pendingTime = WriteClientTestUtils.createNewInstantTime();
+    List<WriteStatus> pendingStatuses = writeRecords(pendingTime, dataGen.generateUniqueUpdates(pendingTime, 500), false);
+    HoodieTable table = HoodieSparkTable.create(config, context, metaClient);
+    String partition = dataGen.getPartitionPaths()[0];
+    HoodieConsistentHashingMetadata metadata = ConsistentBucketIndexUtils.loadMetadata(table, partition).get();
+    List<ConsistentHashingNode> childNodes = new ConsistentBucketIdentifier(metadata)
+        .lazySplitBucket(FSUtils.createNewFileId(metadata.getNodes().get(0).getFileIdPrefix(), 0)).get();
+    Assertions.assertFalse(ConsistentBucketIndexUtils.commitLazySplit(table, metadata, childNodes).isPresent());
+    Assertions.assertEquals(metadata.getFilename(), ConsistentBucketIndexUtils.loadMetadata(table, partition).get().getFilename());
+    Assertions.assertTrue(writeClient.commitStats(pendingTime, pendingStatuses.stream().map(WriteStatus::getStat).collect(Collectors.toList()),
+        Option.empty(), metaClient.getCommitActionType()));
+
+    // The lazy splits are committed by the scheduling of clustering, which has nothing to rewrite yet
+    Assertions.assertFalse(writeClient.scheduleClustering(Option.empty()).isPresent());
+    metaClient = HoodieTableMetaClient.reload(metaClient);
+    HoodieTable tableAfterSplit = HoodieSparkTable.create(config, context, metaClient);
+    Arrays.stream(dataGen.getPartitionPaths()).forEach(p -> Assertions.assertTrue(
+        new ConsistentBucketIdentifier(ConsistentBucketIndexUtils.loadMetadata(tableAfterSplit, p).get()).hasLazilySplitBuckets()));
+
+    // Updates are routed to the children buckets, the former versions in the parent buckets are deleted
+    String updateTime = WriteClientTestUtils.createNewInstantTime();
+    writeRecords(updateTime, dataGen.generateUniqueUpdates(updateTime, 1000), true);
+    assertNoDuplicateKeys(2000);
+
+    // Schedule the clustering finishing the splits, the writers are not blocked by it
+    String clusteringTime = (String) writeClient.scheduleClustering(Option.empty()).get();
+    String concurrentTime = WriteClientTestUtils.createNewInstantTime();
+    List<HoodieRecord> concurrentRecords = dataGen.generateUniqueUpdates(concurrentTime, 500);
+    concurrentRecords.addAll(dataGen.generateInserts(concurrentTime, 200));
+    writeRecords(concurrentTime, concurrentRecords, true);
+    assertNoDuplicateKeys(2200);
+
+    writeClient.cluster(clusteringTime, true);
+    assertNoDuplicateKeys(2200);
+    metaClient = HoodieTableMetaClient.reload(metaClient);
+    HoodieTable tableAfterClustering = HoodieSparkTable.create(config, context, metaClient);
+    Arrays.stream(dataGen.getPartitionPaths()).forEach(p -> Assertions.assertFalse(
+        new ConsistentBucketIdentifier(ConsistentBucketIndexUtils.loadMetadata(tableAfterClustering, p).get()).hasLazilySplitBuckets()));
+
+    // A lazy split finished before its children have a file slice, the children keep their file id prefix
+    HoodieConsistentHashingMetadata metadataBeforeSplit = ConsistentBucketIndexUtils.loadMetadata(tableAfterClustering, partition).get();
+    List<ConsistentHashingNode> emptyChildNodes = new ConsistentBucketIdentifier(metadataBeforeSplit)
+        .lazySplitBucket(FSUtils.createNewFileId(metadataBeforeSplit.getNodes().get(0).getFileIdPrefix(), 0)).get();
+    Assertions.assertTrue(ConsistentBucketIndexUtils.commitLazySplit(tableAfterClustering, metadataBeforeSplit, emptyChildNodes).isPresent());
+    String finishingTime = (String) writeClient.scheduleClustering(Option.empty()).get();
+    writeClient.cluster(finishingTime, true);
+    assertNoDuplicateKeys(2200);
+    metaClient = HoodieTableMetaClient.reload(metaClient);
+    HoodieTable tableAfterFinishing = HoodieSparkTable.create(config, context, metaClient);
+    List<ConsistentHashingNode> nodesAfterFinishing = ConsistentBucketIndexUtils.loadMetadata(tableAfterFinishing, partition).get().getNodes();
+    emptyChildNodes.forEach(child -> Assertions.assertTrue(nodesAfterFinishing.stream()
+        .anyMatch(n -> n.getValue() == child.getValue() && n.getFileIdPrefix().equals(child.getFileIdPrefix()))));
+
+    // The writes after the split reach the file groups of the kept prefixes without duplicating keys
+    String updateAfterFinishingTime = WriteClientTestUtils.createNewInstantTime();
+    writeRecords(updateAfterFinishingTime, dataGen.generateUniqueUpdates(updateAfterFinishingTime, 1000), true);
+    assertNoDuplicateKeys(2200);
+  }
+
+  private void assertNoDuplicateKeys(int expectedNumRecords) {
+    List<Row> rows = readRecords();
+    Assertions.assertEquals(expectedNumRecords, rows.size());
+    Assertions.assertEquals(expectedNumRecords, rows.stream().map(r -> r.<String>getAs(HoodieRecord.RECORD_KEY_METADATA_FIELD)).distinct().count());
+  }
+
   private List<Row> readRecords() {
     Dataset<Row> roViewDF = sparkSession.read().format("hudi").load(basePath);
     roViewDF.createOrReplaceTempView("hudi_ro_table");
@@ -344,7 +423,10 @@ public class TestSparkConsistentBucketClustering extends HoodieSparkClientTestHa
   }
 
   private List<WriteStatus> writeData(String commitTime, int totalRecords, boolean doCommit) {
-    List<HoodieRecord> records = dataGen.generateInserts(commitTime, totalRecords);
+    return writeRecords(commitTime, dataGen.generateInserts(commitTime, totalRecords), doCommit);
+  }
+
+  private List<WriteStatus> writeRecords(String commitTime, List<HoodieRecord> records, boolean doCommit) {
     JavaRDD<HoodieRecord> writeRecords = jsc.parallelize(records, 2);
     metaClient = HoodieTableMetaClient.reload(metaClient);
 
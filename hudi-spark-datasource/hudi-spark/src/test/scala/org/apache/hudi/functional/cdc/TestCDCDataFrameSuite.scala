@@ -18,19 +18,24 @@
 
 package org.apache.hudi.functional.cdc
 
-import org.apache.hudi.DataSourceWriteOptions
+import org.apache.hudi.{DataSourceReadOptions, DataSourceWriteOptions, HoodiePartitionCDCFileGroupMapping}
 import org.apache.hudi.DataSourceWriteOptions.{MOR_TABLE_TYPE_OPT_VAL, PARTITIONPATH_FIELD_OPT_KEY, PRECOMBINE_FIELD_OPT_KEY, RECORDKEY_FIELD_OPT_KEY}
 import org.apache.hudi.QuickstartUtils.getQuickstartWriteConfigs
+import org.apache.hudi.cdc.HoodieCDCFileIndex
+import org.apache.hudi.common.config.{HoodieMetadataConfig, HoodieStorageConfig}
 import org.apache.hudi.common.table.{HoodieTableConfig, TableSchemaResolver}
 import org.apache.hudi.common.table.cdc.{HoodieCDCOperation, HoodieCDCSupplementalLoggingMode}
 import org.apache.hudi.common.table.cdc.HoodieCDCSupplementalLoggingMode.OP_KEY_ONLY
 import org.apache.hudi.common.table.cdc.HoodieCDCUtils.schemaBySupplementalLoggingMode
+import org.apache.hudi.common.table.log.InstantRange.RangeType
 import org.apache.hudi.common.testutils.HoodieTestDataGenerator
 import org.apache.hudi.common.testutils.HoodieTestDataGenerator.{deleteRecordsToStrings, recordsToStrings}
 import org.apache.hudi.config.HoodieWriteConfig
 import org.apache.hudi.exception.HoodieException
+import org.apache.hudi.storage.StoragePath
 
 import org.apache.avro.generic.GenericRecord
+import org.apache.hadoop.fs.FileSystem
 import org.apache.spark.sql.{Row, SaveMode}
 import org.apache.spark.sql.types.{ArrayType, IntegerType, LongType, MapType, StringType, StructField, StructType}
 import org.junit.jupiter.api.Assertions.{assertEquals, assertFalse, assertThrows, assertTrue}
@@ -959,4 +964,134 @@ class TestCDCDataFrameSuite extends HoodieCDCTestBase {
     }
     assertTrue(newRecordFound, "Should have found the new record with complex data types in CDC")
   }
+
+  /**
+   * Step1: Insert 100
+   * Step2-4: Upsert 30 three times
+   * Step5: Delete 10
+   *
+   * The change data of all the commits is read at once, so that the cdc file splits of a file group
+   * span several commits.
+   */
+  @ParameterizedTest
+  @EnumSource(classOf[HoodieCDCSupplementalLoggingMode])
+  def testCDCReadOverMultipleCommits(loggingMode: HoodieCDCSupplementalLoggingMode): Unit = {
+    val options = commonOpts ++ Map(
+      HoodieTableConfig.CDC_SUPPLEMENTAL_LOGGING_MODE.key -> loggingMode.name()
+    )
+
+    // Insert Operation
+    val records1 = recordsToStrings(dataGen.generateInserts("000", 100)).asScala.toList
+    val inputDF1 = spark.read.json(spark.sparkContext.parallelize(records1, 2))
+    inputDF1.write.format("org.apache.hudi")
+      .options(options)
+      .mode(SaveMode.Overwrite)
+      .save(basePath)
+    metaClient = createMetaClient(spark, basePath)
+    val commitTime1 = metaClient.reloadActiveTimeline.lastInstant().get().requestedTime
+
+    // Upsert Operations
+    var totalCnt = 100L
+    var totalInsertedCnt = 100L
+    var totalUpdatedCnt = 0L
+    Seq("001", "002", "003").foreach { instantTime =>
+      val records = recordsToStrings(dataGen.generateUniqueUpdates(instantTime, 30)).asScala.toList
+      val inputDF = spark.read.json(spark.sparkContext.parallelize(records, 2))
+      inputDF.write.format("org.apache.hudi")
+        .options(options)
+        .mode(SaveMode.Append)
+        .save(basePath)
+      val newTotalCnt = spark.read.format("hudi").load(basePath).count()
+      totalInsertedCnt += newTotalCnt - totalCnt
+      totalUpdatedCnt += 30 - (newTotalCnt - totalCnt)
+      totalCnt = newTotalCnt
+    }
+
+    // Delete Operation
+    val records5 = deleteRecordsToStrings(dataGen.generateUniqueDeletes(10)).asScala.toList
+    val inputDF5 = spark.read.json(spark.sparkContext.parallelize(records5, 2))
+    inputDF5.write.format("org.apache.hudi")
+      .options(options)
+      .option(DataSourceWriteOptions.OPERATION.key, DataSourceWriteOptions.DELETE_OPERATION_OPT_VAL)
+      .mode(SaveMode.Append)
+      .save(basePath)
+    metaClient.reloadActiveTimeline()
+
+    val startingInstant = (commitTime1.toLong - 1).toString
+    val cdcData = cdcDataFrame(startingInstant)
+    assertCDCOpCnt(cdcData, totalInsertedCnt, totalUpdatedCnt, 10)
+    // the updates carry both images, loaded for the keys of the cdc log files
+    assertEquals(0, cdcData.where("op = 'u' and (before is null or after is null)").count())
+    assertEquals(0, cdcData.where("op = 'd' and before is null").count())
+
+    // the splits streamed from the extractor are listed one per partition directory, in instant order
+    val fileIndex = new HoodieCDCFileIndex(spark, metaClient, None,
+      Map(DataSourceReadOptions.START_COMMIT.key -> startingInstant), includeLogFiles = true, rangeType = RangeType.OPEN_CLOSED)
+    val partitionDirectories = fileIndex.listFiles(Seq.empty, Seq.empty)
+    val fileSplits = partitionDirectories.map { partitionDirectory =>
+      partitionDirectory.values.asInstanceOf[HoodiePartitionCDCFileGroupMapping].getFileSplits()
+    }
+    assertTrue(fileSplits.forall(_.size == 1))
+    val fileGroupInstants = partitionDirectories.map(_.files.head.getPath.toString).zip(fileSplits.map(_.head.getInstant))
+      .groupBy(_._1).values.map(_.map(_._2))
+    assertEquals(fileIndex.inputFiles.length, fileGroupInstants.size)
+    assertTrue(fileGroupInstants.exists(_.size > 1))
+    fileGroupInstants.foreach { instants =>
+      assertEquals(instants.sorted, instants)
+    }
+    assertEquals(metaClient.getCommitsTimeline.filterCompletedInstants.countInstants,
+      fileSplits.flatten.map(_.getInstant).distinct.size)
+  }
+
+  /**
+   * Step1: Bulk_Insert 5000 sorted by record key into small row groups
+   * Step2: Upsert 5
+   *
+   * The images of the updated records are read with the changed keys pushed down into the base files,
+   * so the row groups without changes are skipped and far fewer bytes are read than the base files hold.
+   */
+  @Test
+  def testCDCReadSkipsRowGroupsWithoutChanges(): Unit = {
+    val options = commonOpts ++ Map(
+      HoodieTableConfig.CDC_SUPPLEMENTAL_LOGGING_MODE.key -> OP_KEY_ONLY.name(),
+      HoodieMetadataConfig.ENABLE.key -> "false",
+      HoodieStorageConfig.PARQUET_BLOCK_SIZE.key -> "4096",
+      HoodieStorageConfig.PARQUET_PAGE_SIZE.key -> "1024",
+      HoodieWriteConfig.BULK_INSERT_SORT_MODE.key -> "GLOBAL_SORT"
+    )
+
+    val records1 = recordsToStrings(dataGen.generateInserts("000", 5000)).asScala.toList
+    val inputDF1 = spark.read.json(spark.sparkContext.parallelize(records1, 2))
+    inputDF1.write.format("org.apache.hudi")
+      .options(options)
+      .option(DataSourceWriteOptions.OPERATION.key, DataSourceWriteOptions.BULK_INSERT_OPERATION_OPT_VAL)
+      .mode(SaveMode.Overwrite)
+      .save(basePath)
+
+    val records2 = recordsToStrings(dataGen.generateUniqueUpdates("001", 5)).asScala.toList
+    val inputDF2 = spark.read.json(spark.sparkContext.parallelize(records2, 1))
+    inputDF2.write.format("org.apache.hudi")
+      .options(options)
+      .mode(SaveMode.Append)
+      .save(basePath)
+    metaClient = createMetaClient(spark, basePath)
+    val commitTime2 = metaClient.reloadActiveTimeline.lastInstant().get().requestedTime
+
+    val bytesReadBefore = localBytesRead()
+    val cdcRows = cdcDataFrame((commitTime2.toLong - 1).toString).collect()
+    val cdcBytesRead = localBytesRead() - bytesReadBefore
+    assertEquals(5, cdcRows.length)
+    assertTrue(cdcRows.forall(row => row.getAs[String]("op") == "u"))
+
+    // both the before and the after base files of the updated file groups are fully read without the key push down
+    val baseFilesSize = storage.listFiles(new StoragePath(basePath)).asScala
+      .filter(_.getPath.getName.endsWith(".parquet"))
+      .map(_.getLength)
+      .sum
+    assertTrue(cdcBytesRead < baseFilesSize / 2, s"Read $cdcBytesRead bytes for base files of $baseFilesSize bytes")
+  }
+
+  private def localBytesRead(): Long = {
+    FileSystem.getAllStatistics.asScala.filter(_.getScheme == "file").map(_.getBytesRead).sum
+  }
 }
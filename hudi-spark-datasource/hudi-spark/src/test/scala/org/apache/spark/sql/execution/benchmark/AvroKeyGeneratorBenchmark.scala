@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.spark.sql.execution.benchmark
+
+import org.apache.hudi.common.config.{TimestampKeyGeneratorConfig, TypedProperties}
+import org.apache.hudi.common.testutils.HoodieTestDataGenerator
+import org.apache.hudi.keygen.{BaseKeyGenerator, ComplexAvroKeyGenerator, SimpleAvroKeyGenerator, TimestampBasedAvroKeyGenerator}
+import org.apache.hudi.keygen.constant.KeyGeneratorOptions
+
+import org.apache.avro.generic.GenericRecord
+import org.apache.spark.hudi.benchmark.{HoodieBenchmark, HoodieBenchmarkBase}
+
+import scala.collection.JavaConverters._
+
+/**
+ * Benchmark to measure the Avro key generators with and without the compiled field extraction,
+ * see [[KeyGeneratorOptions.KEYGENERATOR_COMPILED_FIELD_EXTRACTION_ENABLED]].
+ */
+object AvroKeyGeneratorBenchmark extends HoodieBenchmarkBase {
+
+  private val numRecords = 1000000
+  private val numIterations = 5
+
+  private lazy val records: Seq[GenericRecord] = {
+    val dataGenerator = new HoodieTestDataGenerator()
+    try {
+      dataGenerator.generateGenericRecords(numRecords).asScala.toSeq
+    } finally {
+      dataGenerator.close()
+    }
+  }
+
+  private def keyGenProps(recordKeyFields: String, partitionPathFields: String, compiled: Boolean): TypedProperties = {
+    val props = new TypedProperties()
+    props.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key, recordKeyFields)
+    props.setProperty(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key, partitionPathFields)
+    props.setProperty(KeyGeneratorOptions.HIVE_STYLE_PARTITIONING_ENABLE.key, "true")
+    props.setProperty(KeyGeneratorOptions.URL_ENCODE_PARTITIONING.key, "true")
+    props.setProperty(KeyGeneratorOptions.KEYGENERATOR_COMPILED_FIELD_EXTRACTION_ENABLED.key, compiled.toString)
+    props
+  }
+
+  private def keyGeneratorBenchmark(name: String, createKeyGenerator: Boolean => BaseKeyGenerator): Unit = {
+    val benchmark = new HoodieBenchmark(s"perf $name", numRecords, numIterations)
+    Seq(false, true).foreach { compiled =>
+      val keyGenerator = createKeyGenerator(compiled)
+      benchmark.addCase(if (compiled) "compiled field extraction" else "default field extraction") { _ =>
+        records.foreach(record => keyGenerator.getKey(record))
+      }
+    }
+    benchmark.run()
+  }
+
+  override def runBenchmarkSuite(mainArgs: Array[String]): Unit = {
+    keyGeneratorBenchmark("SimpleAvroKeyGenerator",
+      compiled => new SimpleAvroKeyGenerator(keyGenProps("_row_key", "partition_path", compiled)))
+    keyGeneratorBenchmark("ComplexAvroKeyGenerator",
+      compiled => new ComplexAvroKeyGenerator(keyGenProps("_row_key,fare.currency", "rider,fare.currency", compiled)))
+    keyGeneratorBenchmark("TimestampBasedAvroKeyGenerator", compiled => {
+      val props = keyGenProps("_row_key", "timestamp", compiled)
+      props.setProperty(TimestampKeyGeneratorConfig.TIMESTAMP_TYPE_FIELD.key, "EPOCHMILLISECONDS")
+      props.setProperty(TimestampKeyGeneratorConfig.TIMESTAMP_OUTPUT_DATE_FORMAT.key, "yyyy/MM/dd")
+      new TimestampBasedAvroKeyGenerator(props)
+    })
+  }
+}
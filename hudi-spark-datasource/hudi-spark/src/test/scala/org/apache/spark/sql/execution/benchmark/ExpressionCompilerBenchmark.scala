@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.spark.sql.execution.benchmark
+
+import org.apache.hudi.expression.{ArrayData, BoundReference, Expression, ExpressionCompiler, Literal, Predicates, StructLike}
+import org.apache.hudi.internal.schema.Types
+
+import org.apache.spark.hudi.benchmark.{HoodieBenchmark, HoodieBenchmarkBase}
+
+import java.util
+
+import scala.util.Random
+
+object ExpressionCompilerBenchmark extends HoodieBenchmarkBase {
+
+  private val region = new BoundReference(0, Types.StringType.get())
+  private val day = new BoundReference(1, Types.IntType.get())
+  private val hour = new BoundReference(2, Types.LongType.get())
+
+  /**
+   * Evaluates a partition filter on the partition values of a large table, with the interpreter and with
+   * the compiled expression.
+   */
+  private def evalPartitionFilterBenchmark(): Unit = {
+    val numPartitions = 1000000
+    val random = new Random(0)
+    val regions = Array("us", "eu", "ap", "sa")
+    val partitions: Array[StructLike] = Array.fill(numPartitions) {
+      new ArrayData(util.Arrays.asList[AnyRef](
+        regions(random.nextInt(regions.length)),
+        Integer.valueOf(random.nextInt(365)),
+        java.lang.Long.valueOf(random.nextInt(24).toLong)))
+    }
+
+    val filter: Expression = Predicates.and(
+      Predicates.in(region, util.Arrays.asList[Expression](Literal.from("us"), Literal.from("eu"))),
+      Predicates.and(
+        Predicates.and(Predicates.gteq(day, Literal.from(100)), Predicates.lt(day, Literal.from(200))),
+        Predicates.not(Predicates.eq(hour, Literal.from(0L)))))
+    val compiled = ExpressionCompiler.compile(filter)
+
+    val benchmark = new HoodieBenchmark("eval partition filter", numPartitions, 5)
+    benchmark.addCase("interpreted expression") { _ =>
+      var matched = 0
+      partitions.foreach(partition => if (filter.eval(partition).asInstanceOf[Boolean]) matched += 1)
+    }
+    benchmark.addCase("compiled expression") { _ =>
+      var matched = 0
+      partitions.foreach(partition => if (compiled.test(partition)) matched += 1)
+    }
+    benchmark.run()
+  }
+
+  override def runBenchmarkSuite(mainArgs: Array[String]): Unit = {
+    evalPartitionFilterBenchmark()
+  }
+}
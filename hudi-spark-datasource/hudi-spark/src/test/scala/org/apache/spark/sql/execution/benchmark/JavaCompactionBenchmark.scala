@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.spark.sql.execution.benchmark
+
+import org.apache.hudi.client.HoodieJavaWriteClient
+import org.apache.hudi.client.common.HoodieJavaEngineContext
+import org.apache.hudi.common.config.HoodieMetadataConfig
+import org.apache.hudi.common.engine.EngineType
+import org.apache.hudi.common.model.{HoodieAvroPayload, HoodieRecord, HoodieTableType}
+import org.apache.hudi.common.testutils.{HoodieTestDataGenerator, HoodieTestUtils}
+import org.apache.hudi.common.util.{Option => HOption}
+import org.apache.hudi.config.{HoodieCompactionConfig, HoodieIndexConfig, HoodieStorageConfig, HoodieWriteConfig}
+import org.apache.hudi.index.HoodieIndex
+
+import org.apache.spark.hudi.benchmark.{HoodieBenchmark, HoodieBenchmarkBase}
+
+/**
+ * Benchmark to measure the throughput of the Java engine compaction on a local file system
+ * with different values of [[HoodieWriteConfig.JAVA_TABLE_SERVICE_EXECUTION_PARALLELISM]].
+ */
+object JavaCompactionBenchmark extends HoodieBenchmarkBase {
+
+  private val numRecords = 200000
+  private val numIterations = 3
+
+  private def writeConfig(basePath: String, parallelism: Int): HoodieWriteConfig = {
+    HoodieWriteConfig.newBuilder().withPath(basePath)
+      .withSchema(HoodieTestDataGenerator.TRIP_EXAMPLE_SCHEMA)
+      .withEngineType(EngineType.JAVA)
+      .forTable("java_compaction_benchmark")
+      .withIndexConfig(HoodieIndexConfig.newBuilder().withIndexType(HoodieIndex.IndexType.INMEMORY).build())
+      // small base files so that the compaction plan has many file slices
+      .withStorageConfig(HoodieStorageConfig.newBuilder().parquetMaxFileSize(4 * 1024 * 1024).build())
+      .withCompactionConfig(HoodieCompactionConfig.newBuilder().withInlineCompaction(false).build())
+      .withMetadataConfig(HoodieMetadataConfig.newBuilder().enable(false).build())
+      .withEmbeddedTimelineServerEnabled(false)
+      .withJavaTableServiceExecutionParallelism(parallelism)
+      .build()
+  }
+
+  private def compactionBenchmark(): Unit = {
+    val benchmark = new HoodieBenchmark("perf java compaction", numRecords, numIterations)
+    Seq(1, 4, Runtime.getRuntime.availableProcessors()).distinct.foreach { parallelism =>
+      benchmark.addTimerCase(s"compaction with parallelism $parallelism") { timer =>
+        withTempDir { dir =>
+          val basePath = dir.getCanonicalPath
+          HoodieTestUtils.init(basePath, HoodieTableType.MERGE_ON_READ)
+          val client = new HoodieJavaWriteClient[HoodieAvroPayload](
+            new HoodieJavaEngineContext(HoodieTestUtils.getDefaultStorageConf), writeConfig(basePath, parallelism))
+          val dataGen = new HoodieTestDataGenerator()
+          try {
+            val insertTime = client.startCommit()
+            val inserts = dataGen.generateInserts(insertTime, numRecords)
+            client.commit(insertTime, client.insert(inserts.asInstanceOf[java.util.List[HoodieRecord[HoodieAvroPayload]]], insertTime))
+            val updateTime = client.startCommit()
+            val updates = dataGen.generateUniqueUpdates(updateTime, numRecords / 2)
+            client.commit(updateTime, client.upsert(updates.asInstanceOf[java.util.List[HoodieRecord[HoodieAvroPayload]]], updateTime))
+
+            val compactionTime = client.scheduleCompaction(HOption.empty()).get()
+            timer.startTiming()
+            val writeMetadata = client.compact(compactionTime)
+            timer.stopTiming()
+            client.commitCompaction(compactionTime, writeMetadata, HOption.empty())
+          } finally {
+            client.close()
+            dataGen.close()
+          }
+        }
+      }
+    }
+    benchmark.run()
+  }
+
+  override def runBenchmarkSuite(mainArgs: Array[String]): Unit = {
+    compactionBenchmark()
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.spark.sql.execution.benchmark
+
+import org.apache.hudi.client.HoodieJavaWriteClient
+import org.apache.hudi.client.common.HoodieJavaEngineContext
+import org.apache.hudi.common.config.HoodieMetadataConfig
+import org.apache.hudi.common.engine.EngineType
+import org.apache.hudi.common.model.{HoodieAvroPayload, HoodieRecord, HoodieTableType}
+import org.apache.hudi.common.table.marker.MarkerType
+import org.apache.hudi.common.testutils.{HoodieTestDataGenerator, HoodieTestUtils}
+import org.apache.hudi.config.{HoodieIndexConfig, HoodieStorageConfig, HoodieWriteConfig}
+import org.apache.hudi.index.HoodieIndex
+
+import org.apache.spark.hudi.benchmark.{HoodieBenchmark, HoodieBenchmarkBase}
+
+/**
+ * Benchmark to measure the marker-based rollback of a failed write spanning many partitions on a local
+ * file system, with direct markers listed with different rollback parallelism versus timeline-server-based markers.
+ */
+object RollbackBenchmark extends HoodieBenchmarkBase {
+
+  private val numRecords = 100000
+  private val numPartitions = 200
+  private val numIterations = 3
+
+  private def writeConfig(basePath: String, markerType: MarkerType, parallelism: Int): HoodieWriteConfig = {
+    HoodieWriteConfig.newBuilder().withPath(basePath)
+      .withSchema(HoodieTestDataGenerator.TRIP_EXAMPLE_SCHEMA)
+      .withEngineType(EngineType.JAVA)
+      .forTable("rollback_benchmark")
+      .withIndexConfig(HoodieIndexConfig.newBuilder().withIndexType(HoodieIndex.IndexType.INMEMORY).build())
+      // small base files so that the failed write leaves several files per partition
+      .withStorageConfig(HoodieStorageConfig.newBuilder().parquetMaxFileSize(256 * 1024).build())
+      .withMetadataConfig(HoodieMetadataConfig.newBuilder().enable(false).build())
+      .withMarkersType(markerType.name())
+      .withEmbeddedTimelineServerEnabled(markerType == MarkerType.TIMELINE_SERVER_BASED)
+      .withRollbackParallelism(parallelism)
+      .build()
+  }
+
+  private def rollbackBenchmark(): Unit = {
+    val benchmark = new HoodieBenchmark("perf rollback", numRecords, numIterations)
+    val partitionPaths = (0 until numPartitions).map(i => s"2020/01/${"%03d".format(i)}").toArray
+    val cases = Seq(1, Runtime.getRuntime.availableProcessors()).distinct.map(p => (MarkerType.DIRECT, p)) :+
+      (MarkerType.TIMELINE_SERVER_BASED, Runtime.getRuntime.availableProcessors())
+    cases.foreach { case (markerType, parallelism) =>
+      benchmark.addTimerCase(s"rollback with $markerType markers, parallelism $parallelism") { timer =>
+        withTempDir { dir =>
+          val basePath = dir.getCanonicalPath
+          HoodieTestUtils.init(basePath, HoodieTableType.COPY_ON_WRITE)
+          val client = new HoodieJavaWriteClient[HoodieAvroPayload](
+            new HoodieJavaEngineContext(HoodieTestUtils.getDefaultStorageConf), writeConfig(basePath, markerType, parallelism))
+          val dataGen = new HoodieTestDataGenerator(partitionPaths)
+          try {
+            // the write is never committed, so it is left inflight with its markers like a failed write
+            val insertTime = client.startCommit()
+            val inserts = dataGen.generateInserts(insertTime, numRecords)
+            client.insert(inserts.asInstanceOf[java.util.List[HoodieRecord[HoodieAvroPayload]]], insertTime)
+
+            timer.startTiming()
+            client.rollback(insertTime)
+            timer.stopTiming()
+          } finally {
+            client.close()
+            dataGen.close()
+          }
+        }
+      }
+    }
+    benchmark.run()
+  }
+
+  override def runBenchmarkSuite(mainArgs: Array[String]): Unit = {
+    rollbackBenchmark()
+  }
+}
@@ -21,7 +21,8 @@ package org.apache.spark.sql.hudi.feature.index
 
 import org.apache.hudi.DataSourceWriteOptions
 import org.apache.hudi.client.common.HoodieSparkEngineContext
-import org.apache.hudi.common.data.HoodieListData
+import org.apache.hudi.common.config.HoodieMetadataConfig
+import org.apache.hudi.common.data.{HoodieListData, HoodieListPairData}
 import org.apache.hudi.common.engine.EngineType
 import org.apache.hudi.common.model.HoodieRecordLocation
 import org.apache.hudi.common.table.{HoodieTableConfig, HoodieTableMetaClient}
@@ -559,10 +560,43 @@ class HoodieBackedTableMetadataIndexLookupV9TestBase extends HoodieBackedTableMe
     assert(rddResult.count() == 3, "Version 2 should support RDD input")
     rddResult.unpersistWithDependencies()
 
+    testStreamingSecondaryIndexLookup()
+
     // Test case for null values in secondary index
     testNullValueInSecondaryIndex()
   }
 
+  /**
+   * Test case for the streaming lookups of secondary keys, which should return the same locations as the default lookups
+   */
+  def testStreamingSecondaryIndexLookup(): Unit = {
+    val secondaryIndexName = "secondary_index_idx_name"
+    val streamingMetadataConfig = HoodieMetadataConfig.newBuilder()
+      .fromProperties(hoodieBackedTableMetadata.getMetadataConfig.getProps)
+      // small batches to look up the record index several times
+      .withSecondaryIndexStreamingLookup(true, 2)
+      .build()
+    val streamingTableMetadata = new HoodieBackedTableMetadata(
+      context, metaClient.getStorage, streamingMetadataConfig, basePath, true)
+    try {
+      val keys = List("b1", "b2", "b$", "sec$key", "$sec$", "$$", "b1", "non_exist", "b")
+      val expectedResult = hoodieBackedTableMetadata.readSecondaryIndexLocationsWithKeys(HoodieListData.eager(keys.asJava), secondaryIndexName)
+      val expected = HoodieDataUtils.collectPairDataAsMap(expectedResult)
+      expectedResult.unpersistWithDependencies()
+      val streamingResult = streamingTableMetadata.readSecondaryIndexLocationsWithKeys(HoodieListData.eager(keys.asJava), secondaryIndexName)
+      assert(streamingResult.isInstanceOf[HoodieListPairData[_, _]], "Streaming lookup should not distribute the keys")
+      val actual = HoodieDataUtils.collectPairDataAsMap(streamingResult)
+      assert(actual.size() == 6, s"Should return 6 locations for 6 existing secondary keys but got $actual")
+      assert(actual == expected, s"Streaming lookup should return $expected but got $actual")
+
+      val locations = streamingTableMetadata.readSecondaryIndexLocations(HoodieListData.eager(keys.asJava), secondaryIndexName)
+        .collectAsList().asScala
+      assert(locations.toSet == expected.values().asScala.flatMap(_.asScala).toSet)
+    } finally {
+      streamingTableMetadata.close()
+    }
+  }
+
   /**
    * Test case for handling null values in secondary index
    */
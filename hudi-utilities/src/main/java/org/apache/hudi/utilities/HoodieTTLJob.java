@@ -25,9 +25,16 @@ import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.model.HoodieRecordPayload;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
+import org.apache.hudi.common.util.CollectionUtils;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.config.HoodieCleanConfig;
+import org.apache.hudi.config.HoodieTTLConfig;
+import org.apache.hudi.exception.HoodieDeletePartitionPendingTableServiceException;
 import org.apache.hudi.exception.HoodieException;
+import org.apache.hudi.exception.HoodieIOException;
+import org.apache.hudi.table.HoodieSparkTable;
+import org.apache.hudi.table.action.ttl.strategy.HoodiePartitionTTLStrategyFactory;
+import org.apache.hudi.table.action.ttl.strategy.PartitionTTLStrategy;
 
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.Parameter;
@@ -36,8 +43,10 @@ import org.apache.spark.api.java.JavaSparkContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -75,17 +84,78 @@ public class HoodieTTLJob {
     try (SparkRDDWriteClient<HoodieRecordPayload> client =
              UtilHelpers.createHoodieClient(jsc, cfg.basePath, "", cfg.parallelism, Option.empty(), props)) {
       String instantTime = client.startDeletePartitionCommit(metaClient);
+      if (cfg.maxCommits > 1) {
+        runWithMultipleCommits(client, instantTime);
+        return;
+      }
       HoodieWriteResult result = client.managePartitionTTL(instantTime);
       client.commit(instantTime, result.getWriteStatuses(), Option.empty(), HoodieTimeline.REPLACE_COMMIT_ACTION,
           result.getPartitionToReplaceFileIds(), Option.empty());
     }
   }
 
+  /**
+   * Evaluates the expired partitions once and deletes them with up to {@code maxCommits} replace commits,
+   * each deleting at most {@link HoodieTTLConfig#MAX_PARTITION_TO_DELETE} partitions.
+   */
+  private void runWithMultipleCommits(SparkRDDWriteClient<HoodieRecordPayload> client, String firstInstantTime) {
+    HoodieSparkTable<HoodieRecordPayload> table = HoodieSparkTable.create(client.getConfig(), client.getEngineContext());
+    PartitionTTLStrategy strategy;
+    try {
+      strategy = HoodiePartitionTTLStrategyFactory.createStrategy(table, client.getConfig().getProps(), firstInstantTime);
+    } catch (IOException e) {
+      throw new HoodieIOException("Error creating the partition ttl strategy", e);
+    }
+    List<List<String>> batches = CollectionUtils.batches(strategy.getAllExpiredPartitionPaths(), client.getConfig().getPartitionTTLMaxPartitionsToDelete());
+    if (batches.size() > cfg.maxCommits) {
+      LOG.info("Deleting the expired partitions of {} out of {} batches, the rest is left to the next run", cfg.maxCommits, batches.size());
+      batches = batches.subList(0, cfg.maxCommits);
+    }
+    if (batches.isEmpty()) {
+      client.commit(firstInstantTime, jsc.emptyRDD(), Option.empty(), HoodieTimeline.REPLACE_COMMIT_ACTION,
+          Collections.emptyMap(), Option.empty());
+      return;
+    }
+    long startMs = System.currentTimeMillis();
+    int numDeleted = 0;
+    for (int i = 0; i < batches.size(); i++) {
+      String instantTime = i == 0 ? firstInstantTime : client.startDeletePartitionCommit(metaClient);
+      try {
+        HoodieWriteResult result = client.deletePartitions(batches.get(i), instantTime);
+        client.commit(instantTime, result.getWriteStatuses(), Option.empty(), HoodieTimeline.REPLACE_COMMIT_ACTION,
+            result.getPartitionToReplaceFileIds(), Option.empty());
+      } catch (HoodieDeletePartitionPendingTableServiceException e) {
+        LOG.info("Partition is under table service, stop deleting partitions and retry on the next run.", e);
+        client.commit(instantTime, jsc.emptyRDD(), Option.empty(), HoodieTimeline.REPLACE_COMMIT_ACTION,
+            Collections.emptyMap(), Option.empty());
+        break;
+      }
+      numDeleted += batches.get(i).size();
+      long timeTakenMs = System.currentTimeMillis() - startMs;
+      LOG.info("Deleted {} expired partitions with {} replace commits in {} ms ({} partitions/s)",
+          numDeleted, i + 1, timeTakenMs, numDeleted * 1000L / Math.max(timeTakenMs, 1));
+      if (cfg.commitIntervalMs > 0 && i < batches.size() - 1) {
+        try {
+          Thread.sleep(cfg.commitIntervalMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new HoodieException("Interrupted while waiting for the next partition ttl commit", e);
+        }
+      }
+    }
+  }
+
   public static class Config implements Serializable {
     @Parameter(names = {"--base-path", "-sp"}, description = "Base path for the table", required = true)
     public String basePath = null;
     @Parameter(names = {"--parallelism", "-pl"}, description = "Parallelism for hoodie insert/upsert/delete", required = false)
     public int parallelism = 1500;
+    @Parameter(names = {"--max-commits", "-mc"}, description = "Max number of replace commits to delete the expired partitions with, "
+        + "each deleting at most hoodie.partition.ttl.strategy.max.delete.partitions partitions", required = false)
+    public int maxCommits = 1;
+    @Parameter(names = {"--commit-interval-ms", "-ci"}, description = "Time to wait between two replace commits, "
+        + "to throttle the load on the timeline and the metadata table", required = false)
+    public long commitIntervalMs = 0L;
     @Parameter(names = {"--spark-master", "-ms"}, description = "Spark master")
     public String sparkMaster = null;
     @Parameter(names = {"--spark-memory", "-sm"}, description = "spark memory to use", required = false)
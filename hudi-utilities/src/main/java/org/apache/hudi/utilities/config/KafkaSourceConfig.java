@@ -184,6 +184,34 @@ public class KafkaSourceConfig extends HoodieConfig {
       .sinceVersion("1.1.0")
       .withDocumentation("Comma-separated list of prefixes for config keys that should be dropped from the configs when passed to the Kafka consumer.");
 
+  public static final ConfigProperty<Boolean> ENABLE_ADAPTIVE_OFFSET_RANGES = ConfigProperty
+      .key(PREFIX + "adaptive.offset.ranges.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Whether to plan the offset ranges with the message sizes and the fetch throughput of each Kafka partition "
+          + "observed in the previous sync rounds. When enabled, the batch is capped by the number of bytes in addition to the number "
+          + "of events, and the offset ranges are sized so that the reading tasks take about the same time, i.e., slow partitions "
+          + "with large messages are split into more offset ranges. Falls back to splitting by the number of events "
+          + "until the first batch has been read.");
+
+  public static final ConfigProperty<Long> ADAPTIVE_OFFSET_RANGES_MAX_BYTES = ConfigProperty
+      .key(PREFIX + "adaptive.offset.ranges.max.bytes")
+      .defaultValue(Long.MAX_VALUE)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Maximum number of bytes to read in each batch when " + ENABLE_ADAPTIVE_OFFSET_RANGES.key() + " is enabled, "
+          + "estimated with the average message size of each Kafka partition. Overridden by the max source bytes "
+          + "of the source profile if a source profile supplier is configured.");
+
+  public static final ConfigProperty<Double> ADAPTIVE_OFFSET_RANGES_SMOOTHING_FACTOR = ConfigProperty
+      .key(PREFIX + "adaptive.offset.ranges.smoothing.factor")
+      .defaultValue(0.5)
+      .markAdvanced()
+      .sinceVersion("1.2.0")
+      .withDocumentation("Weight of the latest batch in the moving averages of the message size and the fetch throughput "
+          + "of each Kafka partition, between 0 and 1. Higher values adapt faster to changes.");
+
   /**
    * Kafka reset offset strategies.
    */
@@ -38,6 +38,10 @@ public abstract class HoodieIngestionMetrics {
     this.writeConfig = writeConfig;
   }
 
+  public boolean isMetricsOn() {
+    return writeConfig.isMetricsOn();
+  }
+
   public abstract Timer.Context getOverallTimerContext();
 
   public abstract Timer.Context getHiveSyncTimerContext();
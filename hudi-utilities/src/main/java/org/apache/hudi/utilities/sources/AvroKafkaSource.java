@@ -114,11 +114,11 @@ public class AvroKafkaSource extends KafkaSource<JavaRDD<GenericRecord>> {
 
       //Don't want kafka offsets here so we use originalSchemaProvider
       AvroConvertor convertor = new AvroConvertor(originalSchemaProvider.getSourceHoodieSchema());
-      JavaRDD<ConsumerRecord<String, byte[]>> kafkaRDDByteArray = createKafkaRDD(this.props, sparkContext, offsetGen, offsetRanges);
+      JavaRDD<ConsumerRecord<String, byte[]>> kafkaRDDByteArray = createTrackedKafkaRDD(offsetRanges);
       kafkaRDD = kafkaRDDByteArray.filter(obj -> obj.value() != null)
           .map(obj -> new ConsumerRecord<>(obj.topic(), obj.partition(), obj.offset(), obj.key(), convertor.fromAvroBinary(obj.value())));
     } else {
-      kafkaRDD = createKafkaRDD(this.props, sparkContext, offsetGen, offsetRanges);
+      kafkaRDD = createTrackedKafkaRDD(offsetRanges);
     }
 
     return maybeAppendKafkaOffsets(kafkaRDD.filter(consemerRec -> consemerRec.value() != null));
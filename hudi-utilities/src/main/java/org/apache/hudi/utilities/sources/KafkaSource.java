@@ -107,7 +107,7 @@ public abstract class KafkaSource<T> extends Source<T> {
     if (sourceProfileSupplier.isPresent() && sourceProfileSupplier.get().getSourceProfile() != null) {
       SourceProfile<Long> kafkaSourceProfile = sourceProfileSupplier.get().getSourceProfile();
       offsetRanges = offsetGen.getNextOffsetRanges(lastCheckpoint, kafkaSourceProfile.getSourceSpecificContext(),
-          kafkaSourceProfile.getSourcePartitions(), metrics);
+          kafkaSourceProfile.getMaxSourceBytes(), kafkaSourceProfile.getSourcePartitions(), metrics);
       metrics.updateStreamerSourceParallelism(kafkaSourceProfile.getSourcePartitions());
       metrics.updateStreamerSourceBytesToBeIngestedInSyncRound(kafkaSourceProfile.getMaxSourceBytes());
       LOG.info("About to read maxEventsInSyncRound {} of size {} bytes in {} partitions from Kafka for topic {} with offsetRanges {}",
@@ -160,6 +160,14 @@ public abstract class KafkaSource<T> extends Source<T> {
     return KafkaUtils.createRDD(sparkContext, kafkaParams, offsetRanges, LocationStrategies.PreferConsistent());
   }
 
+  /**
+   * Creates the Kafka RDD of the offset ranges to convert into the batch, measuring the fetches of the partitions
+   * if the adaptive offset ranges are enabled, see {@link KafkaOffsetGen#trackFetchStats(JavaRDD)}.
+   */
+  protected <K, V> JavaRDD<ConsumerRecord<K, V>> createTrackedKafkaRDD(OffsetRange[] offsetRanges) {
+    return offsetGen.trackFetchStats(createKafkaRDD(props, sparkContext, offsetGen, offsetRanges));
+  }
+
   protected abstract T toBatch(OffsetRange[] offsetRanges);
 
   @Override
@@ -91,10 +91,10 @@ public class ProtoKafkaSource extends KafkaSource<JavaRDD<Message>> {
           className.isPresent(),
           ProtoClassBasedSchemaProviderConfig.PROTO_SCHEMA_CLASS_NAME.key() + " config must be present.");
       ProtoDeserializer deserializer = new ProtoDeserializer(className.get());
-      JavaRDD<ConsumerRecord<String, byte[]>> kafkaRDD = createKafkaRDD(this.props, sparkContext, offsetGen, offsetRanges);
+      JavaRDD<ConsumerRecord<String, byte[]>> kafkaRDD = createTrackedKafkaRDD(offsetRanges);
       return kafkaRDD.map(obj -> deserializer.parse(obj.value()));
     } else {
-      JavaRDD<ConsumerRecord<String, Message>> kafkaRDD = createKafkaRDD(this.props, sparkContext, offsetGen, offsetRanges);
+      JavaRDD<ConsumerRecord<String, Message>> kafkaRDD = createTrackedKafkaRDD(offsetRanges);
       return kafkaRDD.map(ConsumerRecord::value);
     }
   }
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.utilities.sources.helpers;
+
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.VisibleForTesting;
+import org.apache.hudi.common.util.collection.Pair;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.spark.SparkContext;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.util.CollectionAccumulator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per topic partition statistics of the Kafka fetches, used by {@link KafkaOffsetGen} to plan the offset ranges
+ * with the observed message sizes and fetch throughput.
+ *
+ * <p>The records of the Kafka RDDs are measured by {@link #track(JavaRDD)}: the number of messages, the serialized
+ * bytes and the time spent on fetching of each offset range on the executors. The measurements are collected through
+ * an accumulator and folded into exponential moving averages on the driver by {@link #refresh()}, once the batch
+ * has been written. As the accumulator is updated by a transformation, the retried, speculative and recomputed
+ * tasks report their offset range again: the measurements are keyed by the partition of the Kafka RDD and only
+ * one of them is kept for each partition.
+ */
+public class KafkaFetchStats {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KafkaFetchStats.class);
+
+  private final double smoothingFactor;
+  // moving average of bytes per message of each topic partition
+  private final Map<TopicPartition, Double> bytesPerMessage = new HashMap<>();
+  // moving average of messages fetched per millisecond of each topic partition
+  private final Map<TopicPartition, Double> messagesPerMs = new HashMap<>();
+  private CollectionAccumulator<FetchStat> accumulator;
+
+  public KafkaFetchStats(double smoothingFactor) {
+    this.smoothingFactor = smoothingFactor;
+  }
+
+  /**
+   * Measures the fetches of each partition of the Kafka RDD when the returned RDD is computed.
+   * The Kafka RDD itself is left untouched, so that its offset range based {@code count}, {@code isEmpty}
+   * and {@code take} are kept for the other users of the RDD.
+   */
+  public <K, V> JavaRDD<ConsumerRecord<K, V>> track(JavaRDD<ConsumerRecord<K, V>> kafkaRDD) {
+    CollectionAccumulator<FetchStat> fetchStatAccumulator = getAccumulator(kafkaRDD.context());
+    int rddId = kafkaRDD.id();
+    return kafkaRDD.mapPartitionsWithIndex(
+        (rddPartition, records) -> new FetchStatIterator<>(records, rddId, rddPartition, fetchStatAccumulator), true);
+  }
+
+  /**
+   * Folds the fetch statistics collected since the last refresh into the moving averages.
+   */
+  public void refresh() {
+    if (accumulator == null) {
+      return;
+    }
+    List<FetchStat> fetchStats = new ArrayList<>(accumulator.value());
+    accumulator.reset();
+    update(fetchStats);
+  }
+
+  @VisibleForTesting
+  void update(List<FetchStat> fetchStats) {
+    // one measurement per partition of each Kafka RDD, whatever the number of task attempts computing it
+    Map<Pair<Integer, Integer>, FetchStat> uniqueFetchStats = new LinkedHashMap<>();
+    fetchStats.forEach(fetchStat -> uniqueFetchStats.putIfAbsent(Pair.of(fetchStat.rddId, fetchStat.rddPartition), fetchStat));
+    uniqueFetchStats.values().forEach(this::update);
+  }
+
+  @VisibleForTesting
+  void update(FetchStat fetchStat) {
+    if (fetchStat.numMessages <= 0) {
+      return;
+    }
+    TopicPartition topicPartition = new TopicPartition(fetchStat.topic, fetchStat.partition);
+    updateMovingAverage(bytesPerMessage, topicPartition, (double) fetchStat.numBytes / fetchStat.numMessages);
+    // the fetches shorter than a millisecond are too short to measure the throughput
+    if (fetchStat.fetchTimeMs > 0) {
+      updateMovingAverage(messagesPerMs, topicPartition, (double) fetchStat.numMessages / fetchStat.fetchTimeMs);
+    }
+    LOG.debug("Updated fetch stats of {}: bytesPerMessage {}, messagesPerMs {}", topicPartition,
+        bytesPerMessage.get(topicPartition), messagesPerMs.get(topicPartition));
+  }
+
+  private void updateMovingAverage(Map<TopicPartition, Double> averages, TopicPartition topicPartition, double value) {
+    averages.merge(topicPartition, value, (oldValue, newValue) -> smoothingFactor * newValue + (1 - smoothingFactor) * oldValue);
+  }
+
+  public boolean isEmpty() {
+    return bytesPerMessage.isEmpty();
+  }
+
+  /**
+   * Returns the average bytes per message of the topic partition,
+   * falls back to the average of all the topic partitions if the topic partition has not been fetched yet.
+   */
+  public Option<Double> getBytesPerMessage(TopicPartition topicPartition) {
+    return getOrAverage(bytesPerMessage, topicPartition);
+  }
+
+  /**
+   * Returns the average number of messages fetched per millisecond of the topic partition,
+   * falls back to the average of all the topic partitions if the topic partition has not been fetched yet.
+   */
+  public Option<Double> getMessagesPerMs(TopicPartition topicPartition) {
+    return getOrAverage(messagesPerMs, topicPartition);
+  }
+
+  private static Option<Double> getOrAverage(Map<TopicPartition, Double> averages, TopicPartition topicPartition) {
+    Double value = averages.get(topicPartition);
+    if (value != null) {
+      return Option.of(value);
+    }
+    return averages.isEmpty()
+        ? Option.empty()
+        : Option.of(averages.values().stream().mapToDouble(Double::doubleValue).average().getAsDouble());
+  }
+
+  private synchronized CollectionAccumulator<FetchStat> getAccumulator(SparkContext sparkContext) {
+    if (accumulator == null) {
+      accumulator = sparkContext.collectionAccumulator(KafkaFetchStats.class.getSimpleName());
+    }
+    return accumulator;
+  }
+
+  /**
+   * Fetch statistics of one offset range.
+   */
+  public static class FetchStat implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int rddId;
+    private final int rddPartition;
+    private final String topic;
+    private final int partition;
+    private final long numMessages;
+    private final long numBytes;
+    private final long fetchTimeMs;
+
+    public FetchStat(int rddId, int rddPartition, String topic, int partition, long numMessages, long numBytes, long fetchTimeMs) {
+      this.rddId = rddId;
+      this.rddPartition = rddPartition;
+      this.topic = topic;
+      this.partition = partition;
+      this.numMessages = numMessages;
+      this.numBytes = numBytes;
+      this.fetchTimeMs = fetchTimeMs;
+    }
+  }
+
+  /**
+   * Iterator measuring the fetches of the wrapped records, reports the statistics when the records are exhausted.
+   */
+  private static class FetchStatIterator<K, V> implements Iterator<ConsumerRecord<K, V>> {
+    private final Iterator<ConsumerRecord<K, V>> records;
+    private final int rddId;
+    private final int rddPartition;
+    private final CollectionAccumulator<FetchStat> accumulator;
+    private String topic;
+    private int partition;
+    private long numMessages;
+    private long numBytes;
+    private long fetchTimeNanos;
+    private boolean reported;
+
+    FetchStatIterator(Iterator<ConsumerRecord<K, V>> records, int rddId, int rddPartition, CollectionAccumulator<FetchStat> accumulator) {
+      this.records = records;
+      this.rddId = rddId;
+      this.rddPartition = rddPartition;
+      this.accumulator = accumulator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      long start = System.nanoTime();
+      boolean hasNext = records.hasNext();
+      fetchTimeNanos += System.nanoTime() - start;
+      if (!hasNext && !reported && topic != null) {
+        reported = true;
+        accumulator.add(new FetchStat(rddId, rddPartition, topic, partition, numMessages, numBytes, fetchTimeNanos / 1_000_000));
+      }
+      return hasNext;
+    }
+
+    @Override
+    public ConsumerRecord<K, V> next() {
+      long start = System.nanoTime();
+      ConsumerRecord<K, V> record = records.next();
+      fetchTimeNanos += System.nanoTime() - start;
+      if (topic == null) {
+        topic = record.topic();
+        partition = record.partition();
+      }
+      numMessages++;
+      numBytes += Math.max(0, record.serializedKeySize()) + Math.max(0, record.serializedValueSize());
+      return record;
+    }
+  }
+}
@@ -39,6 +39,7 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.consumer.CommitFailedException;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
@@ -48,6 +49,7 @@ import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.streaming.kafka010.OffsetRange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -207,6 +209,130 @@ public class KafkaOffsetGen {
       return sortedRangeArray;
     }
 
+    /**
+     * Compute the offset ranges to read from Kafka with the observed message sizes and fetch throughput of each partition.
+     *
+     * <p>The events are allocated evenly across the partitions up to {@code numEvents}, then capped by {@code maxBytes}
+     * with the average message size of each partition. Each partition is split into offset ranges by its estimated fetch time,
+     * so that the slow partitions with large messages do not straggle the reading tasks.
+     *
+     * @param fromOffsetMap offsets where we left off last time
+     * @param toOffsetMap offsets of where each partition is currently at
+     * @param numEvents maximum number of events to read
+     * @param maxBytes maximum number of bytes to read
+     * @param minPartitions minimum number of offset ranges to read with
+     * @param fetchStats the fetch statistics of the partitions
+     */
+    public static OffsetRange[] computeOffsetRanges(Map<TopicPartition, Long> fromOffsetMap,
+                                                    Map<TopicPartition, Long> toOffsetMap,
+                                                    long numEvents,
+                                                    long maxBytes,
+                                                    long minPartitions,
+                                                    KafkaFetchStats fetchStats) {
+      if (fetchStats.isEmpty()) {
+        // nothing observed yet, split by the number of events
+        return computeOffsetRanges(fromOffsetMap, toOffsetMap, numEvents, minPartitions);
+      }
+      OffsetRange[] ranges = toOffsetMap.keySet().stream()
+          .map(tp -> OffsetRange.create(tp, fromOffsetMap.getOrDefault(tp, 0L), toOffsetMap.get(tp)))
+          .sorted(SORT_BY_PARTITION)
+          .toArray(OffsetRange[]::new);
+      if (totalNewMessages(ranges) == 0) {
+        // We return the same ranges back in case of 0 events for checkpoint computation.
+        return ranges;
+      }
+
+      // 1. allocate the events evenly, capped by the number of events and then by the number of bytes
+      long[] events = allocateEvenly(Arrays.stream(ranges).mapToLong(OffsetRange::count).toArray(), numEvents);
+      double[] bytesPerMessage = Arrays.stream(ranges)
+          .mapToDouble(range -> Math.max(1d, fetchStats.getBytesPerMessage(range.topicPartition()).get())).toArray();
+      long[] bytes = new long[ranges.length];
+      double totalBytes = 0;
+      for (int i = 0; i < ranges.length; i++) {
+        bytes[i] = (long) Math.ceil(events[i] * bytesPerMessage[i]);
+        totalBytes += bytes[i];
+      }
+      if (maxBytes > 0 && totalBytes > maxBytes) {
+        long[] allocatedBytes = allocateEvenly(bytes, maxBytes);
+        long allocatedEvents = 0;
+        for (int i = 0; i < ranges.length; i++) {
+          events[i] = Math.min(events[i], (long) (allocatedBytes[i] / bytesPerMessage[i]));
+          allocatedEvents += events[i];
+        }
+        if (allocatedEvents == 0) {
+          // make progress even if a single message exceeds the max bytes
+          for (int i = 0; i < ranges.length && allocatedEvents == 0; i++) {
+            if (ranges[i].count() > 0) {
+              events[i] = 1;
+              allocatedEvents = 1;
+            }
+          }
+        }
+      }
+
+      // 2. split the partitions by the estimated fetch time, fall back to the estimated bytes if the throughput is unknown
+      double[] fetchCost = new double[ranges.length];
+      double totalFetchCost = 0;
+      int numPartitionsToRead = 0;
+      for (int i = 0; i < ranges.length; i++) {
+        Option<Double> messagesPerMs = fetchStats.getMessagesPerMs(ranges[i].topicPartition());
+        fetchCost[i] = messagesPerMs.isPresent() ? events[i] / messagesPerMs.get() : events[i] * bytesPerMessage[i];
+        totalFetchCost += fetchCost[i];
+        numPartitionsToRead += events[i] > 0 ? 1 : 0;
+      }
+      double fetchCostPerRange = totalFetchCost / Math.max(minPartitions, numPartitionsToRead);
+      List<OffsetRange> finalRanges = new ArrayList<>();
+      for (int i = 0; i < ranges.length; i++) {
+        OffsetRange range = ranges[i];
+        if (events[i] == 0) {
+          // every partition is part of the returned offset ranges as this will be tracked as the checkpoint.
+          finalRanges.add(OffsetRange.create(range.topicPartition(), range.fromOffset(), range.fromOffset()));
+          continue;
+        }
+        long numSplits = Math.min(events[i], Math.max(1L, (long) Math.ceil(fetchCost[i] / fetchCostPerRange)));
+        long startOffset = range.fromOffset();
+        for (long split = 0; split < numSplits; split++) {
+          long eventsForThisRange = events[i] / numSplits + (split < events[i] % numSplits ? 1 : 0);
+          finalRanges.add(OffsetRange.create(range.topicPartition(), startOffset, startOffset + eventsForThisRange));
+          startOffset += eventsForThisRange;
+        }
+      }
+      fromOffsetMap.entrySet().stream()
+          .filter(kv -> !toOffsetMap.containsKey(kv.getKey()))
+          .forEach(kv -> finalRanges.add(OffsetRange.create(kv.getKey(), kv.getValue(), kv.getValue())));
+
+      OffsetRange[] sortedRangeArray = finalRanges.stream().sorted(SORT_BY_PARTITION).toArray(OffsetRange[]::new);
+      LOG.info("final ranges planned with fetch stats {}", Arrays.toString(sortedRangeArray));
+      return sortedRangeArray;
+    }
+
+    /**
+     * Allocates the capacity evenly to the demands, the demands smaller than the even share are fully allocated
+     * and the rest of the capacity is shared by the larger demands.
+     */
+    static long[] allocateEvenly(long[] demands, long capacity) {
+      long[] allocations = new long[demands.length];
+      Integer[] indexes = new Integer[demands.length];
+      for (int i = 0; i < demands.length; i++) {
+        indexes[i] = i;
+      }
+      Arrays.sort(indexes, Comparator.comparingLong(i -> demands[i]));
+      long remaining = capacity;
+      for (int k = 0; k < indexes.length; k++) {
+        int i = indexes[k];
+        allocations[i] = Math.min(demands[i], remaining / (indexes.length - k));
+        remaining -= allocations[i];
+      }
+      // hand out the remainder of the integer division
+      for (int k = indexes.length - 1; k >= 0 && remaining > 0; k--) {
+        int i = indexes[k];
+        long extra = Math.min(demands[i] - allocations[i], remaining);
+        allocations[i] += extra;
+        remaining -= extra;
+      }
+      return allocations;
+    }
+
     /**
      * Merge ranges by topic partition, because we need to maintain the checkpoint with one offset range per topic partition.
      * @param oldRanges to merge
@@ -241,6 +367,7 @@ public class KafkaOffsetGen {
   private KafkaSourceConfig.KafkaResetOffsetStrategies autoResetValue;
   private final String kafkaCheckpointType;
   private final LogicalClock clock;
+  private final Option<KafkaFetchStats> fetchStats;
 
   public KafkaOffsetGen(TypedProperties props, LogicalClock clock) {
     this.props = props;
@@ -264,6 +391,10 @@ public class KafkaOffsetGen {
       this.kafkaParams.put(KafkaSourceConfig.KAFKA_AUTO_OFFSET_RESET.key(), KafkaSourceConfig.KAFKA_AUTO_OFFSET_RESET.defaultValue().name().toLowerCase());
     }
     this.clock = clock;
+    this.fetchStats = getBooleanWithAltKeys(props, KafkaSourceConfig.ENABLE_ADAPTIVE_OFFSET_RANGES)
+        ? Option.of(new KafkaFetchStats(props.getDouble(KafkaSourceConfig.ADAPTIVE_OFFSET_RANGES_SMOOTHING_FACTOR.key(),
+            KafkaSourceConfig.ADAPTIVE_OFFSET_RANGES_SMOOTHING_FACTOR.defaultValue())))
+        : Option.empty();
   }
 
   public KafkaOffsetGen(TypedProperties props) {
@@ -289,6 +420,11 @@ public class KafkaOffsetGen {
   }
 
   public OffsetRange[] getNextOffsetRanges(Option<Checkpoint> lastCheckpoint, long numEvents, long minPartitions, HoodieIngestionMetrics metrics) {
+    return getNextOffsetRanges(lastCheckpoint, numEvents, getLongWithAltKeys(props, KafkaSourceConfig.ADAPTIVE_OFFSET_RANGES_MAX_BYTES), minPartitions, metrics);
+  }
+
+  public OffsetRange[] getNextOffsetRanges(Option<Checkpoint> lastCheckpoint, long numEvents, long maxBytes, long minPartitions,
+                                           HoodieIngestionMetrics metrics) {
     // Obtain current metadata for the topic
     Map<TopicPartition, Long> fromOffsets;
     Map<TopicPartition, Long> toOffsets;
@@ -342,8 +478,20 @@ public class KafkaOffsetGen {
       // Obtain the latest offsets.
       toOffsets = consumer.endOffsets(topicPartitions);
     }
+    if (fetchStats.isPresent()) {
+      fetchStats.get().refresh();
+      return CheckpointUtils.computeOffsetRanges(fromOffsets, toOffsets, numEvents, maxBytes, minPartitions, fetchStats.get());
+    }
     return CheckpointUtils.computeOffsetRanges(fromOffsets, toOffsets, numEvents, minPartitions);
   }
+
+  /**
+   * Tracks the fetch statistics of the Kafka RDD if the adaptive offset ranges are enabled,
+   * see {@link KafkaSourceConfig#ENABLE_ADAPTIVE_OFFSET_RANGES}.
+   */
+  public <K, V> JavaRDD<ConsumerRecord<K, V>> trackFetchStats(JavaRDD<ConsumerRecord<K, V>> kafkaRDD) {
+    return fetchStats.isPresent() ? fetchStats.get().track(kafkaRDD) : kafkaRDD;
+  }
   
   /**
    * Fetch partition infos for given topic.
@@ -24,9 +24,12 @@ import org.apache.hudi.client.utils.OperationConverter;
 import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.model.OverwriteWithLatestAvroPayload;
 import org.apache.hudi.common.model.WriteOperationType;
+import org.apache.hudi.common.table.HoodieTableMetaClient;
+import org.apache.hudi.common.table.timeline.TimelineUtils;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.StringUtils;
 import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.common.util.VisibleForTesting;
 import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.hadoop.fs.HadoopFSUtils;
 import org.apache.hudi.hive.HiveSyncTool;
@@ -34,6 +37,7 @@ import org.apache.hudi.sync.common.HoodieSyncConfig;
 import org.apache.hudi.utilities.IdentitySplitter;
 import org.apache.hudi.utilities.UtilHelpers;
 import org.apache.hudi.utilities.config.HoodieStreamerConfig;
+import org.apache.hudi.utilities.ingestion.HoodieIngestionMetrics;
 import org.apache.hudi.utilities.schema.SchemaRegistryProvider;
 import org.apache.hudi.utilities.sources.JsonDFSSource;
 
@@ -50,10 +54,18 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.apache.hudi.common.util.ConfigUtils.getStringWithAltKeys;
 import static org.apache.hudi.utilities.config.HoodieSchemaProviderConfig.SCHEMA_REGISTRY_BASE_URL;
@@ -68,6 +80,10 @@ import static org.apache.hudi.utilities.config.HoodieStreamerConfig.TRANSFORMER_
  * Wrapper over HoodieStreamer.java class.
  * Helps with ingesting incremental data into hoodie datasets for multiple tables.
  * Supports COPY_ON_WRITE and MERGE_ON_READ storage types.
+ *
+ * <p>The tables are synced one by one by default. With {@code --max-concurrent-tables} greater than 1, the tables are
+ * synced concurrently on a bounded thread pool, starting with the tables of the largest freshness lag, and each table
+ * sync runs in a Spark scheduler pool weighted by the backlog tier of the table, see {@link SchedulerConfGenerator}.
  */
 public class HoodieMultiTableStreamer {
 
@@ -77,11 +93,13 @@ public class HoodieMultiTableStreamer {
   private transient JavaSparkContext jssc;
   private final Set<String> successTables;
   private final Set<String> failedTables;
+  private final int maxConcurrentTables;
 
   public HoodieMultiTableStreamer(Config config, JavaSparkContext jssc) throws IOException {
     this.tableExecutionContexts = new ArrayList<>();
-    this.successTables = new HashSet<>();
-    this.failedTables = new HashSet<>();
+    this.successTables = ConcurrentHashMap.newKeySet();
+    this.failedTables = ConcurrentHashMap.newKeySet();
+    this.maxConcurrentTables = config.maxConcurrentTables;
     this.jssc = jssc;
     String commonPropsFile = config.propsFilePath;
     String configFolder = config.configFolder;
@@ -279,7 +297,8 @@ public class HoodieMultiTableStreamer {
           + " please use {} to configure multiple target tables", HoodieStreamerConfig.TABLES_TO_BE_INGESTED.key());
     }
 
-    JavaSparkContext jssc = UtilHelpers.buildSparkContext("multi-table-streamer", Constants.LOCAL_SPARK_MASTER);
+    Map<String, String> additionalSparkConfigs = SchedulerConfGenerator.getMultiTableSparkSchedulingConfigs(config);
+    JavaSparkContext jssc = UtilHelpers.buildSparkContext("multi-table-streamer", Constants.LOCAL_SPARK_MASTER, additionalSparkConfigs);
     int exitCode = 0;
     try {
       new HoodieMultiTableStreamer(config, jssc).sync();
@@ -434,6 +453,15 @@ public class HoodieMultiTableStreamer {
         + "https://spark.apache.org/docs/latest/job-scheduling.html")
     public Integer clusterSchedulingMinShare = 0;
 
+    @Parameter(names = {"--max-concurrent-tables"}, description = "Maximum number of tables to sync concurrently. "
+        + "The tables with the largest freshness lag are synced first, and with higher scheduling weights if spark.scheduler.mode "
+        + "is FAIR. In continuous mode, this should not be less than the number of tables. Default: 1, the tables are synced one by one")
+    public Integer maxConcurrentTables = 1;
+
+    @Parameter(names = {"--table-sync-scheduling-minshare"}, description = "Minshare for each table sync when the tables "
+        + "are synced concurrently, as defined in https://spark.apache.org/docs/latest/job-scheduling.html")
+    public Integer tableSyncSchedulingMinShare = 0;
+
     @Parameter(names = {"--help", "-h"}, help = true)
     public Boolean help = false;
   }
@@ -458,20 +486,12 @@ public class HoodieMultiTableStreamer {
    * Creates actual HoodieDeltaStreamer objects for every table/topic and does incremental sync.
    */
   public void sync() {
-    for (TableExecutionContext context : tableExecutionContexts) {
-      HoodieStreamer streamer = null;
-      try {
-        streamer = new HoodieStreamer(context.getConfig(), jssc, Option.ofNullable(context.getProperties()));
-        streamer.sync();
-        successTables.add(Helpers.getTableWithDatabase(context));
-        streamer.shutdownGracefully();
-      } catch (Exception e) {
-        LOG.error("error while running MultiTableDeltaStreamer for table: " + context.getTableName(), e);
-        failedTables.add(Helpers.getTableWithDatabase(context));
-      } finally {
-        if (streamer != null) {
-          streamer.shutdownGracefully();
-        }
+    if (maxConcurrentTables > 1 && tableExecutionContexts.size() > 1) {
+      syncConcurrently();
+    } else {
+      for (TableExecutionContext context : tableExecutionContexts) {
+        // the freshness lag is only reported as a metric, it is computed only if the metrics are on
+        syncTable(context, Option.empty(), () -> getFreshnessLagMs(context));
       }
     }
 
@@ -481,6 +501,79 @@ public class HoodieMultiTableStreamer {
     }
   }
 
+  /**
+   * Syncs the tables on a bounded thread pool, the tables with larger freshness lag are started first
+   * and run in the Spark scheduler pools with higher weights.
+   */
+  private void syncConcurrently() {
+    Map<TableExecutionContext, Option<Long>> freshnessLags = new HashMap<>();
+    tableExecutionContexts.forEach(context -> freshnessLags.put(context, getFreshnessLagMs(context)));
+    // the tables without any commit yet have the largest backlog
+    List<TableExecutionContext> contexts = tableExecutionContexts.stream()
+        .sorted(Comparator.comparingLong((TableExecutionContext context) -> freshnessLags.get(context).orElse(Long.MAX_VALUE)).reversed())
+        .collect(Collectors.toList());
+    int numTables = contexts.size();
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrentTables, numTables));
+    try {
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < numTables; i++) {
+        TableExecutionContext context = contexts.get(i);
+        int tier = SchedulerConfGenerator.NUM_MULTI_TABLE_SYNC_POOLS - 1 - i * SchedulerConfGenerator.NUM_MULTI_TABLE_SYNC_POOLS / numTables;
+        String schedulerPool = SchedulerConfGenerator.getMultiTableSyncPoolName(tier);
+        futures.add(CompletableFuture.runAsync(
+            () -> syncTable(context, Option.of(schedulerPool), () -> freshnessLags.get(context)), executor));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @VisibleForTesting
+  protected void syncTable(TableExecutionContext context, Option<String> schedulerPool, Supplier<Option<Long>> freshnessLagMs) {
+    HoodieStreamer streamer = null;
+    try {
+      if (schedulerPool.isPresent()) {
+        LOG.info("Setting Spark Pool name for table {} to {}", Helpers.getTableWithDatabase(context), schedulerPool.get());
+        jssc.setLocalProperty(Constants.SPARK_SCHEDULER_POOL_KEY, schedulerPool.get());
+      }
+      streamer = new HoodieStreamer(context.getConfig(), jssc, Option.ofNullable(context.getProperties()));
+      Option<HoodieIngestionMetrics> metrics = streamer.getIngestionMetrics();
+      if (metrics.isPresent() && metrics.get().isMetricsOn() && metrics.get() instanceof HoodieStreamerMetrics) {
+        freshnessLagMs.get().ifPresent(((HoodieStreamerMetrics) metrics.get())::updateStreamerFreshnessLagMs);
+      }
+      streamer.sync();
+      successTables.add(Helpers.getTableWithDatabase(context));
+      streamer.shutdownGracefully();
+    } catch (Exception e) {
+      LOG.error("error while running MultiTableDeltaStreamer for table: " + context.getTableName(), e);
+      failedTables.add(Helpers.getTableWithDatabase(context));
+    } finally {
+      if (streamer != null) {
+        streamer.shutdownGracefully();
+      }
+    }
+  }
+
+  /**
+   * Returns the time in milliseconds since the latest completed commit of the table, empty if the table has no commit yet.
+   */
+  @VisibleForTesting
+  protected Option<Long> getFreshnessLagMs(TableExecutionContext context) {
+    try {
+      HoodieTableMetaClient metaClient = HoodieTableMetaClient.builder()
+          .setConf(HadoopFSUtils.getStorageConfWithCopy(jssc.hadoopConfiguration()))
+          .setBasePath(context.getConfig().targetBasePath).setLoadActiveTimelineOnLoad(true).build();
+      return metaClient.getActiveTimeline().getCommitsTimeline().filterCompletedInstants().lastInstant()
+          .flatMap(instant -> TimelineUtils.parseDateFromInstantTimeSafely(instant.requestedTime()))
+          .map(commitDate -> Math.max(0L, System.currentTimeMillis() - commitDate.getTime()));
+    } catch (HoodieException e) {
+      // the table is not created yet
+      LOG.debug("Unable to get the latest commit of table {}", Helpers.getTableWithDatabase(context), e);
+      return Option.empty();
+    }
+  }
+
   public static class Constants {
     @Deprecated
     private static final String KAFKA_TOPIC_PROP = HoodieStreamerConfig.KAFKA_TOPIC.key();
@@ -492,6 +585,7 @@ public class HoodieMultiTableStreamer {
     private static final String DELIMITER = ".";
     private static final String UNDERSCORE = "_";
     private static final String COMMA_SEPARATOR = ",";
+    private static final String SPARK_SCHEDULER_POOL_KEY = "spark.scheduler.pool";
   }
 
   public Set<String> getSuccessTables() {
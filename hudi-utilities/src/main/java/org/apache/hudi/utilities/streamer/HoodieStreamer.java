@@ -134,6 +134,7 @@ public class HoodieStreamer implements Serializable {
   private final Option<BootstrapExecutor> bootstrapExecutor;
 
   public static final String STREAMSYNC_POOL_NAME = "hoodiedeltasync";
+  private static final String SPARK_SCHEDULER_POOL_KEY = "spark.scheduler.pool";
 
   public HoodieStreamer(Config cfg, JavaSparkContext jssc) throws IOException {
     this(cfg, jssc, HadoopFSUtils.getFs(cfg.targetBasePath, jssc.hadoopConfiguration()),
@@ -233,6 +234,10 @@ public class HoodieStreamer implements Serializable {
     return cfg;
   }
 
+  public Option<HoodieIngestionMetrics> getIngestionMetrics() {
+    return ingestionService.flatMap(HoodieIngestionService::getMetrics);
+  }
+
   public static class Config implements Serializable {
     public static final String DEFAULT_DFS_SOURCE_PROPERTIES = "file://" + System.getProperty("user.dir")
         + "/src/test/resources/streamer-config/dfs-source.properties";
@@ -794,6 +799,21 @@ public class HoodieStreamer implements Serializable {
       }
     }
 
+    /**
+     * Runs the delta sync in the {@link #STREAMSYNC_POOL_NAME} pool, unless the caller already picked a scheduler pool
+     * for the sync, e.g. the tier pool of the table in {@link HoodieMultiTableStreamer}.
+     */
+    @VisibleForTesting
+    public static void setDeltaSyncPoolIfAbsent(HoodieSparkEngineContext hoodieSparkContext) {
+      String schedulerPool = hoodieSparkContext.jsc().getLocalProperty(SPARK_SCHEDULER_POOL_KEY);
+      if (StringUtils.isNullOrEmpty(schedulerPool)) {
+        LOG.info("Setting Spark Pool name for delta-sync to " + STREAMSYNC_POOL_NAME);
+        hoodieSparkContext.setProperty(EngineProperty.DELTASYNC_POOL_NAME, STREAMSYNC_POOL_NAME);
+      } else {
+        LOG.info("Running delta-sync in the Spark Pool " + schedulerPool);
+      }
+    }
+
     private void reInitDeltaSync() throws IOException {
       if (streamSync != null) {
         streamSync.close();
@@ -810,8 +830,7 @@ public class HoodieStreamer implements Serializable {
         boolean error = false;
         if (cfg.isAsyncCompactionEnabled()) {
           // set Scheduler Pool.
-          LOG.info("Setting Spark Pool name for delta-sync to " + STREAMSYNC_POOL_NAME);
-          hoodieSparkContext.setProperty(EngineProperty.DELTASYNC_POOL_NAME, STREAMSYNC_POOL_NAME);
+          setDeltaSyncPoolIfAbsent(hoodieSparkContext);
         }
 
         HoodieClusteringConfig clusteringConfig = HoodieClusteringConfig.from(props);
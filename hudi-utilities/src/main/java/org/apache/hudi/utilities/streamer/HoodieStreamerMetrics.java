@@ -204,6 +204,17 @@ public class HoodieStreamerMetrics extends HoodieIngestionMetrics {
     }
   }
 
+  /**
+   * Update the freshness lag of the table when its sync is started by HoodieMultiTableStreamer.
+   *
+   * @param freshnessLagMs the time in milliseconds since the latest completed commit of the table.
+   */
+  public void updateStreamerFreshnessLagMs(long freshnessLagMs) {
+    if (writeConfig.isMetricsOn()) {
+      metrics.registerGauge(getMetricsName("deltastreamer", "freshnessLagMs"), freshnessLagMs);
+    }
+  }
+
   @Override
   public void shutdown() {
     if (metrics != null) {
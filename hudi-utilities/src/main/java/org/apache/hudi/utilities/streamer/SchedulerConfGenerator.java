@@ -50,6 +50,8 @@ public class SchedulerConfGenerator {
   public static final String COMPACT_POOL_NAME = AsyncCompactService.COMPACT_POOL_NAME;
   public static final String SPARK_SCHEDULER_MODE_KEY = "spark.scheduler.mode";
   public static final String SPARK_SCHEDULER_FAIR_MODE = "FAIR";
+  public static final String MULTI_TABLE_SYNC_POOL_NAME_PREFIX = "hoodiemultitablesync";
+  public static final int NUM_MULTI_TABLE_SYNC_POOLS = 3;
 
   private static final String SPARK_SCHEDULING_PATTERN =
       "<?xml version=\"1.0\"?>\n"
@@ -71,6 +73,13 @@ public class SchedulerConfGenerator {
           + "    </pool>\n"
           + "</allocations>";
 
+  private static final String SPARK_SCHEDULING_POOL_PATTERN =
+      "    <pool name=\"%s\">\n"
+          + "        <schedulingMode>%s</schedulingMode>\n"
+          + "        <weight>%s</weight>\n"
+          + "        <minShare>%s</minShare>\n"
+          + "    </pool>\n";
+
   /**
    * Helper to generate spark scheduling configs in XML format with input params.
    *
@@ -115,6 +124,69 @@ public class SchedulerConfGenerator {
     return additionalSparkConfigs;
   }
 
+  /**
+   * Returns the name of the Spark pool for the table syncs of {@link HoodieMultiTableStreamer} with the given backlog tier,
+   * the pool of tier {@code i} has the weight {@code 2^i}.
+   *
+   * @param tier Backlog tier of the table, between 0 (lowest backlog) and {@link #NUM_MULTI_TABLE_SYNC_POOLS} - 1
+   */
+  public static String getMultiTableSyncPoolName(int tier) {
+    return MULTI_TABLE_SYNC_POOL_NAME_PREFIX + tier;
+  }
+
+  /**
+   * Helper to generate spark scheduling configs in XML format for the table syncs of {@link HoodieMultiTableStreamer}.
+   * The delta sync, compaction and clustering pools of {@link #generateConfig} are kept with their weights and minshares,
+   * as the streamers of the tables still run their jobs in these pools.
+   *
+   * @param deltaSyncWeight Scheduling weight for delta sync
+   * @param compactionWeight Scheduling weight for compaction
+   * @param deltaSyncMinShare Minshare for delta sync
+   * @param compactionMinShare Minshare for compaction
+   * @param clusteringWeight Scheduling weight for clustering
+   * @param clusteringMinShare Minshare for clustering
+   * @param tableSyncMinShare Minshare for each table sync pool
+   * @return Spark scheduling configs
+   */
+  public static String generateMultiTableConfig(Integer deltaSyncWeight, Integer compactionWeight, Integer deltaSyncMinShare,
+                                                Integer compactionMinShare, Integer clusteringWeight, Integer clusteringMinShare,
+                                                Integer tableSyncMinShare) {
+    StringBuilder sb = new StringBuilder("<?xml version=\"1.0\"?>\n<allocations>\n");
+    sb.append(String.format(SPARK_SCHEDULING_POOL_PATTERN, DELTASYNC_POOL_NAME, SPARK_SCHEDULER_FAIR_MODE,
+        deltaSyncWeight.toString(), deltaSyncMinShare.toString()));
+    sb.append(String.format(SPARK_SCHEDULING_POOL_PATTERN, COMPACT_POOL_NAME, SPARK_SCHEDULER_FAIR_MODE,
+        compactionWeight.toString(), compactionMinShare.toString()));
+    sb.append(String.format(SPARK_SCHEDULING_POOL_PATTERN, CLUSTERING_POOL_NAME, SPARK_SCHEDULER_FAIR_MODE,
+        clusteringWeight.toString(), clusteringMinShare.toString()));
+    for (int tier = 0; tier < NUM_MULTI_TABLE_SYNC_POOLS; tier++) {
+      sb.append(String.format(SPARK_SCHEDULING_POOL_PATTERN, getMultiTableSyncPoolName(tier), SPARK_SCHEDULER_FAIR_MODE,
+          Integer.toString(1 << tier), tableSyncMinShare.toString()));
+    }
+    return sb.append("</allocations>").toString();
+  }
+
+  /**
+   * Helper to set Spark Scheduling Configs dynamically for {@link HoodieMultiTableStreamer}.
+   *
+   * @param cfg Config for HoodieMultiTableStreamer
+   */
+  public static Map<String, String> getMultiTableSparkSchedulingConfigs(HoodieMultiTableStreamer.Config cfg) throws IOException {
+    scala.Option<String> scheduleModeKeyOption = new SparkConf().getOption(SPARK_SCHEDULER_MODE_KEY);
+    Map<String, String> additionalSparkConfigs = new HashMap<>(1);
+    if (scheduleModeKeyOption.isDefined() && SPARK_SCHEDULER_FAIR_MODE.equals(scheduleModeKeyOption.get())
+        && cfg.maxConcurrentTables > 1) {
+      String sparkSchedulingConfFile = storeConfig(generateMultiTableConfig(cfg.deltaSyncSchedulingWeight,
+          cfg.compactSchedulingWeight, cfg.deltaSyncSchedulingMinShare, cfg.compactSchedulingMinShare,
+          cfg.clusterSchedulingWeight, cfg.clusterSchedulingMinShare, cfg.tableSyncSchedulingMinShare));
+      LOG.info("Spark scheduling config file for multi table sync {}", sparkSchedulingConfFile);
+      additionalSparkConfigs.put(SparkConfigs.SPARK_SCHEDULER_ALLOCATION_FILE_KEY(), sparkSchedulingConfFile);
+    } else {
+      LOG.warn("Job Scheduling Configs will not be in effect as spark.scheduler.mode is not set to FAIR at instantiation time "
+          + "or the tables are synced one by one. Continuing without scheduling configs");
+    }
+    return additionalSparkConfigs;
+  }
+
   /**
    * Generate spark scheduling configs and store it to a randomly generated tmp file.
    *
@@ -129,9 +201,13 @@ public class SchedulerConfGenerator {
    */
   private static String generateAndStoreConfig(Integer deltaSyncWeight, Integer compactionWeight,
       Integer deltaSyncMinShare, Integer compactionMinShare, Integer clusteringWeight, Integer clusteringMinShare) throws IOException {
+    return storeConfig(generateConfig(deltaSyncWeight, compactionWeight, deltaSyncMinShare, compactionMinShare, clusteringWeight, clusteringMinShare));
+  }
+
+  private static String storeConfig(String config) throws IOException {
     File tempConfigFile = File.createTempFile(UUID.randomUUID().toString(), ".xml");
     try (BufferedWriter bw = new BufferedWriter(new FileWriter(tempConfigFile))) {
-      bw.write(generateConfig(deltaSyncWeight, compactionWeight, deltaSyncMinShare, compactionMinShare, clusteringWeight, clusteringMinShare));
+      bw.write(config);
     }
     // SPARK-35083 introduces remote scheduler pool files, so the file must include scheme since Spark 3.2
     String path = tempConfigFile.toURI().toString();
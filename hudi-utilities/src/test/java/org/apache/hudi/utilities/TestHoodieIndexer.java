@@ -27,14 +27,18 @@ import org.apache.hudi.client.SparkRDDWriteClient;
 import org.apache.hudi.client.WriteStatus;
 import org.apache.hudi.client.heartbeat.HoodieHeartbeatClient;
 import org.apache.hudi.common.config.HoodieMetadataConfig;
+import org.apache.hudi.common.data.HoodieListData;
+import org.apache.hudi.common.data.HoodiePairData;
 import org.apache.hudi.common.model.FileSlice;
 import org.apache.hudi.common.model.HoodieRecord;
+import org.apache.hudi.common.model.HoodieRecordGlobalLocation;
 import org.apache.hudi.common.model.HoodieTableType;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.table.timeline.versioning.TimelineLayoutVersion;
 import org.apache.hudi.common.testutils.HoodieTestDataGenerator;
+import org.apache.hudi.common.util.HoodieDataUtils;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieException;
@@ -52,11 +56,13 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.hudi.common.table.HoodieTableMetaClient.reload;
@@ -73,6 +79,7 @@ import static org.apache.hudi.metadata.MetadataPartitionType.RECORD_INDEX;
 import static org.apache.hudi.metadata.MetadataPartitionType.SECONDARY_INDEX;
 import static org.apache.hudi.testutils.Assertions.assertNoWriteErrors;
 import static org.apache.hudi.utilities.HoodieIndexer.DROP_INDEX;
+import static org.apache.hudi.utilities.UtilHelpers.EXECUTE;
 import static org.apache.hudi.utilities.UtilHelpers.SCHEDULE;
 import static org.apache.hudi.utilities.UtilHelpers.SCHEDULE_AND_EXECUTE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -181,6 +188,48 @@ public class TestHoodieIndexer extends SparkClientFunctionalTestHarness implemen
         "streamer-config/indexer-record-index.properties");
   }
 
+  /**
+   * Schedule the indexer for RECORD_INDEX, upsert several times after the base instant of the plan,
+   * and then run the indexer catching up by tailing the timeline.
+   */
+  @Test
+  public void testIndexerForRecordIndexWithCatchupTailing() {
+    String tableName = "indexer_test_catchup_tailing";
+    HoodieMetadataConfig.Builder metadataConfigBuilder = HoodieMetadataConfig.newBuilder()
+        .enable(true)
+        .withAsyncIndex(false).withMetadataIndexColumnStats(false);
+    List<HoodieRecord> records = new ArrayList<>(upsertToTable(metadataConfigBuilder.build(), tableName));
+
+    HoodieIndexer.Config config = getHoodieIndexConfig(RECORD_INDEX.name(), SCHEDULE, "streamer-config/indexer-record-index.properties", tableName);
+    assertEquals(0, new HoodieIndexer(jsc(), config).start(0));
+    HoodieInstant indexInstant = metaClient.reloadActiveTimeline().filterPendingIndexTimeline().lastInstant().get();
+
+    // the commits after the base instant are caught up by the indexer
+    records.addAll(upsertToTable(metadataConfigBuilder.build(), tableName));
+    records.addAll(upsertToTable(metadataConfigBuilder.build(), tableName));
+    assertEquals(2, metaClient.reloadActiveTimeline().getCommitsTimeline().filterCompletedInstants()
+        .findInstantsAfter(indexInstant.requestedTime()).countInstants());
+
+    config = getHoodieIndexConfig(RECORD_INDEX.name(), EXECUTE, "streamer-config/indexer-record-index.properties", tableName);
+    config.configs.add(HoodieMetadataConfig.METADATA_INDEX_CATCHUP_TAILING_ENABLE.key() + "=true");
+    config.configs.add(HoodieMetadataConfig.METADATA_INDEX_CATCHUP_TAILING_MAX_LAG_INSTANTS.key() + "=0");
+    assertEquals(0, new HoodieIndexer(jsc(), config).start(0));
+
+    metaClient = reload(metaClient);
+    Set<String> completedPartitions = metaClient.getTableConfig().getMetadataPartitions();
+    assertTrue(completedPartitions.contains(RECORD_INDEX.getPartitionPath()));
+    assertTrue(metadataPartitionExists(basePath(), context(), RECORD_INDEX.getPartitionPath()));
+    HoodieBackedTableMetadata metadata = new HoodieBackedTableMetadata(
+        context(), metaClient.getStorage(), metadataConfigBuilder.build(), metaClient.getBasePath().toString());
+    HoodiePairData<String, HoodieRecordGlobalLocation> recordIndexData = metadata.readRecordIndexLocationsWithKeys(
+        HoodieListData.eager(records.stream().map(HoodieRecord::getRecordKey).collect(Collectors.toList())));
+    try {
+      assertEquals(records.size(), HoodieDataUtils.dedupeAndCollectAsMap(recordIndexData).size());
+    } finally {
+      recordIndexData.unpersistWithDependencies();
+    }
+  }
+
   /**
    * Test indexer for RLI and secondary index.
    */
@@ -487,7 +536,7 @@ public class TestHoodieIndexer extends SparkClientFunctionalTestHarness implemen
     assertEquals(partitionFileSlices.size(), HoodieMetadataConfig.METADATA_INDEX_COLUMN_STATS_FILE_GROUP_COUNT.defaultValue());
   }
 
-  private void upsertToTable(HoodieMetadataConfig metadataConfig, String tableName) {
+  private List<HoodieRecord> upsertToTable(HoodieMetadataConfig metadataConfig, String tableName) {
     HoodieWriteConfig.Builder writeConfigBuilder = getWriteConfigBuilder(basePath(), tableName);
     HoodieWriteConfig writeConfig = writeConfigBuilder.withMetadataConfig(metadataConfig).build();
     // do one upsert with synchronous metadata update
@@ -497,10 +546,16 @@ public class TestHoodieIndexer extends SparkClientFunctionalTestHarness implemen
       List<WriteStatus> statusList = writeClient.upsert(jsc().parallelize(records, 1), instant).collect();
       writeClient.commit(instant, jsc().parallelize(statusList));
       assertNoWriteErrors(statusList);
+      return records;
     }
   }
 
   private void scheduleAndExecuteIndexing(MetadataPartitionType partitionTypeToIndex, String tableName, String propsFilePath) {
+    scheduleAndExecuteIndexing(partitionTypeToIndex, tableName, propsFilePath, Collections.emptyList());
+  }
+
+  private void scheduleAndExecuteIndexing(MetadataPartitionType partitionTypeToIndex, String tableName, String propsFilePath,
+                                          List<String> configs) {
     HoodieIndexer.Config config = new HoodieIndexer.Config();
     String propsPath = Objects.requireNonNull(getClass().getClassLoader().getResource(propsFilePath)).getPath();
     config.basePath = basePath();
@@ -511,6 +566,7 @@ public class TestHoodieIndexer extends SparkClientFunctionalTestHarness implemen
     if (partitionTypeToIndex.getPartitionPath().equals(COLUMN_STATS.getPartitionPath())) {
       config.configs.add(HoodieMetadataConfig.METADATA_INDEX_COLUMN_STATS_FILE_GROUP_COUNT.key() + "=" + colStatsFileGroupCount);
     }
+    config.configs.addAll(configs);
     // start the indexer and validate files index is completely built out
     HoodieIndexer indexer = new HoodieIndexer(jsc(), config);
     assertEquals(0, indexer.start(0));
@@ -22,6 +22,7 @@ package org.apache.hudi.utilities.deltastreamer;
 import org.apache.hudi.DataSourceWriteOptions;
 import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.testutils.HoodieTestDataGenerator;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.sync.common.HoodieSyncConfig;
 import org.apache.hudi.utilities.config.HoodieSchemaProviderConfig;
@@ -31,9 +32,12 @@ import org.apache.hudi.utilities.schema.SchemaRegistryProvider;
 import org.apache.hudi.utilities.sources.JsonKafkaSource;
 import org.apache.hudi.utilities.sources.ParquetDFSSource;
 import org.apache.hudi.utilities.sources.TestDataSource;
+import org.apache.hudi.utilities.streamer.HoodieStreamer;
+import org.apache.hudi.utilities.streamer.SchedulerConfGenerator;
 import org.apache.hudi.utilities.streamer.TableExecutionContext;
 import org.apache.hudi.utilities.testutils.UtilitiesTestBase;
 
+import org.apache.spark.api.java.JavaSparkContext;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +45,12 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.hudi.common.util.ConfigUtils.getStringWithAltKeys;
@@ -267,6 +277,107 @@ public class TestHoodieMultiTableDeltaStreamer extends HoodieDeltaStreamerTestBa
     });
   }
 
+  @Test
+  public void testConcurrentSyncInFreshnessLagOrder() throws IOException {
+    HoodieMultiTableDeltaStreamer.Config cfg = TestHelpers.getConfig(PROPS_FILENAME_TEST_SOURCE1, basePath + "/config", TestDataSource.class.getName(), false, false, null);
+    cfg.maxConcurrentTables = 2;
+    ConcurrentSyncRecorder streamer = new ConcurrentSyncRecorder(cfg, jsc);
+    List<String> tableNames = streamer.getTableExecutionContexts().stream().map(TableExecutionContext::getTableName).collect(Collectors.toList());
+    assertEquals(2, tableNames.size());
+    // the second table lags behind the first one
+    streamer.freshnessLags.put(tableNames.get(0), 1000L);
+    streamer.freshnessLags.put(tableNames.get(1), 60000L);
+    streamer.sync();
+
+    // each table sync waits for the other one, they only complete if they run concurrently
+    assertEquals(2, streamer.concurrent.size());
+    assertTrue(streamer.concurrent.values().stream().allMatch(Boolean::booleanValue));
+    // the table with the largest freshness lag runs in the pool with the highest weight
+    assertEquals(SchedulerConfGenerator.getMultiTableSyncPoolName(SchedulerConfGenerator.NUM_MULTI_TABLE_SYNC_POOLS - 1),
+        streamer.schedulerPools.get(tableNames.get(1)));
+    assertEquals(SchedulerConfGenerator.getMultiTableSyncPoolName(SchedulerConfGenerator.NUM_MULTI_TABLE_SYNC_POOLS - 2),
+        streamer.schedulerPools.get(tableNames.get(0)));
+    assertEquals(60000L, streamer.reportedLags.get(tableNames.get(1)));
+
+    // the tables without any commit yet come first
+    streamer.freshnessLags.remove(tableNames.get(0));
+    streamer.sync();
+    assertEquals(SchedulerConfGenerator.getMultiTableSyncPoolName(SchedulerConfGenerator.NUM_MULTI_TABLE_SYNC_POOLS - 1),
+        streamer.schedulerPools.get(tableNames.get(0)));
+    assertEquals(SchedulerConfGenerator.getMultiTableSyncPoolName(SchedulerConfGenerator.NUM_MULTI_TABLE_SYNC_POOLS - 2),
+        streamer.schedulerPools.get(tableNames.get(1)));
+  }
+
+  @Test
+  public void testDeltaSyncKeepsTierPool() throws Exception {
+    String schedulerPoolKey = "spark.scheduler.pool";
+    try {
+      for (int tier = 0; tier < SchedulerConfGenerator.NUM_MULTI_TABLE_SYNC_POOLS; tier++) {
+        String tierPool = SchedulerConfGenerator.getMultiTableSyncPoolName(tier);
+        jsc.setLocalProperty(schedulerPoolKey, tierPool);
+        assertEquals(tierPool, getDeltaSyncPool(schedulerPoolKey));
+      }
+      // a standalone streamer runs the sync in the delta sync pool
+      jsc.setLocalProperty(schedulerPoolKey, null);
+      assertEquals(HoodieStreamer.STREAMSYNC_POOL_NAME, getDeltaSyncPool(schedulerPoolKey));
+    } finally {
+      jsc.setLocalProperty(schedulerPoolKey, null);
+    }
+  }
+
+  /**
+   * Returns the effective scheduler pool of the delta sync, which runs on a thread started by the caller of the sync.
+   */
+  private static String getDeltaSyncPool(String schedulerPoolKey) throws Exception {
+    AtomicReference<String> schedulerPool = new AtomicReference<>();
+    Thread syncThread = new Thread(() -> {
+      HoodieStreamer.StreamSyncService.setDeltaSyncPoolIfAbsent(context);
+      schedulerPool.set(jsc.getLocalProperty(schedulerPoolKey));
+    });
+    syncThread.start();
+    syncThread.join();
+    return schedulerPool.get();
+  }
+
+  /**
+   * Records the table syncs of {@link HoodieMultiTableDeltaStreamer} instead of running them.
+   */
+  private static class ConcurrentSyncRecorder extends HoodieMultiTableDeltaStreamer {
+    private final Map<String, Long> freshnessLags = new ConcurrentHashMap<>();
+    private final Map<String, String> schedulerPools = new ConcurrentHashMap<>();
+    private final Map<String, Long> reportedLags = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> concurrent = new ConcurrentHashMap<>();
+    private CountDownLatch syncsStarted;
+
+    ConcurrentSyncRecorder(Config config, JavaSparkContext jssc) throws IOException {
+      super(config, jssc);
+    }
+
+    @Override
+    public void sync() {
+      syncsStarted = new CountDownLatch(getTableExecutionContexts().size());
+      super.sync();
+    }
+
+    @Override
+    protected Option<Long> getFreshnessLagMs(TableExecutionContext context) {
+      return Option.ofNullable(freshnessLags.get(context.getTableName()));
+    }
+
+    @Override
+    protected void syncTable(TableExecutionContext context, Option<String> schedulerPool, Supplier<Option<Long>> freshnessLagMs) {
+      schedulerPools.put(context.getTableName(), schedulerPool.orElse(""));
+      freshnessLagMs.get().ifPresent(lag -> reportedLags.put(context.getTableName(), lag));
+      syncsStarted.countDown();
+      try {
+        concurrent.put(context.getTableName(), syncsStarted.await(60, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        concurrent.put(context.getTableName(), false);
+      }
+    }
+  }
+
   private String populateCommonPropsAndWriteToFile() throws IOException {
     TypedProperties commonProps = new TypedProperties();
     populateCommonProps(commonProps, basePath);
@@ -20,6 +20,7 @@ package org.apache.hudi.utilities.deltastreamer;
 
 import org.apache.hudi.SparkConfigs;
 import org.apache.hudi.common.model.HoodieTableType;
+import org.apache.hudi.utilities.streamer.HoodieMultiTableStreamer;
 import org.apache.hudi.utilities.streamer.HoodieStreamer;
 import org.apache.hudi.utilities.streamer.SchedulerConfGenerator;
 
@@ -81,6 +82,54 @@ public class TestSchedulerConfGenerator {
     assertEquals(targetConfig, generatedConfig);
   }
 
+  @Test
+  public void testGenerateMultiTableConfig() throws Exception {
+    String targetConfig =
+        "<?xml version=\"1.0\"?>\n"
+            + "<allocations>\n"
+            + "    <pool name=\"hoodiedeltasync\">\n"
+            + "        <schedulingMode>FAIR</schedulingMode>\n"
+            + "        <weight>1</weight>\n"
+            + "        <minShare>2</minShare>\n"
+            + "    </pool>\n"
+            + "    <pool name=\"hoodiecompact\">\n"
+            + "        <schedulingMode>FAIR</schedulingMode>\n"
+            + "        <weight>3</weight>\n"
+            + "        <minShare>4</minShare>\n"
+            + "    </pool>\n"
+            + "    <pool name=\"hoodiecluster\">\n"
+            + "        <schedulingMode>FAIR</schedulingMode>\n"
+            + "        <weight>5</weight>\n"
+            + "        <minShare>6</minShare>\n"
+            + "    </pool>\n"
+            + "    <pool name=\"hoodiemultitablesync0\">\n"
+            + "        <schedulingMode>FAIR</schedulingMode>\n"
+            + "        <weight>1</weight>\n"
+            + "        <minShare>2</minShare>\n"
+            + "    </pool>\n"
+            + "    <pool name=\"hoodiemultitablesync1\">\n"
+            + "        <schedulingMode>FAIR</schedulingMode>\n"
+            + "        <weight>2</weight>\n"
+            + "        <minShare>2</minShare>\n"
+            + "    </pool>\n"
+            + "    <pool name=\"hoodiemultitablesync2\">\n"
+            + "        <schedulingMode>FAIR</schedulingMode>\n"
+            + "        <weight>4</weight>\n"
+            + "        <minShare>2</minShare>\n"
+            + "    </pool>\n"
+            + "</allocations>";
+    assertEquals(targetConfig, SchedulerConfGenerator.generateMultiTableConfig(1, 3, 2, 4, 5, 6, 2));
+
+    System.setProperty(SchedulerConfGenerator.SPARK_SCHEDULER_MODE_KEY, "FAIR");
+    HoodieMultiTableStreamer.Config cfg = new HoodieMultiTableStreamer.Config();
+    Map<String, String> configs = SchedulerConfGenerator.getMultiTableSparkSchedulingConfigs(cfg);
+    assertNull(configs.get(SparkConfigs.SPARK_SCHEDULER_ALLOCATION_FILE_KEY()), "tables are synced one by one");
+
+    cfg.maxConcurrentTables = 4;
+    configs = SchedulerConfGenerator.getMultiTableSparkSchedulingConfigs(cfg);
+    assertNotNull(configs.get(SparkConfigs.SPARK_SCHEDULER_ALLOCATION_FILE_KEY()), "all satisfies");
+  }
+
   @Test
   public void testGeneratedConfigFileScheme() throws Exception {
     System.setProperty(SchedulerConfGenerator.SPARK_SCHEDULER_MODE_KEY, "FAIR");
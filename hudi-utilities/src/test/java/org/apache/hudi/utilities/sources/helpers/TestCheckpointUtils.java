@@ -390,6 +390,62 @@ public class TestCheckpointUtils {
     assertArrayEquals(expectedRanges, ranges);
   }
 
+  @Test
+  public void testComputeOffsetRangesWithFetchStats() {
+    KafkaFetchStats fetchStats = new KafkaFetchStats(0.5);
+    // no fetch stats yet, falls back to split by the number of events
+    OffsetRange[] ranges = CheckpointUtils.computeOffsetRanges(makeOffsetMap(new int[] {0, 1}, new long[] {0, 0}),
+        makeOffsetMap(new int[] {0, 1}, new long[] {1000, 1000}), 2000, 550000, 0, fetchStats);
+    assertArrayEquals(CheckpointUtils.computeOffsetRanges(makeOffsetMap(new int[] {0, 1}, new long[] {0, 0}),
+        makeOffsetMap(new int[] {0, 1}, new long[] {1000, 1000}), 2000, 0), ranges);
+
+    // partition 0 has small messages and fast fetches, partition 1 has large messages and slow fetches
+    fetchStats.update(new KafkaFetchStats.FetchStat(1, 0, TEST_TOPIC_NAME, 0, 1000, 100000, 100));
+    fetchStats.update(new KafkaFetchStats.FetchStat(1, 1, TEST_TOPIC_NAME, 1, 1000, 1000000, 1000));
+    assertEquals(100d, fetchStats.getBytesPerMessage(new TopicPartition(TEST_TOPIC_NAME, 0)).get());
+    assertEquals(1d, fetchStats.getMessagesPerMs(new TopicPartition(TEST_TOPIC_NAME, 1)).get());
+
+    // partition 1 is capped by the max bytes, and split into two ranges as it takes longer to fetch
+    ranges = CheckpointUtils.computeOffsetRanges(makeOffsetMap(new int[] {0, 1}, new long[] {0, 0}),
+        makeOffsetMap(new int[] {0, 1}, new long[] {1000, 1000}), 2000, 550000, 0, fetchStats);
+    assertArrayEquals(new OffsetRange[] {
+        OffsetRange.apply(TEST_TOPIC_NAME, 0, 0, 1000),
+        OffsetRange.apply(TEST_TOPIC_NAME, 1, 0, 225),
+        OffsetRange.apply(TEST_TOPIC_NAME, 1, 225, 450)}, ranges);
+
+    // the number of events is still respected
+    ranges = CheckpointUtils.computeOffsetRanges(makeOffsetMap(new int[] {0, 1}, new long[] {0, 0}),
+        makeOffsetMap(new int[] {0, 1}, new long[] {1000, 1000}), 400, Long.MAX_VALUE, 0, fetchStats);
+    assertEquals(400, CheckpointUtils.totalNewMessages(ranges));
+    assertEquals(200, ranges[0].count());
+
+    // the idle partitions and the partitions only in the checkpoint are kept, at least one message is read
+    ranges = CheckpointUtils.computeOffsetRanges(makeOffsetMap(new int[] {0, 1, 2}, new long[] {0, 1000, 5}),
+        makeOffsetMap(new int[] {0, 1}, new long[] {1000, 1000}), 2000, 10, 0, fetchStats);
+    assertArrayEquals(new OffsetRange[] {
+        OffsetRange.apply(TEST_TOPIC_NAME, 0, 0, 1),
+        OffsetRange.apply(TEST_TOPIC_NAME, 1, 1000, 1000),
+        OffsetRange.apply(TEST_TOPIC_NAME, 2, 5, 5)}, ranges);
+  }
+
+  @Test
+  public void testFetchStatsOfRetriedTasks() {
+    KafkaFetchStats fetchStats = new KafkaFetchStats(0.5);
+    // the retried and speculative attempts of the same partition of the Kafka RDD are counted once
+    fetchStats.update(Arrays.asList(
+        new KafkaFetchStats.FetchStat(1, 0, TEST_TOPIC_NAME, 0, 1000, 100000, 100),
+        new KafkaFetchStats.FetchStat(1, 0, TEST_TOPIC_NAME, 0, 1000, 100000, 1000),
+        new KafkaFetchStats.FetchStat(1, 0, TEST_TOPIC_NAME, 0, 1000, 100000, 1000)));
+    assertEquals(10d, fetchStats.getMessagesPerMs(new TopicPartition(TEST_TOPIC_NAME, 0)).get());
+
+    // the next Kafka RDD is folded into the moving average
+    fetchStats.update(Arrays.asList(
+        new KafkaFetchStats.FetchStat(2, 0, TEST_TOPIC_NAME, 0, 1000, 300000, 1000),
+        new KafkaFetchStats.FetchStat(2, 0, TEST_TOPIC_NAME, 0, 1000, 300000, 1000)));
+    assertEquals(200d, fetchStats.getBytesPerMessage(new TopicPartition(TEST_TOPIC_NAME, 0)).get());
+    assertEquals(5.5d, fetchStats.getMessagesPerMs(new TopicPartition(TEST_TOPIC_NAME, 0)).get());
+  }
+
   private static Map<TopicPartition, Long> makeOffsetMap(int[] partitions, long[] offsets) {
     Map<TopicPartition, Long> map = new HashMap<>();
     for (int i = 0; i < partitions.length; i++) {